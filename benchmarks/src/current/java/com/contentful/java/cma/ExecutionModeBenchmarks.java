@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Many concurrent callback based fetches of one entry, each blocking its thread while the
+ * {@link MockWebServer} delays the response, run under every {@link ExecutionMode}.
+ * <p>
+ * {@link ExecutionMode#VIRTUAL_THREADS} needs a JDK offering virtual threads (21 or newer), run
+ * only the platform mode otherwise ({@code -p mode=PLATFORM}). Run with {@code -prof gc} to
+ * compare the allocations, and watch the peak thread count of the JVM to compare the footprint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExecutionModeBenchmarks {
+  private static final String SPACE_ID = "spaceid";
+  private static final String ENVIRONMENT_ID = "master";
+  private static final long TIMEOUT_MINUTES = 5;
+
+  @Param({"PLATFORM", "VIRTUAL_THREADS"})
+  public ExecutionMode mode;
+
+  @Param({"10000"})
+  public int calls;
+
+  @Param({"50"})
+  public int latencyMillis;
+
+  private MockWebServer server;
+  private CMAClient client;
+
+  /**
+   * Start a server answering after the configured latency and create a client in the current
+   * mode pointing to it.
+   *
+   * @throws IOException if the server could not be started.
+   */
+  @Setup public void setUp() throws IOException {
+    if (!mode.isSupported()) {
+      throw new IllegalStateException(
+          String.format("Execution mode %s is not supported by this JVM.", mode));
+    }
+
+    final String entry = Fixtures.load("entry_fetch_one_response.json");
+
+    server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+      @Override public MockResponse dispatch(RecordedRequest request) {
+        return new MockResponse()
+            .setResponseCode(200)
+            .setHeadersDelay(latencyMillis, TimeUnit.MILLISECONDS)
+            .setBody(entry);
+      }
+    });
+    server.start();
+
+    client = new CMAClient.Builder()
+        .setAccessToken("token")
+        .setCoreEndpoint(server.url("/").toString())
+        .setSpaceId(SPACE_ID)
+        .setEnvironmentId(ENVIRONMENT_ID)
+        .setExecutionMode(mode)
+        .build();
+  }
+
+  /**
+   * Stop the server.
+   *
+   * @throws IOException if the server could not be stopped.
+   */
+  @TearDown public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  /**
+   * @return how many of the fetches failed.
+   * @throws InterruptedException if interrupted while waiting for the fetches.
+   */
+  @Benchmark public int concurrentFetchOne() throws InterruptedException {
+    final CountDownLatch done = new CountDownLatch(calls);
+    final AtomicInteger failures = new AtomicInteger();
+    final CMACallback<CMAEntry> callback = new CMACallback<CMAEntry>() {
+      @Override protected void onSuccess(CMAEntry result) {
+        done.countDown();
+      }
+
+      @Override protected void onFailure(RuntimeException exception) {
+        failures.incrementAndGet();
+        done.countDown();
+      }
+    };
+
+    for (int i = 0; i < calls; ++i) {
+      client.entries().async().fetchOne("entryid", callback);
+    }
+
+    if (!done.await(TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+      throw new IllegalStateException("Fetches did not finish in time.");
+    }
+    return failures.get();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.gson.RichTextTypeAdapter;
+import com.contentful.java.cma.model.CMAEntry;
+import com.contentful.java.cma.model.rich.CMARichNode;
+import com.contentful.java.cma.model.rich.RichTextFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving rich text documents, from generic maps and directly from json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RichTextBenchmarks {
+  private LinkedHashMap<String, LinkedHashMap<String, Object>> rawFields;
+  private RichTextTypeAdapter adapter;
+  private String documentJson;
+
+  /**
+   * Parse the rich text fixture into generic maps and extract its document.
+   */
+  @Setup public void setUp() {
+    final String entryJson = Fixtures.firstItem("rich_text_get_one.json");
+
+    // plain gson keeps the fields as generic maps, as they were before resolving.
+    rawFields = new Gson().fromJson(entryJson, CMAEntry.class).getFields();
+
+    final JsonObject entry = new JsonParser().parse(entryJson).getAsJsonObject();
+    documentJson = entry.getAsJsonObject("fields")
+        .getAsJsonObject("rich")
+        .get("en-US")
+        .toString();
+
+    adapter = new RichTextTypeAdapter(Fixtures.sdkGson());
+  }
+
+  /**
+   * @return an entry, its rich text field resolved from generic maps.
+   */
+  @Benchmark public CMAEntry resolveRichTextField() {
+    // resolving replaces the raw values, so every run resolves a fresh copy.
+    final LinkedHashMap<String, LinkedHashMap<String, Object>> fields = new LinkedHashMap<>();
+    for (final Map.Entry<String, LinkedHashMap<String, Object>> field : rawFields.entrySet()) {
+      fields.put(field.getKey(), new LinkedHashMap<>(field.getValue()));
+    }
+
+    final CMAEntry entry = new CMAEntry().setFields(fields);
+    RichTextFactory.resolveRichTextField(entry);
+    return entry;
+  }
+
+  /**
+   * @return the document read from json by the streaming adapter.
+   * @throws IOException if the fixture is not valid json.
+   */
+  @Benchmark public CMARichNode streamRichDocument() throws IOException {
+    return adapter.fromJson(documentJson);
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ServerSocketFactory;
+import javax.net.SocketFactory;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Calls of the entries module through the complete interceptor chain of the client, answered by
+ * a local {@link MockWebServer} instead of Contentful.
+ * <p>
+ * Throughput reports requests per second, sample time the latency percentiles. The concurrency
+ * is set through the number of benchmark threads ({@code -t}), the bytes allocated per call are
+ * reported by the gc profiler ({@code -prof gc}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ClientThroughputBenchmarks {
+  private static final String SPACE_ID = "spaceid";
+  private static final String ENVIRONMENT_ID = "master";
+  private static final String CONTENT_TYPE_ID = "ct";
+
+  @Param({"100"})
+  public int pageSize;
+
+  private MockWebServer server;
+  private CMAClient client;
+
+  /**
+   * Entry to be written by one benchmark thread.
+   * <p>
+   * The current SDK sends copies of entries and leaves them untouched, but released versions
+   * detach the system properties while creating or updating. Every thread writes its own entry,
+   * so the suite can also be compared against those, see {@code -Dcma-sdk.version}.
+   */
+  @State(Scope.Thread)
+  public static class ThreadEntry {
+    CMAEntry entry;
+
+    /**
+     * Create an entry with rich text, links and plain fields.
+     */
+    @Setup public void setUp() {
+      entry = Fixtures.sdkGson()
+          .fromJson(Fixtures.firstItem("rich_text_get_all.json"), CMAEntry.class)
+          .setId("entryid")
+          .setSpaceId(SPACE_ID)
+          .setEnvironmentId(ENVIRONMENT_ID)
+          .setVersion(1);
+    }
+  }
+
+  /**
+   * Start the server and create a client pointing to it.
+   *
+   * @throws IOException if the server could not be started.
+   */
+  @Setup public void setUp() throws IOException {
+    final String page = Fixtures.page("rich_text_get_all.json", pageSize);
+    final String entry = Fixtures.load("entry_create_response.json");
+
+    server = new MockWebServer();
+    server.setServerSocketFactory(new NoDelayServerSocketFactory());
+    server.setDispatcher(new Dispatcher() {
+      @Override public MockResponse dispatch(RecordedRequest request) {
+        final boolean collection = "GET".equals(request.getMethod())
+            && request.getPath().contains("/entries?");
+        return new MockResponse()
+            .setResponseCode(200)
+            .setHeader("X-Contentful-RateLimit-Second-Limit", "1000")
+            .setHeader("X-Contentful-RateLimit-Second-Remaining", "999")
+            .setHeader("X-Contentful-RateLimit-Reset", "0")
+            .setBody(collection ? page : entry);
+      }
+    });
+    server.start();
+
+    final CMAClient.Builder builder = new CMAClient.Builder()
+        .setAccessToken("token")
+        .setCoreEndpoint(server.url("/").toString())
+        .setSpaceId(SPACE_ID)
+        .setEnvironmentId(ENVIRONMENT_ID);
+
+    // keep the default interceptors, but do not let nagle delay small local requests.
+    client = builder
+        .setCoreCallFactory(builder.defaultCoreCallFactoryBuilder()
+            .socketFactory(new NoDelaySocketFactory())
+            .build())
+        .build();
+  }
+
+  /**
+   * Creates sockets sending every write right away.
+   */
+  static class NoDelaySocketFactory extends SocketFactory {
+    private final SocketFactory delegate = SocketFactory.getDefault();
+
+    @Override public Socket createSocket() throws IOException {
+      return noDelay(delegate.createSocket());
+    }
+
+    @Override public Socket createSocket(String host, int port) throws IOException {
+      return noDelay(delegate.createSocket(host, port));
+    }
+
+    @Override public Socket createSocket(String host, int port, InetAddress localHost,
+                                         int localPort) throws IOException {
+      return noDelay(delegate.createSocket(host, port, localHost, localPort));
+    }
+
+    @Override public Socket createSocket(InetAddress host, int port) throws IOException {
+      return noDelay(delegate.createSocket(host, port));
+    }
+
+    @Override public Socket createSocket(InetAddress address, int port, InetAddress localAddress,
+                                         int localPort) throws IOException {
+      return noDelay(delegate.createSocket(address, port, localAddress, localPort));
+    }
+
+    private static Socket noDelay(Socket socket) throws IOException {
+      socket.setTcpNoDelay(true);
+      return socket;
+    }
+  }
+
+  /**
+   * Creates server sockets accepting connections sending every write right away.
+   */
+  static class NoDelayServerSocketFactory extends ServerSocketFactory {
+    @Override public ServerSocket createServerSocket() throws IOException {
+      return new NoDelayServerSocket();
+    }
+
+    @Override public ServerSocket createServerSocket(int port) throws IOException {
+      final ServerSocket socket = new NoDelayServerSocket();
+      socket.bind(new InetSocketAddress(port));
+      return socket;
+    }
+
+    @Override public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+      final ServerSocket socket = new NoDelayServerSocket();
+      socket.bind(new InetSocketAddress(port), backlog);
+      return socket;
+    }
+
+    @Override public ServerSocket createServerSocket(int port, int backlog,
+                                                     InetAddress address) throws IOException {
+      final ServerSocket socket = new NoDelayServerSocket();
+      socket.bind(new InetSocketAddress(address, port), backlog);
+      return socket;
+    }
+  }
+
+  /**
+   * Server socket disabling nagle on all accepted connections.
+   */
+  static class NoDelayServerSocket extends ServerSocket {
+    NoDelayServerSocket() throws IOException {
+      super();
+    }
+
+    @Override public Socket accept() throws IOException {
+      final Socket socket = super.accept();
+      socket.setTcpNoDelay(true);
+      return socket;
+    }
+  }
+
+  /**
+   * Stop the server.
+   *
+   * @throws IOException if the server could not be stopped.
+   */
+  @TearDown public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  /**
+   * @param state the entry of the current thread.
+   * @return the created entry.
+   */
+  @Benchmark public CMAEntry create(ThreadEntry state) {
+    return client.entries().create(CONTENT_TYPE_ID, state.entry);
+  }
+
+  /**
+   * @param state the entry of the current thread.
+   * @return the updated entry.
+   */
+  @Benchmark public CMAEntry update(ThreadEntry state) {
+    return client.entries().update(state.entry);
+  }
+
+  /**
+   * @param state the entry of the current thread.
+   * @return the published entry.
+   */
+  @Benchmark public CMAEntry publish(ThreadEntry state) {
+    return client.entries().publish(state.entry);
+  }
+
+  /**
+   * @return one page of entries.
+   */
+  @Benchmark public CMAArray<CMAEntry> fetchAll() {
+    return client.entries().fetchAll();
+  }
+}
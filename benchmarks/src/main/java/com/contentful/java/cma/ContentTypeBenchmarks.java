@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAContentType;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content types, serializing their fields through the {@code FieldTypeAdapter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentTypeBenchmarks {
+  private Gson gson;
+  private String json;
+  private CMAContentType contentType;
+
+  /**
+   * Load the content type fixture.
+   */
+  @Setup public void setUp() {
+    gson = Fixtures.sdkGson();
+    json = Fixtures.load("content_type_fetch_one_response.json");
+    contentType = gson.fromJson(json, CMAContentType.class);
+  }
+
+  /**
+   * @return the content type read from json.
+   */
+  @Benchmark public CMAContentType deserialize() {
+    return gson.fromJson(json, CMAContentType.class);
+  }
+
+  /**
+   * @return the json of the content type.
+   */
+  @Benchmark public String serialize() {
+    return gson.toJson(contentType);
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.interceptor.ContentTypeInterceptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+
+/**
+ * Sending a body through the {@link ContentTypeInterceptor}, compared to copying it into a new
+ * body like the interceptor used to.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocations per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentTypeInterceptorBenchmarks {
+  private static final MediaType OCTET_STREAM = MediaType.parse(Constants.OCTET_STREAM_CONTENT_TYPE);
+
+  @Param({"1024", "1048576"})
+  public int bodySize;
+
+  private ContentTypeInterceptor interceptor;
+  private Request request;
+
+  /**
+   * Create a request with a body of the current size.
+   */
+  @Setup public void setUp() {
+    interceptor = new ContentTypeInterceptor(Constants.OCTET_STREAM_CONTENT_TYPE, r -> true);
+    request = new Request.Builder()
+        .url("https://upload.contentful.com/spaces/spaceid/uploads")
+        .post(RequestBody.create(null, new byte[bodySize]))
+        .build();
+  }
+
+  /**
+   * @return the response after the body was sent through the interceptor.
+   * @throws IOException if sending failed.
+   */
+  @Benchmark public Response forwardingBody() throws IOException {
+    return interceptor.intercept(new SendingChain(request));
+  }
+
+  /**
+   * @return the response after the body was copied and sent.
+   * @throws IOException if sending failed.
+   */
+  @Benchmark public Response copyingBody() throws IOException {
+    final Buffer buffer = new Buffer();
+    request.body().writeTo(buffer);
+    final RequestBody copy = RequestBody.create(OCTET_STREAM, buffer.readByteArray());
+
+    return new SendingChain(request).proceed(request.newBuilder().post(copy).build());
+  }
+
+  /**
+   * Last link of the chain, writing the body to nowhere instead of the network.
+   */
+  static class SendingChain implements Interceptor.Chain {
+    private final Request request;
+
+    SendingChain(Request request) {
+      this.request = request;
+    }
+
+    @Override public Request request() {
+      return request;
+    }
+
+    @Override public Response proceed(Request request) throws IOException {
+      final RequestBody body = request.body();
+      if (body != null) {
+        try (BufferedSink sink = Okio.buffer(Okio.blackhole())) {
+          body.writeTo(sink);
+        }
+      }
+
+      return new Response.Builder()
+          .request(request)
+          .protocol(Protocol.HTTP_1_1)
+          .code(200)
+          .message("OK")
+          .build();
+    }
+
+    @Override public Connection connection() {
+      return null;
+    }
+
+    @Override public Call call() {
+      return null;
+    }
+
+    @Override public int connectTimeoutMillis() {
+      return 0;
+    }
+
+    @Override public Interceptor.Chain withConnectTimeout(int timeout, TimeUnit unit) {
+      return this;
+    }
+
+    @Override public int readTimeoutMillis() {
+      return 0;
+    }
+
+    @Override public Interceptor.Chain withReadTimeout(int timeout, TimeUnit unit) {
+      return this;
+    }
+
+    @Override public int writeTimeoutMillis() {
+      return 0;
+    }
+
+    @Override public Interceptor.Chain withWriteTimeout(int timeout, TimeUnit unit) {
+      return this;
+    }
+  }
+}
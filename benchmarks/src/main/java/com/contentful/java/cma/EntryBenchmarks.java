@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAEntry;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips of single entries through the gson instance of the sdk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntryBenchmarks {
+  /**
+   * Shape of the entry to be serialized.
+   */
+  public enum Kind {
+    /**
+     * Only plain text fields.
+     */
+    PLAIN,
+
+    /**
+     * Links to other entries, single and in arrays.
+     */
+    LINKS,
+
+    /**
+     * A rich text document with nested nodes, marks and hyperlinks.
+     */
+    RICH_TEXT
+  }
+
+  @Param
+  public Kind kind;
+
+  private Gson gson;
+  private String json;
+  private CMAEntry entry;
+
+  /**
+   * Load the fixture of the current kind.
+   */
+  @Setup public void setUp() {
+    gson = Fixtures.sdkGson();
+    switch (kind) {
+      case LINKS:
+        json = Fixtures.load("entry_create_links_request.json");
+        break;
+      case RICH_TEXT:
+        json = Fixtures.firstItem("rich_text_get_one.json");
+        break;
+      case PLAIN:
+      default:
+        json = Fixtures.load("entry_fetch_one_response.json");
+        break;
+    }
+    entry = gson.fromJson(json, CMAEntry.class);
+  }
+
+  /**
+   * @return the entry read from json.
+   */
+  @Benchmark public CMAEntry deserialize() {
+    return gson.fromJson(json, CMAEntry.class);
+  }
+
+  /**
+   * @return the json of the entry.
+   */
+  @Benchmark public String serialize() {
+    return gson.toJson(entry);
+  }
+
+  /**
+   * @return the json of the entry read from json.
+   */
+  @Benchmark public String roundTrip() {
+    return gson.toJson(gson.fromJson(json, CMAEntry.class));
+  }
+}
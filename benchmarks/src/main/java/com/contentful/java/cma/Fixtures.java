@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads the json fixtures shared with the sdk tests.
+ */
+final class Fixtures {
+  private static final int BUFFER_SIZE = 8192;
+
+  private Fixtures() {
+    throw new AssertionError();
+  }
+
+  /**
+   * @return the gson instance the sdk uses for all requests.
+   */
+  static Gson sdkGson() {
+    return CMAClient.createGson();
+  }
+
+  /**
+   * Load the given fixture.
+   *
+   * @param name the file name of the fixture, relative to the test resources.
+   * @return the content of the fixture.
+   */
+  static String load(String name) {
+    try (InputStream stream = Fixtures.class.getClassLoader().getResourceAsStream(name)) {
+      if (stream == null) {
+        throw new IllegalArgumentException(String.format("Fixture %s not found.", name));
+      }
+
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = stream.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Load the first item of an array fixture.
+   *
+   * @param name the file name of an array fixture.
+   * @return the json of its first item.
+   */
+  static String firstItem(String name) {
+    final JsonObject array = new JsonParser().parse(load(name)).getAsJsonObject();
+    return array.getAsJsonArray("items").get(0).toString();
+  }
+
+  /**
+   * Create a page of the given size, repeating the items of an array fixture.
+   *
+   * @param name the file name of an array fixture.
+   * @param size the number of items the page should contain.
+   * @return the json of the page.
+   */
+  static String page(String name, int size) {
+    final JsonObject array = new JsonParser().parse(load(name)).getAsJsonObject();
+    final JsonArray items = array.getAsJsonArray("items");
+
+    final JsonArray repeated = new JsonArray(size);
+    for (int i = 0; i < size; ++i) {
+      final JsonObject item = items.get(i % items.size()).getAsJsonObject().deepCopy();
+      item.getAsJsonObject("sys").addProperty("id", "entry" + i);
+      repeated.add(item);
+    }
+
+    array.add("items", repeated);
+    array.addProperty("total", size);
+    array.addProperty("limit", size);
+    return array.toString();
+  }
+}
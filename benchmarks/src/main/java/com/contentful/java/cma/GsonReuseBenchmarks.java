@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAEntry;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding an entry with a new gson per call, like the entry deserializer used to, compared to a
+ * shared adapter.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocations per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonReuseBenchmarks {
+  private JsonElement tree;
+  private TypeAdapter<CMAEntry> sharedAdapter;
+
+  /**
+   * Parse the entry fixture once, so only binding is measured.
+   */
+  @Setup public void setUp() {
+    tree = new JsonParser().parse(Fixtures.load("entry_fetch_one_response.json"));
+    sharedAdapter = new Gson().getAdapter(CMAEntry.class);
+  }
+
+  /**
+   * @return the entry bound by a newly created gson.
+   */
+  @Benchmark public CMAEntry newGsonPerCall() {
+    return new Gson().fromJson(tree, CMAEntry.class);
+  }
+
+  /**
+   * @return the entry bound by an adapter created once.
+   */
+  @Benchmark public CMAEntry sharedAdapter() {
+    return sharedAdapter.fromJsonTree(tree);
+  }
+}
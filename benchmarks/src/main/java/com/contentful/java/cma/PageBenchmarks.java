@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAEntry;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and writing whole pages of entries, as returned by {@code fetchAll}.
+ * <p>
+ * Pages repeat the entries of the rich text fixture, mixing plain, link and rich text fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageBenchmarks {
+  private static final Type PAGE_TYPE = new TypeToken<CMAArray<CMAEntry>>() {
+  }.getType();
+
+  @Param({"100", "1000"})
+  public int size;
+
+  private Gson gson;
+  private String json;
+  private CMAArray<CMAEntry> page;
+
+  /**
+   * Create a page of the current size.
+   */
+  @Setup public void setUp() {
+    gson = Fixtures.sdkGson();
+    json = Fixtures.page("rich_text_get_all.json", size);
+    page = gson.fromJson(json, PAGE_TYPE);
+  }
+
+  /**
+   * @return the page read from json.
+   */
+  @Benchmark public CMAArray<CMAEntry> deserialize() {
+    return gson.fromJson(json, PAGE_TYPE);
+  }
+
+  /**
+   * @return the json of the page.
+   */
+  @Benchmark public String serialize() {
+    return gson.toJson(page, PAGE_TYPE);
+  }
+}
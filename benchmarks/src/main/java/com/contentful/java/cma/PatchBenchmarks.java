@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAEntry;
+import com.contentful.java.cma.model.CMALink;
+import com.contentful.java.cma.model.CMAType;
+import com.contentful.java.cma.model.patch.CMAEntryJsonPatchItem;
+import com.contentful.java.cma.model.patch.JsonPatchOperator;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Json patches of entries, serialized through the {@code CMAEntryJsonPatchItemSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatchBenchmarks {
+  private static final Type PATCH_TYPE = new TypeToken<List<CMAEntryJsonPatchItem>>() {
+  }.getType();
+
+  private Gson gson;
+  private String json;
+  private List<CMAEntryJsonPatchItem> patch;
+
+  /**
+   * Create a patch replacing a text, a link and a rich text document, and removing a value.
+   */
+  @Setup public void setUp() {
+    gson = Fixtures.sdkGson();
+    json = Fixtures.load("entry_patch_request_with_hyperlink_in_rich_node.json");
+
+    final CMAEntry richEntry =
+        gson.fromJson(Fixtures.firstItem("rich_text_get_one.json"), CMAEntry.class);
+    final Object document = richEntry.getField("rich", "en-US");
+
+    patch = new ArrayList<>();
+    patch.add(new CMAEntryJsonPatchItem(JsonPatchOperator.ADD, "/fields/title/en-US", "title"));
+    patch.add(new CMAEntryJsonPatchItem(JsonPatchOperator.ADD, "/fields/link/en-US",
+        new CMALink(CMAType.Entry).setId("linked")));
+    patch.add(new CMAEntryJsonPatchItem(JsonPatchOperator.ADD, "/fields/rich/en-US", document));
+    patch.add(new CMAEntryJsonPatchItem(JsonPatchOperator.REMOVE, "/fields/old/en-US", null));
+  }
+
+  /**
+   * @return the patch read from json.
+   */
+  @Benchmark public List<CMAEntryJsonPatchItem> deserialize() {
+    return gson.fromJson(json, PATCH_TYPE);
+  }
+
+  /**
+   * @return the json of the patch.
+   */
+  @Benchmark public String serialize() {
+    return gson.toJson(patch, PATCH_TYPE);
+  }
+}
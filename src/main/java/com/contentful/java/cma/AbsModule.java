@@ -19,12 +19,26 @@ package com.contentful.java.cma;
 import com.contentful.java.cma.RxExtensions.ActionError;
 import com.contentful.java.cma.RxExtensions.ActionSuccess;
 import com.contentful.java.cma.RxExtensions.DefFunc;
+import com.contentful.java.cma.interceptor.AsyncErrorInterceptor;
+import com.contentful.java.cma.interceptor.RateLimitsTracker;
 import com.contentful.java.cma.model.CMANotWithEnvironmentsException;
 import com.contentful.java.cma.model.CMAResource;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
 import io.reactivex.schedulers.Schedulers;
 import retrofit2.Retrofit;
 
@@ -32,11 +46,21 @@ import retrofit2.Retrofit;
  * Base Module.
  */
 abstract class AbsModule<T> {
+  /**
+   * How many resources a bulk action works on at the same time by default.
+   */
+  static final int DEFAULT_BULK_CONCURRENCY = 8;
+
+  private static final long BUDGET_WAIT_MILLIS = 50;
+
   final T service;
+  T asyncService;
   final Executor callbackExecutor;
   final String spaceId;
   final String environmentId;
   final Boolean environmentIdConfigured;
+  RateLimitsTracker rateLimits;
+  Scheduler scheduler = Schedulers.io();
 
   AbsModule(
       Retrofit retrofit,
@@ -53,6 +77,27 @@ abstract class AbsModule<T> {
 
   protected abstract T createService(Retrofit retrofit);
 
+  /**
+   * Create the service used for non-blocking calls, see {@link #toFuture(Flowable)}.
+   */
+  void setAsyncRetrofit(Retrofit retrofit) {
+    this.asyncService = createService(retrofit);
+  }
+
+  /**
+   * Share the rate limits seen by the client with this module, so it can size its concurrency.
+   */
+  void setRateLimits(RateLimitsTracker rateLimits) {
+    this.rateLimits = rateLimits;
+  }
+
+  /**
+   * Run the callback based calls of this module on the given scheduler.
+   */
+  void setScheduler(Scheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
   /**
    * Asserts that the given {@code object} with name {@code param} is not null, throws
    * {@link IllegalArgumentException} otherwise.
@@ -112,13 +157,106 @@ abstract class AbsModule<T> {
   <R> CMACallback<R> defer(DefFunc<R> func, CMACallback<R> callback) {
     assertNotNull(callback, "callback");
     Observable.defer(func)
-        .subscribeOn(Schedulers.io())
+        .subscribeOn(scheduler)
         .subscribe(
             new ActionSuccess<R>(callbackExecutor, callback),
             new ActionError(callbackExecutor, callback));
     return callback;
   }
 
+  /**
+   * Subscribes to the given request right away, without blocking: requests of the async service
+   * are enqueued to the call factory. Cancelling the future cancels the request.
+   */
+  static <R> CompletableFuture<R> toFuture(Flowable<R> request) {
+    final CompletableFuture<R> future = new CompletableFuture<>();
+    final Disposable subscription = request.firstOrError().subscribe(
+        future::complete,
+        failure -> future.completeExceptionally(AsyncErrorInterceptor.unwrap(failure)));
+    future.whenComplete((result, failure) -> {
+      if (future.isCancelled()) {
+        subscription.dispose();
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Passes on the result of the given request, unwrapping its failures, and subscribing and
+   * observing on the given schedulers, if not null.
+   */
+  static <R> Flowable<R> schedule(Flowable<R> request, Scheduler subscribeOn, Scheduler observeOn) {
+    Flowable<R> flowable = request.onErrorResumeNext(
+        (Throwable failure) -> Flowable.error(AsyncErrorInterceptor.unwrap(failure)));
+    if (subscribeOn != null) {
+      flowable = flowable.subscribeOn(subscribeOn);
+    }
+    if (observeOn != null) {
+      flowable = flowable.observeOn(observeOn);
+    }
+    return flowable;
+  }
+
+  /**
+   * Wait until the rate limits seen by the client leave a request for the current second.
+   */
+  void awaitRequestBudget() throws InterruptedException {
+    final RateLimitsTracker tracker = rateLimits;
+    while (tracker != null && tracker.getSecondBudget(1) <= 0) {
+      Thread.sleep(BUDGET_WAIT_MILLIS);
+    }
+  }
+
+  /**
+   * Applies {@code action} to all {@code resources} on {@code concurrency} worker threads, waiting
+   * for request budget before every call. Failures are collected per resource instead of
+   * stopping the others.
+   *
+   * @throws IllegalStateException if the calling thread got interrupted while waiting.
+   */
+  <R> BulkResult<R> bulk(
+      Collection<R> resources,
+      int concurrency,
+      final Function<R, R> action) {
+    assertNotNull(resources, "resources");
+
+    final long startedAt = System.currentTimeMillis();
+    final List<BulkResult.Item<R>> items = new ArrayList<>(resources.size());
+    if (resources.isEmpty()) {
+      return new BulkResult<>(items, 0);
+    }
+
+    final ExecutorService workers =
+        Executors.newFixedThreadPool(Math.min(concurrency, resources.size()));
+    try {
+      final List<Future<BulkResult.Item<R>>> futures = new ArrayList<>(resources.size());
+      for (final R resource : resources) {
+        futures.add(workers.submit(() -> {
+          try {
+            awaitRequestBudget();
+            return new BulkResult.Item<>(resource, action.apply(resource), null);
+          } catch (RuntimeException e) {
+            return new BulkResult.Item<R>(resource, null, e);
+          }
+        }));
+      }
+
+      for (final Future<BulkResult.Item<R>> future : futures) {
+        items.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for bulk action.", e);
+    } catch (ExecutionException e) {
+      // workers catch all failures of the action, so this can only be an error.
+      throw new IllegalStateException("Bulk action failed.", e.getCause());
+    } finally {
+      workers.shutdownNow();
+    }
+
+    return new BulkResult<>(items, System.currentTimeMillis() - startedAt);
+  }
+
   /**
    * Throw a {@link CMANotWithEnvironmentsException} if an environment id was
    * configured in
@@ -0,0 +1,617 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAAsset;
+import com.contentful.java.cma.model.CMAAssetFile;
+import com.contentful.java.cma.model.CMALink;
+import com.contentful.java.cma.model.CMAType;
+import com.contentful.java.cma.model.CMAUpload;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Turns local files into published assets, many at a time.
+ * <p>
+ * Every file passes the stages of {@link Stage}: it gets uploaded, an asset gets created from the
+ * upload, processed, polled until its file got a url, and finally published. Every stage has its
+ * own queue and workers, so while some files are still uploading, others are already processed
+ * or published. Processed assets are polled together by an {@link AssetProcessingTracker}.
+ * <p>
+ * The number of files in the pipeline at the same time is bounded, and no request is sent while
+ * the rate limits last reported by Contentful have no requests left for the current second.
+ * Failing files are reported in the {@link Report} without stopping the others.
+ */
+public class AssetIngestor {
+  /**
+   * How many files are uploaded at the same time by default.
+   */
+  public static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
+
+  /**
+   * How many requests every other stage sends at the same time by default.
+   */
+  public static final int DEFAULT_REQUEST_CONCURRENCY = 4;
+
+  /**
+   * How many files are in the pipeline at the same time by default.
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT = 100;
+
+  /**
+   * How long to wait before polling a processed asset the first time by default.
+   */
+  public static final long DEFAULT_INITIAL_POLL_MILLIS =
+      AssetProcessingTracker.DEFAULT_INITIAL_POLL_MILLIS;
+
+  /**
+   * The longest wait between two polls of the same asset by default.
+   */
+  public static final long DEFAULT_MAX_POLL_MILLIS =
+      AssetProcessingTracker.DEFAULT_MAX_POLL_MILLIS;
+
+  /**
+   * How long an asset may take to get processed by default, before it is reported as failed.
+   */
+  public static final long DEFAULT_PROCESSING_TIMEOUT_MILLIS =
+      AssetProcessingTracker.DEFAULT_PROCESSING_TIMEOUT_MILLIS;
+
+  /**
+   * The locale the files are added to by default.
+   */
+  public static final String DEFAULT_LOCALE = "en-US";
+
+  /**
+   * The stages every file passes, in order.
+   */
+  public enum Stage {
+    /**
+     * Sending the file to the upload api.
+     */
+    UPLOAD,
+
+    /**
+     * Creating an asset linking to the upload.
+     */
+    CREATE,
+
+    /**
+     * Asking Contentful to process the file of the asset.
+     */
+    PROCESS,
+
+    /**
+     * Waiting for the processed file to get a url.
+     */
+    POLL,
+
+    /**
+     * Publishing the processed asset.
+     */
+    PUBLISH
+  }
+
+  private final CMAClient client;
+  private ResumableUploader uploader;
+  private String locale = DEFAULT_LOCALE;
+  private int uploadConcurrency = DEFAULT_UPLOAD_CONCURRENCY;
+  private int requestConcurrency = DEFAULT_REQUEST_CONCURRENCY;
+  private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+  private long initialPollMillis = DEFAULT_INITIAL_POLL_MILLIS;
+  private long maxPollMillis = DEFAULT_MAX_POLL_MILLIS;
+  private long processingTimeoutMillis = DEFAULT_PROCESSING_TIMEOUT_MILLIS;
+
+  /**
+   * Create an ingestor sending its requests through the given client.
+   *
+   * @param client the client to be used.
+   * @throws IllegalArgumentException if client is null.
+   */
+  public AssetIngestor(CMAClient client) {
+    if (client == null) {
+      throw new IllegalArgumentException("client may not be null.");
+    }
+    this.client = client;
+  }
+
+  /**
+   * Upload files through the given uploader, retrying failed uploads and reusing the ones
+   * recorded in its checkpoint.
+   *
+   * @param uploader the uploader to be used, or null to upload every file once.
+   * @return this ingestor for chaining.
+   */
+  public AssetIngestor setUploader(ResumableUploader uploader) {
+    this.uploader = uploader;
+    return this;
+  }
+
+  /**
+   * Set the locale to add the files to.
+   *
+   * @param locale the code of the locale.
+   * @return this ingestor for chaining.
+   * @throws IllegalArgumentException if locale is null.
+   */
+  public AssetIngestor setLocale(String locale) {
+    if (locale == null) {
+      throw new IllegalArgumentException("locale may not be null.");
+    }
+    this.locale = locale;
+    return this;
+  }
+
+  /**
+   * Set how many workers every stage has.
+   *
+   * @param uploadConcurrency  the number of files uploaded at the same time.
+   * @param requestConcurrency the number of requests of each other stage sent at the same time.
+   * @return this ingestor for chaining.
+   * @throws IllegalArgumentException if a concurrency is less than one.
+   */
+  public AssetIngestor setConcurrency(int uploadConcurrency, int requestConcurrency) {
+    if (uploadConcurrency < 1 || requestConcurrency < 1) {
+      throw new IllegalArgumentException("Concurrency may not be less than one.");
+    }
+    this.uploadConcurrency = uploadConcurrency;
+    this.requestConcurrency = requestConcurrency;
+    return this;
+  }
+
+  /**
+   * Set how many files may be in the pipeline at the same time. Ingesting waits for files to
+   * leave the pipeline before adding more.
+   *
+   * @param maxInFlight the number of files.
+   * @return this ingestor for chaining.
+   * @throws IllegalArgumentException if maxInFlight is less than one.
+   */
+  public AssetIngestor setMaxInFlight(int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight may not be less than one.");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * Set how processed assets are polled. The wait before the next poll of the same asset doubles
+   * with every poll not finding its file processed, up to the maximum.
+   *
+   * @see AssetProcessingTracker#setPolling(long, long, long)
+   *
+   * @param initialPollMillis       the wait before the first poll.
+   * @param maxPollMillis           the longest wait between two polls.
+   * @param processingTimeoutMillis how long processing may take, before the asset failed.
+   * @return this ingestor for chaining.
+   * @throws IllegalArgumentException if a duration is not positive, or the initial wait exceeds
+   *                                  the maximum.
+   */
+  public AssetIngestor setPolling(
+      long initialPollMillis,
+      long maxPollMillis,
+      long processingTimeoutMillis) {
+    if (initialPollMillis <= 0 || maxPollMillis < initialPollMillis
+        || processingTimeoutMillis <= 0) {
+      throw new IllegalArgumentException(
+          "Durations must be positive and initialPollMillis may not exceed maxPollMillis.");
+    }
+    this.initialPollMillis = initialPollMillis;
+    this.maxPollMillis = maxPollMillis;
+    this.processingTimeoutMillis = processingTimeoutMillis;
+    return this;
+  }
+
+  /**
+   * Ingest the given files into the configured space and environment.
+   *
+   * @param items the files to be turned into assets.
+   * @return the report of all files, after every file got published or failed.
+   * @throws IllegalArgumentException if the configured space or environment id is null.
+   * @throws IllegalArgumentException if items is null.
+   * @throws InterruptedException     if the thread got interrupted while waiting for the files.
+   * @see CMAClient.Builder#setSpaceId(String)
+   * @see CMAClient.Builder#setEnvironmentId(String)
+   */
+  public Report ingest(Collection<Item> items) throws InterruptedException {
+    final ModuleAssets assets = client.assets();
+    return ingest(assets.spaceId, assets.environmentId, items);
+  }
+
+  /**
+   * Ingest the given files.
+   *
+   * @param spaceId       the id of the space to create the assets in.
+   * @param environmentId the id of the environment to create the assets in.
+   * @param items         the files to be turned into assets.
+   * @return the report of all files, after every file got published or failed.
+   * @throws IllegalArgumentException if spaceId, environmentId or items is null.
+   * @throws InterruptedException     if the thread got interrupted while waiting for the files.
+   */
+  public Report ingest(String spaceId, String environmentId, Collection<Item> items)
+      throws InterruptedException {
+    if (spaceId == null) {
+      throw new IllegalArgumentException("spaceId may not be null.");
+    }
+    if (environmentId == null) {
+      throw new IllegalArgumentException("environmentId may not be null.");
+    }
+    if (items == null) {
+      throw new IllegalArgumentException("items may not be null.");
+    }
+
+    final Run run = new Run(spaceId, environmentId, items.size());
+    try {
+      for (final Item item : items) {
+        run.inFlight.acquire();
+        run.upload(item);
+      }
+      run.done.await();
+    } finally {
+      run.shutdown();
+    }
+    return run.report.finish(run.tracker.getRequestCount());
+  }
+
+  /**
+   * One stage of a file, handing it on to the next stage when done.
+   */
+  private interface StageTask {
+    void run() throws Exception;
+  }
+
+  /**
+   * State of one call to ingest.
+   */
+  private final class Run {
+    final String spaceId;
+    final String environmentId;
+    final Semaphore inFlight = new Semaphore(maxInFlight);
+    final CountDownLatch done;
+    final Report report = new Report();
+
+    final ExecutorService uploads = Executors.newFixedThreadPool(uploadConcurrency);
+    final ExecutorService creates = Executors.newFixedThreadPool(requestConcurrency);
+    final ExecutorService processes = Executors.newFixedThreadPool(requestConcurrency);
+    final ExecutorService publishes = Executors.newFixedThreadPool(requestConcurrency);
+    final AssetProcessingTracker tracker = new AssetProcessingTracker(client.assets())
+        .setPolling(initialPollMillis, maxPollMillis, processingTimeoutMillis);
+
+    Run(String spaceId, String environmentId, int size) {
+      this.spaceId = spaceId;
+      this.environmentId = environmentId;
+      this.done = new CountDownLatch(size);
+    }
+
+    void upload(final Item item) {
+      stage(uploads, item, Stage.UPLOAD, () -> {
+        final CMAUpload upload = uploader == null
+            ? client.uploads().create(spaceId, item.file)
+            : uploader.upload(spaceId, item.file);
+        report.completed(Stage.UPLOAD);
+        create(item, upload);
+      });
+    }
+
+    void create(final Item item, final CMAUpload upload) {
+      stage(creates, item, Stage.CREATE, () -> {
+        final CMAAssetFile file = new CMAAssetFile()
+            .setUploadFrom(new CMALink(CMAType.Upload).setId(upload.getId()))
+            .setFileName(item.fileName)
+            .setContentType(item.contentType);
+
+        final CMAAsset asset = new CMAAsset();
+        asset.getFields().setFile(locale, file);
+        if (item.title != null) {
+          asset.getFields().setTitle(locale, item.title);
+        }
+        if (item.description != null) {
+          asset.getFields().setDescription(locale, item.description);
+        }
+
+        client.assets().awaitRequestBudget();
+        final CMAAsset created = client.assets().create(spaceId, environmentId, asset);
+        report.completed(Stage.CREATE);
+        process(item, created);
+      });
+    }
+
+    void process(final Item item, final CMAAsset asset) {
+      stage(processes, item, Stage.PROCESS, () -> {
+        client.assets().awaitRequestBudget();
+        client.assets().process(asset, locale);
+        report.completed(Stage.PROCESS);
+        poll(item, asset);
+      });
+    }
+
+    void poll(final Item item, final CMAAsset asset) {
+      tracker.track(asset, locale).whenComplete((processed, failure) -> {
+        if (failure == null) {
+          report.completed(Stage.POLL);
+          publish(item, processed);
+        } else {
+          fail(item, Stage.POLL, failure instanceof Exception
+              ? (Exception) failure
+              : new IllegalStateException(failure));
+        }
+      });
+    }
+
+    void publish(final Item item, final CMAAsset asset) {
+      stage(publishes, item, Stage.PUBLISH, () -> {
+        client.assets().awaitRequestBudget();
+        final CMAAsset published = client.assets().publish(asset);
+        report.completed(Stage.PUBLISH);
+        report.published(published);
+        finish();
+      });
+    }
+
+    /**
+     * Run a stage of the item on the given workers. Whatever the stage throws fails the item,
+     * errors get rethrown afterwards.
+     */
+    void stage(ExecutorService workers, Item item, Stage stage, StageTask task) {
+      workers.execute(() -> {
+        try {
+          task.run();
+        } catch (Exception e) {
+          fail(item, stage, e);
+        } catch (Error e) {
+          fail(item, stage, new IllegalStateException(e));
+          throw e;
+        }
+      });
+    }
+
+    void fail(Item item, Stage stage, Exception cause) {
+      try {
+        report.failed(new Failure(item, stage, cause));
+      } finally {
+        finish();
+      }
+    }
+
+    void finish() {
+      try {
+        inFlight.release();
+      } finally {
+        done.countDown();
+      }
+    }
+
+    void shutdown() {
+      tracker.shutdown();
+      uploads.shutdownNow();
+      creates.shutdownNow();
+      processes.shutdownNow();
+      publishes.shutdownNow();
+    }
+  }
+
+  /**
+   * A file to be turned into an asset.
+   */
+  public static class Item {
+    final File file;
+    final String contentType;
+    String fileName;
+    String title;
+    String description;
+
+    /**
+     * Create an item of the given file.
+     *
+     * @param file        the file to be uploaded.
+     * @param contentType the mime type of the file, like {@code image/jpeg}.
+     * @throws IllegalArgumentException if file or contentType is null.
+     */
+    public Item(File file, String contentType) {
+      if (file == null) {
+        throw new IllegalArgumentException("file may not be null.");
+      }
+      if (contentType == null) {
+        throw new IllegalArgumentException("contentType may not be null.");
+      }
+      this.file = file;
+      this.contentType = contentType;
+      this.fileName = file.getName();
+    }
+
+    /**
+     * @return the file to be uploaded.
+     */
+    public File getFile() {
+      return file;
+    }
+
+    /**
+     * Set the file name of the asset, defaulting to the name of the file.
+     *
+     * @param fileName the name to be shown.
+     * @return this item for chaining.
+     */
+    public Item setFileName(String fileName) {
+      this.fileName = fileName;
+      return this;
+    }
+
+    /**
+     * @param title the title of the asset.
+     * @return this item for chaining.
+     */
+    public Item setTitle(String title) {
+      this.title = title;
+      return this;
+    }
+
+    /**
+     * @param description the description of the asset.
+     * @return this item for chaining.
+     */
+    public Item setDescription(String description) {
+      this.description = description;
+      return this;
+    }
+
+    /**
+     * @return a human readable string, representing the object.
+     */
+    @Override public String toString() {
+      return "Item { file = " + file + " }";
+    }
+  }
+
+  /**
+   * A file which could not be turned into a published asset.
+   */
+  public static class Failure {
+    private final Item item;
+    private final Stage stage;
+    private final Exception cause;
+
+    Failure(Item item, Stage stage, Exception cause) {
+      this.item = item;
+      this.stage = stage;
+      this.cause = cause;
+    }
+
+    /**
+     * @return the file which failed.
+     */
+    public Item getItem() {
+      return item;
+    }
+
+    /**
+     * @return the stage the file failed in.
+     */
+    public Stage getStage() {
+      return stage;
+    }
+
+    /**
+     * @return the reason of the failure.
+     */
+    public Exception getCause() {
+      return cause;
+    }
+
+    /**
+     * @return a human readable string, representing the object.
+     */
+    @Override public String toString() {
+      return "Failure { item = " + item + ", stage = " + stage + ", cause = " + cause + " }";
+    }
+  }
+
+  /**
+   * Summary of one ingest.
+   */
+  public static class Report {
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<Stage, Integer> completed = new EnumMap<>(Stage.class);
+    private final List<CMAAsset> published = new ArrayList<>();
+    private final List<Failure> failures = new ArrayList<>();
+    private int pollCount;
+    private long elapsedMillis;
+
+    Report() {
+      for (final Stage stage : Stage.values()) {
+        completed.put(stage, 0);
+      }
+    }
+
+    synchronized void completed(Stage stage) {
+      completed.put(stage, completed.get(stage) + 1);
+    }
+
+    synchronized void published(CMAAsset asset) {
+      published.add(asset);
+    }
+
+    synchronized void failed(Failure failure) {
+      failures.add(failure);
+    }
+
+    synchronized Report finish(int pollCount) {
+      this.pollCount = pollCount;
+      elapsedMillis = System.currentTimeMillis() - startedAt;
+      return this;
+    }
+
+    /**
+     * @param stage the stage to look at.
+     * @return how many files passed the given stage.
+     */
+    public synchronized int getCompletedCount(Stage stage) {
+      return completed.get(stage);
+    }
+
+    /**
+     * @return the published assets, in the order they got published.
+     */
+    public synchronized List<CMAAsset> getPublished() {
+      return Collections.unmodifiableList(new ArrayList<>(published));
+    }
+
+    /**
+     * @return the files which failed, with the stage they failed in.
+     */
+    public synchronized List<Failure> getFailures() {
+      return Collections.unmodifiableList(new ArrayList<>(failures));
+    }
+
+    /**
+     * @return how many requests were sent to poll processed assets.
+     */
+    public synchronized int getPollCount() {
+      return pollCount;
+    }
+
+    /**
+     * @return how long the ingest took.
+     */
+    public synchronized long getElapsedMillis() {
+      return elapsedMillis;
+    }
+
+    /**
+     * @return a human readable string, representing the object.
+     */
+    @Override public synchronized String toString() {
+      return "Report { "
+          + "published = " + published.size() + ", "
+          + "failed = " + failures.size() + ", "
+          + "completed = " + completed + ", "
+          + "polls = " + pollCount + ", "
+          + "elapsedMillis = " + elapsedMillis + " "
+          + "}";
+    }
+  }
+}
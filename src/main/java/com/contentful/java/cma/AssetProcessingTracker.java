@@ -0,0 +1,384 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.interceptor.RateLimitsTracker;
+import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAAsset;
+import com.contentful.java.cma.model.CMAAssetFile;
+import com.contentful.java.cma.model.CMAHttpException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Waits for processed assets to get the url of their file, polling many assets at once.
+ * <p>
+ * All tracked assets share one polling loop. Every tick, the assets due to be polled are fetched
+ * together, up to one page per request, using a {@code sys.id[in]} query. An asset not processed
+ * yet waits twice as long before its next poll, up to a maximum, and fails after a timeout.
+ * <p>
+ * Ticks are skipped while the rate limits of the client have no requests left for the current
+ * second. The loop runs on a daemon thread, started with the first asset tracked.
+ */
+public class AssetProcessingTracker {
+  /**
+   * How long to wait before polling an asset the first time by default. This also is the
+   * interval of the polling loop.
+   */
+  public static final long DEFAULT_INITIAL_POLL_MILLIS = 500;
+
+  /**
+   * The longest wait between two polls of the same asset by default.
+   */
+  public static final long DEFAULT_MAX_POLL_MILLIS = 10000;
+
+  /**
+   * How long an asset may take to get processed by default.
+   */
+  public static final long DEFAULT_PROCESSING_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+  /**
+   * How many assets are fetched by one request by default.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  /**
+   * The most assets Contentful returns in one page.
+   */
+  public static final int MAX_BATCH_SIZE = 1000;
+
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final int HTTP_SERVER_ERROR = 500;
+
+  private final ModuleAssets assets;
+  private final Map<String, Tracked> tracked = new ConcurrentHashMap<>();
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  private volatile long initialPollMillis = DEFAULT_INITIAL_POLL_MILLIS;
+  private volatile long maxPollMillis = DEFAULT_MAX_POLL_MILLIS;
+  private volatile long processingTimeoutMillis = DEFAULT_PROCESSING_TIMEOUT_MILLIS;
+  private volatile int batchSize = DEFAULT_BATCH_SIZE;
+
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * Create a tracker fetching assets through the given module.
+   *
+   * @param assets the module to be used, see {@link CMAClient#assets()}.
+   * @throws IllegalArgumentException if assets is null.
+   */
+  public AssetProcessingTracker(ModuleAssets assets) {
+    if (assets == null) {
+      throw new IllegalArgumentException("assets may not be null.");
+    }
+    this.assets = assets;
+  }
+
+  /**
+   * Set how assets are polled. Takes effect for assets tracked afterwards, the interval of the
+   * loop only before the first asset got tracked.
+   *
+   * @param initialPollMillis       the wait before the first poll, and the interval of the loop.
+   * @param maxPollMillis           the longest wait between two polls of the same asset.
+   * @param processingTimeoutMillis how long processing may take, before the asset failed.
+   * @return this tracker for chaining.
+   * @throws IllegalArgumentException if a duration is not positive, or the initial wait exceeds
+   *                                  the maximum.
+   */
+  public AssetProcessingTracker setPolling(
+      long initialPollMillis,
+      long maxPollMillis,
+      long processingTimeoutMillis) {
+    if (initialPollMillis <= 0 || maxPollMillis < initialPollMillis
+        || processingTimeoutMillis <= 0) {
+      throw new IllegalArgumentException(
+          "Durations must be positive and initialPollMillis may not exceed maxPollMillis.");
+    }
+    this.initialPollMillis = initialPollMillis;
+    this.maxPollMillis = maxPollMillis;
+    this.processingTimeoutMillis = processingTimeoutMillis;
+    return this;
+  }
+
+  /**
+   * Set how many assets are fetched by one request.
+   *
+   * @param batchSize the number of assets, at most {@link #MAX_BATCH_SIZE}.
+   * @return this tracker for chaining.
+   * @throws IllegalArgumentException if batchSize is less than one or too big.
+   */
+  public AssetProcessingTracker setBatchSize(int batchSize) {
+    if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException(
+          "batchSize must be between one and " + MAX_BATCH_SIZE + ".");
+    }
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * Process the file of the given asset and track it until the file got processed.
+   *
+   * @param asset  the asset to be processed.
+   * @param locale the locale of the file to be processed.
+   * @return a future completing with the processed asset.
+   * @throws IllegalArgumentException if asset or locale is null, or asset has no id or space.
+   * @throws CMAHttpException         if processing could not be started.
+   */
+  public CompletableFuture<CMAAsset> process(CMAAsset asset, String locale) {
+    assets.process(asset, locale);
+    return track(asset, locale);
+  }
+
+  /**
+   * Track an asset, which got asked to be processed already.
+   * <p>
+   * Tracking the same asset and locale again returns the future of the first call.
+   *
+   * @param asset  the asset to be tracked.
+   * @param locale the locale of the file to be waited for.
+   * @return a future completing with the processed asset, or exceptionally with a
+   * {@link TimeoutException} or the error of fetching the asset.
+   * @throws IllegalArgumentException if asset or locale is null, or asset has no id or space.
+   */
+  public CompletableFuture<CMAAsset> track(CMAAsset asset, String locale) {
+    assets.assertNotNull(asset, "asset");
+    assets.assertNotNull(locale, "locale");
+    final String assetId = assets.getResourceIdOrThrow(asset, "asset");
+    final String spaceId = assets.getSpaceIdOrThrow(asset, "asset");
+    final String environmentId =
+        asset.getEnvironmentId() == null ? assets.environmentId : asset.getEnvironmentId();
+
+    final String key = spaceId + "/" + environmentId + "/" + assetId + "/" + locale;
+    final Tracked entry = tracked.computeIfAbsent(key,
+        ignored -> new Tracked(spaceId, environmentId, assetId, locale));
+    startLoop();
+    return entry.future;
+  }
+
+  /**
+   * @return how many assets are waited for.
+   */
+  public int getOutstandingCount() {
+    return tracked.size();
+  }
+
+  /**
+   * @return how many requests were sent to poll assets.
+   */
+  public int getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * Stop polling, cancelling the futures of all assets still waited for.
+   */
+  public synchronized void shutdown() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+    for (final Tracked entry : tracked.values()) {
+      entry.future.completeExceptionally(new CancellationException("Tracker got shut down."));
+    }
+    tracked.clear();
+  }
+
+  private synchronized void startLoop() {
+    if (scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "contentful-asset-processing");
+        thread.setDaemon(true);
+        return thread;
+      });
+      scheduler.scheduleWithFixedDelay(
+          this::tick, initialPollMillis, initialPollMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Poll all assets due, grouped by space and environment.
+   * <p>
+   * Nothing may escape, since a failing tick would silently stop the loop and leave all futures
+   * waiting forever.
+   */
+  void tick() {
+    try {
+      pollDue();
+    } catch (Throwable failure) {
+      for (final Tracked entry : new ArrayList<>(tracked.values())) {
+        complete(entry, null, failure);
+      }
+    }
+  }
+
+  private void pollDue() {
+    final long now = System.currentTimeMillis();
+    final Map<String, List<Tracked>> due = new LinkedHashMap<>();
+    for (final Tracked entry : tracked.values()) {
+      if (entry.nextPollAt <= now) {
+        due.computeIfAbsent(entry.spaceId + "/" + entry.environmentId, k -> new ArrayList<>())
+            .add(entry);
+      }
+    }
+
+    for (final List<Tracked> group : due.values()) {
+      for (int start = 0; start < group.size(); start += batchSize) {
+        if (!hasRequestBudget()) {
+          return;
+        }
+        poll(group.subList(start, Math.min(group.size(), start + batchSize)), now);
+      }
+    }
+  }
+
+  private void poll(List<Tracked> batch, long now) {
+    final Tracked first = batch.get(0);
+
+    // the same asset may be tracked for several locales, but is fetched only once.
+    final Map<String, List<Tracked>> byId = new LinkedHashMap<>();
+    for (final Tracked entry : batch) {
+      byId.computeIfAbsent(entry.assetId, k -> new ArrayList<>()).add(entry);
+    }
+
+    final Map<String, String> query = new HashMap<>();
+    query.put("sys.id[in]", String.join(",", byId.keySet()));
+    query.put("limit", Integer.toString(byId.size()));
+
+    final CMAArray<CMAAsset> page;
+    try {
+      requestCount.incrementAndGet();
+      page = assets.fetchAll(first.spaceId, first.environmentId, query);
+    } catch (RuntimeException e) {
+      for (final Tracked entry : batch) {
+        if (isTransient(e)) {
+          entry.backOff(now);
+        } else {
+          complete(entry, null, e);
+        }
+      }
+      return;
+    }
+
+    try {
+      final List<CMAAsset> items =
+          page.getItems() == null ? Collections.<CMAAsset>emptyList() : page.getItems();
+      for (final CMAAsset asset : items) {
+        final List<Tracked> entries = byId.remove(asset.getId());
+        if (entries == null) {
+          continue;
+        }
+        for (final Tracked entry : entries) {
+          if (isProcessed(asset, entry.locale)) {
+            complete(entry, asset, null);
+          } else {
+            entry.backOff(now);
+          }
+        }
+      }
+    } catch (RuntimeException e) {
+      for (final Tracked entry : batch) {
+        complete(entry, null, e);
+      }
+      return;
+    }
+
+    // assets not returned might not be visible yet, and are polled again later.
+    for (final List<Tracked> entries : byId.values()) {
+      for (final Tracked entry : entries) {
+        entry.backOff(now);
+      }
+    }
+  }
+
+  private void complete(Tracked entry, CMAAsset asset, Throwable failure) {
+    tracked.values().remove(entry);
+    if (failure == null) {
+      entry.future.complete(asset);
+    } else {
+      entry.future.completeExceptionally(failure);
+    }
+  }
+
+  private boolean hasRequestBudget() {
+    final RateLimitsTracker rateLimits = assets.rateLimits;
+    return rateLimits == null || rateLimits.getSecondBudget(1) > 0;
+  }
+
+  private static boolean isProcessed(CMAAsset asset, String locale) {
+    final CMAAsset.Fields fields = asset.getFields();
+    final CMAAssetFile file = fields == null ? null : fields.getFile(locale);
+    return file != null && file.getUrl() != null;
+  }
+
+  private static boolean isTransient(RuntimeException e) {
+    if (e instanceof CMAHttpException) {
+      final int code = ((CMAHttpException) e).responseCode();
+      return code == HTTP_TOO_MANY_REQUESTS || code >= HTTP_SERVER_ERROR;
+    }
+    return true;
+  }
+
+  /**
+   * An asset waited for.
+   */
+  private final class Tracked {
+    final String spaceId;
+    final String environmentId;
+    final String assetId;
+    final String locale;
+    final CompletableFuture<CMAAsset> future = new CompletableFuture<>();
+    final long deadline;
+    long waitMillis;
+    volatile long nextPollAt;
+
+    Tracked(String spaceId, String environmentId, String assetId, String locale) {
+      this.spaceId = spaceId;
+      this.environmentId = environmentId;
+      this.assetId = assetId;
+      this.locale = locale;
+
+      final long now = System.currentTimeMillis();
+      this.waitMillis = initialPollMillis;
+      this.nextPollAt = now + waitMillis;
+      this.deadline = now + processingTimeoutMillis;
+    }
+
+    void backOff(long now) {
+      if (now >= deadline) {
+        complete(this, null,
+            new TimeoutException("Asset " + assetId + " was not processed in time."));
+        return;
+      }
+      waitMillis = Math.min(maxPollMillis, waitMillis * 2);
+      nextPollAt = now + waitMillis;
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk action, like publishing many entries at once.
+ * <p>
+ * Every resource given gets its own {@link Item}, holding either the result of the action or the
+ * exception it failed with, in the order the resources were given.
+ *
+ * @param <T> the type of the resources acted on.
+ */
+public class BulkResult<T> {
+  private static final double MILLIS_PER_SECOND = 1000.0;
+
+  private final List<Item<T>> items;
+  private final long elapsedMillis;
+  private final int successCount;
+
+  BulkResult(List<Item<T>> items, long elapsedMillis) {
+    this.items = Collections.unmodifiableList(new ArrayList<>(items));
+    this.elapsedMillis = elapsedMillis;
+
+    int successes = 0;
+    for (final Item<T> item : items) {
+      if (item.isSuccessful()) {
+        successes++;
+      }
+    }
+    this.successCount = successes;
+  }
+
+  /**
+   * @return the outcome of every resource, in the order they were given.
+   */
+  public List<Item<T>> getItems() {
+    return items;
+  }
+
+  /**
+   * @return the outcomes of the resources the action failed for.
+   */
+  public List<Item<T>> getFailures() {
+    final List<Item<T>> failures = new ArrayList<>();
+    for (final Item<T> item : items) {
+      if (!item.isSuccessful()) {
+        failures.add(item);
+      }
+    }
+    return failures;
+  }
+
+  /**
+   * @return how many resources the action succeeded for.
+   */
+  public int getSuccessCount() {
+    return successCount;
+  }
+
+  /**
+   * @return how many resources the action failed for.
+   */
+  public int getFailureCount() {
+    return items.size() - successCount;
+  }
+
+  /**
+   * @return how long the whole bulk action took.
+   */
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  /**
+   * @return how many resources were acted on per second, failed ones included.
+   */
+  public double getThroughput() {
+    return elapsedMillis == 0 ? items.size() : items.size() * MILLIS_PER_SECOND / elapsedMillis;
+  }
+
+  /**
+   * @return a human readable string, representing the object.
+   */
+  @Override public String toString() {
+    return "BulkResult { "
+        + "successCount = " + successCount + ", "
+        + "failureCount = " + getFailureCount() + ", "
+        + "elapsedMillis = " + elapsedMillis + " "
+        + "}";
+  }
+
+  /**
+   * The outcome of the action for one resource.
+   *
+   * @param <T> the type of the resource.
+   */
+  public static class Item<T> {
+    private final T resource;
+    private final T result;
+    private final RuntimeException error;
+
+    Item(T resource, T result, RuntimeException error) {
+      this.resource = resource;
+      this.result = result;
+      this.error = error;
+    }
+
+    /**
+     * @return the resource given to the action.
+     */
+    public T getResource() {
+      return resource;
+    }
+
+    /**
+     * @return the resource returned by Contentful, or null if the action failed.
+     */
+    public T getResult() {
+      return result;
+    }
+
+    /**
+     * @return the reason the action failed, usually a
+     * {@link com.contentful.java.cma.model.CMAHttpException}, or null if it succeeded.
+     */
+    public RuntimeException getError() {
+      return error;
+    }
+
+    /**
+     * @return whether the action succeeded for this resource.
+     */
+    public boolean isSuccessful() {
+      return error == null;
+    }
+
+    /**
+     * @return a human readable string, representing the object.
+     */
+    @Override public String toString() {
+      return "Item { "
+          + "resource = " + resource + ", "
+          + (error == null ? "result = " + result : "error = " + error) + " "
+          + "}";
+    }
+  }
+}
@@ -18,11 +18,12 @@ package com.contentful.java.cma;
 
 //BEGIN TO LONG CODE LINES
 
-import com.contentful.java.cma.gson.EntrySerializer;
+import com.contentful.java.cma.gson.EntryTypeAdapter;
 import com.contentful.java.cma.gson.FieldTypeAdapter;
 import com.contentful.java.cma.gson.CMAEntryJsonPatchItemSerializer;
 import com.contentful.java.cma.gson.LocaleSerializer;
 import com.contentful.java.cma.gson.SnapshotDeserializer;
+import com.contentful.java.cma.interceptor.AsyncErrorInterceptor;
 import com.contentful.java.cma.interceptor.AuthorizationHeaderInterceptor;
 import com.contentful.java.cma.interceptor.ContentTypeInterceptor;
 import com.contentful.java.cma.interceptor.ContentfulUserAgentHeaderInterceptor;
@@ -30,25 +31,37 @@ import com.contentful.java.cma.interceptor.ContentfulUserAgentHeaderInterceptor.
 import com.contentful.java.cma.interceptor.ContentfulUserAgentHeaderInterceptor.Section.OperatingSystem;
 import com.contentful.java.cma.interceptor.ContentfulUserAgentHeaderInterceptor.Section.Version;
 import com.contentful.java.cma.interceptor.ErrorInterceptor;
+import com.contentful.java.cma.interceptor.GzipInterceptor;
 import com.contentful.java.cma.interceptor.LogInterceptor;
 import com.contentful.java.cma.interceptor.RateLimitInterceptor;
+import com.contentful.java.cma.interceptor.RateLimitThrottler;
+import com.contentful.java.cma.interceptor.RetryInterceptor;
 import com.contentful.java.cma.interceptor.RateLimitsListener;
+import com.contentful.java.cma.interceptor.RateLimitsTracker;
 import com.contentful.java.cma.interceptor.UserAgentHeaderInterceptor;
-import com.contentful.java.cma.model.CMAEntry;
 import com.contentful.java.cma.model.CMAField;
 import com.contentful.java.cma.model.CMALocale;
 import com.contentful.java.cma.model.CMASnapshot;
 import com.contentful.java.cma.model.patch.CMAEntryJsonPatchItem;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import retrofit2.Retrofit;
 import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
 import retrofit2.converter.gson.GsonConverterFactory;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static com.contentful.java.cma.Constants.DEFAULT_CONTENT_TYPE;
 import static com.contentful.java.cma.Constants.OCTET_STREAM_CONTENT_TYPE;
@@ -127,6 +140,12 @@ public class CMAClient {
     );
     Retrofit uploadRetrofit = retrofitBuilder.build();
 
+    final ExecutorService executor = cmaBuilder.executor();
+    final Scheduler scheduler = executor == null ? Schedulers.io() : Schedulers.from(executor);
+
+    final Retrofit asyncRetrofit = createAsyncRetrofit(retrofit);
+    final Retrofit asyncUploadRetrofit = createAsyncRetrofit(uploadRetrofit);
+
     // Modules
     final String spaceId = cmaBuilder.spaceId;
     final String environmentId = cmaBuilder.environmentId;
@@ -171,6 +190,36 @@ public class CMAClient {
         configured);
     this.modulePreviewEnvironments = new ModulePreviewEnvironments(retrofit, callbackExecutor,
         spaceId, configured);
+
+    for (final AbsModule<?> module : Arrays.asList(moduleApiKeys, moduleAssets,
+        moduleContentTypes, moduleEditorInterfaces, moduleEntries, moduleEnvironments,
+        moduleLocales, moduleOrganizations, moduleOrganizationUsage, moduleSpaceUsage,
+        modulePersonalAccessTokens, modulePreviewApiKeys, moduleRoles, moduleSpaceMemberships,
+        moduleSpaces, moduleTags, moduleUiExtensions, moduleUploads, moduleUsers, moduleWebhooks,
+        modulePreviewEnvironments)) {
+      module.setRateLimits(cmaBuilder.rateLimitsTracker);
+      module.setScheduler(scheduler);
+      module.setAsyncRetrofit(module == moduleUploads ? asyncUploadRetrofit : asyncRetrofit);
+    }
+    moduleEntries.setConflictResolver(cmaBuilder.entryConflictResolver);
+  }
+
+  /**
+   * Creates a copy of the given retrofit, enqueueing its calls instead of executing them on the
+   * subscribing thread. The copy shares the connections and dispatcher of the original.
+   */
+  private static Retrofit createAsyncRetrofit(Retrofit retrofit) {
+    final Retrofit.Builder builder = retrofit.newBuilder();
+    builder.callAdapterFactories().clear();
+    builder.addCallAdapterFactory(RxJava2CallAdapterFactory.createAsync());
+
+    final Call.Factory callFactory = retrofit.callFactory();
+    if (callFactory instanceof OkHttpClient) {
+      final OkHttpClient.Builder clientBuilder = ((OkHttpClient) callFactory).newBuilder();
+      clientBuilder.interceptors().add(0, new AsyncErrorInterceptor());
+      builder.callFactory(clientBuilder.build());
+    }
+    return builder.build();
   }
 
   /**
@@ -180,7 +229,7 @@ public class CMAClient {
     if (gson == null) {
       gson = new GsonBuilder()
           .registerTypeAdapter(CMAField.class, new FieldTypeAdapter())
-          .registerTypeAdapter(CMAEntry.class, new EntrySerializer())
+          .registerTypeAdapterFactory(EntryTypeAdapter.FACTORY)
           .registerTypeAdapter(CMAEntryJsonPatchItem.class, new CMAEntryJsonPatchItemSerializer())
           .registerTypeAdapter(CMASnapshot.class, new SnapshotDeserializer())
           .registerTypeAdapter(CMALocale.class, new LocaleSerializer())
@@ -362,6 +411,26 @@ public class CMAClient {
    * Builder.
    */
   public static class Builder {
+    /**
+     * How many requests the default call factories run at the same time by default.
+     */
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+
+    /**
+     * How many requests the default call factories run per host at the same time by default.
+     */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+
+    /**
+     * How many idle connections the default call factories keep open by default.
+     */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+
+    /**
+     * How long the default call factories keep idle connections open by default.
+     */
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
     private String accessToken;
     private Call.Factory coreCallFactory;
     private Call.Factory uploadCallFactory;
@@ -376,6 +445,23 @@ public class CMAClient {
     private String spaceId;
     private Executor callbackExecutor;
     private RateLimitsListener rateLimitListener;
+    private final RateLimitsTracker rateLimitsTracker = new RateLimitsTracker();
+    private RateLimitThrottler rateLimitThrottler;
+    private RetryInterceptor retryInterceptor;
+    private EntryConflictResolver entryConflictResolver;
+    private GzipInterceptor gzipInterceptor;
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
+    private ExecutorService executor;
+    private int maxRequests = DEFAULT_MAX_REQUESTS;
+    private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+    private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+    private long keepAliveMillis = DEFAULT_KEEP_ALIVE_MILLIS;
+    private boolean http2Preferred = true;
+    private boolean connectionsShared;
+    private Dispatcher coreDispatcher;
+    private Dispatcher uploadDispatcher;
+    private ConnectionPool coreConnectionPool;
+    private ConnectionPool uploadConnectionPool;
 
     /**
      * Overrides the default remote URL for core modules.
@@ -564,6 +650,201 @@ public class CMAClient {
       return this;
     }
 
+    /**
+     * Pace all requests of this client by the rate limits reported by Contentful.
+     * <p>
+     * The throttler is shared by the core and the upload call factory, if those are not
+     * overwritten. Use the same throttler for several clients to pace all of them together.
+     *
+     * @param throttler the throttler to delay requests, or null to send requests immediately.
+     * @return this builder for chaining.
+     * @see RateLimitThrottler
+     */
+    public Builder setRateLimitThrottler(RateLimitThrottler throttler) {
+      this.rateLimitThrottler = throttler;
+      return this;
+    }
+
+    /**
+     * Retry requests failing with 429 or a server error, instead of throwing right away.
+     * <p>
+     * The interceptor is shared by the core and the upload call factory, if those are not
+     * overwritten.
+     *
+     * @param retryInterceptor the configured interceptor, or null to not retry at all.
+     * @return this builder for chaining.
+     * @see RetryInterceptor
+     */
+    public Builder setRetryInterceptor(RetryInterceptor retryInterceptor) {
+      this.retryInterceptor = retryInterceptor;
+      return this;
+    }
+
+    /**
+     * Rebase entry patches, and updates if the resolver has a merge, failing with a version
+     * conflict on the latest version of their entry, instead of throwing right away.
+     *
+     * @param resolver the configured resolver, or null to throw on every conflict.
+     * @return this builder for chaining.
+     * @see EntryConflictResolver
+     */
+    public Builder setEntryConflictResolver(EntryConflictResolver resolver) {
+      this.entryConflictResolver = resolver;
+      return this;
+    }
+
+    /**
+     * Compress large json request bodies of the core modules with gzip.
+     * <p>
+     * Only the core call factory compresses, if it is not overwritten. Uploads are binary and
+     * are sent as they are.
+     *
+     * @param gzipInterceptor the configured interceptor, or null to send all bodies as they are.
+     * @return this builder for chaining.
+     * @see GzipInterceptor
+     */
+    public Builder setGzipInterceptor(GzipInterceptor gzipInterceptor) {
+      this.gzipInterceptor = gzipInterceptor;
+      return this;
+    }
+
+    /**
+     * Select the threads running asynchronous calls and their callbacks.
+     * <p>
+     * With {@link ExecutionMode#VIRTUAL_THREADS}, every callback based call blocks its own
+     * virtual thread instead of one of the shared io pool, and the default call factories enqueue
+     * their calls on virtual threads, too. Callbacks run on the thread of their call, unless a
+     * {@link #setCallbackExecutor(Executor) callback executor} was set.
+     *
+     * @param mode the mode to be used, defaults to {@link ExecutionMode#PLATFORM}.
+     * @return this builder for chaining.
+     * @throws IllegalArgumentException if the mode is null or not supported by this JVM.
+     * @see ExecutionMode#isSupported()
+     */
+    public Builder setExecutionMode(ExecutionMode mode) {
+      if (mode == null) {
+        throw new IllegalArgumentException("Cannot call setExecutionMode() with null.");
+      }
+      if (!mode.isSupported()) {
+        throw new IllegalArgumentException(
+            String.format("Execution mode %s is not supported by this JVM.", mode));
+      }
+
+      this.executionMode = mode;
+      this.executor = null;
+      resetConnections();
+      return this;
+    }
+
+    /**
+     * Limit how many requests the default call factories run at the same time.
+     * <p>
+     * The limit applies to asynchronous calls, further calls wait for a running one to finish.
+     *
+     * @param maxRequests the limit, defaults to {@link #DEFAULT_MAX_REQUESTS}.
+     * @return this builder for chaining.
+     * @throws IllegalArgumentException if the limit is less than one.
+     */
+    public Builder setMaxRequests(int maxRequests) {
+      if (maxRequests < 1) {
+        throw new IllegalArgumentException("maxRequests may not be less than one.");
+      }
+
+      this.maxRequests = maxRequests;
+      resetConnections();
+      return this;
+    }
+
+    /**
+     * Limit how many requests the default call factories run per host at the same time.
+     * <p>
+     * All calls of one call factory go to the same host, so this is the effective concurrency
+     * of asynchronous calls. Raise it to match the number of workers using this client.
+     *
+     * @param maxRequestsPerHost the limit, defaults to {@link #DEFAULT_MAX_REQUESTS_PER_HOST}.
+     * @return this builder for chaining.
+     * @throws IllegalArgumentException if the limit is less than one.
+     */
+    public Builder setMaxRequestsPerHost(int maxRequestsPerHost) {
+      if (maxRequestsPerHost < 1) {
+        throw new IllegalArgumentException("maxRequestsPerHost may not be less than one.");
+      }
+
+      this.maxRequestsPerHost = maxRequestsPerHost;
+      resetConnections();
+      return this;
+    }
+
+    /**
+     * Size the connection pool of the default call factories.
+     * <p>
+     * Keep at least as many idle connections as there are concurrent workers, otherwise
+     * connections get closed and reopened between requests.
+     *
+     * @param maxIdleConnections how many idle connections to keep open, defaults to
+     *                           {@link #DEFAULT_MAX_IDLE_CONNECTIONS}.
+     * @param keepAlive          how long to keep an idle connection open, defaults to
+     *                           {@link #DEFAULT_KEEP_ALIVE_MILLIS} milliseconds.
+     * @param unit               the unit of the keep alive.
+     * @return this builder for chaining.
+     * @throws IllegalArgumentException if maxIdleConnections is negative.
+     * @throws IllegalArgumentException if keepAlive is less than one.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public Builder setConnectionPool(int maxIdleConnections, long keepAlive, TimeUnit unit) {
+      if (maxIdleConnections < 0) {
+        throw new IllegalArgumentException("maxIdleConnections may not be negative.");
+      }
+      if (keepAlive < 1) {
+        throw new IllegalArgumentException("keepAlive may not be less than one.");
+      }
+      if (unit == null) {
+        throw new IllegalArgumentException("unit may not be null.");
+      }
+
+      this.maxIdleConnections = maxIdleConnections;
+      this.keepAliveMillis = unit.toMillis(keepAlive);
+      resetConnections();
+      return this;
+    }
+
+    /**
+     * Negotiate HTTP/2 with the endpoints, multiplexing concurrent requests over one connection.
+     *
+     * @param preferred true to offer HTTP/2 before HTTP/1.1, the default, or false to use
+     *                  HTTP/1.1 only.
+     * @return this builder for chaining.
+     */
+    public Builder setHttp2Preferred(boolean preferred) {
+      this.http2Preferred = preferred;
+      return this;
+    }
+
+    /**
+     * Use one connection pool and dispatcher for the default core and upload call factories.
+     * <p>
+     * The limits of {@link #setMaxRequests(int)} then apply to core and upload calls together.
+     *
+     * @param shared true to share, false to give each call factory its own, the default.
+     * @return this builder for chaining.
+     */
+    public Builder setConnectionsShared(boolean shared) {
+      this.connectionsShared = shared;
+      resetConnections();
+      return this;
+    }
+
+    /**
+     * @return the executor of the configured mode, shared by all call factories and modules of
+     * this builder, or null if the platform defaults are to be used.
+     */
+    ExecutorService executor() {
+      if (executor == null) {
+        executor = executionMode.createExecutor();
+      }
+      return executor;
+    }
+
     /**
      * @return a {@link CMAClient} out of this {@link Builder}.
      */
@@ -587,13 +868,23 @@ public class CMAClient {
                   request -> "PATCH".equals(request.method())))
           .addInterceptor(new ErrorInterceptor());
 
-      if (rateLimitListener != null) {
-        okBuilder
-            .addInterceptor(
-                new RateLimitInterceptor(rateLimitListener)
-            );
+      if (retryInterceptor != null) {
+        okBuilder.addInterceptor(retryInterceptor);
       }
 
+      okBuilder.addInterceptor(
+          new RateLimitInterceptor(rateLimitsTracker.setListener(rateLimitListener))
+      );
+
+      if (rateLimitThrottler != null) {
+        okBuilder.addInterceptor(rateLimitThrottler);
+      }
+
+      if (gzipInterceptor != null) {
+        okBuilder.addInterceptor(gzipInterceptor);
+      }
+
+      setConnections(okBuilder, false);
       return setLogger(okBuilder);
     }
 
@@ -610,6 +901,15 @@ public class CMAClient {
           .addInterceptor(new ContentTypeInterceptor(OCTET_STREAM_CONTENT_TYPE, request -> true))
           .addInterceptor(new ErrorInterceptor());
 
+      if (retryInterceptor != null) {
+        okBuilder.addInterceptor(retryInterceptor);
+      }
+
+      if (rateLimitThrottler != null) {
+        okBuilder.addInterceptor(rateLimitThrottler);
+      }
+
+      setConnections(okBuilder, true);
       return setLogger(okBuilder);
     }
 
@@ -640,6 +940,51 @@ public class CMAClient {
       };
     }
 
+    /**
+     * Set the dispatcher, connection pool and protocols of a default call factory. All call
+     * factories created by this builder for the same purpose share their dispatcher and pool.
+     */
+    private void setConnections(OkHttpClient.Builder okBuilder, boolean upload) {
+      if (upload && !connectionsShared) {
+        if (uploadDispatcher == null) {
+          uploadDispatcher = createDispatcher();
+          uploadConnectionPool = createConnectionPool();
+        }
+        okBuilder.dispatcher(uploadDispatcher).connectionPool(uploadConnectionPool);
+      } else {
+        if (coreDispatcher == null) {
+          coreDispatcher = createDispatcher();
+          coreConnectionPool = createConnectionPool();
+        }
+        okBuilder.dispatcher(coreDispatcher).connectionPool(coreConnectionPool);
+      }
+
+      if (!http2Preferred) {
+        okBuilder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+      }
+    }
+
+    private Dispatcher createDispatcher() {
+      final ExecutorService executorService = executor();
+      final Dispatcher dispatcher = executorService == null
+          ? new Dispatcher()
+          : new Dispatcher(executorService);
+      dispatcher.setMaxRequests(maxRequests);
+      dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+      return dispatcher;
+    }
+
+    private ConnectionPool createConnectionPool() {
+      return new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void resetConnections() {
+      coreDispatcher = null;
+      uploadDispatcher = null;
+      coreConnectionPool = null;
+      uploadConnectionPool = null;
+    }
+
     private OkHttpClient.Builder setLogger(OkHttpClient.Builder okBuilder) {
       if (logger != null) {
         switch (logLevel) {
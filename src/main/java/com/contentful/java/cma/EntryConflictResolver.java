@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAEntry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves version conflicts of entry updates and patches, instead of failing them.
+ * <p>
+ * Once set through {@link CMAClient.Builder#setEntryConflictResolver(EntryConflictResolver)}, an
+ * update or patch of an entry answered with 409, because somebody else changed the entry in the
+ * meantime, is rebased: the latest version of the entry is fetched, the changes are applied on
+ * it and sent again, until they succeed or the attempts are used up.
+ * <p>
+ * Patches are sent again unchanged on the latest version, since they only touch the fields they
+ * name. To rebase local changes of a fetched entry, send them with
+ * {@link ModuleEntries#patchChanges(CMAEntry, CMAEntry)}: only the fields changed relative to the
+ * fetched version get patched, so concurrent edits of other fields are kept.
+ * <p>
+ * Updates send the whole entry, without telling which fields were changed locally. They are only
+ * rebased if a {@link Merge} is set, and fail with the conflict otherwise.
+ */
+public class EntryConflictResolver {
+  /**
+   * How often a change is tried to be written by default, including the first attempt.
+   */
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  /**
+   * Merges by writing every field and locale of the local entry over the latest entry. Fields
+   * and locales only present in the latest entry are kept.
+   * <p>
+   * This reverts concurrent edits of all fields present in the local entry, even if they were not
+   * changed locally, so only use it if the last writer is meant to win.
+   */
+  public static final Merge OVERWRITE_FIELDS = new Merge() {
+    @Override public CMAEntry merge(CMAEntry latest, CMAEntry local) {
+      final LinkedHashMap<String, LinkedHashMap<String, Object>> fields = local.getFields();
+      if (fields != null) {
+        for (final Map.Entry<String, LinkedHashMap<String, Object>> field : fields.entrySet()) {
+          if (field.getValue() == null) {
+            continue;
+          }
+          for (final Map.Entry<String, Object> locale : field.getValue().entrySet()) {
+            latest.setField(field.getKey(), locale.getKey(), locale.getValue());
+          }
+        }
+      }
+      return latest;
+    }
+  };
+
+  /**
+   * Combines the changes of a conflicting update with the latest version of the entry.
+   */
+  public interface Merge {
+    /**
+     * Combine an updated entry with the latest version.
+     *
+     * @param latest the latest version of the entry, freshly fetched. May be changed and returned.
+     * @param local  the entry which failed to be updated. Should not be changed.
+     * @return the entry to be sent, keeping the system properties of latest.
+     */
+    CMAEntry merge(CMAEntry latest, CMAEntry local);
+  }
+
+  private volatile int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+  private volatile Merge merge;
+
+  private final AtomicInteger conflictCount = new AtomicInteger();
+  private final AtomicInteger resolvedCount = new AtomicInteger();
+  private final AtomicInteger exhaustedCount = new AtomicInteger();
+
+  /**
+   * Set how often a change is tried to be written.
+   *
+   * @param maxAttempts the number of attempts, including the first one.
+   * @return this resolver for chaining.
+   * @throws IllegalArgumentException if maxAttempts is less than one.
+   */
+  public EntryConflictResolver setMaxAttempts(int maxAttempts) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts may not be less than one.");
+    }
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * Set how conflicting updates are combined with the latest version of their entry.
+   *
+   * @param merge the merge to be used, or null to fail conflicting updates, the default.
+   * @return this resolver for chaining.
+   */
+  public EntryConflictResolver setMerge(Merge merge) {
+    this.merge = merge;
+    return this;
+  }
+
+  /**
+   * @return how many attempts are made to write a change.
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * @return the merge used for updates, or null if conflicting updates fail.
+   */
+  public Merge getMerge() {
+    return merge;
+  }
+
+  /**
+   * @return how many writes were answered with a conflict.
+   */
+  public int getConflictCount() {
+    return conflictCount.get();
+  }
+
+  /**
+   * @return how many changes got written after being rebased.
+   */
+  public int getResolvedCount() {
+    return resolvedCount.get();
+  }
+
+  /**
+   * @return how many changes still conflicted on their last attempt.
+   */
+  public int getExhaustedCount() {
+    return exhaustedCount.get();
+  }
+
+  void conflicted() {
+    conflictCount.incrementAndGet();
+  }
+
+  void resolved() {
+    resolvedCount.incrementAndGet();
+  }
+
+  void exhausted() {
+    exhaustedCount.incrementAndGet();
+  }
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAEntry;
+import com.contentful.java.cma.model.CMAEntryFieldPatch;
+import com.contentful.java.cma.model.CMAEntryPatch;
+import com.contentful.java.cma.model.patch.CMAEntryJsonPatchItem;
+import com.contentful.java.cma.model.patch.JsonPatchOperator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects patches of entries for a while, and sends all patches of one entry as one request.
+ * <p>
+ * The first patch of an entry opens a window, after which all operations collected for that
+ * entry get sent together, using the latest version of the entry seen. An operation setting or
+ * removing a value drops the operations written to the same value or below it before, so a
+ * field changed by several stages only gets sent once.
+ * <p>
+ * Operations depending on their order are kept as they are: moves, copies, tests and changes of
+ * list elements by index end the deduplication, so the operations before them stay untouched.
+ * <p>
+ * Patches are sent on daemon threads, conflicts get resolved as configured for the client, see
+ * {@link CMAClient.Builder#setEntryConflictResolver(EntryConflictResolver)}.
+ */
+public class EntryPatchBuffer implements AutoCloseable {
+  /**
+   * How long patches of an entry are collected by default.
+   */
+  public static final long DEFAULT_WINDOW_MILLIS = 1000;
+
+  /**
+   * Of how many entries the latest version sent is remembered, to send later windows with.
+   * The entries patched least recently get forgotten first.
+   */
+  static final int DEFAULT_MAX_VERSIONS = 1000;
+
+  private final ModuleEntries entries;
+  private final Map<String, Pending> pending = new LinkedHashMap<>();
+  private final Map<String, Integer> versions = new LinkedHashMap<String, Integer>() {
+    @Override protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+      return size() > maxVersions;
+    }
+  };
+  private final Set<String> sending = new HashSet<>();
+  private final ScheduledThreadPoolExecutor scheduler;
+  private final AtomicInteger patchCount = new AtomicInteger();
+  private final AtomicInteger operationCount = new AtomicInteger();
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  private volatile long windowMillis = DEFAULT_WINDOW_MILLIS;
+  int maxVersions = DEFAULT_MAX_VERSIONS;
+
+  /**
+   * Create a buffer sending patches through the given module.
+   *
+   * @param entries the module to be used, see {@link CMAClient#entries()}.
+   * @throws IllegalArgumentException if entries is null.
+   */
+  public EntryPatchBuffer(ModuleEntries entries) {
+    if (entries == null) {
+      throw new IllegalArgumentException("entries may not be null.");
+    }
+    this.entries = entries;
+    this.scheduler = new ScheduledThreadPoolExecutor(AbsModule.DEFAULT_BULK_CONCURRENCY,
+        runnable -> {
+          final Thread thread = new Thread(runnable, "contentful-entry-patches");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * Set how long patches of an entry are collected, before they get sent. Takes effect for
+   * windows opened afterwards.
+   *
+   * @param windowMillis the duration of the window, zero sends with the next thread free.
+   * @return this buffer for chaining.
+   * @throws IllegalArgumentException if windowMillis is negative.
+   */
+  public EntryPatchBuffer setWindow(long windowMillis) {
+    if (windowMillis < 0) {
+      throw new IllegalArgumentException("windowMillis may not be negative.");
+    }
+    this.windowMillis = windowMillis;
+    return this;
+  }
+
+  /**
+   * Set how many patches are sent at the same time.
+   *
+   * @param concurrency the number of threads sending patches.
+   * @return this buffer for chaining.
+   * @throws IllegalArgumentException if concurrency is less than one.
+   */
+  public EntryPatchBuffer setConcurrency(int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency may not be less than one.");
+    }
+    scheduler.setCorePoolSize(concurrency);
+    return this;
+  }
+
+  /**
+   * Add a patch of an entry, to be sent together with the other patches of the entry.
+   *
+   * @param entry the entry to be patched, with its version.
+   * @param patch the operations to be applied.
+   * @return a future completing with the patched entry, once the window of the entry got sent.
+   * @throws IllegalArgumentException if entry or patch is null.
+   * @throws IllegalArgumentException if entry's id, space id or version is null.
+   * @throws IllegalStateException    if the buffer got closed.
+   */
+  public CompletableFuture<CMAEntry> patch(CMAEntry entry, CMAEntryPatch patch) {
+    entries.assertNotNull(entry, "entry");
+    entries.assertNotNull(patch, "patch");
+    final String entryId = entries.getResourceIdOrThrow(entry, "entry");
+    final String spaceId = entries.getSpaceIdOrThrow(entry, "entry");
+    entries.getVersionOrThrow(entry, "patch");
+    final String environmentId =
+        entry.getEnvironmentId() == null ? entries.environmentId : entry.getEnvironmentId();
+    final String key = spaceId + "/" + environmentId + "/" + entryId;
+
+    final CompletableFuture<CMAEntry> future = new CompletableFuture<>();
+    synchronized (this) {
+      if (scheduler.isShutdown()) {
+        throw new IllegalStateException("Buffer got closed.");
+      }
+
+      Pending window = pending.get(key);
+      if (window == null) {
+        window = new Pending(entry);
+        pending.put(key, window);
+        scheduler.schedule(() -> send(key), windowMillis, TimeUnit.MILLISECONDS);
+      } else if (entry.getVersion() > window.entry.getVersion()) {
+        window.entry = entry;
+      }
+
+      for (final CMAEntryFieldPatch update : patch.getFieldUpdates()) {
+        window.append(ModuleEntries.getCmaEntryJsonPatchItem(update));
+      }
+      window.futures.add(future);
+    }
+
+    patchCount.incrementAndGet();
+    operationCount.addAndGet(patch.getFieldUpdates().size());
+    return future;
+  }
+
+  /**
+   * Send all collected patches now, waiting until they got sent.
+   */
+  public void flush() {
+    final List<String> keys;
+    synchronized (this) {
+      keys = new ArrayList<>(pending.keySet());
+    }
+    for (final String key : keys) {
+      send(key);
+    }
+  }
+
+  /**
+   * Send all collected patches and stop accepting new ones.
+   */
+  @Override public void close() {
+    synchronized (this) {
+      scheduler.shutdown();
+    }
+    flush();
+    synchronized (this) {
+      versions.clear();
+    }
+  }
+
+  /**
+   * @return how many patches got added.
+   */
+  public int getPatchCount() {
+    return patchCount.get();
+  }
+
+  /**
+   * @return how many operations the added patches contained.
+   */
+  public int getOperationCount() {
+    return operationCount.get();
+  }
+
+  /**
+   * @return how many requests were sent.
+   */
+  public int getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * @return how many entries have patches waiting to be sent.
+   */
+  public synchronized int getPendingCount() {
+    return pending.size();
+  }
+
+  synchronized int getVersionCount() {
+    return versions.size();
+  }
+
+  private void send(String key) {
+    final Pending window;
+    CMAEntry entry;
+    synchronized (this) {
+      // one request per entry at a time, so the next one gets sent with the resulting version.
+      try {
+        while (sending.contains(key)) {
+          wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+
+      window = pending.remove(key);
+      if (window == null) {
+        return;
+      }
+      sending.add(key);
+      entry = window.entry;
+
+      final Integer version = versions.get(key);
+      if (version != null && version > entry.getVersion()) {
+        entry = copyWithVersion(entry, version);
+      }
+    }
+
+    try {
+      entries.awaitRequestBudget();
+      requestCount.incrementAndGet();
+      final CMAEntry result = entries.patchItems(entry, window.items);
+      synchronized (this) {
+        if (result.getVersion() != null) {
+          // reinserted, so the entries patched least recently get forgotten first.
+          final Integer previous = versions.remove(key);
+          versions.put(key,
+              previous == null ? result.getVersion() : Math.max(previous, result.getVersion()));
+        }
+      }
+      for (final CompletableFuture<CMAEntry> future : window.futures) {
+        future.complete(result);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      window.fail(new CancellationException("Sending patches got interrupted."));
+    } catch (RuntimeException e) {
+      window.fail(e);
+    } finally {
+      synchronized (this) {
+        sending.remove(key);
+        notifyAll();
+      }
+    }
+  }
+
+  private static CMAEntry copyWithVersion(CMAEntry entry, int version) {
+    return new CMAEntry()
+        .setId(entry.getId())
+        .setSpaceId(entry.getSpaceId())
+        .setEnvironmentId(entry.getEnvironmentId())
+        .setVersion(version);
+  }
+
+  private static boolean isOverwrite(JsonPatchOperator op) {
+    return op == JsonPatchOperator.ADD
+        || op == JsonPatchOperator.REPLACE
+        || op == JsonPatchOperator.REMOVE;
+  }
+
+  /**
+   * Whether the last token of a path might be a list index, so the operation shifts elements.
+   */
+  private static boolean isIndexed(String path) {
+    final String token = path.substring(path.lastIndexOf('/') + 1);
+    return "-".equals(token) || (!token.isEmpty() && token.chars().allMatch(Character::isDigit));
+  }
+
+  /**
+   * The patches of one entry collected in the current window.
+   */
+  private static final class Pending {
+    final List<CMAEntryJsonPatchItem> items = new ArrayList<>();
+    final List<CompletableFuture<CMAEntry>> futures = new ArrayList<>();
+    CMAEntry entry;
+
+    Pending(CMAEntry entry) {
+      this.entry = entry;
+    }
+
+    void append(CMAEntryJsonPatchItem item) {
+      if (isOverwrite(item.getOp()) && !isIndexed(item.getPath())) {
+        item = dropOverwritten(item);
+      }
+      items.add(item);
+    }
+
+    /**
+     * Drop the operations before the given one, writing to its path or below, up to the first
+     * operation depending on the order.
+     * <p>
+     * Replacing or removing needs the value to exist: a value added in this window gets added
+     * again instead of replaced, and is kept if removed again.
+     */
+    private CMAEntryJsonPatchItem dropOverwritten(CMAEntryJsonPatchItem item) {
+      final String path = item.getPath();
+      boolean added = false;
+      for (int i = items.size() - 1; i >= 0; --i) {
+        final CMAEntryJsonPatchItem previous = items.get(i);
+        if (!isOverwrite(previous.getOp())) {
+          break;
+        }
+
+        final boolean same = previous.getPath().equals(path);
+        if (same && previous.getOp() == JsonPatchOperator.ADD
+            && item.getOp() == JsonPatchOperator.REMOVE) {
+          break;
+        } else if (same || previous.getPath().startsWith(path + "/")) {
+          added |= same && previous.getOp() == JsonPatchOperator.ADD;
+          items.remove(i);
+        } else if (isIndexed(previous.getPath())) {
+          break;
+        }
+      }
+
+      if (added && item.getOp() == JsonPatchOperator.REPLACE) {
+        return new CMAEntryJsonPatchItem(JsonPatchOperator.ADD, path, item.getValue());
+      }
+      return item;
+    }
+
+    void fail(Throwable failure) {
+      for (final CompletableFuture<CMAEntry> future : futures) {
+        future.completeExceptionally(failure);
+      }
+    }
+  }
+}
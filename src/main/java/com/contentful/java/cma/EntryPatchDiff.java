@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAEntry;
+import com.contentful.java.cma.model.patch.CMAEntryJsonPatchItem;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.contentful.java.cma.model.patch.JsonPatchOperator.ADD;
+import static com.contentful.java.cma.model.patch.JsonPatchOperator.REMOVE;
+import static com.contentful.java.cma.model.patch.JsonPatchOperator.REPLACE;
+
+/**
+ * Creates json patches by comparing two versions of an entry.
+ * <p>
+ * The fields of both entries are compared in their json form, field by field and locale by
+ * locale, descending into objects, lists, links and rich text documents. Only values which
+ * changed end up in the patch. If replacing a whole object or list is smaller than the
+ * operations changing its members, it gets replaced instead.
+ */
+public final class EntryPatchDiff {
+  // rough size of an operation without its path and value, to compare patches.
+  private static final int OPERATION_OVERHEAD = 30;
+
+  /**
+   * Do not initiate this class. Its only used in static contexts.
+   *
+   * @throws UnsupportedOperationException since it should not be used.
+   */
+  private EntryPatchDiff() {
+    throw new UnsupportedOperationException("Do not create instance from this class!");
+  }
+
+  /**
+   * Compare the fields of two versions of an entry.
+   *
+   * @param original the entry as it was fetched.
+   * @param modified the entry with local changes.
+   * @return the operations turning the fields of original into the ones of modified, empty if
+   * both are equal.
+   * @throws IllegalArgumentException if original or modified is null.
+   * @see ModuleEntries#patchChanges(CMAEntry, CMAEntry)
+   */
+  public static List<CMAEntryJsonPatchItem> diff(CMAEntry original, CMAEntry modified) {
+    if (original == null) {
+      throw new IllegalArgumentException("original may not be null.");
+    }
+    if (modified == null) {
+      throw new IllegalArgumentException("modified may not be null.");
+    }
+
+    final List<CMAEntryJsonPatchItem> operations = new ArrayList<>();
+    diffObject("/fields", fieldsOf(original), fieldsOf(modified), operations);
+    return operations;
+  }
+
+  private static JsonObject fieldsOf(CMAEntry entry) {
+    final JsonElement fields =
+        CMAClient.createGson().toJsonTree(entry).getAsJsonObject().get("fields");
+    return fields == null || !fields.isJsonObject() ? new JsonObject() : fields.getAsJsonObject();
+  }
+
+  private static void diffValue(
+      String path,
+      JsonElement from,
+      JsonElement to,
+      List<CMAEntryJsonPatchItem> operations) {
+    if (from.equals(to)) {
+      return;
+    }
+
+    final List<CMAEntryJsonPatchItem> members = new ArrayList<>();
+    if (from.isJsonObject() && to.isJsonObject()) {
+      diffObject(path, from.getAsJsonObject(), to.getAsJsonObject(), members);
+    } else if (from.isJsonArray() && to.isJsonArray()) {
+      diffArray(path, from.getAsJsonArray(), to.getAsJsonArray(), members);
+    } else {
+      replace(path, to, operations);
+      return;
+    }
+
+    final List<CMAEntryJsonPatchItem> whole = new ArrayList<>();
+    replace(path, to, whole);
+    operations.addAll(size(whole) < size(members) ? whole : members);
+  }
+
+  private static void diffObject(
+      String path,
+      JsonObject from,
+      JsonObject to,
+      List<CMAEntryJsonPatchItem> operations) {
+    for (final Map.Entry<String, JsonElement> member : from.entrySet()) {
+      if (!isPresent(to.get(member.getKey())) && isPresent(member.getValue())) {
+        operations.add(new CMAEntryJsonPatchItem(REMOVE, child(path, member.getKey()), null));
+      }
+    }
+
+    for (final Map.Entry<String, JsonElement> member : to.entrySet()) {
+      if (!isPresent(member.getValue())) {
+        continue;
+      }
+
+      final String memberPath = child(path, member.getKey());
+      final JsonElement previous = from.get(member.getKey());
+      if (isPresent(previous)) {
+        diffValue(memberPath, previous, member.getValue(), operations);
+      } else {
+        operations.add(new CMAEntryJsonPatchItem(ADD, memberPath, member.getValue()));
+      }
+    }
+  }
+
+  private static void diffArray(
+      String path,
+      JsonArray from,
+      JsonArray to,
+      List<CMAEntryJsonPatchItem> operations) {
+    // skip the unchanged start and end, so insertions and deletions do not shift every element.
+    int start = 0;
+    while (start < from.size() && start < to.size() && from.get(start).equals(to.get(start))) {
+      start++;
+    }
+    int fromEnd = from.size();
+    int toEnd = to.size();
+    while (fromEnd > start && toEnd > start && from.get(fromEnd - 1).equals(to.get(toEnd - 1))) {
+      fromEnd--;
+      toEnd--;
+    }
+
+    final int paired = start + Math.min(fromEnd - start, toEnd - start);
+    for (int i = start; i < paired; ++i) {
+      diffValue(child(path, i), from.get(i), to.get(i), operations);
+    }
+    // remove from the back, keeping the indices of the elements in front valid.
+    for (int i = fromEnd - 1; i >= paired; --i) {
+      operations.add(new CMAEntryJsonPatchItem(REMOVE, child(path, i), null));
+    }
+    for (int i = paired; i < toEnd; ++i) {
+      operations.add(new CMAEntryJsonPatchItem(ADD, child(path, i), to.get(i)));
+    }
+  }
+
+  private static void replace(
+      String path,
+      JsonElement value,
+      List<CMAEntryJsonPatchItem> operations) {
+    operations.add(new CMAEntryJsonPatchItem(REPLACE, path, value));
+  }
+
+  private static int size(List<CMAEntryJsonPatchItem> operations) {
+    int size = 0;
+    for (final CMAEntryJsonPatchItem operation : operations) {
+      size += OPERATION_OVERHEAD + operation.getPath().length();
+      if (operation.getValue() != null) {
+        size += operation.getValue().toString().length();
+      }
+    }
+    return size;
+  }
+
+  private static boolean isPresent(JsonElement element) {
+    return element != null && !element.isJsonNull();
+  }
+
+  private static String child(String path, int index) {
+    return path + "/" + index;
+  }
+
+  /**
+   * Append a member to a json pointer, escaping it as of RFC 6901.
+   */
+  private static String child(String path, String member) {
+    return path + "/" + member.replace("~", "~0").replace("/", "~1");
+  }
+}
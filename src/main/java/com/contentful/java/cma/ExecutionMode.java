@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.contentful.java.cma;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Threads running the asynchronous calls of a client, see
+ * {@link CMAClient.Builder#setExecutionMode(ExecutionMode)}.
+ */
+public enum ExecutionMode {
+  /**
+   * Run blocking calls on the shared io pool of RxJava, and enqueued calls on the default
+   * dispatcher of OkHttp.
+   */
+  PLATFORM,
+
+  /**
+   * Run every call on its own virtual thread.
+   * <p>
+   * This needs a JDK offering virtual threads (21 or newer), see {@link #isSupported()}.
+   */
+  VIRTUAL_THREADS;
+
+  private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+  /**
+   * @return whether the running JVM can execute calls in this mode.
+   */
+  public boolean isSupported() {
+    return this == PLATFORM || NEW_VIRTUAL_THREAD_EXECUTOR != null;
+  }
+
+  /**
+   * Create the executor of this mode.
+   *
+   * @return a new executor, or null if the platform defaults are to be used.
+   * @throws IllegalStateException if this mode is not supported.
+   */
+  ExecutorService createExecutor() {
+    if (this == PLATFORM) {
+      return null;
+    }
+    if (!isSupported()) {
+      throw new IllegalStateException(
+          String.format("Execution mode %s is not supported by this JVM.", name()));
+    }
+
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not create a virtual thread executor.", e);
+    }
+  }
+
+  private static Method findVirtualThreadExecutorFactory() {
+    try {
+      // looked up reflectively, so the sdk still compiles and runs on java 8.
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException ignored) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAResource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+
+import static com.contentful.java.cma.PagedIterator.PARAMETER_SKIP;
+
+/**
+ * Iterates over all items of a collection endpoint using keyset pagination.
+ * <p>
+ * Instead of increasing the {@code skip} of every request, the collection is ordered by a system
+ * property and every page continues after the last item of the previous one. This keeps the cost
+ * of every request constant and does not miss items if the collection is modified while being
+ * iterated. Ordered by {@link Key#UPDATED_AT}, an item updated during the iteration is returned
+ * again with its new version.
+ * <p>
+ * The next page is requested as soon as the current page arrived. Instances are not thread safe
+ * and are meant to be consumed by a single thread.
+ *
+ * @param <T> the type of the resources to be iterated.
+ */
+public class KeysetIterator<T extends CMAResource> implements Iterator<T> {
+  static final String PARAMETER_ORDER = "order";
+  static final String PARAMETER_LIMIT = "limit";
+
+  /**
+   * Which system property to be used as the key of the iteration.
+   */
+  public enum Key {
+    /**
+     * Order by id, continuing with the next greater id.
+     */
+    ID("sys.id"),
+
+    /**
+     * Order by last update and id, continuing after the timestamp and id of the last item.
+     * <p>
+     * Pages start with the timestamp of the last item, and items of that timestamp up to the
+     * last id are dropped. If more items than fit on a page share one timestamp, that timestamp
+     * is iterated by id on its own.
+     */
+    UPDATED_AT("sys.updatedAt");
+
+    final String property;
+
+    Key(String property) {
+      this.property = property;
+    }
+  }
+
+  private final Function<Map<String, String>, Flowable<CMAArray<T>>> fetcher;
+  private final Map<String, String> query;
+  private final Key key;
+  private final int limit;
+
+  private Iterator<T> current = Collections.emptyIterator();
+  private Future<CMAArray<T>> pending;
+  private boolean started;
+
+  private String lastValue;
+  private String lastId;
+  private boolean drainingTie;
+  private boolean tieDrained;
+
+  /**
+   * Create a new iterator.
+   *
+   * @param fetcher the function requesting one page for the given query.
+   * @param query   the query to be used for every page. Order and cursor will be amended.
+   * @param key     the system property to order and continue by.
+   * @throws IllegalArgumentException if the query already contains an order or a skip.
+   */
+  KeysetIterator(
+      Function<Map<String, String>, Flowable<CMAArray<T>>> fetcher,
+      Map<String, String> query,
+      Key key) {
+    if (query.containsKey(PARAMETER_ORDER) || query.containsKey(PARAMETER_SKIP)) {
+      throw new IllegalArgumentException(String.format(
+          "query may not contain %s or %s, they are set by the iteration.",
+          PARAMETER_ORDER, PARAMETER_SKIP));
+    }
+
+    this.fetcher = fetcher;
+    this.query = DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
+    this.key = key;
+    this.limit = Integer.parseInt(this.query.get(PARAMETER_LIMIT));
+  }
+
+  /**
+   * @return true if more items are available, requesting the next page if needed.
+   * @throws RuntimeException if a page could not be fetched.
+   */
+  @Override public boolean hasNext() {
+    if (!started) {
+      started = true;
+      pending = request();
+    }
+
+    while (!current.hasNext()) {
+      if (pending == null) {
+        return false;
+      }
+
+      final CMAArray<T> page = PagedIterator.await(pending);
+      pending = null;
+
+      final List<T> items = page.getItems() == null ? Collections.emptyList() : page.getItems();
+      final List<T> unseen = new ArrayList<>(items.size());
+      for (final T item : items) {
+        if (advanceCursor(item)) {
+          unseen.add(item);
+        }
+      }
+
+      if (items.size() >= limit) {
+        // a full page of already seen items: the last timestamp is shared by too many items.
+        if (unseen.isEmpty() && !drainingTie) {
+          drainingTie = true;
+        }
+        pending = request();
+      } else if (drainingTie) {
+        drainingTie = false;
+        tieDrained = true;
+        pending = request();
+      }
+
+      current = unseen.iterator();
+    }
+
+    return true;
+  }
+
+  /**
+   * @return the next item.
+   * @throws NoSuchElementException if no more items are available.
+   */
+  @Override public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  /**
+   * Move the cursor to the given item.
+   *
+   * @return false if the item was returned already, being not after the cursor.
+   */
+  private boolean advanceCursor(T item) {
+    final String value = key == Key.ID ? item.getId() : item.getSystem().getUpdatedAt();
+    final String id = item.getId();
+    if (value == null || id == null) {
+      throw new IllegalStateException(String.format(
+          "Cannot continue iteration, item has no %s.", value == null ? key.property : "id"));
+    }
+
+    if (key == Key.UPDATED_AT && value.equals(lastValue) && id.compareTo(lastId) <= 0) {
+      return false;
+    }
+
+    lastValue = value;
+    lastId = id;
+    return true;
+  }
+
+  private Future<CMAArray<T>> request() {
+    final Map<String, String> pageQuery = new HashMap<>(query);
+
+    if (key == Key.ID) {
+      pageQuery.put(PARAMETER_ORDER, key.property);
+      if (lastValue != null) {
+        pageQuery.put(key.property + "[gt]", lastValue);
+      }
+    } else if (drainingTie) {
+      pageQuery.put(PARAMETER_ORDER, Key.ID.property);
+      pageQuery.put(key.property, lastValue);
+      pageQuery.put(Key.ID.property + "[gt]", lastId);
+    } else {
+      pageQuery.put(PARAMETER_ORDER, key.property + "," + Key.ID.property);
+      if (tieDrained) {
+        tieDrained = false;
+        pageQuery.put(key.property + "[gt]", lastValue);
+      } else if (lastValue != null) {
+        pageQuery.put(key.property + "[gte]", lastValue);
+      }
+    }
+
+    return fetcher.apply(pageQuery)
+        .subscribeOn(Schedulers.io())
+        .toFuture();
+  }
+}
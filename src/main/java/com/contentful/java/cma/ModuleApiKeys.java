@@ -19,13 +19,19 @@ package com.contentful.java.cma;
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAApiKey;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMALink;
 import com.contentful.java.cma.model.CMANotWithEnvironmentsException;
 import com.contentful.java.cma.model.CMASystem;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 
 /**
@@ -83,8 +89,12 @@ public class ModuleApiKeys extends AbsModule<ServiceApiKeys> {
    * @throws IllegalArgumentException if spaceId is null.
    */
   public CMAArray<CMAApiKey> fetchAll(String spaceId) {
+    return fetchAllRequest(service, spaceId).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAApiKey>> fetchAllRequest(ServiceApiKeys service, String spaceId) {
     assertNotNull(spaceId, "spaceId");
-    return service.fetchAll(spaceId).blockingFirst();
+    return service.fetchAll(spaceId);
   }
 
   /**
@@ -115,9 +125,16 @@ public class ModuleApiKeys extends AbsModule<ServiceApiKeys> {
    * @throws IllegalArgumentException if spaceId is null.
    */
   public CMAArray<CMAApiKey> fetchAll(String spaceId, Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAApiKey>> fetchAllRequest(
+      ServiceApiKeys service,
+      String spaceId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
 
-    return service.fetchAll(spaceId, query).blockingFirst();
+    return service.fetchAll(spaceId, query);
   }
 
   /**
@@ -153,10 +170,17 @@ public class ModuleApiKeys extends AbsModule<ServiceApiKeys> {
    * @throws IllegalArgumentException if keyId is null.
    */
   public CMAApiKey fetchOne(String spaceId, String keyId) {
+    return fetchOneRequest(service, spaceId, keyId).blockingFirst();
+  }
+
+  private Flowable<CMAApiKey> fetchOneRequest(
+      ServiceApiKeys service,
+      String spaceId,
+      String keyId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(keyId, "keyId");
 
-    return service.fetchOne(spaceId, keyId).blockingFirst();
+    return service.fetchOne(spaceId, keyId);
   }
 
 
@@ -170,10 +194,17 @@ public class ModuleApiKeys extends AbsModule<ServiceApiKeys> {
    * @throws IllegalArgumentException if keyId is null.
    */
   public CMAApiKey fetchOnePreview(String spaceId, String keyId) {
+    return fetchOnePreviewRequest(service, spaceId, keyId).blockingFirst();
+  }
+
+  private Flowable<CMAApiKey> fetchOnePreviewRequest(
+      ServiceApiKeys service,
+      String spaceId,
+      String keyId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(keyId, "keyId");
 
-    return service.fetchOnePreview(spaceId, keyId).blockingFirst();
+    return service.fetchOnePreview(spaceId, keyId);
   }
 
   /**
@@ -238,10 +269,14 @@ public class ModuleApiKeys extends AbsModule<ServiceApiKeys> {
    * @throws IllegalArgumentException if key is null.
    */
   public CMAApiKey create(String spaceId, CMAApiKey key) {
+    return createRequest(service, spaceId, key).blockingFirst();
+  }
+
+  private Flowable<CMAApiKey> createRequest(ServiceApiKeys service, String spaceId, CMAApiKey key) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(key, "key");
 
-    return service.create(spaceId, key).blockingFirst();
+    return service.create(spaceId, key);
   }
 
   /**
@@ -253,11 +288,15 @@ public class ModuleApiKeys extends AbsModule<ServiceApiKeys> {
    * @throws IllegalArgumentException if key's spaceId is null.
    */
   public int delete(CMAApiKey key) {
+    return deleteRequest(service, key).blockingFirst();
+  }
+
+  private Flowable<Integer> deleteRequest(ServiceApiKeys service, CMAApiKey key) {
     assertNotNull(key, "key");
     final String space = getSpaceIdOrThrow(key, "key");
     final String id = getResourceIdOrThrow(key, "key");
 
-    return service.delete(space, id).blockingFirst().code();
+    return service.delete(space, id).map(Response::code);
   }
 
   /**
@@ -267,6 +306,20 @@ public class ModuleApiKeys extends AbsModule<ServiceApiKeys> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -489,4 +542,264 @@ public class ModuleApiKeys extends AbsModule<ServiceApiKeys> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Updating is not offered yet, it detaches the system properties of the key while the
+   * request is sent.
+   */
+  public class Futures {
+    /**
+     * @return a future of all delivery api keys of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleApiKeys#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMAApiKey>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a future of all delivery api keys of the space.
+     * @see ModuleApiKeys#fetchAll(String)
+     */
+    public CompletableFuture<CMAArray<CMAApiKey>> fetchAll(String spaceId) {
+      return toFuture(fetchAllRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of all matching delivery api keys of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleApiKeys#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMAApiKey>> fetchAll(Map<String, String> query) {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId, query);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a future of all matching delivery api keys of the space.
+     * @see ModuleApiKeys#fetchAll(String, Map)
+     */
+    public CompletableFuture<CMAArray<CMAApiKey>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, query));
+    }
+
+    /**
+     * @param keyId the id of the delivery api key in the configured space.
+     * @return a future of the delivery api key.
+     * @see ModuleApiKeys#fetchOne(String)
+     */
+    public CompletableFuture<CMAApiKey> fetchOne(String keyId) {
+      return fetchOne(spaceId, keyId);
+    }
+
+    /**
+     * @param spaceId the space of the delivery api key.
+     * @param keyId   the id of the delivery api key.
+     * @return a future of the delivery api key.
+     * @see ModuleApiKeys#fetchOne(String, String)
+     */
+    public CompletableFuture<CMAApiKey> fetchOne(String spaceId, String keyId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, keyId));
+    }
+
+    /**
+     * @param spaceId the space of the key.
+     * @param keyId   the id of the key.
+     * @return a future of the preview api key.
+     * @see ModuleApiKeys#fetchOnePreview(String, String)
+     */
+    public CompletableFuture<CMAApiKey> fetchOnePreview(String spaceId, String keyId) {
+      return toFuture(fetchOnePreviewRequest(asyncService, spaceId, keyId));
+    }
+
+    /**
+     * @param key the key to be created in the configured space.
+     * @return a future of the created key, containing the delivery token.
+     * @see ModuleApiKeys#create(CMAApiKey)
+     */
+    public CompletableFuture<CMAApiKey> create(CMAApiKey key) {
+      return create(spaceId, key);
+    }
+
+    /**
+     * @param spaceId the space to create the key in.
+     * @param key     the key to be created.
+     * @return a future of the created key, containing the delivery token.
+     * @see ModuleApiKeys#create(String, CMAApiKey)
+     */
+    public CompletableFuture<CMAApiKey> create(String spaceId, CMAApiKey key) {
+      return toFuture(createRequest(asyncService, spaceId, key));
+    }
+
+    /**
+     * @param key the key to be deleted.
+     * @return a future of the response code.
+     * @see ModuleApiKeys#delete(CMAApiKey)
+     */
+    public CompletableFuture<Integer> delete(CMAApiKey key) {
+      return toFuture(deleteRequest(asyncService, key));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Updating is not offered yet, it detaches the system properties of the key while the
+   * request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a single emitting all delivery api keys of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleApiKeys#fetchAll()
+     */
+    public Single<CMAArray<CMAApiKey>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a single emitting all delivery api keys of the space.
+     * @see ModuleApiKeys#fetchAll(String)
+     */
+    public Single<CMAArray<CMAApiKey>> fetchAll(String spaceId) {
+      return single(fetchAllRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting all matching delivery api keys of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleApiKeys#fetchAll(Map)
+     */
+    public Single<CMAArray<CMAApiKey>> fetchAll(Map<String, String> query) {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId, query);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a single emitting all matching delivery api keys of the space.
+     * @see ModuleApiKeys#fetchAll(String, Map)
+     */
+    public Single<CMAArray<CMAApiKey>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, query));
+    }
+
+    /**
+     * @param keyId the id of the delivery api key in the configured space.
+     * @return a single emitting the delivery api key.
+     * @see ModuleApiKeys#fetchOne(String)
+     */
+    public Single<CMAApiKey> fetchOne(String keyId) {
+      return fetchOne(spaceId, keyId);
+    }
+
+    /**
+     * @param spaceId the space of the delivery api key.
+     * @param keyId   the id of the delivery api key.
+     * @return a single emitting the delivery api key.
+     * @see ModuleApiKeys#fetchOne(String, String)
+     */
+    public Single<CMAApiKey> fetchOne(String spaceId, String keyId) {
+      return single(fetchOneRequest(asyncService, spaceId, keyId));
+    }
+
+    /**
+     * @param spaceId the space of the key.
+     * @param keyId   the id of the key.
+     * @return a single emitting the preview api key.
+     * @see ModuleApiKeys#fetchOnePreview(String, String)
+     */
+    public Single<CMAApiKey> fetchOnePreview(String spaceId, String keyId) {
+      return single(fetchOnePreviewRequest(asyncService, spaceId, keyId));
+    }
+
+    /**
+     * @param key the key to be created in the configured space.
+     * @return a single emitting the created key, containing the delivery token.
+     * @see ModuleApiKeys#create(CMAApiKey)
+     */
+    public Single<CMAApiKey> create(CMAApiKey key) {
+      return create(spaceId, key);
+    }
+
+    /**
+     * @param spaceId the space to create the key in.
+     * @param key     the key to be created.
+     * @return a single emitting the created key, containing the delivery token.
+     * @see ModuleApiKeys#create(String, CMAApiKey)
+     */
+    public Single<CMAApiKey> create(String spaceId, CMAApiKey key) {
+      return single(createRequest(asyncService, spaceId, key));
+    }
+
+    /**
+     * @param key the key to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleApiKeys#delete(CMAApiKey)
+     */
+    public Single<Integer> delete(CMAApiKey key) {
+      return single(deleteRequest(asyncService, key));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
@@ -19,12 +19,18 @@ package com.contentful.java.cma;
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
 import com.contentful.java.cma.model.CMAAsset;
-import com.contentful.java.cma.model.CMASystem;
+import com.contentful.java.cma.model.CMAHttpException;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 
 /**
@@ -66,12 +72,16 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
    * @throws IllegalArgumentException if asset space id is null.
    */
   public CMAAsset archive(CMAAsset asset) {
+    return archiveRequest(service, asset).blockingFirst();
+  }
+
+  private Flowable<CMAAsset> archiveRequest(ServiceAssets service, CMAAsset asset) {
     assertNotNull(asset, "asset");
     final String assetId = getResourceIdOrThrow(asset, "asset");
     final String spaceId = getSpaceIdOrThrow(asset, "asset");
     final String environmentId = asset.getEnvironmentId();
 
-    return service.archive(spaceId, environmentId, assetId).blockingFirst();
+    return service.archive(spaceId, environmentId, assetId);
   }
 
   /**
@@ -94,26 +104,34 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
    * @throws IllegalArgumentException if asset environment id is null.
    */
   public CMAAsset create(String spaceId, String environmentId, CMAAsset asset) {
+    return createRequest(service, spaceId, environmentId, asset).blockingFirst();
+  }
+
+  private Flowable<CMAAsset> createRequest(
+      ServiceAssets service,
+      String spaceId,
+      String environmentId,
+      CMAAsset asset) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     assertNotNull(asset, "asset");
 
     final String assetId = asset.getId();
-
-    final CMASystem sys = asset.getSystem();
-    asset.setSystem(null);
-
-    try {
-      if (assetId == null) {
-        return service.create(spaceId, environmentId, asset).blockingFirst();
-      } else {
-        return service.create(spaceId, environmentId, assetId, asset).blockingFirst();
-      }
-    } finally {
-      asset.setSystem(sys);
+    if (assetId == null) {
+      return service.create(spaceId, environmentId, withoutSystem(asset));
+    } else {
+      return service.create(spaceId, environmentId, assetId, withoutSystem(asset));
     }
   }
 
+  /**
+   * Copies the given asset without its system properties, so they do not end up in a request
+   * body. The asset of the caller stays untouched while the request is in flight.
+   */
+  private static CMAAsset withoutSystem(CMAAsset asset) {
+    return new CMAAsset().setFields(asset.getFields()).setSystem(null);
+  }
+
   /**
    * Create a new Asset in the configured space and environment.
    * <p>
@@ -142,11 +160,15 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
    * @throws IllegalArgumentException if assetId is null.
    */
   public Integer delete(CMAAsset asset) {
+    return deleteRequest(service, asset).blockingFirst();
+  }
+
+  private Flowable<Integer> deleteRequest(ServiceAssets service, CMAAsset asset) {
     final String assetId = getResourceIdOrThrow(asset, "asset");
     final String spaceId = getSpaceIdOrThrow(asset, "asset");
     final String environmentId = asset.getEnvironmentId();
 
-    return service.delete(spaceId, environmentId, assetId).blockingFirst().code();
+    return service.delete(spaceId, environmentId, assetId).map(Response::code);
   }
 
   /**
@@ -208,11 +230,110 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
       String spaceId,
       String environmentId,
       Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, environmentId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAAsset>> fetchAllRequest(
+      ServiceAssets service,
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     Map<String, String> enhancedQuery =
       DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
-    return service.fetchAll(spaceId, environmentId, enhancedQuery).blockingFirst();
+    return service.fetchAll(spaceId, environmentId, enhancedQuery);
+  }
+
+  /**
+   * Lazily iterate over all assets of the configured space and environment.
+   * <p>
+   * Pages of {@link DefaultQueryParameter#FETCH} size are requested on demand, prefetching the
+   * next page while the current one is being consumed.
+   *
+   * @return an iterator over all assets.
+   * @throws IllegalArgumentException if configured space id is null.
+   * @throws IllegalArgumentException if configured environment id is null.
+   * @see CMAClient.Builder#setSpaceId(String)
+   * @see CMAClient.Builder#setEnvironmentId(String)
+   */
+  public PagedIterator<CMAAsset> stream() {
+    return stream(spaceId, environmentId, new HashMap<>());
+  }
+
+  /**
+   * Lazily iterate over all assets matching the query from the configured space and
+   * environment.
+   * <p>
+   * A {@code limit} given in the query is used as the page size, a {@code skip} as the
+   * starting offset.
+   *
+   * @param query the criteria to filter on.
+   * @return an iterator over all matching assets.
+   * @throws IllegalArgumentException if configured space id is null.
+   * @throws IllegalArgumentException if configured environment id is null.
+   * @see CMAClient.Builder#setSpaceId(String)
+   * @see CMAClient.Builder#setEnvironmentId(String)
+   */
+  public PagedIterator<CMAAsset> stream(Map<String, String> query) {
+    return stream(spaceId, environmentId, query);
+  }
+
+  /**
+   * Lazily iterate over all assets matching the query from the given space and environment.
+   * <p>
+   * This method will override the configuration specified through
+   * {@link CMAClient.Builder#setSpaceId(String)} and
+   * {@link CMAClient.Builder#setEnvironmentId(String)}.
+   *
+   * @param spaceId       Space ID
+   * @param environmentId Environment ID
+   * @param query         the criteria to filter on.
+   * @return an iterator over all matching assets.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if environmentId is null.
+   * @throws IllegalArgumentException if query is null.
+   * @see PagedIterator
+   */
+  public PagedIterator<CMAAsset> stream(
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
+    return stream(spaceId, environmentId, query, 1);
+  }
+
+  /**
+   * Lazily iterate over all assets matching the query, requesting several pages concurrently.
+   * <p>
+   * Once the first page reported the total, up to {@code window} pages are requested at the same
+   * time, further bounded by the per second rate limit last reported by Contentful. The
+   * assets are still returned in the order of the collection.
+   *
+   * @param spaceId       Space ID
+   * @param environmentId Environment ID
+   * @param query         the criteria to filter on.
+   * @param window        the maximum number of pages to be requested concurrently.
+   * @return an iterator over all matching assets.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if environmentId is null.
+   * @throws IllegalArgumentException if query is null.
+   * @throws IllegalArgumentException if window is less than 1.
+   * @see PagedIterator
+   */
+  public PagedIterator<CMAAsset> stream(
+      String spaceId,
+      String environmentId,
+      Map<String, String> query,
+      int window) {
+    assertNotNull(spaceId, "spaceId");
+    assertNotNull(environmentId, "environmentId");
+    assertNotNull(query, "query");
+
+    return new PagedIterator<>(
+        pageQuery -> service.fetchAll(spaceId, environmentId, pageQuery),
+        query,
+        window,
+        rateLimits);
   }
 
   /**
@@ -240,11 +361,19 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
    * @throws IllegalArgumentException if assetId is null.
    */
   public CMAAsset fetchOne(String spaceId, String environmentId, String assetId) {
+    return fetchOneRequest(service, spaceId, environmentId, assetId).blockingFirst();
+  }
+
+  private Flowable<CMAAsset> fetchOneRequest(
+      ServiceAssets service,
+      String spaceId,
+      String environmentId,
+      String assetId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     assertNotNull(assetId, "assetId");
 
-    return service.fetchOne(spaceId, environmentId, assetId).blockingFirst();
+    return service.fetchOne(spaceId, environmentId, assetId);
   }
 
   /**
@@ -259,12 +388,16 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
    * @throws IllegalArgumentException if locale is null.
    */
   public Integer process(CMAAsset asset, String locale) {
+    return processRequest(service, asset, locale).blockingFirst();
+  }
+
+  private Flowable<Integer> processRequest(ServiceAssets service, CMAAsset asset, String locale) {
     assertNotNull(asset, "asset");
     final String assetId = getResourceIdOrThrow(asset, "asset");
     final String spaceId = getSpaceIdOrThrow(asset, "asset");
     final String environmentId = asset.getEnvironmentId();
 
-    return service.process(spaceId, environmentId, assetId, locale).blockingFirst().code();
+    return service.process(spaceId, environmentId, assetId, locale).map(Response::code);
   }
 
   /**
@@ -277,6 +410,10 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
    * @throws IllegalArgumentException if asset has no space id.
    */
   public CMAAsset publish(CMAAsset asset) {
+    return publishRequest(service, asset).blockingFirst();
+  }
+
+  private Flowable<CMAAsset> publishRequest(ServiceAssets service, CMAAsset asset) {
     assertNotNull(asset, "asset");
     final String assetId = getResourceIdOrThrow(asset, "asset");
     final String spaceId = getSpaceIdOrThrow(asset, "asset");
@@ -287,7 +424,7 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
         spaceId,
         environmentId,
         assetId
-    ).blockingFirst();
+    );
   }
 
   /**
@@ -300,13 +437,17 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
    * @throws IllegalArgumentException if asset's space id is empty.
    */
   public CMAAsset unArchive(CMAAsset asset) {
+    return unArchiveRequest(service, asset).blockingFirst();
+  }
+
+  private Flowable<CMAAsset> unArchiveRequest(ServiceAssets service, CMAAsset asset) {
     assertNotNull(asset, "asset");
 
     final String assetId = getResourceIdOrThrow(asset, "asset");
     final String spaceId = getSpaceIdOrThrow(asset, "asset");
     final String environmentId = asset.getEnvironmentId();
 
-    return service.unArchive(spaceId, environmentId, assetId).blockingFirst();
+    return service.unArchive(spaceId, environmentId, assetId);
   }
 
   /**
@@ -319,13 +460,17 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
    * @throws IllegalArgumentException if asset's space id is not set.
    */
   public CMAAsset unPublish(CMAAsset asset) {
+    return unPublishRequest(service, asset).blockingFirst();
+  }
+
+  private Flowable<CMAAsset> unPublishRequest(ServiceAssets service, CMAAsset asset) {
     assertNotNull(asset, "asset");
 
     final String assetId = getResourceIdOrThrow(asset, "asset");
     final String spaceId = getSpaceIdOrThrow(asset, "asset");
     final String environmentId = asset.getEnvironmentId();
 
-    return service.unPublish(spaceId, environmentId, assetId).blockingFirst();
+    return service.unPublish(spaceId, environmentId, assetId);
   }
 
   /**
@@ -339,20 +484,24 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
    * @throws IllegalArgumentException if asset's version is null.
    */
   public CMAAsset update(CMAAsset asset) {
+    return updateRequest(service, asset).blockingFirst();
+  }
+
+  private Flowable<CMAAsset> updateRequest(ServiceAssets service, CMAAsset asset) {
     assertNotNull(asset, "asset");
     final String assetId = getResourceIdOrThrow(asset, "asset");
     final String spaceId = getSpaceIdOrThrow(asset, "asset");
     final String environmentId = asset.getEnvironmentId();
     final Integer version = getVersionOrThrow(asset, "update");
 
-    final CMASystem sys = asset.getSystem();
-    asset.setSystem(null);
+    return service.update(version, spaceId, environmentId, assetId, withoutSystem(asset));
+  }
 
-    try {
-      return service.update(version, spaceId, environmentId, assetId, asset).blockingFirst();
-    } finally {
-      asset.setSystem(sys);
-    }
+  /**
+   * @return a new set of methods acting on many assets at once.
+   */
+  public Bulk bulk() {
+    return new Bulk();
   }
 
   /**
@@ -362,6 +511,20 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -693,4 +856,433 @@ public class ModuleAssets extends AbsModule<ServiceAssets> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Other than the {@link Async} methods, no thread waits for the response: requests are
+   * enqueued to the call factory of the client, and its dispatcher completes the futures.
+   * Cancelling a future cancels its request.
+   * <p>
+   * Arguments are validated right away, failures of the requests complete the futures
+   * exceptionally, for example with a {@link CMAHttpException}.
+   */
+  public class Futures {
+    /**
+     * @param asset the asset to be archived.
+     * @return a future of the archived asset.
+     * @see ModuleAssets#archive(CMAAsset)
+     */
+    public CompletableFuture<CMAAsset> archive(CMAAsset asset) {
+      return toFuture(archiveRequest(asyncService, asset));
+    }
+
+    /**
+     * @param asset the asset to be created in the configured space and environment.
+     * @return a future of the created asset.
+     * @see ModuleAssets#create(CMAAsset)
+     */
+    public CompletableFuture<CMAAsset> create(CMAAsset asset) {
+      return create(spaceId, environmentId, asset);
+    }
+
+    /**
+     * @param spaceId       the space to create the asset in.
+     * @param environmentId the environment to create the asset in.
+     * @param asset         the asset to be created.
+     * @return a future of the created asset.
+     * @see ModuleAssets#create(String, String, CMAAsset)
+     */
+    public CompletableFuture<CMAAsset> create(
+        String spaceId,
+        String environmentId,
+        CMAAsset asset) {
+      return toFuture(createRequest(asyncService, spaceId, environmentId, asset));
+    }
+
+    /**
+     * @param asset the asset to be deleted.
+     * @return a future of the response code.
+     * @see ModuleAssets#delete(CMAAsset)
+     */
+    public CompletableFuture<Integer> delete(CMAAsset asset) {
+      return toFuture(deleteRequest(asyncService, asset));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of the matching assets of the configured space and environment.
+     * @see ModuleAssets#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMAAsset>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a future of the matching assets.
+     * @see ModuleAssets#fetchAll(String, String, Map)
+     */
+    public CompletableFuture<CMAArray<CMAAsset>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param assetId the asset to be fetched from the configured space and environment.
+     * @return a future of the asset.
+     * @see ModuleAssets#fetchOne(String)
+     */
+    public CompletableFuture<CMAAsset> fetchOne(String assetId) {
+      return fetchOne(spaceId, environmentId, assetId);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param assetId       the asset to be fetched.
+     * @return a future of the asset.
+     * @see ModuleAssets#fetchOne(String, String, String)
+     */
+    public CompletableFuture<CMAAsset> fetchOne(
+        String spaceId,
+        String environmentId,
+        String assetId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, environmentId, assetId));
+    }
+
+    /**
+     * @param asset  the asset whose file to be processed.
+     * @param locale the locale of the file.
+     * @return a future of the response code.
+     * @see ModuleAssets#process(CMAAsset, String)
+     */
+    public CompletableFuture<Integer> process(CMAAsset asset, String locale) {
+      return toFuture(processRequest(asyncService, asset, locale));
+    }
+
+    /**
+     * @param asset the asset to be published.
+     * @return a future of the published asset.
+     * @see ModuleAssets#publish(CMAAsset)
+     */
+    public CompletableFuture<CMAAsset> publish(CMAAsset asset) {
+      return toFuture(publishRequest(asyncService, asset));
+    }
+
+    /**
+     * @param asset the asset to be un-archived.
+     * @return a future of the un-archived asset.
+     * @see ModuleAssets#unArchive(CMAAsset)
+     */
+    public CompletableFuture<CMAAsset> unArchive(CMAAsset asset) {
+      return toFuture(unArchiveRequest(asyncService, asset));
+    }
+
+    /**
+     * @param asset the asset to be un-published.
+     * @return a future of the un-published asset.
+     * @see ModuleAssets#unPublish(CMAAsset)
+     */
+    public CompletableFuture<CMAAsset> unPublish(CMAAsset asset) {
+      return toFuture(unPublishRequest(asyncService, asset));
+    }
+
+    /**
+     * @param asset the asset to be updated, with its version.
+     * @return a future of the updated asset.
+     * @see ModuleAssets#update(CMAAsset)
+     */
+    public CompletableFuture<CMAAsset> update(CMAAsset asset) {
+      return toFuture(updateRequest(asyncService, asset));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s and {@link Flowable}s, sent once subscribed to. Like
+   * the {@link Futures} methods, requests are enqueued to the call factory of the client, so no
+   * thread waits for their responses. Results are emitted on the threads of its dispatcher,
+   * unless a scheduler to observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @param asset the asset to be archived.
+     * @return a single emitting the archived asset.
+     * @see ModuleAssets#archive(CMAAsset)
+     */
+    public Single<CMAAsset> archive(CMAAsset asset) {
+      return single(archiveRequest(asyncService, asset));
+    }
+
+    /**
+     * @param asset the asset to be created in the configured space and environment.
+     * @return a single emitting the created asset.
+     * @see ModuleAssets#create(CMAAsset)
+     */
+    public Single<CMAAsset> create(CMAAsset asset) {
+      return create(spaceId, environmentId, asset);
+    }
+
+    /**
+     * @param spaceId       the space to create the asset in.
+     * @param environmentId the environment to create the asset in.
+     * @param asset         the asset to be created.
+     * @return a single emitting the created asset.
+     * @see ModuleAssets#create(String, String, CMAAsset)
+     */
+    public Single<CMAAsset> create(
+        String spaceId,
+        String environmentId,
+        CMAAsset asset) {
+      return single(createRequest(asyncService, spaceId, environmentId, asset));
+    }
+
+    /**
+     * @param asset the asset to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleAssets#delete(CMAAsset)
+     */
+    public Single<Integer> delete(CMAAsset asset) {
+      return single(deleteRequest(asyncService, asset));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting the matching assets of the configured space and environment.
+     * @see ModuleAssets#fetchAll(Map)
+     */
+    public Single<CMAArray<CMAAsset>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a single emitting the matching assets.
+     * @see ModuleAssets#fetchAll(String, String, Map)
+     */
+    public Single<CMAArray<CMAAsset>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param assetId the asset to be fetched from the configured space and environment.
+     * @return a single emitting the asset.
+     * @see ModuleAssets#fetchOne(String)
+     */
+    public Single<CMAAsset> fetchOne(String assetId) {
+      return fetchOne(spaceId, environmentId, assetId);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param assetId       the asset to be fetched.
+     * @return a single emitting the asset.
+     * @see ModuleAssets#fetchOne(String, String, String)
+     */
+    public Single<CMAAsset> fetchOne(
+        String spaceId,
+        String environmentId,
+        String assetId) {
+      return single(fetchOneRequest(asyncService, spaceId, environmentId, assetId));
+    }
+
+    /**
+     * @param asset  the asset whose file to be processed.
+     * @param locale the locale of the file.
+     * @return a single emitting the response code.
+     * @see ModuleAssets#process(CMAAsset, String)
+     */
+    public Single<Integer> process(CMAAsset asset, String locale) {
+      return single(processRequest(asyncService, asset, locale));
+    }
+
+    /**
+     * @param asset the asset to be published.
+     * @return a single emitting the published asset.
+     * @see ModuleAssets#publish(CMAAsset)
+     */
+    public Single<CMAAsset> publish(CMAAsset asset) {
+      return single(publishRequest(asyncService, asset));
+    }
+
+    /**
+     * @param asset the asset to be un-archived.
+     * @return a single emitting the un-archived asset.
+     * @see ModuleAssets#unArchive(CMAAsset)
+     */
+    public Single<CMAAsset> unArchive(CMAAsset asset) {
+      return single(unArchiveRequest(asyncService, asset));
+    }
+
+    /**
+     * @param asset the asset to be un-published.
+     * @return a single emitting the un-published asset.
+     * @see ModuleAssets#unPublish(CMAAsset)
+     */
+    public Single<CMAAsset> unPublish(CMAAsset asset) {
+      return single(unPublishRequest(asyncService, asset));
+    }
+
+    /**
+     * @param asset the asset to be updated, with its version.
+     * @return a single emitting the updated asset.
+     * @see ModuleAssets#update(CMAAsset)
+     */
+    public Single<CMAAsset> update(CMAAsset asset) {
+      return single(updateRequest(asyncService, asset));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a flowable emitting all matching assets of the configured space and
+     * environment.
+     * @see #stream(String, String, Map)
+     */
+    public Flowable<CMAAsset> stream(Map<String, String> query) {
+      return stream(spaceId, environmentId, query);
+    }
+
+    /**
+     * Emit all matching assets, requesting one page after the other as they are consumed.
+     *
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on. A limit is used as the page size, a skip
+     *                      as the starting offset.
+     * @return a flowable emitting all matching assets.
+     * @throws IllegalArgumentException if spaceId, environmentId or query is null.
+     * @see ModuleAssets#stream(String, String, Map)
+     */
+    public Flowable<CMAAsset> stream(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      assertNotNull(spaceId, "spaceId");
+      assertNotNull(environmentId, "environmentId");
+      assertNotNull(query, "query");
+
+      return schedule(
+          PagedIterator.flowable(
+              pageQuery -> asyncService.fetchAll(spaceId, environmentId, pageQuery),
+              query),
+          subscribeOn,
+          observeOn);
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
+
+  /**
+   * Bulk module.
+   * <p>
+   * Acts on many assets at once, spread over a pool of worker threads. A failing asset does
+   * not stop the others, its exception is reported in the {@link BulkResult} instead. Requests
+   * wait while the rate limits of the client have no requests left for the current second.
+   */
+  public class Bulk {
+    private int concurrency = DEFAULT_BULK_CONCURRENCY;
+
+    /**
+     * Set how many assets are acted on at the same time.
+     *
+     * @param concurrency the number of worker threads.
+     * @return this module for chaining.
+     * @throws IllegalArgumentException if concurrency is less than one.
+     */
+    public Bulk setConcurrency(int concurrency) {
+      if (concurrency < 1) {
+        throw new IllegalArgumentException("concurrency may not be less than one.");
+      }
+      this.concurrency = concurrency;
+      return this;
+    }
+
+    /**
+     * Publish all given assets.
+     *
+     * @param assets the assets to be published, each with its id, space and version.
+     * @return the outcome per asset.
+     * @throws IllegalArgumentException if assets is null.
+     */
+    public BulkResult<CMAAsset> publish(Collection<CMAAsset> assets) {
+      return bulk(assets, concurrency, ModuleAssets.this::publish);
+    }
+
+    /**
+     * Un-publish all given assets.
+     *
+     * @param assets the assets to be un-published, each with its id and space.
+     * @return the outcome per asset.
+     * @throws IllegalArgumentException if assets is null.
+     */
+    public BulkResult<CMAAsset> unPublish(Collection<CMAAsset> assets) {
+      return bulk(assets, concurrency, ModuleAssets.this::unPublish);
+    }
+
+    /**
+     * Archive all given assets.
+     *
+     * @param assets the assets to be archived, each with its id and space.
+     * @return the outcome per asset.
+     * @throws IllegalArgumentException if assets is null.
+     */
+    public BulkResult<CMAAsset> archive(Collection<CMAAsset> assets) {
+      return bulk(assets, concurrency, ModuleAssets.this::archive);
+    }
+
+    /**
+     * Un-archive all given assets.
+     *
+     * @param assets the assets to be un-archived, each with its id and space.
+     * @return the outcome per asset.
+     * @throws IllegalArgumentException if assets is null.
+     */
+    public BulkResult<CMAAsset> unArchive(Collection<CMAAsset> assets) {
+      return bulk(assets, concurrency, ModuleAssets.this::unArchive);
+    }
+  }
 }
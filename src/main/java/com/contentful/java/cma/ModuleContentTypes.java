@@ -19,13 +19,19 @@ package com.contentful.java.cma;
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
 import com.contentful.java.cma.model.CMAContentType;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMASnapshot;
 import com.contentful.java.cma.model.CMASystem;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 
 /**
@@ -131,11 +137,15 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
    * @throws IllegalArgumentException if contentTypeId is null.
    */
   public Integer delete(CMAContentType contentType) {
+    return deleteRequest(service, contentType).blockingFirst();
+  }
+
+  private Flowable<Integer> deleteRequest(ServiceContentTypes service, CMAContentType contentType) {
     final String spaceId = getSpaceIdOrThrow(contentType, "contentType");
     final String environmentId = contentType.getEnvironmentId();
     final String contentTypeId = getResourceIdOrThrow(contentType, "contentType");
 
-    return service.delete(spaceId, environmentId, contentTypeId).blockingFirst().code();
+    return service.delete(spaceId, environmentId, contentTypeId).map(Response::code);
   }
 
   /**
@@ -201,10 +211,110 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
       String spaceId,
       String environmentId,
       Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, environmentId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAContentType>> fetchAllRequest(
+      ServiceContentTypes service,
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
     Map<String, String> enhancedQuery =
       DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
-    return service.fetchAll(spaceId, environmentId, enhancedQuery).blockingFirst();
+    return service.fetchAll(spaceId, environmentId, enhancedQuery);
+  }
+
+  /**
+   * Lazily iterate over all content types of the configured space and environment.
+   * <p>
+   * Pages of {@link DefaultQueryParameter#FETCH} size are requested on demand, prefetching the
+   * next page while the current one is being consumed.
+   *
+   * @return an iterator over all content types.
+   * @throws IllegalArgumentException if configured space id is null.
+   * @throws IllegalArgumentException if configured environment id is null.
+   * @see CMAClient.Builder#setSpaceId(String)
+   * @see CMAClient.Builder#setEnvironmentId(String)
+   */
+  public PagedIterator<CMAContentType> stream() {
+    return stream(spaceId, environmentId, new HashMap<>());
+  }
+
+  /**
+   * Lazily iterate over all content types matching the query from the configured space and
+   * environment.
+   * <p>
+   * A {@code limit} given in the query is used as the page size, a {@code skip} as the
+   * starting offset.
+   *
+   * @param query the criteria to filter on.
+   * @return an iterator over all matching content types.
+   * @throws IllegalArgumentException if configured space id is null.
+   * @throws IllegalArgumentException if configured environment id is null.
+   * @see CMAClient.Builder#setSpaceId(String)
+   * @see CMAClient.Builder#setEnvironmentId(String)
+   */
+  public PagedIterator<CMAContentType> stream(Map<String, String> query) {
+    return stream(spaceId, environmentId, query);
+  }
+
+  /**
+   * Lazily iterate over all content types matching the query from the given space and environment.
+   * <p>
+   * This method will override the configuration specified through
+   * {@link CMAClient.Builder#setSpaceId(String)} and
+   * {@link CMAClient.Builder#setEnvironmentId(String)}.
+   *
+   * @param spaceId       Space ID
+   * @param environmentId Environment ID
+   * @param query         the criteria to filter on.
+   * @return an iterator over all matching content types.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if environmentId is null.
+   * @throws IllegalArgumentException if query is null.
+   * @see PagedIterator
+   */
+  public PagedIterator<CMAContentType> stream(
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
+    return stream(spaceId, environmentId, query, 1);
+  }
+
+  /**
+   * Lazily iterate over all content types matching the query, requesting several pages
+   * concurrently.
+   * <p>
+   * Once the first page reported the total, up to {@code window} pages are requested at the same
+   * time, further bounded by the per second rate limit last reported by Contentful. The
+   * content types are still returned in the order of the collection.
+   *
+   * @param spaceId       Space ID
+   * @param environmentId Environment ID
+   * @param query         the criteria to filter on.
+   * @param window        the maximum number of pages to be requested concurrently.
+   * @return an iterator over all matching content types.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if environmentId is null.
+   * @throws IllegalArgumentException if query is null.
+   * @throws IllegalArgumentException if window is less than 1.
+   * @see PagedIterator
+   */
+  public PagedIterator<CMAContentType> stream(
+      String spaceId,
+      String environmentId,
+      Map<String, String> query,
+      int window) {
+    assertNotNull(spaceId, "spaceId");
+    assertNotNull(environmentId, "environmentId");
+    assertNotNull(query, "query");
+
+    return new PagedIterator<>(
+        pageQuery -> service.fetchAll(spaceId, environmentId, pageQuery),
+        query,
+        window,
+        rateLimits);
   }
 
   /**
@@ -240,10 +350,18 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
    * @throws IllegalArgumentException if contentTypeId is null.
    */
   public CMAContentType fetchOne(String spaceId, String environmentId, String contentTypeId) {
+    return fetchOneRequest(service, spaceId, environmentId, contentTypeId).blockingFirst();
+  }
+
+  private Flowable<CMAContentType> fetchOneRequest(
+      ServiceContentTypes service,
+      String spaceId,
+      String environmentId,
+      String contentTypeId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     assertNotNull(contentTypeId, "contentTypeId");
-    return service.fetchOne(spaceId, environmentId, contentTypeId).blockingFirst();
+    return service.fetchOne(spaceId, environmentId, contentTypeId);
   }
 
   /**
@@ -256,6 +374,12 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
    * @throws IllegalArgumentException if contentType's space id is null.
    */
   public CMAContentType publish(CMAContentType contentType) {
+    return publishRequest(service, contentType).blockingFirst();
+  }
+
+  private Flowable<CMAContentType> publishRequest(
+      ServiceContentTypes service,
+      CMAContentType contentType) {
     assertNotNull(contentType, "contentType");
 
     final String contentTypeId = getResourceIdOrThrow(contentType, "contentType");
@@ -267,7 +391,7 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
         spaceId,
         environmentId,
         contentTypeId
-    ).blockingFirst();
+    );
   }
 
   /**
@@ -280,13 +404,19 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
    * @throws IllegalArgumentException if contentType's space id is null.
    */
   public CMAContentType unPublish(CMAContentType contentType) {
+    return unPublishRequest(service, contentType).blockingFirst();
+  }
+
+  private Flowable<CMAContentType> unPublishRequest(
+      ServiceContentTypes service,
+      CMAContentType contentType) {
     assertNotNull(contentType, "contentType");
 
     final String contentTypeId = getResourceIdOrThrow(contentType, "contentType");
     final String spaceId = getSpaceIdOrThrow(contentType, "contentType");
     final String environmentId = contentType.getEnvironmentId();
 
-    return service.unPublish(spaceId, environmentId, contentTypeId).blockingFirst();
+    return service.unPublish(spaceId, environmentId, contentTypeId);
   }
 
   /**
@@ -335,13 +465,19 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
    * @throws IllegalArgumentException if contentType's space id is null.
    */
   public CMAArray<CMASnapshot> fetchAllSnapshots(CMAContentType contentType) {
+    return fetchAllSnapshotsRequest(service, contentType).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMASnapshot>> fetchAllSnapshotsRequest(
+      ServiceContentTypes service,
+      CMAContentType contentType) {
     assertNotNull(contentType, "contentType");
 
     final String contentTypeId = getResourceIdOrThrow(contentType, "contentType");
     final String spaceId = getSpaceIdOrThrow(contentType, "contentType");
     final String environmentId = contentType.getEnvironmentId();
 
-    return service.fetchAllSnapshots(spaceId, environmentId, contentTypeId).blockingFirst();
+    return service.fetchAllSnapshots(spaceId, environmentId, contentTypeId);
   }
 
   /**
@@ -356,6 +492,13 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
    * @throws IllegalArgumentException if snapshotId is null.
    */
   public CMASnapshot fetchOneSnapshot(CMAContentType contentType, String snapshotId) {
+    return fetchOneSnapshotRequest(service, contentType, snapshotId).blockingFirst();
+  }
+
+  private Flowable<CMASnapshot> fetchOneSnapshotRequest(
+      ServiceContentTypes service,
+      CMAContentType contentType,
+      String snapshotId) {
     assertNotNull(contentType, "contentType");
     assertNotNull(snapshotId, "snapshotId");
 
@@ -368,7 +511,7 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
         environmentId,
         contentTypeId,
         snapshotId
-    ).blockingFirst();
+    );
   }
 
   /**
@@ -378,6 +521,20 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -706,4 +863,329 @@ public class ModuleContentTypes extends AbsModule<ServiceContentTypes> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Creating and updating are not offered yet, they detach the system properties of the content
+   * type while the request is sent.
+   */
+  public class Futures {
+    /**
+     * @param contentType the content type to be deleted.
+     * @return a future of the response code.
+     * @see ModuleContentTypes#delete(CMAContentType)
+     */
+    public CompletableFuture<Integer> delete(CMAContentType contentType) {
+      return toFuture(deleteRequest(asyncService, contentType));
+    }
+
+    /**
+     * @return a future of all content types of the configured space and environment.
+     * @see ModuleContentTypes#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMAContentType>> fetchAll() {
+      return fetchAll(spaceId, environmentId);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of all matching content types of the configured space and
+     * environment.
+     * @see ModuleContentTypes#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMAContentType>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @return a future of all content types.
+     * @see ModuleContentTypes#fetchAll(String, String)
+     */
+    public CompletableFuture<CMAArray<CMAContentType>> fetchAll(
+        String spaceId,
+        String environmentId) {
+      return fetchAll(spaceId, environmentId, new HashMap<>());
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a future of all matching content types.
+     * @see ModuleContentTypes#fetchAll(String, String, Map)
+     */
+    public CompletableFuture<CMAArray<CMAContentType>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param contentTypeId the id of the content type in the configured space and environment.
+     * @return a future of the content type.
+     * @see ModuleContentTypes#fetchOne(String)
+     */
+    public CompletableFuture<CMAContentType> fetchOne(String contentTypeId) {
+      return fetchOne(spaceId, environmentId, contentTypeId);
+    }
+
+    /**
+     * @param spaceId       the space of the content type.
+     * @param environmentId the environment of the content type.
+     * @param contentTypeId the id of the content type.
+     * @return a future of the content type.
+     * @see ModuleContentTypes#fetchOne(String, String, String)
+     */
+    public CompletableFuture<CMAContentType> fetchOne(
+        String spaceId,
+        String environmentId,
+        String contentTypeId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, environmentId, contentTypeId));
+    }
+
+    /**
+     * @param contentType the content type to be published.
+     * @return a future of the published content type.
+     * @see ModuleContentTypes#publish(CMAContentType)
+     */
+    public CompletableFuture<CMAContentType> publish(CMAContentType contentType) {
+      return toFuture(publishRequest(asyncService, contentType));
+    }
+
+    /**
+     * @param contentType the content type to be unpublished.
+     * @return a future of the unpublished content type.
+     * @see ModuleContentTypes#unPublish(CMAContentType)
+     */
+    public CompletableFuture<CMAContentType> unPublish(CMAContentType contentType) {
+      return toFuture(unPublishRequest(asyncService, contentType));
+    }
+
+    /**
+     * @param contentType the content type whose snapshots are fetched.
+     * @return a future of all snapshots of the content type.
+     * @see ModuleContentTypes#fetchAllSnapshots(CMAContentType)
+     */
+    public CompletableFuture<CMAArray<CMASnapshot>> fetchAllSnapshots(CMAContentType contentType) {
+      return toFuture(fetchAllSnapshotsRequest(asyncService, contentType));
+    }
+
+    /**
+     * @param contentType the content type whose snapshot is fetched.
+     * @param snapshotId  the id of the snapshot.
+     * @return a future of the snapshot.
+     * @see ModuleContentTypes#fetchOneSnapshot(CMAContentType, String)
+     */
+    public CompletableFuture<CMASnapshot> fetchOneSnapshot(
+        CMAContentType contentType,
+        String snapshotId) {
+      return toFuture(fetchOneSnapshotRequest(asyncService, contentType, snapshotId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s and {@link Flowable}s, sent once subscribed to. Like
+   * the {@link Futures} methods, requests are enqueued to the call factory of the client, so no
+   * thread waits for their responses. Results are emitted on the threads of its dispatcher,
+   * unless a scheduler to observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Creating and updating are not offered yet, they detach the system properties of the content
+   * type while the request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @param contentType the content type to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleContentTypes#delete(CMAContentType)
+     */
+    public Single<Integer> delete(CMAContentType contentType) {
+      return single(deleteRequest(asyncService, contentType));
+    }
+
+    /**
+     * @return a single emitting all content types of the configured space and environment.
+     * @see ModuleContentTypes#fetchAll()
+     */
+    public Single<CMAArray<CMAContentType>> fetchAll() {
+      return fetchAll(spaceId, environmentId);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting all matching content types of the configured space and
+     * environment.
+     * @see ModuleContentTypes#fetchAll(Map)
+     */
+    public Single<CMAArray<CMAContentType>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @return a single emitting all content types.
+     * @see ModuleContentTypes#fetchAll(String, String)
+     */
+    public Single<CMAArray<CMAContentType>> fetchAll(
+        String spaceId,
+        String environmentId) {
+      return fetchAll(spaceId, environmentId, new HashMap<>());
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a single emitting all matching content types.
+     * @see ModuleContentTypes#fetchAll(String, String, Map)
+     */
+    public Single<CMAArray<CMAContentType>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param contentTypeId the id of the content type in the configured space and environment.
+     * @return a single emitting the content type.
+     * @see ModuleContentTypes#fetchOne(String)
+     */
+    public Single<CMAContentType> fetchOne(String contentTypeId) {
+      return fetchOne(spaceId, environmentId, contentTypeId);
+    }
+
+    /**
+     * @param spaceId       the space of the content type.
+     * @param environmentId the environment of the content type.
+     * @param contentTypeId the id of the content type.
+     * @return a single emitting the content type.
+     * @see ModuleContentTypes#fetchOne(String, String, String)
+     */
+    public Single<CMAContentType> fetchOne(
+        String spaceId,
+        String environmentId,
+        String contentTypeId) {
+      return single(fetchOneRequest(asyncService, spaceId, environmentId, contentTypeId));
+    }
+
+    /**
+     * @param contentType the content type to be published.
+     * @return a single emitting the published content type.
+     * @see ModuleContentTypes#publish(CMAContentType)
+     */
+    public Single<CMAContentType> publish(CMAContentType contentType) {
+      return single(publishRequest(asyncService, contentType));
+    }
+
+    /**
+     * @param contentType the content type to be unpublished.
+     * @return a single emitting the unpublished content type.
+     * @see ModuleContentTypes#unPublish(CMAContentType)
+     */
+    public Single<CMAContentType> unPublish(CMAContentType contentType) {
+      return single(unPublishRequest(asyncService, contentType));
+    }
+
+    /**
+     * @param contentType the content type whose snapshots are fetched.
+     * @return a single emitting all snapshots of the content type.
+     * @see ModuleContentTypes#fetchAllSnapshots(CMAContentType)
+     */
+    public Single<CMAArray<CMASnapshot>> fetchAllSnapshots(CMAContentType contentType) {
+      return single(fetchAllSnapshotsRequest(asyncService, contentType));
+    }
+
+    /**
+     * @param contentType the content type whose snapshot is fetched.
+     * @param snapshotId  the id of the snapshot.
+     * @return a single emitting the snapshot.
+     * @see ModuleContentTypes#fetchOneSnapshot(CMAContentType, String)
+     */
+    public Single<CMASnapshot> fetchOneSnapshot(
+        CMAContentType contentType,
+        String snapshotId) {
+      return single(fetchOneSnapshotRequest(asyncService, contentType, snapshotId));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a flowable emitting all matching content types of the configured space and
+     * environment.
+     * @see #stream(String, String, Map)
+     */
+    public Flowable<CMAContentType> stream(Map<String, String> query) {
+      return stream(spaceId, environmentId, query);
+    }
+
+    /**
+     * Emit all matching content types, requesting one page after the other as they are consumed.
+     *
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on. A limit is used as the page size, a skip
+     *                      as the starting offset.
+     * @return a flowable emitting all matching content types.
+     * @throws IllegalArgumentException if spaceId, environmentId or query is null.
+     * @see ModuleContentTypes#stream(String, String, Map)
+     */
+    public Flowable<CMAContentType> stream(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      assertNotNull(spaceId, "spaceId");
+      assertNotNull(environmentId, "environmentId");
+      assertNotNull(query, "query");
+
+      return schedule(
+          PagedIterator.flowable(
+              pageQuery -> asyncService.fetchAll(spaceId, environmentId, pageQuery),
+              query),
+          subscribeOn,
+          observeOn);
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
@@ -18,10 +18,15 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAEditorInterface;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMASystem;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Retrofit;
 
 /**
@@ -84,11 +89,19 @@ public class ModuleEditorInterfaces extends AbsModule<ServiceEditorInterfaces> {
    * @throws IllegalArgumentException if content type id is null.
    */
   public CMAEditorInterface fetchOne(String spaceId, String environmentId, String contentTypeId) {
+    return fetchOneRequest(service, spaceId, environmentId, contentTypeId).blockingFirst();
+  }
+
+  private Flowable<CMAEditorInterface> fetchOneRequest(
+      ServiceEditorInterfaces service,
+      String spaceId,
+      String environmentId,
+      String contentTypeId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     assertNotNull(contentTypeId, "contentTypeId");
 
-    return service.fetchOne(spaceId, environmentId, contentTypeId).blockingFirst();
+    return service.fetchOne(spaceId, environmentId, contentTypeId);
   }
 
   /**
@@ -130,6 +143,20 @@ public class ModuleEditorInterfaces extends AbsModule<ServiceEditorInterfaces> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -202,4 +229,108 @@ public class ModuleEditorInterfaces extends AbsModule<ServiceEditorInterfaces> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Updating is not offered yet, it detaches the system properties of the editor interface
+   * while the request is sent.
+   */
+  public class Futures {
+    /**
+     * @param contentTypeId the content type of the configured space and environment.
+     * @return a future of the editor interface of the content type.
+     * @see ModuleEditorInterfaces#fetchOne(String)
+     */
+    public CompletableFuture<CMAEditorInterface> fetchOne(String contentTypeId) {
+      return fetchOne(spaceId, environmentId, contentTypeId);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param contentTypeId the content type the editor interface is valid on.
+     * @return a future of the editor interface of the content type.
+     * @see ModuleEditorInterfaces#fetchOne(String, String, String)
+     */
+    public CompletableFuture<CMAEditorInterface> fetchOne(
+        String spaceId,
+        String environmentId,
+        String contentTypeId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, environmentId, contentTypeId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Updating is not offered yet, it detaches the system properties of the editor interface
+   * while the request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @param contentTypeId the content type of the configured space and environment.
+     * @return a single emitting the editor interface of the content type.
+     * @see ModuleEditorInterfaces#fetchOne(String)
+     */
+    public Single<CMAEditorInterface> fetchOne(String contentTypeId) {
+      return fetchOne(spaceId, environmentId, contentTypeId);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param contentTypeId the content type the editor interface is valid on.
+     * @return a single emitting the editor interface of the content type.
+     * @see ModuleEditorInterfaces#fetchOne(String, String, String)
+     */
+    public Single<CMAEditorInterface> fetchOne(
+        String spaceId,
+        String environmentId,
+        String contentTypeId) {
+      return single(fetchOneRequest(asyncService, spaceId, environmentId, contentTypeId));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
@@ -16,21 +16,30 @@
 
 package com.contentful.java.cma;
 
+import com.contentful.java.cma.interceptor.AsyncErrorInterceptor;
 import com.contentful.java.cma.model.CMAArray;
 import com.contentful.java.cma.model.CMAEntry;
 import com.contentful.java.cma.model.CMAEntryFieldPatch;
 import com.contentful.java.cma.model.CMAEntryPatch;
 import com.contentful.java.cma.model.CMAEntryReferences;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMASnapshot;
-import com.contentful.java.cma.model.CMASystem;
 import com.contentful.java.cma.model.patch.CMAEntryJsonPatchItem;
 import com.contentful.java.cma.model.patch.JsonPatchOperator;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static com.contentful.java.cma.model.patch.JsonPatchOperator.ADD;
@@ -40,7 +49,10 @@ import static com.contentful.java.cma.model.patch.JsonPatchOperator.REMOVE;
  * Entries Module.
  */
 public class ModuleEntries extends AbsModule<ServiceEntries> {
+  private static final int HTTP_CONFLICT = 409;
+
   final Async async;
+  EntryConflictResolver conflictResolver;
 
   /**
    * Create entries module.
@@ -61,6 +73,14 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
     this.async = new Async();
   }
 
+  /**
+   * Rebase updates and patches conflicting with changes of others, see
+   * {@link CMAClient.Builder#setEntryConflictResolver(EntryConflictResolver)}.
+   */
+  void setConflictResolver(EntryConflictResolver conflictResolver) {
+    this.conflictResolver = conflictResolver;
+  }
+
   @Override protected ServiceEntries createService(Retrofit retrofit) {
     return retrofit.create(ServiceEntries.class);
   }
@@ -74,13 +94,17 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if entry's id is null.
    */
   public CMAEntry archive(CMAEntry entry) {
+    return archiveRequest(service, entry).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> archiveRequest(ServiceEntries service, CMAEntry entry) {
     assertNotNull(entry, "entry");
 
     final String entryId = getResourceIdOrThrow(entry, "entry");
     final String spaceId = getSpaceIdOrThrow(entry, "entry");
     final String environmentId = entry.getEnvironmentId();
 
-    return service.archive(spaceId, environmentId, entryId).blockingFirst();
+    return service.archive(spaceId, environmentId, entryId);
   }
 
   /**
@@ -132,27 +156,38 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
       String environmentId,
       String contentTypeId,
       CMAEntry entry) {
+    return createRequest(service, spaceId, environmentId, contentTypeId, entry).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> createRequest(
+      ServiceEntries service,
+      String spaceId,
+      String environmentId,
+      String contentTypeId,
+      CMAEntry entry) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     assertNotNull(entry, "entry");
 
     final String entryId = entry.getSystem().getId();
-
-    final CMASystem sys = entry.getSystem();
-    entry.setSystem(null);
-
-    try {
-      if (entryId == null) {
-        return service.create(spaceId, environmentId, contentTypeId, entry).blockingFirst();
-      } else {
-        return service.create(spaceId, environmentId, contentTypeId, entryId, entry)
-            .blockingFirst();
-      }
-    } finally {
-      entry.setSystem(sys);
+    if (entryId == null) {
+      return service.create(spaceId, environmentId, contentTypeId, withoutSystem(entry));
+    } else {
+      return service.create(spaceId, environmentId, contentTypeId, entryId,
+          withoutSystem(entry));
     }
   }
 
+  /**
+   * Copies the given entry without its system properties, so they do not end up in a request
+   * body. The entry of the caller stays untouched while the request is in flight.
+   */
+  private static CMAEntry withoutSystem(CMAEntry entry) {
+    final CMAEntry body = new CMAEntry().setFields(entry.getFields());
+    body.setSystem(null);
+    return body;
+  }
+
   /**
    * Delete an Entry.
    *
@@ -164,6 +199,10 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if entry is null.
    */
   public Integer delete(CMAEntry entry) {
+    return deleteRequest(service, entry).blockingFirst();
+  }
+
+  private Flowable<Integer> deleteRequest(ServiceEntries service, CMAEntry entry) {
     assertNotNull(entry.getSpaceId(), "spaceId");
     assertNotNull(entry.getEnvironmentId(), "environmentId");
     assertNotNull(entry.getId(), "entryId");
@@ -172,7 +211,7 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
         entry.getSpaceId(),
         entry.getEnvironmentId(),
         entry.getId()
-    ).blockingFirst().code();
+    ).map(Response::code);
   }
 
   /**
@@ -239,12 +278,161 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
       String spaceId,
       String environmentId,
       Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, environmentId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAEntry>> fetchAllRequest(
+      ServiceEntries service,
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
 
     Map<String, String> enhancedQuery =
       DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
-    return service.fetchAll(spaceId, environmentId, enhancedQuery).blockingFirst();
+    return service.fetchAll(spaceId, environmentId, enhancedQuery);
+  }
+
+  /**
+   * Lazily iterate over all entries of the configured space and environment.
+   * <p>
+   * Pages of {@link DefaultQueryParameter#FETCH} size are requested on demand, prefetching the
+   * next page while the current one is being consumed.
+   *
+   * @return an iterator over all entries.
+   * @throws IllegalArgumentException if configured space id is null.
+   * @throws IllegalArgumentException if configured environment id is null.
+   * @see CMAClient.Builder#setSpaceId(String)
+   * @see CMAClient.Builder#setEnvironmentId(String)
+   */
+  public PagedIterator<CMAEntry> stream() {
+    return stream(spaceId, environmentId, new HashMap<>());
+  }
+
+  /**
+   * Lazily iterate over all entries matching the query from the configured space and
+   * environment.
+   * <p>
+   * A {@code limit} given in the query is used as the page size, a {@code skip} as the
+   * starting offset.
+   *
+   * @param query the criteria to filter on.
+   * @return an iterator over all matching entries.
+   * @throws IllegalArgumentException if configured space id is null.
+   * @throws IllegalArgumentException if configured environment id is null.
+   * @see CMAClient.Builder#setSpaceId(String)
+   * @see CMAClient.Builder#setEnvironmentId(String)
+   */
+  public PagedIterator<CMAEntry> stream(Map<String, String> query) {
+    return stream(spaceId, environmentId, query);
+  }
+
+  /**
+   * Lazily iterate over all entries matching the query from the given space and environment.
+   * <p>
+   * This method will override the configuration specified through
+   * {@link CMAClient.Builder#setSpaceId(String)} and
+   * {@link CMAClient.Builder#setEnvironmentId(String)}.
+   *
+   * @param spaceId       Space ID
+   * @param environmentId Environment ID
+   * @param query         the criteria to filter on.
+   * @return an iterator over all matching entries.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if environmentId is null.
+   * @throws IllegalArgumentException if query is null.
+   * @see PagedIterator
+   */
+  public PagedIterator<CMAEntry> stream(
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
+    return stream(spaceId, environmentId, query, 1);
+  }
+
+  /**
+   * Lazily iterate over all entries matching the query, requesting several pages concurrently.
+   * <p>
+   * Once the first page reported the total, up to {@code window} pages are requested at the same
+   * time, further bounded by the per second rate limit last reported by Contentful. The
+   * entries are still returned in the order of the collection.
+   *
+   * @param spaceId       Space ID
+   * @param environmentId Environment ID
+   * @param query         the criteria to filter on.
+   * @param window        the maximum number of pages to be requested concurrently.
+   * @return an iterator over all matching entries.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if environmentId is null.
+   * @throws IllegalArgumentException if query is null.
+   * @throws IllegalArgumentException if window is less than 1.
+   * @see PagedIterator
+   */
+  public PagedIterator<CMAEntry> stream(
+      String spaceId,
+      String environmentId,
+      Map<String, String> query,
+      int window) {
+    assertNotNull(spaceId, "spaceId");
+    assertNotNull(environmentId, "environmentId");
+    assertNotNull(query, "query");
+
+    return new PagedIterator<>(
+        pageQuery -> service.fetchAll(spaceId, environmentId, pageQuery),
+        query,
+        window,
+        rateLimits);
+  }
+
+  /**
+   * Iterate over all entries matching the query from the configured space and environment,
+   * continuing every page after the last entry of the previous one.
+   *
+   * @param query the criteria to filter on. May not contain an order or a skip.
+   * @param key   the system property to order and continue by.
+   * @return an iterator over all matching entries.
+   * @throws IllegalArgumentException if configured space id is null.
+   * @throws IllegalArgumentException if configured environment id is null.
+   * @see #streamByKey(String, String, Map, KeysetIterator.Key)
+   */
+  public KeysetIterator<CMAEntry> streamByKey(Map<String, String> query, KeysetIterator.Key key) {
+    return streamByKey(spaceId, environmentId, query, key);
+  }
+
+  /**
+   * Iterate over all entries matching the query from the given space and environment,
+   * continuing every page after the last entry of the previous one.
+   * <p>
+   * Other than {@link #stream(String, String, Map)}, this does not use deep skips, so every
+   * request costs the same and entries changed during the iteration are neither missed nor
+   * repeated.
+   *
+   * @param spaceId       Space ID
+   * @param environmentId Environment ID
+   * @param query         the criteria to filter on. May not contain an order or a skip.
+   * @param key           the system property to order and continue by.
+   * @return an iterator over all matching entries.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if environmentId is null.
+   * @throws IllegalArgumentException if query is null or contains an order or a skip.
+   * @throws IllegalArgumentException if key is null.
+   * @see KeysetIterator
+   */
+  public KeysetIterator<CMAEntry> streamByKey(
+      String spaceId,
+      String environmentId,
+      Map<String, String> query,
+      KeysetIterator.Key key) {
+    assertNotNull(spaceId, "spaceId");
+    assertNotNull(environmentId, "environmentId");
+    assertNotNull(query, "query");
+    assertNotNull(key, "key");
+
+    return new KeysetIterator<>(
+        pageQuery -> service.fetchAll(spaceId, environmentId, pageQuery),
+        query,
+        key);
   }
 
   /**
@@ -274,10 +462,18 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if entry id is null.
    */
   public CMAEntry fetchOne(String spaceId, String environmentId, String entryId) {
+    return fetchOneRequest(service, spaceId, environmentId, entryId).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> fetchOneRequest(
+      ServiceEntries service,
+      String spaceId,
+      String environmentId,
+      String entryId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     assertNotNull(entryId, "entryId");
-    return service.fetchOne(spaceId, environmentId, entryId).blockingFirst();
+    return service.fetchOne(spaceId, environmentId, entryId);
   }
 
   /**
@@ -313,6 +509,16 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
           String environmentId,
           String entryId,
           Integer maxDepth) {
+    return fetchReferencesRequest(service, spaceId, environmentId, entryId, maxDepth)
+        .blockingFirst();
+  }
+
+  private Flowable<CMAEntryReferences> fetchReferencesRequest(
+      ServiceEntries service,
+      String spaceId,
+      String environmentId,
+      String entryId,
+      Integer maxDepth) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     assertNotNull(entryId, "entryId");
@@ -322,7 +528,7 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
               "%s may not be less than 1 or bigger than 10.", "maxDepth"));
     }
 
-    return service.fetchReferences(spaceId, environmentId, entryId, maxDepth).blockingFirst();
+    return service.fetchReferences(spaceId, environmentId, entryId, maxDepth);
   }
 
   /**
@@ -335,6 +541,10 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if entry's space id is null.
    */
   public CMAEntry publish(CMAEntry entry) {
+    return publishRequest(service, entry).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> publishRequest(ServiceEntries service, CMAEntry entry) {
     assertNotNull(entry, "entry");
     final String entryId = getResourceIdOrThrow(entry, "entry");
     final String environmentId = entry.getEnvironmentId();
@@ -344,7 +554,7 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
         entry.getSystem().getVersion(),
         spaceId,
         environmentId,
-        entryId).blockingFirst();
+        entryId);
   }
 
   /**
@@ -357,12 +567,16 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if entry's space id is null.
    */
   public CMAEntry unArchive(CMAEntry entry) {
+    return unArchiveRequest(service, entry).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> unArchiveRequest(ServiceEntries service, CMAEntry entry) {
     assertNotNull(entry, "entry");
     final String entryId = getResourceIdOrThrow(entry, "entry");
     final String spaceId = getSpaceIdOrThrow(entry, "entry");
     final String environmentId = entry.getEnvironmentId();
 
-    return service.unArchive(spaceId, environmentId, entryId).blockingFirst();
+    return service.unArchive(spaceId, environmentId, entryId);
   }
 
   /**
@@ -375,12 +589,16 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if entry's space id is null.
    */
   public CMAEntry unPublish(CMAEntry entry) {
+    return unPublishRequest(service, entry).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> unPublishRequest(ServiceEntries service, CMAEntry entry) {
     assertNotNull(entry, "entry");
     final String entryId = getResourceIdOrThrow(entry, "entry");
     final String spaceId = getSpaceIdOrThrow(entry, "entry");
     final String environmentId = entry.getEnvironmentId();
 
-    return service.unPublish(spaceId, environmentId, entryId).blockingFirst();
+    return service.unPublish(spaceId, environmentId, entryId);
   }
 
   /**
@@ -392,21 +610,33 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if entry's id is null.
    * @throws IllegalArgumentException if entry's space id is null.
    * @throws IllegalArgumentException if entry's version is null.
+   * @see CMAClient.Builder#setEntryConflictResolver(EntryConflictResolver)
    */
-  public CMAEntry update(CMAEntry entry) {
+  public CMAEntry update(final CMAEntry entry) {
+    return updateRequest(service, entry).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> updateRequest(ServiceEntries service, CMAEntry entry) {
     assertNotNull(entry, "entry");
+    getResourceIdOrThrow(entry, "entry");
+    getSpaceIdOrThrow(entry, "entry");
+    getVersionOrThrow(entry, "update");
+
+    // without a merge, the local changes of an update are unknown and cannot be rebased.
+    final EntryConflictResolver.Merge merge =
+        conflictResolver == null ? null : conflictResolver.getMerge();
+    return resolveConflicts(service, entry, entry, 1,
+        target -> sendUpdate(service, target),
+        merge == null ? null : latest -> merge.merge(latest, entry));
+  }
+
+  private Flowable<CMAEntry> sendUpdate(ServiceEntries service, CMAEntry entry) {
     final String entryId = getResourceIdOrThrow(entry, "entry");
     final String spaceId = getSpaceIdOrThrow(entry, "entry");
     final String environmentId = entry.getEnvironmentId();
     final Integer version = getVersionOrThrow(entry, "update");
 
-    final CMASystem system = entry.getSystem();
-    entry.setSystem(null);
-    try {
-      return service.update(version, spaceId, environmentId, entryId, entry).blockingFirst();
-    } finally {
-      entry.setSystem(system);
-    }
+    return service.update(version, spaceId, environmentId, entryId, withoutSystem(entry));
   }
 
   /**
@@ -420,24 +650,143 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if entry's id is null.
    * @throws IllegalArgumentException if entry's space id is null.
    * @throws IllegalArgumentException if entry's version is null.
+   * @see CMAClient.Builder#setEntryConflictResolver(EntryConflictResolver)
    */
   public CMAEntry patch(CMAEntry entry, CMAEntryPatch patch) {
+    return patchRequest(service, entry, patch).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> patchRequest(
+      ServiceEntries service,
+      CMAEntry entry,
+      CMAEntryPatch patch) {
     assertNotNull(entry, "entry");
     assertNotNull(patch, "fieldsPatch");
+    getResourceIdOrThrow(entry, "entry");
+    getSpaceIdOrThrow(entry, "entry");
+    getVersionOrThrow(entry, "patch");
+
+    final List<CMAEntryJsonPatchItem> patchItems = patch.getFieldUpdates().stream()
+            .map(ModuleEntries::getCmaEntryJsonPatchItem)
+            .collect(Collectors.toList());
+
+    return patchItemsRequest(service, entry, patchItems);
+  }
+
+  /**
+   * Send the given operations as one patch, resolving conflicts like
+   * {@link #patch(CMAEntry, CMAEntryPatch)}.
+   */
+  CMAEntry patchItems(CMAEntry entry, List<CMAEntryJsonPatchItem> patchItems) {
+    return patchItemsRequest(service, entry, patchItems).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> patchItemsRequest(
+      ServiceEntries service,
+      CMAEntry entry,
+      List<CMAEntryJsonPatchItem> patchItems) {
+    // a patch only touches the fields it names, so it applies to the latest version unchanged.
+    return resolveConflicts(service, entry, entry, 1,
+        target -> sendPatch(service, target, patchItems),
+        latest -> latest);
+  }
+
+  /**
+   * Patch an Entry with the changes between two of its versions.
+   * <p>
+   * Instead of sending the whole entry like {@link #update(CMAEntry)}, only the changed fields,
+   * locales and parts of their values are sent.
+   *
+   * @param original the entry as it was fetched, its version is sent.
+   * @param modified the entry with local changes.
+   * @return {@link CMAEntry} result instance, or original if nothing changed.
+   * @throws IllegalArgumentException if original or modified is null.
+   * @throws IllegalArgumentException if original's id is null.
+   * @throws IllegalArgumentException if original's space id is null.
+   * @throws IllegalArgumentException if original's version is null.
+   * @see EntryPatchDiff#diff(CMAEntry, CMAEntry)
+   */
+  public CMAEntry patchChanges(CMAEntry original, CMAEntry modified) {
+    return patchChangesRequest(service, original, modified).blockingFirst();
+  }
+
+  private Flowable<CMAEntry> patchChangesRequest(
+      ServiceEntries service,
+      CMAEntry original,
+      CMAEntry modified) {
+    assertNotNull(original, "original");
+    assertNotNull(modified, "modified");
+    getResourceIdOrThrow(original, "original");
+    getSpaceIdOrThrow(original, "original");
+    getVersionOrThrow(original, "patch");
+
+    final List<CMAEntryJsonPatchItem> patchItems = EntryPatchDiff.diff(original, modified);
+    if (patchItems.isEmpty()) {
+      return Flowable.just(original);
+    }
+
+    return patchItemsRequest(service, original, patchItems);
+  }
+
+  private Flowable<CMAEntry> sendPatch(
+      ServiceEntries service,
+      CMAEntry entry,
+      List<CMAEntryJsonPatchItem> patchItems) {
     final String entryId = getResourceIdOrThrow(entry, "entry");
     final String spaceId = getSpaceIdOrThrow(entry, "entry");
     final String environmentId = entry.getEnvironmentId();
     final Integer version = getVersionOrThrow(entry, "patch");
 
-    List<CMAEntryJsonPatchItem> patchItems = patch.getFieldUpdates().stream()
-            .map(this::getCmaEntryJsonPatchItem)
-            .collect(Collectors.toList());
-    return service.patch(version, spaceId, environmentId, entryId, patchItems).blockingFirst();
+    return service.patch(version, spaceId, environmentId, entryId, patchItems);
+  }
+
+  /**
+   * Writes the given entry, and if a conflict resolver and a rebase are set, rebases it on the
+   * latest version as long as the write conflicts and attempts are left.
+   */
+  private Flowable<CMAEntry> resolveConflicts(
+      ServiceEntries service,
+      CMAEntry entry,
+      CMAEntry current,
+      int attempt,
+      Function<CMAEntry, Flowable<CMAEntry>> write,
+      UnaryOperator<CMAEntry> rebase) {
+    final EntryConflictResolver resolver = conflictResolver;
+    return write.apply(current)
+        .doOnNext(result -> {
+          if (attempt > 1) {
+            resolver.resolved();
+          }
+        })
+        .onErrorResumeNext((Throwable failure) -> {
+          if (resolver == null || rebase == null
+              || !isConflict(AsyncErrorInterceptor.unwrap(failure))) {
+            return Flowable.error(failure);
+          }
+          resolver.conflicted();
+          if (attempt >= resolver.getMaxAttempts()) {
+            resolver.exhausted();
+            return Flowable.error(failure);
+          }
+
+          return fetchOneRequest(service,
+              entry.getSpaceId(), entry.getEnvironmentId(), entry.getId())
+              .flatMap(latest -> resolveConflicts(
+                  service, entry, rebase.apply(latest), attempt + 1, write, rebase));
+        });
+  }
+
+  private static boolean isConflict(Throwable failure) {
+    return failure instanceof CMAHttpException
+        && ((CMAHttpException) failure).responseCode() == HTTP_CONFLICT;
   }
 
-  private CMAEntryJsonPatchItem getCmaEntryJsonPatchItem(CMAEntryFieldPatch fu) {
-    JsonPatchOperator operator = fu.getValue() != null ? ADD : REMOVE;
-    return new CMAEntryJsonPatchItem(operator, fu.getFieldPath(), fu.getValue());
+  static CMAEntryJsonPatchItem getCmaEntryJsonPatchItem(CMAEntryFieldPatch fu) {
+    JsonPatchOperator operator = fu.getOp();
+    if (operator == null) {
+      operator = fu.getValue() != null ? ADD : REMOVE;
+    }
+    return new CMAEntryJsonPatchItem(operator, fu.getFieldPath(), fu.getValue(), fu.getFrom());
   }
 
   /**
@@ -450,13 +799,19 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if entry's space id is null.
    */
   public CMAArray<CMASnapshot> fetchAllSnapshots(CMAEntry entry) {
+    return fetchAllSnapshotsRequest(service, entry).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMASnapshot>> fetchAllSnapshotsRequest(
+      ServiceEntries service,
+      CMAEntry entry) {
     assertNotNull(entry, "entry");
 
     final String entryId = getResourceIdOrThrow(entry, "entry");
     final String spaceId = getSpaceIdOrThrow(entry, "entry");
     final String environmentId = entry.getEnvironmentId();
 
-    return service.fetchAllSnapshots(spaceId, environmentId, entryId).blockingFirst();
+    return service.fetchAllSnapshots(spaceId, environmentId, entryId);
   }
 
   /**
@@ -471,6 +826,13 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
    * @throws IllegalArgumentException if snapshotId is null.
    */
   public CMASnapshot fetchOneSnapshot(CMAEntry entry, String snapshotId) {
+    return fetchOneSnapshotRequest(service, entry, snapshotId).blockingFirst();
+  }
+
+  private Flowable<CMASnapshot> fetchOneSnapshotRequest(
+      ServiceEntries service,
+      CMAEntry entry,
+      String snapshotId) {
     assertNotNull(entry, "entry");
     assertNotNull(snapshotId, "snapshotId");
 
@@ -478,7 +840,14 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
     final String spaceId = getSpaceIdOrThrow(entry, "entry");
     final String environmentId = entry.getEnvironmentId();
 
-    return service.fetchOneSnapshot(spaceId, environmentId, entryId, snapshotId).blockingFirst();
+    return service.fetchOneSnapshot(spaceId, environmentId, entryId, snapshotId);
+  }
+
+  /**
+   * @return a new set of methods acting on many entries at once.
+   */
+  public Bulk bulk() {
+    return new Bulk();
   }
 
   /**
@@ -488,6 +857,20 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -851,6 +1234,27 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
       }, callback);
     }
 
+    /**
+     * Patch an Entry with the changes between two of its versions.
+     *
+     * @param original the entry as it was fetched.
+     * @param modified the entry with local changes.
+     * @param callback Callback
+     * @return the given CMACallback instance
+     * @see ModuleEntries#patchChanges(CMAEntry, CMAEntry)
+     */
+    public CMACallback<CMAEntry> patchChanges(
+            final CMAEntry original,
+            final CMAEntry modified,
+            CMACallback<CMAEntry> callback
+    ) {
+      return defer(new RxExtensions.DefFunc<CMAEntry>() {
+        @Override CMAEntry method() {
+          return ModuleEntries.this.patchChanges(original, modified);
+        }
+      }, callback);
+    }
+
 
     /**
      * Fetch all snapshots of an entry.
@@ -895,4 +1299,532 @@ public class ModuleEntries extends AbsModule<ServiceEntries> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Other than the {@link Async} methods, no thread waits for the response: requests are
+   * enqueued to the call factory of the client, and its dispatcher completes the futures. Their
+   * dependent stages run on the threads of that dispatcher, unless an executor is given.
+   * Cancelling a future cancels its request.
+   * <p>
+   * Arguments are validated right away, failures of the requests complete the futures
+   * exceptionally, for example with a {@link CMAHttpException}.
+   */
+  public class Futures {
+    /**
+     * @param entry the entry to be archived.
+     * @return a future of the archived entry.
+     * @see ModuleEntries#archive(CMAEntry)
+     */
+    public CompletableFuture<CMAEntry> archive(CMAEntry entry) {
+      return toFuture(archiveRequest(asyncService, entry));
+    }
+
+    /**
+     * @param contentTypeId the content type of the entry.
+     * @param entry         the entry to be created in the configured space and environment.
+     * @return a future of the created entry.
+     * @see ModuleEntries#create(String, CMAEntry)
+     */
+    public CompletableFuture<CMAEntry> create(String contentTypeId, CMAEntry entry) {
+      return create(spaceId, environmentId, contentTypeId, entry);
+    }
+
+    /**
+     * @param spaceId       the space to create the entry in.
+     * @param environmentId the environment to create the entry in.
+     * @param contentTypeId the content type of the entry.
+     * @param entry         the entry to be created.
+     * @return a future of the created entry.
+     * @see ModuleEntries#create(String, String, String, CMAEntry)
+     */
+    public CompletableFuture<CMAEntry> create(
+        String spaceId,
+        String environmentId,
+        String contentTypeId,
+        CMAEntry entry) {
+      return toFuture(createRequest(asyncService, spaceId, environmentId, contentTypeId, entry));
+    }
+
+    /**
+     * @param entry the entry to be deleted.
+     * @return a future of the response code.
+     * @see ModuleEntries#delete(CMAEntry)
+     */
+    public CompletableFuture<Integer> delete(CMAEntry entry) {
+      return toFuture(deleteRequest(asyncService, entry));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of the matching entries of the configured space and environment.
+     * @see ModuleEntries#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMAEntry>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a future of the matching entries.
+     * @see ModuleEntries#fetchAll(String, String, Map)
+     */
+    public CompletableFuture<CMAArray<CMAEntry>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param entryId the entry to be fetched from the configured space and environment.
+     * @return a future of the entry.
+     * @see ModuleEntries#fetchOne(String)
+     */
+    public CompletableFuture<CMAEntry> fetchOne(String entryId) {
+      return fetchOne(spaceId, environmentId, entryId);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param entryId       the entry to be fetched.
+     * @return a future of the entry.
+     * @see ModuleEntries#fetchOne(String, String, String)
+     */
+    public CompletableFuture<CMAEntry> fetchOne(
+        String spaceId,
+        String environmentId,
+        String entryId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, environmentId, entryId));
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param entryId       the entry whose references to be fetched.
+     * @param maxDepth      the levels of descendants, from 1 up to 10.
+     * @return a future of the references.
+     * @see ModuleEntries#fetchReferences(String, String, String, Integer)
+     */
+    public CompletableFuture<CMAEntryReferences> fetchReferences(
+        String spaceId,
+        String environmentId,
+        String entryId,
+        Integer maxDepth) {
+      return toFuture(
+          fetchReferencesRequest(asyncService, spaceId, environmentId, entryId, maxDepth));
+    }
+
+    /**
+     * @param entry the entry to be published.
+     * @return a future of the published entry.
+     * @see ModuleEntries#publish(CMAEntry)
+     */
+    public CompletableFuture<CMAEntry> publish(CMAEntry entry) {
+      return toFuture(publishRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry the entry to be un-archived.
+     * @return a future of the un-archived entry.
+     * @see ModuleEntries#unArchive(CMAEntry)
+     */
+    public CompletableFuture<CMAEntry> unArchive(CMAEntry entry) {
+      return toFuture(unArchiveRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry the entry to be un-published.
+     * @return a future of the un-published entry.
+     * @see ModuleEntries#unPublish(CMAEntry)
+     */
+    public CompletableFuture<CMAEntry> unPublish(CMAEntry entry) {
+      return toFuture(unPublishRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry the entry to be updated, with its version.
+     * @return a future of the updated entry.
+     * @see ModuleEntries#update(CMAEntry)
+     */
+    public CompletableFuture<CMAEntry> update(CMAEntry entry) {
+      return toFuture(updateRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry the entry to be patched, with its version.
+     * @param patch the operations to be applied.
+     * @return a future of the patched entry.
+     * @see ModuleEntries#patch(CMAEntry, CMAEntryPatch)
+     */
+    public CompletableFuture<CMAEntry> patch(CMAEntry entry, CMAEntryPatch patch) {
+      return toFuture(patchRequest(asyncService, entry, patch));
+    }
+
+    /**
+     * @param original the entry as it was fetched, with its version.
+     * @param modified the entry with local changes.
+     * @return a future of the patched entry, or of original if nothing changed.
+     * @see ModuleEntries#patchChanges(CMAEntry, CMAEntry)
+     */
+    public CompletableFuture<CMAEntry> patchChanges(CMAEntry original, CMAEntry modified) {
+      return toFuture(patchChangesRequest(asyncService, original, modified));
+    }
+
+    /**
+     * @param entry the entry whose snapshots to be fetched.
+     * @return a future of the snapshots.
+     * @see ModuleEntries#fetchAllSnapshots(CMAEntry)
+     */
+    public CompletableFuture<CMAArray<CMASnapshot>> fetchAllSnapshots(CMAEntry entry) {
+      return toFuture(fetchAllSnapshotsRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry      the entry whose snapshot to be fetched.
+     * @param snapshotId the snapshot to be fetched.
+     * @return a future of the snapshot.
+     * @see ModuleEntries#fetchOneSnapshot(CMAEntry, String)
+     */
+    public CompletableFuture<CMASnapshot> fetchOneSnapshot(CMAEntry entry, String snapshotId) {
+      return toFuture(fetchOneSnapshotRequest(asyncService, entry, snapshotId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s and {@link Flowable}s, sent once subscribed to. Like
+   * the {@link Futures} methods, requests are enqueued to the call factory of the client, so no
+   * thread waits for their responses. Results are emitted on the threads of its dispatcher,
+   * unless a scheduler to observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @param entry the entry to be archived.
+     * @return a single emitting the archived entry.
+     * @see ModuleEntries#archive(CMAEntry)
+     */
+    public Single<CMAEntry> archive(CMAEntry entry) {
+      return single(archiveRequest(asyncService, entry));
+    }
+
+    /**
+     * @param contentTypeId the content type of the entry.
+     * @param entry         the entry to be created in the configured space and environment.
+     * @return a single emitting the created entry.
+     * @see ModuleEntries#create(String, CMAEntry)
+     */
+    public Single<CMAEntry> create(String contentTypeId, CMAEntry entry) {
+      return create(spaceId, environmentId, contentTypeId, entry);
+    }
+
+    /**
+     * @param spaceId       the space to create the entry in.
+     * @param environmentId the environment to create the entry in.
+     * @param contentTypeId the content type of the entry.
+     * @param entry         the entry to be created.
+     * @return a single emitting the created entry.
+     * @see ModuleEntries#create(String, String, String, CMAEntry)
+     */
+    public Single<CMAEntry> create(
+        String spaceId,
+        String environmentId,
+        String contentTypeId,
+        CMAEntry entry) {
+      return single(createRequest(asyncService, spaceId, environmentId, contentTypeId, entry));
+    }
+
+    /**
+     * @param entry the entry to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleEntries#delete(CMAEntry)
+     */
+    public Single<Integer> delete(CMAEntry entry) {
+      return single(deleteRequest(asyncService, entry));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting the matching entries of the configured space and environment.
+     * @see ModuleEntries#fetchAll(Map)
+     */
+    public Single<CMAArray<CMAEntry>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a single emitting the matching entries.
+     * @see ModuleEntries#fetchAll(String, String, Map)
+     */
+    public Single<CMAArray<CMAEntry>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param entryId the entry to be fetched from the configured space and environment.
+     * @return a single emitting the entry.
+     * @see ModuleEntries#fetchOne(String)
+     */
+    public Single<CMAEntry> fetchOne(String entryId) {
+      return fetchOne(spaceId, environmentId, entryId);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param entryId       the entry to be fetched.
+     * @return a single emitting the entry.
+     * @see ModuleEntries#fetchOne(String, String, String)
+     */
+    public Single<CMAEntry> fetchOne(
+        String spaceId,
+        String environmentId,
+        String entryId) {
+      return single(fetchOneRequest(asyncService, spaceId, environmentId, entryId));
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param entryId       the entry whose references to be fetched.
+     * @param maxDepth      the levels of descendants, from 1 up to 10.
+     * @return a single emitting the references.
+     * @see ModuleEntries#fetchReferences(String, String, String, Integer)
+     */
+    public Single<CMAEntryReferences> fetchReferences(
+        String spaceId,
+        String environmentId,
+        String entryId,
+        Integer maxDepth) {
+      return single(
+          fetchReferencesRequest(asyncService, spaceId, environmentId, entryId, maxDepth));
+    }
+
+    /**
+     * @param entry the entry to be published.
+     * @return a single emitting the published entry.
+     * @see ModuleEntries#publish(CMAEntry)
+     */
+    public Single<CMAEntry> publish(CMAEntry entry) {
+      return single(publishRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry the entry to be un-archived.
+     * @return a single emitting the un-archived entry.
+     * @see ModuleEntries#unArchive(CMAEntry)
+     */
+    public Single<CMAEntry> unArchive(CMAEntry entry) {
+      return single(unArchiveRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry the entry to be un-published.
+     * @return a single emitting the un-published entry.
+     * @see ModuleEntries#unPublish(CMAEntry)
+     */
+    public Single<CMAEntry> unPublish(CMAEntry entry) {
+      return single(unPublishRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry the entry to be updated, with its version.
+     * @return a single emitting the updated entry.
+     * @see ModuleEntries#update(CMAEntry)
+     */
+    public Single<CMAEntry> update(CMAEntry entry) {
+      return single(updateRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry the entry to be patched, with its version.
+     * @param patch the operations to be applied.
+     * @return a single emitting the patched entry.
+     * @see ModuleEntries#patch(CMAEntry, CMAEntryPatch)
+     */
+    public Single<CMAEntry> patch(CMAEntry entry, CMAEntryPatch patch) {
+      return single(patchRequest(asyncService, entry, patch));
+    }
+
+    /**
+     * @param original the entry as it was fetched, with its version.
+     * @param modified the entry with local changes.
+     * @return a single emitting the patched entry, or original if nothing changed.
+     * @see ModuleEntries#patchChanges(CMAEntry, CMAEntry)
+     */
+    public Single<CMAEntry> patchChanges(CMAEntry original, CMAEntry modified) {
+      return single(patchChangesRequest(asyncService, original, modified));
+    }
+
+    /**
+     * @param entry the entry whose snapshots to be fetched.
+     * @return a single emitting the snapshots.
+     * @see ModuleEntries#fetchAllSnapshots(CMAEntry)
+     */
+    public Single<CMAArray<CMASnapshot>> fetchAllSnapshots(CMAEntry entry) {
+      return single(fetchAllSnapshotsRequest(asyncService, entry));
+    }
+
+    /**
+     * @param entry      the entry whose snapshot to be fetched.
+     * @param snapshotId the snapshot to be fetched.
+     * @return a single emitting the snapshot.
+     * @see ModuleEntries#fetchOneSnapshot(CMAEntry, String)
+     */
+    public Single<CMASnapshot> fetchOneSnapshot(CMAEntry entry, String snapshotId) {
+      return single(fetchOneSnapshotRequest(asyncService, entry, snapshotId));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a flowable emitting all matching entries of the configured space and
+     * environment.
+     * @see #stream(String, String, Map)
+     */
+    public Flowable<CMAEntry> stream(Map<String, String> query) {
+      return stream(spaceId, environmentId, query);
+    }
+
+    /**
+     * Emit all matching entries, requesting one page after the other as they are consumed.
+     *
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on. A limit is used as the page size, a skip
+     *                      as the starting offset.
+     * @return a flowable emitting all matching entries.
+     * @throws IllegalArgumentException if spaceId, environmentId or query is null.
+     * @see ModuleEntries#stream(String, String, Map)
+     */
+    public Flowable<CMAEntry> stream(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      assertNotNull(spaceId, "spaceId");
+      assertNotNull(environmentId, "environmentId");
+      assertNotNull(query, "query");
+
+      return schedule(
+          PagedIterator.flowable(
+              pageQuery -> asyncService.fetchAll(spaceId, environmentId, pageQuery),
+              query),
+          subscribeOn,
+          observeOn);
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
+
+  /**
+   * Bulk module.
+   * <p>
+   * Acts on many entries at once, spread over a pool of worker threads. A failing entry does
+   * not stop the others, its exception is reported in the {@link BulkResult} instead. Requests
+   * wait while the rate limits of the client have no requests left for the current second.
+   */
+  public class Bulk {
+    private int concurrency = DEFAULT_BULK_CONCURRENCY;
+
+    /**
+     * Set how many entries are acted on at the same time.
+     *
+     * @param concurrency the number of worker threads.
+     * @return this module for chaining.
+     * @throws IllegalArgumentException if concurrency is less than one.
+     */
+    public Bulk setConcurrency(int concurrency) {
+      if (concurrency < 1) {
+        throw new IllegalArgumentException("concurrency may not be less than one.");
+      }
+      this.concurrency = concurrency;
+      return this;
+    }
+
+    /**
+     * Publish all given entries.
+     *
+     * @param entries the entries to be published, each with its id, space and version.
+     * @return the outcome per entry.
+     * @throws IllegalArgumentException if entries is null.
+     */
+    public BulkResult<CMAEntry> publish(Collection<CMAEntry> entries) {
+      return bulk(entries, concurrency, ModuleEntries.this::publish);
+    }
+
+    /**
+     * Un-publish all given entries.
+     *
+     * @param entries the entries to be un-published, each with its id and space.
+     * @return the outcome per entry.
+     * @throws IllegalArgumentException if entries is null.
+     */
+    public BulkResult<CMAEntry> unPublish(Collection<CMAEntry> entries) {
+      return bulk(entries, concurrency, ModuleEntries.this::unPublish);
+    }
+
+    /**
+     * Archive all given entries.
+     *
+     * @param entries the entries to be archived, each with its id and space.
+     * @return the outcome per entry.
+     * @throws IllegalArgumentException if entries is null.
+     */
+    public BulkResult<CMAEntry> archive(Collection<CMAEntry> entries) {
+      return bulk(entries, concurrency, ModuleEntries.this::archive);
+    }
+
+    /**
+     * Un-archive all given entries.
+     *
+     * @param entries the entries to be un-archived, each with its id and space.
+     * @return the outcome per entry.
+     * @throws IllegalArgumentException if entries is null.
+     */
+    public BulkResult<CMAEntry> unArchive(Collection<CMAEntry> entries) {
+      return bulk(entries, concurrency, ModuleEntries.this::unArchive);
+    }
+  }
 }
@@ -19,9 +19,15 @@ package com.contentful.java.cma;
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
 import com.contentful.java.cma.model.CMAEnvironment;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMASystem;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 /**
@@ -163,6 +169,10 @@ public class ModuleEnvironments extends AbsModule<ServiceEnvironments> {
    * @throws IllegalArgumentException if environment's version is null.
    */
   public Integer delete(CMAEnvironment environment) {
+    return deleteRequest(service, environment).blockingFirst();
+  }
+
+  private Flowable<Integer> deleteRequest(ServiceEnvironments service, CMAEnvironment environment) {
     assertNotNull(environment.getSpaceId(), "spaceId");
     assertNotNull(environment.getId(), "environmentId");
 
@@ -170,7 +180,7 @@ public class ModuleEnvironments extends AbsModule<ServiceEnvironments> {
         getVersionOrThrow(environment, "version"),
         environment.getSpaceId(),
         environment.getId()
-    ).blockingFirst().code();
+    ).map(Response::code);
   }
 
   /**
@@ -195,8 +205,14 @@ public class ModuleEnvironments extends AbsModule<ServiceEnvironments> {
    * @throws IllegalArgumentException if environment's space id is null.
    */
   public CMAArray<CMAEnvironment> fetchAll(String spaceId) {
+    return fetchAllRequest(service, spaceId).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAEnvironment>> fetchAllRequest(
+      ServiceEnvironments service,
+      String spaceId) {
     assertNotNull(spaceId, "spaceId");
-    return service.fetchAll(spaceId).blockingFirst();
+    return service.fetchAll(spaceId);
   }
 
   /**
@@ -225,9 +241,16 @@ public class ModuleEnvironments extends AbsModule<ServiceEnvironments> {
    * @throws IllegalArgumentException if environment's id is null.
    */
   public CMAEnvironment fetchOne(String spaceId, String environmentId) {
+    return fetchOneRequest(service, spaceId, environmentId).blockingFirst();
+  }
+
+  private Flowable<CMAEnvironment> fetchOneRequest(
+      ServiceEnvironments service,
+      String spaceId,
+      String environmentId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
-    return service.fetchOne(spaceId, environmentId).blockingFirst();
+    return service.fetchOne(spaceId, environmentId);
   }
 
   /**
@@ -271,6 +294,20 @@ public class ModuleEnvironments extends AbsModule<ServiceEnvironments> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -506,4 +543,152 @@ public class ModuleEnvironments extends AbsModule<ServiceEnvironments> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Creating, cloning and updating are not offered yet, they detach the system properties of
+   * the environment while the request is sent.
+   */
+  public class Futures {
+    /**
+     * @param environment the environment to be deleted.
+     * @return a future of the response code.
+     * @see ModuleEnvironments#delete(CMAEnvironment)
+     */
+    public CompletableFuture<Integer> delete(CMAEnvironment environment) {
+      return toFuture(deleteRequest(asyncService, environment));
+    }
+
+    /**
+     * @return a future of all environments of the configured space.
+     * @see ModuleEnvironments#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMAEnvironment>> fetchAll() {
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a future of all environments of the space.
+     * @see ModuleEnvironments#fetchAll(String)
+     */
+    public CompletableFuture<CMAArray<CMAEnvironment>> fetchAll(String spaceId) {
+      return toFuture(fetchAllRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param environmentId the id of the environment in the configured space.
+     * @return a future of the environment.
+     * @see ModuleEnvironments#fetchOne(String)
+     */
+    public CompletableFuture<CMAEnvironment> fetchOne(String environmentId) {
+      return fetchOne(spaceId, environmentId);
+    }
+
+    /**
+     * @param spaceId       the space of the environment.
+     * @param environmentId the id of the environment.
+     * @return a future of the environment.
+     * @see ModuleEnvironments#fetchOne(String, String)
+     */
+    public CompletableFuture<CMAEnvironment> fetchOne(String spaceId, String environmentId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, environmentId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Creating, cloning and updating are not offered yet, they detach the system properties of
+   * the environment while the request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @param environment the environment to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleEnvironments#delete(CMAEnvironment)
+     */
+    public Single<Integer> delete(CMAEnvironment environment) {
+      return single(deleteRequest(asyncService, environment));
+    }
+
+    /**
+     * @return a single emitting all environments of the configured space.
+     * @see ModuleEnvironments#fetchAll()
+     */
+    public Single<CMAArray<CMAEnvironment>> fetchAll() {
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a single emitting all environments of the space.
+     * @see ModuleEnvironments#fetchAll(String)
+     */
+    public Single<CMAArray<CMAEnvironment>> fetchAll(String spaceId) {
+      return single(fetchAllRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param environmentId the id of the environment in the configured space.
+     * @return a single emitting the environment.
+     * @see ModuleEnvironments#fetchOne(String)
+     */
+    public Single<CMAEnvironment> fetchOne(String environmentId) {
+      return fetchOne(spaceId, environmentId);
+    }
+
+    /**
+     * @param spaceId       the space of the environment.
+     * @param environmentId the id of the environment.
+     * @return a single emitting the environment.
+     * @see ModuleEnvironments#fetchOne(String, String)
+     */
+    public Single<CMAEnvironment> fetchOne(String spaceId, String environmentId) {
+      return single(fetchOneRequest(asyncService, spaceId, environmentId));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
@@ -2,13 +2,18 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMALocale;
 import com.contentful.java.cma.model.CMASystem;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 /**
@@ -55,6 +60,20 @@ public class ModuleLocales extends AbsModule<ServiceLocales> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Fetch all locales of the configured space.
    *
@@ -98,10 +117,17 @@ public class ModuleLocales extends AbsModule<ServiceLocales> {
    * @throws IllegalArgumentException if environmentId is null.
    */
   public CMAArray<CMALocale> fetchAll(String spaceId, String environmentId) {
+    return fetchAllRequest(service, spaceId, environmentId).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMALocale>> fetchAllRequest(
+      ServiceLocales service,
+      String spaceId,
+      String environmentId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
 
-    return service.fetchAll(spaceId, environmentId, new HashMap<>()).blockingFirst();
+    return service.fetchAll(spaceId, environmentId, new HashMap<>());
   }
 
   /**
@@ -118,12 +144,20 @@ public class ModuleLocales extends AbsModule<ServiceLocales> {
           String spaceId,
           String environmentId,
           Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, environmentId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMALocale>> fetchAllRequest(
+      ServiceLocales service,
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
 
     Map<String, String> enhancedQuery =
             DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
-    return service.fetchAll(spaceId, environmentId, enhancedQuery).blockingFirst();
+    return service.fetchAll(spaceId, environmentId, enhancedQuery);
   }
 
   /**
@@ -156,11 +190,19 @@ public class ModuleLocales extends AbsModule<ServiceLocales> {
    * @throws IllegalArgumentException if locale id is null.
    */
   public CMALocale fetchOne(String spaceId, String environmentId, String localeId) {
+    return fetchOneRequest(service, spaceId, environmentId, localeId).blockingFirst();
+  }
+
+  private Flowable<CMALocale> fetchOneRequest(
+      ServiceLocales service,
+      String spaceId,
+      String environmentId,
+      String localeId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     assertNotNull(localeId, "localeId");
 
-    return service.fetchOne(spaceId, environmentId, localeId).blockingFirst();
+    return service.fetchOne(spaceId, environmentId, localeId);
   }
 
   /**
@@ -477,4 +519,190 @@ public class ModuleLocales extends AbsModule<ServiceLocales> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Creating, updating and deleting are not offered yet, they detach the system properties of
+   * the locale while the request is sent.
+   */
+  public class Futures {
+    /**
+     * @return a future of all locales of the configured space and environment.
+     * @see ModuleLocales#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMALocale>> fetchAll() {
+      return fetchAll(spaceId, environmentId);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of all matching locales of the configured space and environment.
+     * @see ModuleLocales#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMALocale>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @return a future of all locales.
+     * @see ModuleLocales#fetchAll(String, String)
+     */
+    public CompletableFuture<CMAArray<CMALocale>> fetchAll(String spaceId, String environmentId) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, environmentId));
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a future of all matching locales.
+     * @see ModuleLocales#fetchAll(String, String, Map)
+     */
+    public CompletableFuture<CMAArray<CMALocale>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param localeId the id of the locale in the configured space and environment.
+     * @return a future of the locale.
+     * @see ModuleLocales#fetchOne(String)
+     */
+    public CompletableFuture<CMALocale> fetchOne(String localeId) {
+      return fetchOne(spaceId, environmentId, localeId);
+    }
+
+    /**
+     * @param spaceId       the space of the locale.
+     * @param environmentId the environment of the locale.
+     * @param localeId      the id of the locale.
+     * @return a future of the locale.
+     * @see ModuleLocales#fetchOne(String, String, String)
+     */
+    public CompletableFuture<CMALocale> fetchOne(
+        String spaceId,
+        String environmentId,
+        String localeId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, environmentId, localeId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Creating, updating and deleting are not offered yet, they detach the system properties of
+   * the locale while the request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a single emitting all locales of the configured space and environment.
+     * @see ModuleLocales#fetchAll()
+     */
+    public Single<CMAArray<CMALocale>> fetchAll() {
+      return fetchAll(spaceId, environmentId);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting all matching locales of the configured space and environment.
+     * @see ModuleLocales#fetchAll(Map)
+     */
+    public Single<CMAArray<CMALocale>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @return a single emitting all locales.
+     * @see ModuleLocales#fetchAll(String, String)
+     */
+    public Single<CMAArray<CMALocale>> fetchAll(String spaceId, String environmentId) {
+      return single(fetchAllRequest(asyncService, spaceId, environmentId));
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a single emitting all matching locales.
+     * @see ModuleLocales#fetchAll(String, String, Map)
+     */
+    public Single<CMAArray<CMALocale>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param localeId the id of the locale in the configured space and environment.
+     * @return a single emitting the locale.
+     * @see ModuleLocales#fetchOne(String)
+     */
+    public Single<CMALocale> fetchOne(String localeId) {
+      return fetchOne(spaceId, environmentId, localeId);
+    }
+
+    /**
+     * @param spaceId       the space of the locale.
+     * @param environmentId the environment of the locale.
+     * @param localeId      the id of the locale.
+     * @return a single emitting the locale.
+     * @see ModuleLocales#fetchOne(String, String, String)
+     */
+    public Single<CMALocale> fetchOne(
+        String spaceId,
+        String environmentId,
+        String localeId) {
+      return single(fetchOneRequest(asyncService, spaceId, environmentId, localeId));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
@@ -18,11 +18,16 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMAOrganization;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Retrofit;
 
 /**
@@ -56,7 +61,7 @@ public class ModuleOrganizations extends AbsModule<ServiceOrganizations> {
    * @return {@link CMAOrganization} result instance
    */
   public CMAArray<CMAOrganization> fetchAll() {
-    return service.fetchAll().blockingFirst();
+    return fetchAll(null);
   }
 
   /**
@@ -66,10 +71,16 @@ public class ModuleOrganizations extends AbsModule<ServiceOrganizations> {
    * @return {@link CMAOrganization} result instance
    */
   public CMAArray<CMAOrganization> fetchAll(Map<String, String> query) {
+    return fetchAllRequest(service, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAOrganization>> fetchAllRequest(
+      ServiceOrganizations service,
+      Map<String, String> query) {
     if (query == null) {
-      return service.fetchAll().blockingFirst();
+      return service.fetchAll();
     } else {
-      return service.fetchAll(query).blockingFirst();
+      return service.fetchAll(query);
     }
   }
 
@@ -80,6 +91,20 @@ public class ModuleOrganizations extends AbsModule<ServiceOrganizations> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -116,4 +141,90 @@ public class ModuleOrganizations extends AbsModule<ServiceOrganizations> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   */
+  public class Futures {
+    /**
+     * @return a future of all organizations the token has access to.
+     * @see ModuleOrganizations#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMAOrganization>> fetchAll() {
+      return fetchAll(null);
+    }
+
+    /**
+     * @param query the criteria to narrow down the search result.
+     * @return a future of the matching organizations.
+     * @see ModuleOrganizations#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMAOrganization>> fetchAll(Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, query));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a single emitting all organizations the token has access to.
+     * @see ModuleOrganizations#fetchAll()
+     */
+    public Single<CMAArray<CMAOrganization>> fetchAll() {
+      return fetchAll(null);
+    }
+
+    /**
+     * @param query the criteria to narrow down the search result.
+     * @return a single emitting the matching organizations.
+     * @see ModuleOrganizations#fetchAll(Map)
+     */
+    public Single<CMAArray<CMAOrganization>> fetchAll(Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, query));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
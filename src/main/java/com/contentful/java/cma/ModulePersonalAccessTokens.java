@@ -18,12 +18,17 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMAPersonalAccessToken;
 import com.contentful.java.cma.model.CMASystem;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Retrofit;
 
 /**
@@ -63,10 +68,16 @@ public class ModulePersonalAccessTokens extends AbsModule<ServicePersonalAccessT
    * @return a list of specific personal access tokens.
    */
   public CMAArray<CMAPersonalAccessToken> fetchAll(Map<String, String> query) {
+    return fetchAllRequest(service, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAPersonalAccessToken>> fetchAllRequest(
+      ServicePersonalAccessTokens service,
+      Map<String, String> query) {
     if (query == null) {
-      return service.fetchAll().blockingFirst();
+      return service.fetchAll();
     } else {
-      return service.fetchAll(query).blockingFirst();
+      return service.fetchAll(query);
     }
   }
 
@@ -116,6 +127,20 @@ public class ModulePersonalAccessTokens extends AbsModule<ServicePersonalAccessT
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -203,4 +228,134 @@ public class ModulePersonalAccessTokens extends AbsModule<ServicePersonalAccessT
       }, callback);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Creating is not offered yet, it detaches the system properties of the token while the
+   * request is sent.
+   */
+  public class Futures {
+    /**
+     * @return a future of all personal access tokens.
+     * @see ModulePersonalAccessTokens#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMAPersonalAccessToken>> fetchAll() {
+      return toFuture(asyncService.fetchAll());
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of the matching personal access tokens.
+     * @see ModulePersonalAccessTokens#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMAPersonalAccessToken>> fetchAll(
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, query));
+    }
+
+    /**
+     * @param tokenId the id of the token to be fetched.
+     * @return a future of the personal access token.
+     * @see ModulePersonalAccessTokens#fetchOne(String)
+     */
+    public CompletableFuture<CMAPersonalAccessToken> fetchOne(String tokenId) {
+      return toFuture(asyncService.fetchOne(tokenId));
+    }
+
+    /**
+     * @param token the token to be revoked.
+     * @return a future of the revoked personal access token.
+     * @see ModulePersonalAccessTokens#revoke(CMAPersonalAccessToken)
+     */
+    public CompletableFuture<CMAPersonalAccessToken> revoke(CMAPersonalAccessToken token) {
+      return toFuture(asyncService.revoke(token.getId()));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Creating is not offered yet, it detaches the system properties of the token while the
+   * request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a single emitting all personal access tokens.
+     * @see ModulePersonalAccessTokens#fetchAll()
+     */
+    public Single<CMAArray<CMAPersonalAccessToken>> fetchAll() {
+      return single(asyncService.fetchAll());
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting the matching personal access tokens.
+     * @see ModulePersonalAccessTokens#fetchAll(Map)
+     */
+    public Single<CMAArray<CMAPersonalAccessToken>> fetchAll(
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, query));
+    }
+
+    /**
+     * @param tokenId the id of the token to be fetched.
+     * @return a single emitting the personal access token.
+     * @see ModulePersonalAccessTokens#fetchOne(String)
+     */
+    public Single<CMAPersonalAccessToken> fetchOne(String tokenId) {
+      return single(asyncService.fetchOne(tokenId));
+    }
+
+    /**
+     * @param token the token to be revoked.
+     * @return a single emitting the revoked personal access token.
+     * @see ModulePersonalAccessTokens#revoke(CMAPersonalAccessToken)
+     */
+    public Single<CMAPersonalAccessToken> revoke(CMAPersonalAccessToken token) {
+      return single(asyncService.revoke(token.getId()));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
+}
@@ -18,11 +18,16 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMANotWithEnvironmentsException;
 import com.contentful.java.cma.model.CMAPreviewApiKey;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Retrofit;
 
 /**
@@ -80,8 +85,14 @@ public class ModulePreviewApiKeys extends AbsModule<ServicePreviewApiKeys> {
    * @throws IllegalArgumentException if spaceId is null.
    */
   public CMAArray<CMAPreviewApiKey> fetchAll(String spaceId) {
+    return fetchAllRequest(service, spaceId).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAPreviewApiKey>> fetchAllRequest(
+      ServicePreviewApiKeys service,
+      String spaceId) {
     assertNotNull(spaceId, "spaceId");
-    return service.fetchAll(spaceId).blockingFirst();
+    return service.fetchAll(spaceId);
   }
 
   /**
@@ -117,10 +128,17 @@ public class ModulePreviewApiKeys extends AbsModule<ServicePreviewApiKeys> {
    * @throws IllegalArgumentException if keyId is null.
    */
   public CMAPreviewApiKey fetchOne(String spaceId, String keyId) {
+    return fetchOneRequest(service, spaceId, keyId).blockingFirst();
+  }
+
+  private Flowable<CMAPreviewApiKey> fetchOneRequest(
+      ServicePreviewApiKeys service,
+      String spaceId,
+      String keyId) {
     assertNotNull(spaceId, "entry");
     assertNotNull(keyId, "keyId");
 
-    return service.fetchOne(spaceId, keyId).blockingFirst();
+    return service.fetchOne(spaceId, keyId);
   }
 
   /**
@@ -130,6 +148,20 @@ public class ModulePreviewApiKeys extends AbsModule<ServicePreviewApiKeys> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -212,4 +244,134 @@ public class ModulePreviewApiKeys extends AbsModule<ServicePreviewApiKeys> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   */
+  public class Futures {
+    /**
+     * @return a future of all preview api keys of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModulePreviewApiKeys#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMAPreviewApiKey>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the id of the space to host the api keys.
+     * @return a future of all preview api keys of the space.
+     * @see ModulePreviewApiKeys#fetchAll(String)
+     */
+    public CompletableFuture<CMAArray<CMAPreviewApiKey>> fetchAll(String spaceId) {
+      return toFuture(fetchAllRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param keyId the id of the key in the configured space.
+     * @return a future of the preview api key.
+     * @see ModulePreviewApiKeys#fetchOne(String)
+     */
+    public CompletableFuture<CMAPreviewApiKey> fetchOne(String keyId) {
+      return fetchOne(spaceId, keyId);
+    }
+
+    /**
+     * @param spaceId the id of the space this is valid on.
+     * @param keyId   the id of the key itself.
+     * @return a future of the preview api key.
+     * @see ModulePreviewApiKeys#fetchOne(String, String)
+     */
+    public CompletableFuture<CMAPreviewApiKey> fetchOne(String spaceId, String keyId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, keyId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a single emitting all preview api keys of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModulePreviewApiKeys#fetchAll()
+     */
+    public Single<CMAArray<CMAPreviewApiKey>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the id of the space to host the api keys.
+     * @return a single emitting all preview api keys of the space.
+     * @see ModulePreviewApiKeys#fetchAll(String)
+     */
+    public Single<CMAArray<CMAPreviewApiKey>> fetchAll(String spaceId) {
+      return single(fetchAllRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param keyId the id of the key in the configured space.
+     * @return a single emitting the preview api key.
+     * @see ModulePreviewApiKeys#fetchOne(String)
+     */
+    public Single<CMAPreviewApiKey> fetchOne(String keyId) {
+      return fetchOne(spaceId, keyId);
+    }
+
+    /**
+     * @param spaceId the id of the space this is valid on.
+     * @param keyId   the id of the key itself.
+     * @return a single emitting the preview api key.
+     * @see ModulePreviewApiKeys#fetchOne(String, String)
+     */
+    public Single<CMAPreviewApiKey> fetchOne(String spaceId, String keyId) {
+      return single(fetchOneRequest(asyncService, spaceId, keyId));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
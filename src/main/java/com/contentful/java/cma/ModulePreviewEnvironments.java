@@ -18,11 +18,16 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMAPreviewEnvironment;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Retrofit;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 /**
@@ -76,9 +81,16 @@ public class ModulePreviewEnvironments extends AbsModule<ServicePreviewEnvironme
    */
   public CMAArray<CMAPreviewEnvironment> fetchAll(String spaceId,
                                    Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAPreviewEnvironment>> fetchAllRequest(
+      ServicePreviewEnvironments service,
+      String spaceId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
     DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
-    return service.fetchAll(spaceId, query).blockingFirst();
+    return service.fetchAll(spaceId, query);
   }
 
   /**
@@ -88,6 +100,20 @@ public class ModulePreviewEnvironments extends AbsModule<ServicePreviewEnvironme
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -137,4 +163,96 @@ public class ModulePreviewEnvironments extends AbsModule<ServicePreviewEnvironme
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   */
+  public class Futures {
+    /**
+     * @return a future of all preview environments of the configured space.
+     * @see ModulePreviewEnvironments#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMAPreviewEnvironment>> fetchAll() {
+      return fetchAll(spaceId, new HashMap<>());
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a future of the matching preview environments.
+     * @see ModulePreviewEnvironments#fetchAll(String, Map)
+     */
+    public CompletableFuture<CMAArray<CMAPreviewEnvironment>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, query));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a single emitting all preview environments of the configured space.
+     * @see ModulePreviewEnvironments#fetchAll()
+     */
+    public Single<CMAArray<CMAPreviewEnvironment>> fetchAll() {
+      return fetchAll(spaceId, new HashMap<>());
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a single emitting the matching preview environments.
+     * @see ModulePreviewEnvironments#fetchAll(String, Map)
+     */
+    public Single<CMAArray<CMAPreviewEnvironment>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, query));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
@@ -2,13 +2,18 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMANotWithEnvironmentsException;
 import com.contentful.java.cma.model.CMARole;
 import com.contentful.java.cma.model.CMASystem;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 
@@ -56,6 +61,20 @@ public class ModuleRoles extends AbsModule<ServiceRoles> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Fetch all roles of the configured space.
    *
@@ -82,8 +101,12 @@ public class ModuleRoles extends AbsModule<ServiceRoles> {
    * @throws IllegalArgumentException if spaceId is null.
    */
   public CMAArray<CMARole> fetchAll(String spaceId) {
+    return fetchAllRequest(service, spaceId).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMARole>> fetchAllRequest(ServiceRoles service, String spaceId) {
     assertNotNull(spaceId, "spaceId");
-    return service.fetchAll(spaceId).blockingFirst();
+    return service.fetchAll(spaceId);
   }
 
   /**
@@ -115,12 +138,19 @@ public class ModuleRoles extends AbsModule<ServiceRoles> {
    * @throws IllegalArgumentException if spaceId is null.
    */
   public CMAArray<CMARole> fetchAll(String spaceId, Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMARole>> fetchAllRequest(
+      ServiceRoles service,
+      String spaceId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
 
     if (query == null) {
-      return service.fetchAll(spaceId).blockingFirst();
+      return service.fetchAll(spaceId);
     } else {
-      return service.fetchAll(spaceId, query).blockingFirst();
+      return service.fetchAll(spaceId, query);
     }
   }
 
@@ -155,10 +185,14 @@ public class ModuleRoles extends AbsModule<ServiceRoles> {
    * @throws IllegalArgumentException if role id is null.
    */
   public CMARole fetchOne(String spaceId, String roleId) {
+    return fetchOneRequest(service, spaceId, roleId).blockingFirst();
+  }
+
+  private Flowable<CMARole> fetchOneRequest(ServiceRoles service, String spaceId, String roleId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(roleId, "roleId");
 
-    return service.fetchOne(spaceId, roleId).blockingFirst();
+    return service.fetchOne(spaceId, roleId);
   }
 
   /**
@@ -504,4 +538,194 @@ public class ModuleRoles extends AbsModule<ServiceRoles> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Creating, updating and deleting are not offered yet, they detach the system properties of
+   * the role while the request is sent.
+   */
+  public class Futures {
+    /**
+     * @return a future of all roles of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleRoles#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMARole>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a future of all roles of the space.
+     * @see ModuleRoles#fetchAll(String)
+     */
+    public CompletableFuture<CMAArray<CMARole>> fetchAll(String spaceId) {
+      return toFuture(fetchAllRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of all matching roles of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleRoles#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMARole>> fetchAll(Map<String, String> query) {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId, query);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a future of all matching roles of the space.
+     * @see ModuleRoles#fetchAll(String, Map)
+     */
+    public CompletableFuture<CMAArray<CMARole>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, query));
+    }
+
+    /**
+     * @param roleId the id of the role in the configured space.
+     * @return a future of the role.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleRoles#fetchOne(String)
+     */
+    public CompletableFuture<CMARole> fetchOne(String roleId) {
+      throwIfEnvironmentIdIsSet();
+      return fetchOne(spaceId, roleId);
+    }
+
+    /**
+     * @param spaceId the space of the role.
+     * @param roleId  the id of the role.
+     * @return a future of the role.
+     * @see ModuleRoles#fetchOne(String, String)
+     */
+    public CompletableFuture<CMARole> fetchOne(String spaceId, String roleId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, roleId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Creating, updating and deleting are not offered yet, they detach the system properties of
+   * the role while the request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a single emitting all roles of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleRoles#fetchAll()
+     */
+    public Single<CMAArray<CMARole>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a single emitting all roles of the space.
+     * @see ModuleRoles#fetchAll(String)
+     */
+    public Single<CMAArray<CMARole>> fetchAll(String spaceId) {
+      return single(fetchAllRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting all matching roles of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleRoles#fetchAll(Map)
+     */
+    public Single<CMAArray<CMARole>> fetchAll(Map<String, String> query) {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId, query);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a single emitting all matching roles of the space.
+     * @see ModuleRoles#fetchAll(String, Map)
+     */
+    public Single<CMAArray<CMARole>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, query));
+    }
+
+    /**
+     * @param roleId the id of the role in the configured space.
+     * @return a single emitting the role.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleRoles#fetchOne(String)
+     */
+    public Single<CMARole> fetchOne(String roleId) {
+      throwIfEnvironmentIdIsSet();
+      return fetchOne(spaceId, roleId);
+    }
+
+    /**
+     * @param spaceId the space of the role.
+     * @param roleId  the id of the role.
+     * @return a single emitting the role.
+     * @see ModuleRoles#fetchOne(String, String)
+     */
+    public Single<CMARole> fetchOne(String spaceId, String roleId) {
+      return single(fetchOneRequest(asyncService, spaceId, roleId));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
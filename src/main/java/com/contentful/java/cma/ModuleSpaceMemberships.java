@@ -2,13 +2,18 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMANotWithEnvironmentsException;
 import com.contentful.java.cma.model.CMASpaceMembership;
 import com.contentful.java.cma.model.CMASystem;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 
@@ -57,6 +62,20 @@ public class ModuleSpaceMemberships extends AbsModule<ServiceSpaceMemberships> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Fetch all memberships of the configured space.
    *
@@ -115,11 +134,18 @@ public class ModuleSpaceMemberships extends AbsModule<ServiceSpaceMemberships> {
    * @throws IllegalArgumentException if spaceId is null.
    */
   public CMAArray<CMASpaceMembership> fetchAll(String spaceId, Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMASpaceMembership>> fetchAllRequest(
+      ServiceSpaceMemberships service,
+      String spaceId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
     if (query == null) {
-      return service.fetchAll(spaceId).blockingFirst();
+      return service.fetchAll(spaceId);
     } else {
-      return service.fetchAll(spaceId, query).blockingFirst();
+      return service.fetchAll(spaceId, query);
     }
   }
 
@@ -150,10 +176,17 @@ public class ModuleSpaceMemberships extends AbsModule<ServiceSpaceMemberships> {
    * @throws IllegalArgumentException if membership id is null.
    */
   public CMASpaceMembership fetchOne(String spaceId, String membershipId) {
+    return fetchOneRequest(service, spaceId, membershipId).blockingFirst();
+  }
+
+  private Flowable<CMASpaceMembership> fetchOneRequest(
+      ServiceSpaceMemberships service,
+      String spaceId,
+      String membershipId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(membershipId, "membershipId");
 
-    return service.fetchOne(spaceId, membershipId).blockingFirst();
+    return service.fetchOne(spaceId, membershipId);
   }
 
   /**
@@ -494,4 +527,194 @@ public class ModuleSpaceMemberships extends AbsModule<ServiceSpaceMemberships> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Creating, updating and deleting are not offered yet, they detach the system properties of
+   * the membership while the request is sent.
+   */
+  public class Futures {
+    /**
+     * @return a future of all space memberships of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleSpaceMemberships#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMASpaceMembership>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a future of all space memberships of the space.
+     * @see ModuleSpaceMemberships#fetchAll(String)
+     */
+    public CompletableFuture<CMAArray<CMASpaceMembership>> fetchAll(String spaceId) {
+      return fetchAll(spaceId, null);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of all matching space memberships of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleSpaceMemberships#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMASpaceMembership>> fetchAll(Map<String, String> query) {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId, query);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a future of all matching space memberships of the space.
+     * @see ModuleSpaceMemberships#fetchAll(String, Map)
+     */
+    public CompletableFuture<CMAArray<CMASpaceMembership>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, query));
+    }
+
+    /**
+     * @param membershipId the id of the space membership in the configured space.
+     * @return a future of the space membership.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleSpaceMemberships#fetchOne(String)
+     */
+    public CompletableFuture<CMASpaceMembership> fetchOne(String membershipId) {
+      throwIfEnvironmentIdIsSet();
+      return fetchOne(spaceId, membershipId);
+    }
+
+    /**
+     * @param spaceId      the space of the space membership.
+     * @param membershipId the id of the space membership.
+     * @return a future of the space membership.
+     * @see ModuleSpaceMemberships#fetchOne(String, String)
+     */
+    public CompletableFuture<CMASpaceMembership> fetchOne(String spaceId, String membershipId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, membershipId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Creating, updating and deleting are not offered yet, they detach the system properties of
+   * the membership while the request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a single emitting all space memberships of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleSpaceMemberships#fetchAll()
+     */
+    public Single<CMAArray<CMASpaceMembership>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a single emitting all space memberships of the space.
+     * @see ModuleSpaceMemberships#fetchAll(String)
+     */
+    public Single<CMAArray<CMASpaceMembership>> fetchAll(String spaceId) {
+      return fetchAll(spaceId, null);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting all matching space memberships of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleSpaceMemberships#fetchAll(Map)
+     */
+    public Single<CMAArray<CMASpaceMembership>> fetchAll(Map<String, String> query) {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId, query);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a single emitting all matching space memberships of the space.
+     * @see ModuleSpaceMemberships#fetchAll(String, Map)
+     */
+    public Single<CMAArray<CMASpaceMembership>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, query));
+    }
+
+    /**
+     * @param membershipId the id of the space membership in the configured space.
+     * @return a single emitting the space membership.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleSpaceMemberships#fetchOne(String)
+     */
+    public Single<CMASpaceMembership> fetchOne(String membershipId) {
+      throwIfEnvironmentIdIsSet();
+      return fetchOne(spaceId, membershipId);
+    }
+
+    /**
+     * @param spaceId      the space of the space membership.
+     * @param membershipId the id of the space membership.
+     * @return a single emitting the space membership.
+     * @see ModuleSpaceMemberships#fetchOne(String, String)
+     */
+    public Single<CMASpaceMembership> fetchOne(String spaceId, String membershipId) {
+      return single(fetchOneRequest(asyncService, spaceId, membershipId));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
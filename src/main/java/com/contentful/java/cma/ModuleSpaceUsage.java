@@ -1,10 +1,15 @@
 package com.contentful.java.cma;
 
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMAUsage;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Retrofit;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 public class ModuleSpaceUsage extends AbsModule<ServiceSpaceUsage> {
@@ -41,10 +46,17 @@ public class ModuleSpaceUsage extends AbsModule<ServiceSpaceUsage> {
     public CMAArray<CMAUsage> fetchAll(
             String organizationId,
             Map<String, String> query) {
+        return fetchAllRequest(service, organizationId, query).blockingFirst();
+    }
+
+    private Flowable<CMAArray<CMAUsage>> fetchAllRequest(
+            ServiceSpaceUsage service,
+            String organizationId,
+            Map<String, String> query) {
         if (query == null) {
-            return service.fetchAll(organizationId).blockingFirst();
+            return service.fetchAll(organizationId);
         } else {
-            return service.fetchAll(organizationId, query).blockingFirst();
+            return service.fetchAll(organizationId, query);
         }
     }
 
@@ -55,6 +67,20 @@ public class ModuleSpaceUsage extends AbsModule<ServiceSpaceUsage> {
         return async;
     }
 
+    /**
+     * @return a set of non-blocking methods, returning futures of their results.
+     */
+    public Futures futures() {
+        return new Futures();
+    }
+
+    /**
+     * @return a new set of reactive methods, returning requests instead of sending them.
+     */
+    public Rx rx() {
+        return new Rx();
+    }
+
     /**
      * Async module.
      */
@@ -79,4 +105,80 @@ public class ModuleSpaceUsage extends AbsModule<ServiceSpaceUsage> {
             }, callback);
         }
     }
+
+    /**
+     * Futures module.
+     * <p>
+     * Requests are enqueued to the call factory of the client, no thread waits for the response.
+     * Cancelling a future cancels its request, failures complete it exceptionally.
+     */
+    public class Futures {
+        /**
+         * @param organizationId organization id for the request.
+         * @param query          the criteria to narrow down the search result.
+         * @return a future of the usages.
+         * @see ModuleSpaceUsage#fetchAll(String, Map)
+         */
+        public CompletableFuture<CMAArray<CMAUsage>> fetchAll(
+                String organizationId,
+                Map<String, String> query) {
+            return toFuture(fetchAllRequest(asyncService, organizationId, query));
+        }
+    }
+
+    /**
+     * Reactive module.
+     * <p>
+     * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+     * methods, requests are enqueued to the call factory of the client, so no thread waits for
+     * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+     * observe on is set.
+     * <p>
+     * Arguments are validated right away, failures of the requests are signalled as errors, for
+     * example a {@link CMAHttpException}.
+     */
+    public class Rx {
+        private Scheduler subscribeOn;
+        private Scheduler observeOn;
+
+        /**
+         * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+         * example to move the serialization of big bodies off the calling thread.
+         *
+         * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+         * @return this module for chaining.
+         */
+        public Rx setSubscribeOn(Scheduler scheduler) {
+            this.subscribeOn = scheduler;
+            return this;
+        }
+
+        /**
+         * Set the scheduler results get emitted on.
+         *
+         * @param scheduler the scheduler to be used, or null to emit on the threads of the
+         *                  dispatcher of the client.
+         * @return this module for chaining.
+         */
+        public Rx setObserveOn(Scheduler scheduler) {
+            this.observeOn = scheduler;
+            return this;
+        }
+
+        /**
+         * @param organizationId organization id for the request.
+         * @param query          the criteria to narrow down the search result.
+         * @return a single emitting the usages.
+         * @see ModuleSpaceUsage#fetchAll(String, Map)
+         */
+        public Single<CMAArray<CMAUsage>> fetchAll(
+                String organizationId,
+                Map<String, String> query) {
+            return single(fetchAllRequest(asyncService, organizationId, query));
+        }
+
+        private <R> Single<R> single(Flowable<R> request) {
+            return schedule(request, subscribeOn, observeOn).firstOrError();
+        }
+    }
 }
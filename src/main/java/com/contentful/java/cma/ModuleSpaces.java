@@ -18,13 +18,19 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMASpace;
 import com.contentful.java.cma.model.CMASystem;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 
 /**
@@ -60,8 +66,12 @@ public class ModuleSpaces extends AbsModule<ServiceSpaces> {
    * @throws IllegalArgumentException if spaceName is null.
    */
   public CMASpace create(String spaceName) {
+    return createRequest(service, spaceName).blockingFirst();
+  }
+
+  private Flowable<CMASpace> createRequest(ServiceSpaces service, String spaceName) {
     assertNotNull(spaceName, "spaceName");
-    return service.create(new CMASpace().setName(spaceName).setSystem(null)).blockingFirst();
+    return service.create(new CMASpace().setName(spaceName).setSystem(null));
   }
 
   /**
@@ -94,11 +104,17 @@ public class ModuleSpaces extends AbsModule<ServiceSpaces> {
    * @throws IllegalArgumentException if organizationId is null.
    */
   public CMASpace create(String spaceName, String organizationId) {
+    return createRequest(service, spaceName, organizationId).blockingFirst();
+  }
+
+  private Flowable<CMASpace> createRequest(
+      ServiceSpaces service,
+      String spaceName,
+      String organizationId) {
     assertNotNull(spaceName, "spaceName");
     assertNotNull(organizationId, "organizationId");
 
-    return service.create(organizationId, new CMASpace().setName(spaceName).setSystem(null))
-        .blockingFirst();
+    return service.create(organizationId, new CMASpace().setName(spaceName).setSystem(null));
   }
 
   /**
@@ -134,8 +150,12 @@ public class ModuleSpaces extends AbsModule<ServiceSpaces> {
    * @throws IllegalArgumentException if space's id is null.
    */
   public Integer delete(String spaceId) {
+    return deleteRequest(service, spaceId).blockingFirst();
+  }
+
+  private Flowable<Integer> deleteRequest(ServiceSpaces service, String spaceId) {
     assertNotNull(spaceId, "spaceId");
-    return service.delete(spaceId).blockingFirst().code();
+    return service.delete(spaceId).map(Response::code);
   }
 
   /**
@@ -166,9 +186,15 @@ public class ModuleSpaces extends AbsModule<ServiceSpaces> {
    * @return {@link CMAArray} result instance
    */
   public CMAArray<CMASpace> fetchAll(Map<String, String> query) {
+    return fetchAllRequest(service, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMASpace>> fetchAllRequest(
+      ServiceSpaces service,
+      Map<String, String> query) {
     Map<String, String> enhancedQuery =
       DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
-    return service.fetchAll(enhancedQuery).blockingFirst();
+    return service.fetchAll(enhancedQuery);
   }
 
   /**
@@ -179,8 +205,12 @@ public class ModuleSpaces extends AbsModule<ServiceSpaces> {
    * @throws IllegalArgumentException if space's id is null.
    */
   public CMASpace fetchOne(String spaceId) {
+    return fetchOneRequest(service, spaceId).blockingFirst();
+  }
+
+  private Flowable<CMASpace> fetchOneRequest(ServiceSpaces service, String spaceId) {
     assertNotNull(spaceId, "spaceId");
-    return service.fetchOne(spaceId).blockingFirst();
+    return service.fetchOne(spaceId);
   }
 
   /**
@@ -216,6 +246,20 @@ public class ModuleSpaces extends AbsModule<ServiceSpaces> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -390,4 +434,190 @@ public class ModuleSpaces extends AbsModule<ServiceSpaces> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Creating from a given space and updating are not offered yet, they detach the system
+   * properties of the space while the request is sent.
+   */
+  public class Futures {
+    /**
+     * @param spaceName the name of the new space.
+     * @return a future of the created space.
+     * @see ModuleSpaces#create(String)
+     */
+    public CompletableFuture<CMASpace> create(String spaceName) {
+      return toFuture(createRequest(asyncService, spaceName));
+    }
+
+    /**
+     * @param spaceName      the name of the new space.
+     * @param organizationId the organization to create the space in.
+     * @return a future of the created space.
+     * @see ModuleSpaces#create(String, String)
+     */
+    public CompletableFuture<CMASpace> create(String spaceName, String organizationId) {
+      return toFuture(createRequest(asyncService, spaceName, organizationId));
+    }
+
+    /**
+     * @param spaceId the id of the space to be deleted.
+     * @return a future of the response code.
+     * @see ModuleSpaces#delete(String)
+     */
+    public CompletableFuture<Integer> delete(String spaceId) {
+      return toFuture(deleteRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param space the space to be deleted.
+     * @return a future of the response code.
+     * @see ModuleSpaces#delete(CMASpace)
+     */
+    public CompletableFuture<Integer> delete(CMASpace space) {
+      assertNotNull(space.getId(), "spaceId");
+      return delete(space.getId());
+    }
+
+    /**
+     * @return a future of all spaces.
+     * @see ModuleSpaces#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMASpace>> fetchAll() {
+      return fetchAll(new HashMap<>());
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of all matching spaces.
+     * @see ModuleSpaces#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMASpace>> fetchAll(Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, query));
+    }
+
+    /**
+     * @param spaceId the id of the space.
+     * @return a future of the space.
+     * @see ModuleSpaces#fetchOne(String)
+     */
+    public CompletableFuture<CMASpace> fetchOne(String spaceId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Creating from a given space and updating are not offered yet, they detach the system
+   * properties of the space while the request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @param spaceName the name of the new space.
+     * @return a single emitting the created space.
+     * @see ModuleSpaces#create(String)
+     */
+    public Single<CMASpace> create(String spaceName) {
+      return single(createRequest(asyncService, spaceName));
+    }
+
+    /**
+     * @param spaceName      the name of the new space.
+     * @param organizationId the organization to create the space in.
+     * @return a single emitting the created space.
+     * @see ModuleSpaces#create(String, String)
+     */
+    public Single<CMASpace> create(String spaceName, String organizationId) {
+      return single(createRequest(asyncService, spaceName, organizationId));
+    }
+
+    /**
+     * @param spaceId the id of the space to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleSpaces#delete(String)
+     */
+    public Single<Integer> delete(String spaceId) {
+      return single(deleteRequest(asyncService, spaceId));
+    }
+
+    /**
+     * @param space the space to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleSpaces#delete(CMASpace)
+     */
+    public Single<Integer> delete(CMASpace space) {
+      assertNotNull(space.getId(), "spaceId");
+      return delete(space.getId());
+    }
+
+    /**
+     * @return a single emitting all spaces.
+     * @see ModuleSpaces#fetchAll()
+     */
+    public Single<CMAArray<CMASpace>> fetchAll() {
+      return fetchAll(new HashMap<>());
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting all matching spaces.
+     * @see ModuleSpaces#fetchAll(Map)
+     */
+    public Single<CMAArray<CMASpace>> fetchAll(Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, query));
+    }
+
+    /**
+     * @param spaceId the id of the space.
+     * @return a single emitting the space.
+     * @see ModuleSpaces#fetchOne(String)
+     */
+    public Single<CMASpace> fetchOne(String spaceId) {
+      return single(fetchOneRequest(asyncService, spaceId));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
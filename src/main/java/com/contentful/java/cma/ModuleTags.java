@@ -18,12 +18,18 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMATag;
 import com.contentful.java.cma.model.CMAVisibility;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 /**
@@ -70,13 +76,23 @@ public class ModuleTags extends AbsModule<ServiceContentTags> {
                        String tagId,
                        String name,
                        CMAVisibility visibility) {
+    return createRequest(service, environmentId, spaceId, tagId, name, visibility).blockingFirst();
+  }
+
+  private Flowable<CMATag> createRequest(
+      ServiceContentTags service,
+      String environmentId,
+      String spaceId,
+      String tagId,
+      String name,
+      CMAVisibility visibility) {
     assertNotNull(spaceId, "spaceId");
 
     final CMATag tag = new CMATag();
     tag.setName(name);
     tag.setId(tagId);
     tag.setVisibility(visibility);
-    return service.create(spaceId, environmentId, tagId, tag).blockingFirst();
+    return service.create(spaceId, environmentId, tagId, tag);
   }
 
   /**
@@ -89,6 +105,14 @@ public class ModuleTags extends AbsModule<ServiceContentTags> {
   public Integer delete(String spaceId,
                         String environmentId,
                         String tagId) {
+    return deleteRequest(service, spaceId, environmentId, tagId).blockingFirst();
+  }
+
+  private Flowable<Integer> deleteRequest(
+      ServiceContentTags service,
+      String spaceId,
+      String environmentId,
+      String tagId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     assertNotNull(tagId, "tagId");
@@ -97,7 +121,7 @@ public class ModuleTags extends AbsModule<ServiceContentTags> {
             spaceId,
             environmentId,
             tagId
-    ).blockingFirst().code();
+    ).map(Response::code);
   }
 
   /**
@@ -124,10 +148,81 @@ public class ModuleTags extends AbsModule<ServiceContentTags> {
   public CMAArray<CMATag> fetchAll(String spaceId,
                                    String environmentId,
                                    Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, environmentId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMATag>> fetchAllRequest(
+      ServiceContentTags service,
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
     DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
-    return service.fetchAll(spaceId, environmentId, query).blockingFirst();
+    return service.fetchAll(spaceId, environmentId, query);
+  }
+
+  /**
+   * Lazily iterate over all tags of the configured space and environment.
+   * <p>
+   * Pages of {@link DefaultQueryParameter#FETCH} size are requested on demand, prefetching the
+   * next page while the current one is being consumed.
+   *
+   * @return an iterator over all tags.
+   * @throws IllegalArgumentException if configured space id is null.
+   * @throws IllegalArgumentException if configured environment id is null.
+   * @see CMAClient.Builder#setSpaceId(String)
+   * @see CMAClient.Builder#setEnvironmentId(String)
+   */
+  public PagedIterator<CMATag> stream() {
+    return stream(spaceId, environmentId, new HashMap<>());
+  }
+
+  /**
+   * Lazily iterate over all tags matching the query from the configured space and
+   * environment.
+   * <p>
+   * A {@code limit} given in the query is used as the page size, a {@code skip} as the
+   * starting offset.
+   *
+   * @param query the criteria to filter on.
+   * @return an iterator over all matching tags.
+   * @throws IllegalArgumentException if configured space id is null.
+   * @throws IllegalArgumentException if configured environment id is null.
+   * @see CMAClient.Builder#setSpaceId(String)
+   * @see CMAClient.Builder#setEnvironmentId(String)
+   */
+  public PagedIterator<CMATag> stream(Map<String, String> query) {
+    return stream(spaceId, environmentId, query);
+  }
+
+  /**
+   * Lazily iterate over all tags matching the query from the given space and environment.
+   * <p>
+   * This method will override the configuration specified through
+   * {@link CMAClient.Builder#setSpaceId(String)} and
+   * {@link CMAClient.Builder#setEnvironmentId(String)}.
+   *
+   * @param spaceId       Space ID
+   * @param environmentId Environment ID
+   * @param query         the criteria to filter on.
+   * @return an iterator over all matching tags.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if environmentId is null.
+   * @throws IllegalArgumentException if query is null.
+   * @see PagedIterator
+   */
+  public PagedIterator<CMATag> stream(
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
+    assertNotNull(spaceId, "spaceId");
+    assertNotNull(environmentId, "environmentId");
+    assertNotNull(query, "query");
+
+    return new PagedIterator<>(
+        pageQuery -> service.fetchAll(spaceId, environmentId, pageQuery),
+        query);
   }
 
   /**
@@ -156,9 +251,17 @@ public class ModuleTags extends AbsModule<ServiceContentTags> {
    * @throws IllegalArgumentException if environment's id is null.
    */
   public CMATag fetchOne(String spaceId, String environmentId, String tagId) {
+    return fetchOneRequest(service, spaceId, environmentId, tagId).blockingFirst();
+  }
+
+  private Flowable<CMATag> fetchOneRequest(
+      ServiceContentTags service,
+      String spaceId,
+      String environmentId,
+      String tagId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
-    return service.fetchOne(spaceId, environmentId, tagId).blockingFirst();
+    return service.fetchOne(spaceId, environmentId, tagId);
   }
 
   /**
@@ -169,6 +272,10 @@ public class ModuleTags extends AbsModule<ServiceContentTags> {
    * @throws IllegalArgumentException if tag's  id is null.
    */
   public CMATag update(String name, String tagId) {
+    return updateRequest(service, name, tagId).blockingFirst();
+  }
+
+  private Flowable<CMATag> updateRequest(ServiceContentTags service, String name, String tagId) {
     assertNotNull(name, "name");
     assertNotNull(tagId, "tagId");
 
@@ -180,7 +287,7 @@ public class ModuleTags extends AbsModule<ServiceContentTags> {
         environmentId,
         tagId,
         tag
-    ).blockingFirst();
+    );
   }
 
   /**
@@ -190,6 +297,20 @@ public class ModuleTags extends AbsModule<ServiceContentTags> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -349,4 +470,269 @@ public class ModuleTags extends AbsModule<ServiceContentTags> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   */
+  public class Futures {
+    /**
+     * @param environmentId the environment to create the tag in.
+     * @param spaceId       the space to create the tag in.
+     * @param tagId         the id of the new tag.
+     * @param name          the name of the new tag.
+     * @param visibility    the visibility of the new tag.
+     * @return a future of the created tag.
+     * @see ModuleTags#create(String, String, String, String, CMAVisibility)
+     */
+    public CompletableFuture<CMATag> create(
+        String environmentId,
+        String spaceId,
+        String tagId,
+        String name,
+        CMAVisibility visibility) {
+      return toFuture(
+          createRequest(asyncService, environmentId, spaceId, tagId, name, visibility));
+    }
+
+    /**
+     * @param spaceId       the space of the tag.
+     * @param environmentId the environment of the tag.
+     * @param tagId         the id of the tag to be deleted.
+     * @return a future of the response code.
+     * @see ModuleTags#delete(String, String, String)
+     */
+    public CompletableFuture<Integer> delete(
+        String spaceId,
+        String environmentId,
+        String tagId) {
+      return toFuture(deleteRequest(asyncService, spaceId, environmentId, tagId));
+    }
+
+    /**
+     * @return a future of all tags of the configured space and environment.
+     * @see ModuleTags#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMATag>> fetchAll() {
+      return fetchAll(spaceId, environmentId, new HashMap<>());
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a future of all matching tags.
+     * @see ModuleTags#fetchAll(String, String, Map)
+     */
+    public CompletableFuture<CMAArray<CMATag>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param tagId the id of the tag in the configured space and environment.
+     * @return a future of the tag.
+     * @see ModuleTags#fetchOne(String)
+     */
+    public CompletableFuture<CMATag> fetchOne(String tagId) {
+      return fetchOne(spaceId, environmentId, tagId);
+    }
+
+    /**
+     * @param spaceId       the space of the tag.
+     * @param environmentId the environment of the tag.
+     * @param tagId         the id of the tag.
+     * @return a future of the tag.
+     * @see ModuleTags#fetchOne(String, String, String)
+     */
+    public CompletableFuture<CMATag> fetchOne(
+        String spaceId,
+        String environmentId,
+        String tagId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, environmentId, tagId));
+    }
+
+    /**
+     * @param name  the new name of the tag.
+     * @param tagId the id of the tag in the configured space and environment.
+     * @return a future of the updated tag.
+     * @see ModuleTags#update(String, String)
+     */
+    public CompletableFuture<CMATag> update(String name, String tagId) {
+      return toFuture(updateRequest(asyncService, name, tagId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s and {@link Flowable}s, sent once subscribed to. Like
+   * the {@link Futures} methods, requests are enqueued to the call factory of the client, so no
+   * thread waits for their responses. Results are emitted on the threads of its dispatcher,
+   * unless a scheduler to observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @param environmentId the environment to create the tag in.
+     * @param spaceId       the space to create the tag in.
+     * @param tagId         the id of the new tag.
+     * @param name          the name of the new tag.
+     * @param visibility    the visibility of the new tag.
+     * @return a single emitting the created tag.
+     * @see ModuleTags#create(String, String, String, String, CMAVisibility)
+     */
+    public Single<CMATag> create(
+        String environmentId,
+        String spaceId,
+        String tagId,
+        String name,
+        CMAVisibility visibility) {
+      return single(
+          createRequest(asyncService, environmentId, spaceId, tagId, name, visibility));
+    }
+
+    /**
+     * @param spaceId       the space of the tag.
+     * @param environmentId the environment of the tag.
+     * @param tagId         the id of the tag to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleTags#delete(String, String, String)
+     */
+    public Single<Integer> delete(
+        String spaceId,
+        String environmentId,
+        String tagId) {
+      return single(deleteRequest(asyncService, spaceId, environmentId, tagId));
+    }
+
+    /**
+     * @return a single emitting all tags of the configured space and environment.
+     * @see ModuleTags#fetchAll()
+     */
+    public Single<CMAArray<CMATag>> fetchAll() {
+      return fetchAll(spaceId, environmentId, new HashMap<>());
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a single emitting all matching tags.
+     * @see ModuleTags#fetchAll(String, String, Map)
+     */
+    public Single<CMAArray<CMATag>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param tagId the id of the tag in the configured space and environment.
+     * @return a single emitting the tag.
+     * @see ModuleTags#fetchOne(String)
+     */
+    public Single<CMATag> fetchOne(String tagId) {
+      return fetchOne(spaceId, environmentId, tagId);
+    }
+
+    /**
+     * @param spaceId       the space of the tag.
+     * @param environmentId the environment of the tag.
+     * @param tagId         the id of the tag.
+     * @return a single emitting the tag.
+     * @see ModuleTags#fetchOne(String, String, String)
+     */
+    public Single<CMATag> fetchOne(
+        String spaceId,
+        String environmentId,
+        String tagId) {
+      return single(fetchOneRequest(asyncService, spaceId, environmentId, tagId));
+    }
+
+    /**
+     * @param name  the new name of the tag.
+     * @param tagId the id of the tag in the configured space and environment.
+     * @return a single emitting the updated tag.
+     * @see ModuleTags#update(String, String)
+     */
+    public Single<CMATag> update(String name, String tagId) {
+      return single(updateRequest(asyncService, name, tagId));
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a flowable emitting all matching tags of the configured space and
+     * environment.
+     * @see #stream(String, String, Map)
+     */
+    public Flowable<CMATag> stream(Map<String, String> query) {
+      return stream(spaceId, environmentId, query);
+    }
+
+    /**
+     * Emit all matching tags, requesting one page after the other as they are consumed.
+     *
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on. A limit is used as the page size, a skip
+     *                      as the starting offset.
+     * @return a flowable emitting all matching tags.
+     * @throws IllegalArgumentException if spaceId, environmentId or query is null.
+     * @see ModuleTags#stream(String, String, Map)
+     */
+    public Flowable<CMATag> stream(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      assertNotNull(spaceId, "spaceId");
+      assertNotNull(environmentId, "environmentId");
+      assertNotNull(query, "query");
+
+      return schedule(
+          PagedIterator.flowable(
+              pageQuery -> asyncService.fetchAll(spaceId, environmentId, pageQuery),
+              query),
+          subscribeOn,
+          observeOn);
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
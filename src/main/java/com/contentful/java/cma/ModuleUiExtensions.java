@@ -18,13 +18,18 @@ package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMANotWithEnvironmentsException;
 import com.contentful.java.cma.model.CMASystem;
 import com.contentful.java.cma.model.CMAUiExtension;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import retrofit2.Retrofit;
 
 /**
@@ -89,11 +94,19 @@ public class ModuleUiExtensions extends AbsModule<ServiceUiExtensions> {
    *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
    */
   public CMAUiExtension fetchOne(String spaceId, String environmentId, String extensionId) {
+    return fetchOneRequest(service, spaceId, environmentId, extensionId).blockingFirst();
+  }
+
+  private Flowable<CMAUiExtension> fetchOneRequest(
+      ServiceUiExtensions service,
+      String spaceId,
+      String environmentId,
+      String extensionId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "spaceId");
     assertNotNull(extensionId, "extensionId");
 
-    return service.fetchOne(spaceId, environmentId, extensionId).blockingFirst();
+    return service.fetchOne(spaceId, environmentId, extensionId);
   }
 
   /**
@@ -156,13 +169,21 @@ public class ModuleUiExtensions extends AbsModule<ServiceUiExtensions> {
       String spaceId,
       String environmentId,
       Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, environmentId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAUiExtension>> fetchAllRequest(
+      ServiceUiExtensions service,
+      String spaceId,
+      String environmentId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(environmentId, "environmentId");
 
     if (query == null) {
-      return service.fetchAll(spaceId, environmentId).blockingFirst();
+      return service.fetchAll(spaceId, environmentId);
     } else {
-      return service.fetchAll(spaceId, environmentId, query).blockingFirst();
+      return service.fetchAll(spaceId, environmentId, query);
     }
   }
 
@@ -285,6 +306,20 @@ public class ModuleUiExtensions extends AbsModule<ServiceUiExtensions> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -523,4 +558,196 @@ public class ModuleUiExtensions extends AbsModule<ServiceUiExtensions> {
       }, callback);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Creating, updating and deleting are not offered yet, they detach the system properties of
+   * the extension while the request is sent.
+   */
+  public class Futures {
+    /**
+     * @return a future of all ui extensions of the configured space and environment.
+     * @see ModuleUiExtensions#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMAUiExtension>> fetchAll() {
+      return fetchAll(spaceId, environmentId);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of all matching ui extensions of the configured space and
+     * environment.
+     * @see ModuleUiExtensions#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMAUiExtension>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @return a future of all ui extensions.
+     * @see ModuleUiExtensions#fetchAll(String, String)
+     */
+    public CompletableFuture<CMAArray<CMAUiExtension>> fetchAll(
+        String spaceId,
+        String environmentId) {
+      return fetchAll(spaceId, environmentId, null);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a future of all matching ui extensions.
+     * @see ModuleUiExtensions#fetchAll(String, String, Map)
+     */
+    public CompletableFuture<CMAArray<CMAUiExtension>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param extensionId the id of the ui extension in the configured space and environment.
+     * @return a future of the ui extension.
+     * @see ModuleUiExtensions#fetchOne(String)
+     */
+    public CompletableFuture<CMAUiExtension> fetchOne(String extensionId) {
+      return fetchOne(spaceId, environmentId, extensionId);
+    }
+
+    /**
+     * @param spaceId       the space of the ui extension.
+     * @param environmentId the environment of the ui extension.
+     * @param extensionId   the id of the ui extension.
+     * @return a future of the ui extension.
+     * @see ModuleUiExtensions#fetchOne(String, String, String)
+     */
+    public CompletableFuture<CMAUiExtension> fetchOne(
+        String spaceId,
+        String environmentId,
+        String extensionId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, environmentId, extensionId));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Creating, updating and deleting are not offered yet, they detach the system properties of
+   * the extension while the request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @return a single emitting all ui extensions of the configured space and environment.
+     * @see ModuleUiExtensions#fetchAll()
+     */
+    public Single<CMAArray<CMAUiExtension>> fetchAll() {
+      return fetchAll(spaceId, environmentId);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting all matching ui extensions of the configured space and
+     * environment.
+     * @see ModuleUiExtensions#fetchAll(Map)
+     */
+    public Single<CMAArray<CMAUiExtension>> fetchAll(Map<String, String> query) {
+      return fetchAll(spaceId, environmentId, query);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @return a single emitting all ui extensions.
+     * @see ModuleUiExtensions#fetchAll(String, String)
+     */
+    public Single<CMAArray<CMAUiExtension>> fetchAll(
+        String spaceId,
+        String environmentId) {
+      return fetchAll(spaceId, environmentId, null);
+    }
+
+    /**
+     * @param spaceId       the space to fetch from.
+     * @param environmentId the environment to fetch from.
+     * @param query         the criteria to filter on.
+     * @return a single emitting all matching ui extensions.
+     * @see ModuleUiExtensions#fetchAll(String, String, Map)
+     */
+    public Single<CMAArray<CMAUiExtension>> fetchAll(
+        String spaceId,
+        String environmentId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, environmentId, query));
+    }
+
+    /**
+     * @param extensionId the id of the ui extension in the configured space and environment.
+     * @return a single emitting the ui extension.
+     * @see ModuleUiExtensions#fetchOne(String)
+     */
+    public Single<CMAUiExtension> fetchOne(String extensionId) {
+      return fetchOne(spaceId, environmentId, extensionId);
+    }
+
+    /**
+     * @param spaceId       the space of the ui extension.
+     * @param environmentId the environment of the ui extension.
+     * @param extensionId   the id of the ui extension.
+     * @return a single emitting the ui extension.
+     * @see ModuleUiExtensions#fetchOne(String, String, String)
+     */
+    public Single<CMAUiExtension> fetchOne(
+        String spaceId,
+        String environmentId,
+        String extensionId) {
+      return single(fetchOneRequest(asyncService, spaceId, environmentId, extensionId));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
+}
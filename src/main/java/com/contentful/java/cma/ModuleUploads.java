@@ -17,29 +17,34 @@
 package com.contentful.java.cma;
 
 import com.contentful.java.cma.RxExtensions.DefFunc;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMANotWithEnvironmentsException;
 import com.contentful.java.cma.model.CMAUpload;
 
+import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
-import okhttp3.RequestBody;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import okio.BufferedSource;
+import okio.Okio;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 
-import static com.contentful.java.cma.Constants.OCTET_STREAM_CONTENT_TYPE;
-import static java.lang.System.arraycopy;
-import static java.util.Arrays.copyOf;
-import static okhttp3.MediaType.parse;
-
 /**
  * Upload Module.
  * <p>
  * This module will take care of all `upload.contentful.com` related issues, as in directly
  * uploading a file to Contentful, receiving it's id.
+ * <p>
+ * Uploads are streamed from their source into the request, so only a small buffer of the content
+ * is held in memory, independent of the size of the upload.
  */
 public class ModuleUploads extends AbsModule<ServiceUploads> {
   final Async async;
@@ -63,40 +68,6 @@ public class ModuleUploads extends AbsModule<ServiceUploads> {
     this.async = new Async();
   }
 
-  /**
-   * Tries to read all content from a give stream.
-   *
-   * @param stream stream to be read.
-   * @return bytes of the stream
-   * @throws IOException if the stream is not accessible
-   * @throws IOException if the stream did not contain data.
-   */
-  static byte[] readAllBytes(InputStream stream) throws IOException {
-    int bytesRead = 0;
-    byte[] currentChunk = new byte[255];
-    final List<byte[]> chunks = new ArrayList<byte[]>();
-    while ((bytesRead = stream.read(currentChunk)) != -1) {
-      chunks.add(copyOf(currentChunk, bytesRead));
-    }
-
-    if (chunks.size() <= 0) {
-      throw new IOException("Stream did not contain any data. Please provide data to upload.");
-    }
-
-    int size = 0;
-    for (byte[] chunk : chunks) {
-      size += chunk.length;
-    }
-
-    final byte[] content = new byte[size];
-    int position = 0;
-    for (byte[] chunk : chunks) {
-      arraycopy(chunk, 0, content, position, chunk.length);
-      position += chunk.length;
-    }
-    return content;
-  }
-
   @Override protected ServiceUploads createService(Retrofit retrofit) {
     return retrofit.create(ServiceUploads.class);
   }
@@ -140,13 +111,167 @@ public class ModuleUploads extends AbsModule<ServiceUploads> {
    * @throws java.io.IOException      if the stream could not be read.
    */
   public CMAUpload create(String spaceId, InputStream stream) throws IOException {
+    return create(spaceId, stream, null);
+  }
+
+  /**
+   * Create a new upload, streamed from the given stream.
+   * <p>
+   * The stream is read while sending, it will not be closed afterwards.
+   * <p>
+   * This method will override the configuration specified through
+   * {@link CMAClient.Builder#setSpaceId(String)} and will ignore
+   * {@link CMAClient.Builder#setEnvironmentId(String)}.
+   *
+   * @param spaceId  a nonnull id representing the space to add the upload to.
+   * @param stream   the actual binary representation of the upload. Cannot be null.
+   * @param listener the listener to be informed about the bytes sent, may be null.
+   * @return the upload created, containing the id to be used further on.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if stream is null.
+   * @throws java.io.IOException      if the stream could not be read or did not contain data.
+   */
+  public CMAUpload create(String spaceId, InputStream stream, UploadProgressListener listener)
+      throws IOException {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(stream, "stream");
 
-    final byte[] content = readAllBytes(stream);
+    final BufferedSource source = Okio.buffer(Okio.source(stream));
+    if (source.exhausted()) {
+      throw new IOException("Stream did not contain any data. Please provide data to upload.");
+    }
+
+    return service.create(spaceId, UploadRequestBody.create(source, listener)).blockingFirst();
+  }
+
+  /**
+   * Create a new upload from a file on the configured space.
+   *
+   * @param file the file to be uploaded. Cannot be null.
+   * @return the upload created, containing the id to be used further on.
+   * @throws IllegalArgumentException        if configured spaceId is null.
+   * @throws IllegalArgumentException        if file is null.
+   * @throws java.io.IOException             if the file could not be read or is empty.
+   * @throws CMANotWithEnvironmentsException if environmentId was set using
+   *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+   * @see CMAClient.Builder#setSpaceId(String)
+   */
+  public CMAUpload create(File file) throws IOException {
+    throwIfEnvironmentIdIsSet();
+
+    return create(spaceId, file, null);
+  }
+
+  /**
+   * Create a new upload from a file.
+   * <p>
+   * This method will override the configuration specified through
+   * {@link CMAClient.Builder#setSpaceId(String)} and will ignore
+   * {@link CMAClient.Builder#setEnvironmentId(String)}.
+   *
+   * @param spaceId a nonnull id representing the space to add the upload to.
+   * @param file    the file to be uploaded. Cannot be null.
+   * @return the upload created, containing the id to be used further on.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if file is null.
+   * @throws java.io.IOException      if the file could not be read or is empty.
+   */
+  public CMAUpload create(String spaceId, File file) throws IOException {
+    return create(spaceId, file, null);
+  }
+
+  /**
+   * Create a new upload from a file, informing the listener about its progress.
+   * <p>
+   * This method will override the configuration specified through
+   * {@link CMAClient.Builder#setSpaceId(String)} and will ignore
+   * {@link CMAClient.Builder#setEnvironmentId(String)}.
+   *
+   * @param spaceId  a nonnull id representing the space to add the upload to.
+   * @param file     the file to be uploaded. Cannot be null.
+   * @param listener the listener to be informed about the bytes sent, may be null.
+   * @return the upload created, containing the id to be used further on.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if file is null.
+   * @throws java.io.IOException      if the file could not be read or is empty.
+   */
+  public CMAUpload create(String spaceId, File file, UploadProgressListener listener)
+      throws IOException {
+    assertNotNull(spaceId, "spaceId");
+    assertNotNull(file, "file");
+
+    if (!file.isFile()) {
+      throw new FileNotFoundException("Cannot upload '" + file + "', it is not a file.");
+    }
+    if (file.length() == 0) {
+      throw new IOException("File did not contain any data. Please provide data to upload.");
+    }
+
+    return service.create(spaceId, UploadRequestBody.create(file, listener)).blockingFirst();
+  }
+
+  /**
+   * Create a new upload from a path on the configured space.
+   *
+   * @param path the path of the file to be uploaded. Cannot be null.
+   * @return the upload created, containing the id to be used further on.
+   * @throws IllegalArgumentException        if configured spaceId is null.
+   * @throws IllegalArgumentException        if path is null.
+   * @throws java.io.IOException             if the file could not be read or is empty.
+   * @throws CMANotWithEnvironmentsException if environmentId was set using
+   *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+   * @see CMAClient.Builder#setSpaceId(String)
+   */
+  public CMAUpload create(Path path) throws IOException {
+    throwIfEnvironmentIdIsSet();
+
+    return create(spaceId, path, null);
+  }
 
-    final RequestBody payload = RequestBody.create(parse(OCTET_STREAM_CONTENT_TYPE), content);
-    return service.create(spaceId, payload).blockingFirst();
+  /**
+   * Create a new upload from a path.
+   * <p>
+   * This method will override the configuration specified through
+   * {@link CMAClient.Builder#setSpaceId(String)} and will ignore
+   * {@link CMAClient.Builder#setEnvironmentId(String)}.
+   *
+   * @param spaceId a nonnull id representing the space to add the upload to.
+   * @param path    the path of the file to be uploaded. Cannot be null.
+   * @return the upload created, containing the id to be used further on.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if path is null.
+   * @throws java.io.IOException      if the file could not be read or is empty.
+   */
+  public CMAUpload create(String spaceId, Path path) throws IOException {
+    return create(spaceId, path, null);
+  }
+
+  /**
+   * Create a new upload from a path, informing the listener about its progress.
+   * <p>
+   * This method will override the configuration specified through
+   * {@link CMAClient.Builder#setSpaceId(String)} and will ignore
+   * {@link CMAClient.Builder#setEnvironmentId(String)}.
+   *
+   * @param spaceId  a nonnull id representing the space to add the upload to.
+   * @param path     the path of the file to be uploaded. Cannot be null.
+   * @param listener the listener to be informed about the bytes sent, may be null.
+   * @return the upload created, containing the id to be used further on.
+   * @throws IllegalArgumentException if spaceId is null.
+   * @throws IllegalArgumentException if path is null.
+   * @throws java.io.IOException      if the file could not be read or is empty.
+   */
+  public CMAUpload create(String spaceId, Path path, UploadProgressListener listener)
+      throws IOException {
+    assertNotNull(spaceId, "spaceId");
+    assertNotNull(path, "path");
+
+    final UploadRequestBody body = UploadRequestBody.create(path, listener);
+    if (body.contentLength() == 0) {
+      throw new IOException("File did not contain any data. Please provide data to upload.");
+    }
+
+    return service.create(spaceId, body).blockingFirst();
   }
 
   /**
@@ -180,10 +305,17 @@ public class ModuleUploads extends AbsModule<ServiceUploads> {
    * @throws IllegalArgumentException if uploadId is null.
    */
   public CMAUpload fetchOne(String spaceId, String uploadId) {
+    return fetchOneRequest(service, spaceId, uploadId).blockingFirst();
+  }
+
+  private Flowable<CMAUpload> fetchOneRequest(
+      ServiceUploads service,
+      String spaceId,
+      String uploadId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(uploadId, "uploadId");
 
-    return service.fetchOne(spaceId, uploadId).blockingFirst();
+    return service.fetchOne(spaceId, uploadId);
   }
 
   /**
@@ -195,11 +327,14 @@ public class ModuleUploads extends AbsModule<ServiceUploads> {
    * @throws IllegalArgumentException if uploadId is null.
    */
   public int delete(CMAUpload upload) {
+    return deleteRequest(service, upload).blockingFirst();
+  }
+
+  private Flowable<Integer> deleteRequest(ServiceUploads service, CMAUpload upload) {
     final String uploadId = getResourceIdOrThrow(upload, "upload");
     final String spaceId = getSpaceIdOrThrow(upload, "upload");
 
-    final Response<Void> response = service.delete(spaceId, uploadId).blockingFirst();
-    return response.code();
+    return service.delete(spaceId, uploadId).map(Response::code);
   }
 
   /**
@@ -209,6 +344,20 @@ public class ModuleUploads extends AbsModule<ServiceUploads> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Async module.
    */
@@ -276,6 +425,156 @@ public class ModuleUploads extends AbsModule<ServiceUploads> {
       }, callback);
     }
 
+    /**
+     * Create a new upload streamed from the given stream, asynchronously.
+     * <p>
+     * This method will override the configuration specified through
+     * {@link CMAClient.Builder#setSpaceId(String)} and will ignore
+     * {@link CMAClient.Builder#setEnvironmentId(String)}.
+     *
+     * @param spaceId  a nonnull id representing the space to add the upload to.
+     * @param stream   the actual binary representation of the upload. Cannot be null.
+     * @param listener the listener to be informed about the bytes sent, may be null.
+     * @param callback the callback to be informed about success or failure.
+     * @return the callback passed in.
+     * @throws IllegalArgumentException if spaceId is null.
+     * @throws IllegalArgumentException if stream is null.
+     * @throws IllegalStateException    if something in the transmittal went wrong.
+     */
+    public CMACallback<CMAUpload> create(
+        final String spaceId,
+        final InputStream stream,
+        final UploadProgressListener listener,
+        CMACallback<CMAUpload> callback) {
+      return defer(new DefFunc<CMAUpload>() {
+        @Override CMAUpload method() {
+          try {
+            return ModuleUploads.this.create(spaceId, stream, listener);
+          } catch (IOException e) {
+            throw new IllegalStateException("IO exception while creating asset.", e);
+          }
+        }
+      }, callback);
+    }
+
+    /**
+     * Create a new upload from a file on the configured space, asynchronously.
+     *
+     * @param file     the file to be uploaded. Cannot be null.
+     * @param callback the callback to be informed about success or failure.
+     * @return the callback passed in.
+     * @throws IllegalArgumentException        if configured spaceId is null.
+     * @throws IllegalArgumentException        if file is null.
+     * @throws IllegalStateException           if something in the transmittal went wrong.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see CMAClient.Builder#setSpaceId(String)
+     */
+    public CMACallback<CMAUpload> create(
+        final File file,
+        CMACallback<CMAUpload> callback) {
+      return defer(new DefFunc<CMAUpload>() {
+        @Override CMAUpload method() {
+          try {
+            return ModuleUploads.this.create(file);
+          } catch (IOException e) {
+            throw new IllegalStateException("IO exception while creating asset.", e);
+          }
+        }
+      }, callback);
+    }
+
+    /**
+     * Create a new upload from a file, asynchronously.
+     * <p>
+     * This method will override the configuration specified through
+     * {@link CMAClient.Builder#setSpaceId(String)} and will ignore
+     * {@link CMAClient.Builder#setEnvironmentId(String)}.
+     *
+     * @param spaceId  a nonnull id representing the space to add the upload to.
+     * @param file     the file to be uploaded. Cannot be null.
+     * @param listener the listener to be informed about the bytes sent, may be null.
+     * @param callback the callback to be informed about success or failure.
+     * @return the callback passed in.
+     * @throws IllegalArgumentException if spaceId is null.
+     * @throws IllegalArgumentException if file is null.
+     * @throws IllegalStateException    if something in the transmittal went wrong.
+     */
+    public CMACallback<CMAUpload> create(
+        final String spaceId,
+        final File file,
+        final UploadProgressListener listener,
+        CMACallback<CMAUpload> callback) {
+      return defer(new DefFunc<CMAUpload>() {
+        @Override CMAUpload method() {
+          try {
+            return ModuleUploads.this.create(spaceId, file, listener);
+          } catch (IOException e) {
+            throw new IllegalStateException("IO exception while creating asset.", e);
+          }
+        }
+      }, callback);
+    }
+
+    /**
+     * Create a new upload from a path on the configured space, asynchronously.
+     *
+     * @param path     the path of the file to be uploaded. Cannot be null.
+     * @param callback the callback to be informed about success or failure.
+     * @return the callback passed in.
+     * @throws IllegalArgumentException        if configured spaceId is null.
+     * @throws IllegalArgumentException        if path is null.
+     * @throws IllegalStateException           if something in the transmittal went wrong.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see CMAClient.Builder#setSpaceId(String)
+     */
+    public CMACallback<CMAUpload> create(
+        final Path path,
+        CMACallback<CMAUpload> callback) {
+      return defer(new DefFunc<CMAUpload>() {
+        @Override CMAUpload method() {
+          try {
+            return ModuleUploads.this.create(path);
+          } catch (IOException e) {
+            throw new IllegalStateException("IO exception while creating asset.", e);
+          }
+        }
+      }, callback);
+    }
+
+    /**
+     * Create a new upload from a path, asynchronously.
+     * <p>
+     * This method will override the configuration specified through
+     * {@link CMAClient.Builder#setSpaceId(String)} and will ignore
+     * {@link CMAClient.Builder#setEnvironmentId(String)}.
+     *
+     * @param spaceId  a nonnull id representing the space to add the upload to.
+     * @param path     the path of the file to be uploaded. Cannot be null.
+     * @param listener the listener to be informed about the bytes sent, may be null.
+     * @param callback the callback to be informed about success or failure.
+     * @return the callback passed in.
+     * @throws IllegalArgumentException if spaceId is null.
+     * @throws IllegalArgumentException if path is null.
+     * @throws IllegalStateException    if something in the transmittal went wrong.
+     */
+    public CMACallback<CMAUpload> create(
+        final String spaceId,
+        final Path path,
+        final UploadProgressListener listener,
+        CMACallback<CMAUpload> callback) {
+      return defer(new DefFunc<CMAUpload>() {
+        @Override CMAUpload method() {
+          try {
+            return ModuleUploads.this.create(spaceId, path, listener);
+          } catch (IOException e) {
+            throw new IllegalStateException("IO exception while creating asset.", e);
+          }
+        }
+      }, callback);
+    }
+
     /**
      * Get information about the given upload, asynchronously.
      *
@@ -342,4 +641,118 @@ public class ModuleUploads extends AbsModule<ServiceUploads> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   */
+  public class Futures {
+    /**
+     * @param uploadId the id of the upload in the configured space.
+     * @return a future of the upload.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleUploads#fetchOne(String)
+     */
+    public CompletableFuture<CMAUpload> fetchOne(String uploadId) {
+      throwIfEnvironmentIdIsSet();
+      return fetchOne(spaceId, uploadId);
+    }
+
+    /**
+     * @param spaceId  the space of the upload.
+     * @param uploadId the id of the upload.
+     * @return a future of the upload.
+     * @see ModuleUploads#fetchOne(String, String)
+     */
+    public CompletableFuture<CMAUpload> fetchOne(String spaceId, String uploadId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, uploadId));
+    }
+
+    /**
+     * @param upload the upload to be deleted.
+     * @return a future of the response code.
+     * @see ModuleUploads#delete(CMAUpload)
+     */
+    public CompletableFuture<Integer> delete(CMAUpload upload) {
+      return toFuture(deleteRequest(asyncService, upload));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @param uploadId the id of the upload in the configured space.
+     * @return a single emitting the upload.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleUploads#fetchOne(String)
+     */
+    public Single<CMAUpload> fetchOne(String uploadId) {
+      throwIfEnvironmentIdIsSet();
+      return fetchOne(spaceId, uploadId);
+    }
+
+    /**
+     * @param spaceId  the space of the upload.
+     * @param uploadId the id of the upload.
+     * @return a single emitting the upload.
+     * @see ModuleUploads#fetchOne(String, String)
+     */
+    public Single<CMAUpload> fetchOne(String spaceId, String uploadId) {
+      return single(fetchOneRequest(asyncService, spaceId, uploadId));
+    }
+
+    /**
+     * @param upload the upload to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleUploads#delete(CMAUpload)
+     */
+    public Single<Integer> delete(CMAUpload upload) {
+      return single(deleteRequest(asyncService, upload));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
@@ -17,6 +17,7 @@
 package com.contentful.java.cma;
 
 import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAHttpException;
 import com.contentful.java.cma.model.CMANotWithEnvironmentsException;
 import com.contentful.java.cma.model.CMASystem;
 import com.contentful.java.cma.model.CMAWebhook;
@@ -25,8 +26,13 @@ import com.contentful.java.cma.model.CMAWebhookCallDetail;
 import com.contentful.java.cma.model.CMAWebhookHealth;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 
 /**
@@ -76,6 +82,20 @@ public class ModuleWebhooks extends AbsModule<ServiceWebhooks> {
     return async;
   }
 
+  /**
+   * @return a set of non-blocking methods, returning futures of their results.
+   */
+  public Futures futures() {
+    return new Futures();
+  }
+
+  /**
+   * @return a new set of reactive methods, returning requests instead of sending them.
+   */
+  public Rx rx() {
+    return new Rx();
+  }
+
   /**
    * Create a new webhook.
    * <p>
@@ -137,10 +157,14 @@ public class ModuleWebhooks extends AbsModule<ServiceWebhooks> {
    * @throws IllegalArgumentException if webhookId is null.
    */
   public Integer delete(CMAWebhook webhook) {
+    return deleteRequest(service, webhook).blockingFirst();
+  }
+
+  private Flowable<Integer> deleteRequest(ServiceWebhooks service, CMAWebhook webhook) {
     final String webhookId = getResourceIdOrThrow(webhook, "webhook");
     final String spaceId = getSpaceIdOrThrow(webhook, "webhook");
 
-    return service.delete(spaceId, webhookId).blockingFirst().code();
+    return service.delete(spaceId, webhookId).map(Response::code);
   }
 
   /**
@@ -202,12 +226,19 @@ public class ModuleWebhooks extends AbsModule<ServiceWebhooks> {
    * @throws IllegalArgumentException if spaceId is null.
    */
   public CMAArray<CMAWebhook> fetchAll(String spaceId, Map<String, String> query) {
+    return fetchAllRequest(service, spaceId, query).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAWebhook>> fetchAllRequest(
+      ServiceWebhooks service,
+      String spaceId,
+      Map<String, String> query) {
     assertNotNull(spaceId, "spaceId");
 
     if (query == null) {
-      return service.fetchAll(spaceId).blockingFirst();
+      return service.fetchAll(spaceId);
     } else {
-      return service.fetchAll(spaceId, query).blockingFirst();
+      return service.fetchAll(spaceId, query);
     }
   }
 
@@ -242,10 +273,17 @@ public class ModuleWebhooks extends AbsModule<ServiceWebhooks> {
    * @throws IllegalArgumentException if webhookId is null.
    */
   public CMAWebhook fetchOne(String spaceId, String webhookId) {
+    return fetchOneRequest(service, spaceId, webhookId).blockingFirst();
+  }
+
+  private Flowable<CMAWebhook> fetchOneRequest(
+      ServiceWebhooks service,
+      String spaceId,
+      String webhookId) {
     assertNotNull(spaceId, "spaceId");
     assertNotNull(webhookId, "webhookId");
 
-    return service.fetchOne(spaceId, webhookId).blockingFirst();
+    return service.fetchOne(spaceId, webhookId);
   }
 
   /**
@@ -261,13 +299,17 @@ public class ModuleWebhooks extends AbsModule<ServiceWebhooks> {
    * @throws IllegalArgumentException if version is null.
    */
   public CMAWebhook update(CMAWebhook webhook) {
+    return updateRequest(service, webhook).blockingFirst();
+  }
+
+  private Flowable<CMAWebhook> updateRequest(ServiceWebhooks service, CMAWebhook webhook) {
     assertNotNull(webhook, "webhook");
 
     final String webhookId = getResourceIdOrThrow(webhook, "webhook");
     final String spaceId = getSpaceIdOrThrow(webhook, "webhook");
     final Integer version = getVersionOrThrow(webhook, "webhook");
 
-    return service.update(version, spaceId, webhookId, webhook).blockingFirst();
+    return service.update(version, spaceId, webhookId, webhook);
   }
 
   /**
@@ -280,10 +322,16 @@ public class ModuleWebhooks extends AbsModule<ServiceWebhooks> {
    * @see CMAWebhookCall
    */
   public CMAArray<CMAWebhookCall> calls(CMAWebhook webhook) {
+    return callsRequest(service, webhook).blockingFirst();
+  }
+
+  private Flowable<CMAArray<CMAWebhookCall>> callsRequest(
+      ServiceWebhooks service,
+      CMAWebhook webhook) {
     final String spaceId = getSpaceIdOrThrow(webhook, "webhook");
     final String webhookId = getResourceIdOrThrow(webhook, "webhook");
 
-    return service.calls(spaceId, webhookId).blockingFirst();
+    return service.calls(spaceId, webhookId);
   }
 
   /**
@@ -297,12 +345,18 @@ public class ModuleWebhooks extends AbsModule<ServiceWebhooks> {
    * @throws IllegalArgumentException if callId is null.
    */
   public CMAWebhookCallDetail callDetails(CMAWebhookCall call) {
+    return callDetailsRequest(service, call).blockingFirst();
+  }
+
+  private Flowable<CMAWebhookCallDetail> callDetailsRequest(
+      ServiceWebhooks service,
+      CMAWebhookCall call) {
     final String spaceId = getSpaceIdOrThrow(call, "call");
     final String callId = getResourceIdOrThrow(call, "call");
     assertNotNull(call.getSystem().getCreatedBy().getId(), "webhook.sys.createdBy");
     final String webhookId = call.getSystem().getCreatedBy().getId();
 
-    return service.callDetails(spaceId, webhookId, callId).blockingFirst();
+    return service.callDetails(spaceId, webhookId, callId);
   }
 
   /**
@@ -314,10 +368,14 @@ public class ModuleWebhooks extends AbsModule<ServiceWebhooks> {
    * @throws IllegalArgumentException if webhook is null.
    */
   public CMAWebhookHealth health(CMAWebhook webhook) {
+    return healthRequest(service, webhook).blockingFirst();
+  }
+
+  private Flowable<CMAWebhookHealth> healthRequest(ServiceWebhooks service, CMAWebhook webhook) {
     final String spaceId = getSpaceIdOrThrow(webhook, "webhook");
     final String webhookId = getResourceIdOrThrow(webhook, "webhook");
 
-    return service.health(spaceId, webhookId).blockingFirst();
+    return service.health(spaceId, webhookId);
   }
 
   /**
@@ -602,4 +660,284 @@ public class ModuleWebhooks extends AbsModule<ServiceWebhooks> {
       }, callback);
     }
   }
+
+  /**
+   * Futures module.
+   * <p>
+   * Requests are enqueued to the call factory of the client, no thread waits for the response.
+   * Cancelling a future cancels its request, failures complete it exceptionally.
+   * <p>
+   * Creating is not offered yet, it detaches the system properties of the webhook while the
+   * request is sent.
+   */
+  public class Futures {
+    /**
+     * @param webhook the webhook to be deleted.
+     * @return a future of the response code.
+     * @see ModuleWebhooks#delete(CMAWebhook)
+     */
+    public CompletableFuture<Integer> delete(CMAWebhook webhook) {
+      return toFuture(deleteRequest(asyncService, webhook));
+    }
+
+    /**
+     * @return a future of all webhooks of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleWebhooks#fetchAll()
+     */
+    public CompletableFuture<CMAArray<CMAWebhook>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a future of all webhooks of the space.
+     * @see ModuleWebhooks#fetchAll(String)
+     */
+    public CompletableFuture<CMAArray<CMAWebhook>> fetchAll(String spaceId) {
+      return fetchAll(spaceId, null);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a future of all matching webhooks of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleWebhooks#fetchAll(Map)
+     */
+    public CompletableFuture<CMAArray<CMAWebhook>> fetchAll(Map<String, String> query) {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId, query);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a future of all matching webhooks of the space.
+     * @see ModuleWebhooks#fetchAll(String, Map)
+     */
+    public CompletableFuture<CMAArray<CMAWebhook>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return toFuture(fetchAllRequest(asyncService, spaceId, query));
+    }
+
+    /**
+     * @param webhookId the id of the webhook in the configured space.
+     * @return a future of the webhook.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleWebhooks#fetchOne(String)
+     */
+    public CompletableFuture<CMAWebhook> fetchOne(String webhookId) {
+      throwIfEnvironmentIdIsSet();
+      return fetchOne(spaceId, webhookId);
+    }
+
+    /**
+     * @param spaceId   the space of the webhook.
+     * @param webhookId the id of the webhook.
+     * @return a future of the webhook.
+     * @see ModuleWebhooks#fetchOne(String, String)
+     */
+    public CompletableFuture<CMAWebhook> fetchOne(String spaceId, String webhookId) {
+      return toFuture(fetchOneRequest(asyncService, spaceId, webhookId));
+    }
+
+    /**
+     * @param webhook the webhook to be updated.
+     * @return a future of the updated webhook.
+     * @see ModuleWebhooks#update(CMAWebhook)
+     */
+    public CompletableFuture<CMAWebhook> update(CMAWebhook webhook) {
+      return toFuture(updateRequest(asyncService, webhook));
+    }
+
+    /**
+     * @param webhook the webhook to be asked.
+     * @return a future of the calls of the webhook.
+     * @see ModuleWebhooks#calls(CMAWebhook)
+     */
+    public CompletableFuture<CMAArray<CMAWebhookCall>> calls(CMAWebhook webhook) {
+      return toFuture(callsRequest(asyncService, webhook));
+    }
+
+    /**
+     * @param call the call to be asked.
+     * @return a future of the details of the call.
+     * @see ModuleWebhooks#callDetails(CMAWebhookCall)
+     */
+    public CompletableFuture<CMAWebhookCallDetail> callDetails(CMAWebhookCall call) {
+      return toFuture(callDetailsRequest(asyncService, call));
+    }
+
+    /**
+     * @param webhook the webhook to be asked.
+     * @return a future of the health of the webhook.
+     * @see ModuleWebhooks#health(CMAWebhook)
+     */
+    public CompletableFuture<CMAWebhookHealth> health(CMAWebhook webhook) {
+      return toFuture(healthRequest(asyncService, webhook));
+    }
+  }
+
+  /**
+   * Reactive module.
+   * <p>
+   * Returns requests as {@link Single}s, sent once subscribed to. Like the {@link Futures}
+   * methods, requests are enqueued to the call factory of the client, so no thread waits for
+   * their responses. Results are emitted on the threads of its dispatcher, unless a scheduler to
+   * observe on is set.
+   * <p>
+   * Arguments are validated right away, failures of the requests are signalled as errors, for
+   * example a {@link CMAHttpException}.
+   * <p>
+   * Creating is not offered yet, it detaches the system properties of the webhook while the
+   * request is sent.
+   */
+  public class Rx {
+    private Scheduler subscribeOn;
+    private Scheduler observeOn;
+
+    /**
+     * Set the scheduler requests are subscribed on. Not needed to avoid blocking, but for
+     * example to move the serialization of big bodies off the calling thread.
+     *
+     * @param scheduler the scheduler to be used, or null to subscribe on the calling thread.
+     * @return this module for chaining.
+     */
+    public Rx setSubscribeOn(Scheduler scheduler) {
+      this.subscribeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * Set the scheduler results get emitted on.
+     *
+     * @param scheduler the scheduler to be used, or null to emit on the threads of the
+     *                  dispatcher of the client.
+     * @return this module for chaining.
+     */
+    public Rx setObserveOn(Scheduler scheduler) {
+      this.observeOn = scheduler;
+      return this;
+    }
+
+    /**
+     * @param webhook the webhook to be deleted.
+     * @return a single emitting the response code.
+     * @see ModuleWebhooks#delete(CMAWebhook)
+     */
+    public Single<Integer> delete(CMAWebhook webhook) {
+      return single(deleteRequest(asyncService, webhook));
+    }
+
+    /**
+     * @return a single emitting all webhooks of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleWebhooks#fetchAll()
+     */
+    public Single<CMAArray<CMAWebhook>> fetchAll() {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @return a single emitting all webhooks of the space.
+     * @see ModuleWebhooks#fetchAll(String)
+     */
+    public Single<CMAArray<CMAWebhook>> fetchAll(String spaceId) {
+      return fetchAll(spaceId, null);
+    }
+
+    /**
+     * @param query the criteria to filter on.
+     * @return a single emitting all matching webhooks of the configured space.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleWebhooks#fetchAll(Map)
+     */
+    public Single<CMAArray<CMAWebhook>> fetchAll(Map<String, String> query) {
+      throwIfEnvironmentIdIsSet();
+      return fetchAll(spaceId, query);
+    }
+
+    /**
+     * @param spaceId the space to fetch from.
+     * @param query   the criteria to filter on.
+     * @return a single emitting all matching webhooks of the space.
+     * @see ModuleWebhooks#fetchAll(String, Map)
+     */
+    public Single<CMAArray<CMAWebhook>> fetchAll(
+        String spaceId,
+        Map<String, String> query) {
+      return single(fetchAllRequest(asyncService, spaceId, query));
+    }
+
+    /**
+     * @param webhookId the id of the webhook in the configured space.
+     * @return a single emitting the webhook.
+     * @throws CMANotWithEnvironmentsException if environmentId was set using
+     *                                         {@link CMAClient.Builder#setEnvironmentId(String)}.
+     * @see ModuleWebhooks#fetchOne(String)
+     */
+    public Single<CMAWebhook> fetchOne(String webhookId) {
+      throwIfEnvironmentIdIsSet();
+      return fetchOne(spaceId, webhookId);
+    }
+
+    /**
+     * @param spaceId   the space of the webhook.
+     * @param webhookId the id of the webhook.
+     * @return a single emitting the webhook.
+     * @see ModuleWebhooks#fetchOne(String, String)
+     */
+    public Single<CMAWebhook> fetchOne(String spaceId, String webhookId) {
+      return single(fetchOneRequest(asyncService, spaceId, webhookId));
+    }
+
+    /**
+     * @param webhook the webhook to be updated.
+     * @return a single emitting the updated webhook.
+     * @see ModuleWebhooks#update(CMAWebhook)
+     */
+    public Single<CMAWebhook> update(CMAWebhook webhook) {
+      return single(updateRequest(asyncService, webhook));
+    }
+
+    /**
+     * @param webhook the webhook to be asked.
+     * @return a single emitting the calls of the webhook.
+     * @see ModuleWebhooks#calls(CMAWebhook)
+     */
+    public Single<CMAArray<CMAWebhookCall>> calls(CMAWebhook webhook) {
+      return single(callsRequest(asyncService, webhook));
+    }
+
+    /**
+     * @param call the call to be asked.
+     * @return a single emitting the details of the call.
+     * @see ModuleWebhooks#callDetails(CMAWebhookCall)
+     */
+    public Single<CMAWebhookCallDetail> callDetails(CMAWebhookCall call) {
+      return single(callDetailsRequest(asyncService, call));
+    }
+
+    /**
+     * @param webhook the webhook to be asked.
+     * @return a single emitting the health of the webhook.
+     * @see ModuleWebhooks#health(CMAWebhook)
+     */
+    public Single<CMAWebhookHealth> health(CMAWebhook webhook) {
+      return single(healthRequest(asyncService, webhook));
+    }
+
+    private <R> Single<R> single(Flowable<R> request) {
+      return schedule(request, subscribeOn, observeOn).firstOrError();
+    }
+  }
 }
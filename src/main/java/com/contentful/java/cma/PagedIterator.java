@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.interceptor.RateLimitsTracker;
+import com.contentful.java.cma.model.CMAArray;
+import com.contentful.java.cma.model.CMAResource;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Lazily iterates over all items of a collection endpoint, page by page.
+ * <p>
+ * Only the page currently being consumed and the pages requested after it are held in memory: as
+ * soon as a page is handed out, the requests for the following pages are issued in the
+ * background, so the network round trips overlap with the caller processing the current items.
+ * <p>
+ * Once the first page reported the total, up to {@code window} pages are requested concurrently,
+ * additionally bounded by the per second budget last reported by Contentful. Items are always
+ * returned in the order of the collection.
+ * <p>
+ * Instances are not thread safe and are meant to be consumed by a single thread.
+ *
+ * @param <T> the type of the resources to be iterated.
+ */
+public class PagedIterator<T extends CMAResource> implements Iterator<T> {
+  static final String PARAMETER_SKIP = "skip";
+
+  private final Function<Map<String, String>, Flowable<CMAArray<T>>> fetcher;
+  private final Map<String, String> query;
+  private final int window;
+  private final RateLimitsTracker rateLimits;
+  private final Deque<Future<CMAArray<T>>> pending = new ArrayDeque<>();
+
+  private Iterator<T> current = Collections.emptyIterator();
+  private boolean started;
+  private int nextSkip;
+  private int stride = -1;
+  private int total = -1;
+
+  /**
+   * Create a new iterator, prefetching one page at a time.
+   *
+   * @param fetcher the function requesting one page for the given query.
+   * @param query   the query to be used for every page. The skip will be amended.
+   */
+  PagedIterator(
+      Function<Map<String, String>, Flowable<CMAArray<T>>> fetcher,
+      Map<String, String> query) {
+    this(fetcher, query, 1, null);
+  }
+
+  /**
+   * Create a new iterator, fetching several pages concurrently.
+   *
+   * @param fetcher    the function requesting one page for the given query.
+   * @param query      the query to be used for every page. The skip will be amended.
+   * @param window     the maximum number of pages requested at the same time.
+   * @param rateLimits the rate limits of the client, or null if they should not be respected.
+   * @throws IllegalArgumentException if window is less than 1.
+   */
+  PagedIterator(
+      Function<Map<String, String>, Flowable<CMAArray<T>>> fetcher,
+      Map<String, String> query,
+      int window,
+      RateLimitsTracker rateLimits) {
+    if (window < 1) {
+      throw new IllegalArgumentException(String.format(
+          "%s may not be less than 1.", "window"));
+    }
+
+    this.fetcher = fetcher;
+    this.query = DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
+    this.window = window;
+    this.rateLimits = rateLimits;
+    this.nextSkip = parseSkip(this.query);
+  }
+
+  /**
+   * @return true if more items are available, requesting the next pages if needed.
+   * @throws RuntimeException if a page could not be fetched.
+   */
+  @Override public boolean hasNext() {
+    if (!started) {
+      started = true;
+      pending.add(request(nextSkip));
+    }
+
+    while (!current.hasNext()) {
+      if (pending.isEmpty()) {
+        return false;
+      }
+
+      final CMAArray<T> page = await(pending.poll());
+      final List<T> items = page.getItems() == null ? Collections.emptyList() : page.getItems();
+      total = page.getTotal();
+
+      if (stride < 0) {
+        // first page: from now on all offsets are known upfront.
+        stride = page.getLimit() > 0 ? page.getLimit() : items.size();
+        nextSkip += stride;
+      }
+
+      requestMorePages();
+      current = items.iterator();
+    }
+
+    return true;
+  }
+
+  /**
+   * @return the next item.
+   * @throws NoSuchElementException if no more items are available.
+   */
+  @Override public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  /**
+   * @return the total number of items as reported by the last page, or -1 if none was fetched yet.
+   */
+  public int getTotal() {
+    return total;
+  }
+
+  private void requestMorePages() {
+    final int inFlight = maximumInFlight();
+    while (stride > 0 && nextSkip < total && pending.size() < inFlight) {
+      pending.add(request(nextSkip));
+      nextSkip += stride;
+    }
+  }
+
+  private int maximumInFlight() {
+    if (rateLimits == null || window == 1) {
+      return window;
+    }
+
+    return Math.max(1, Math.min(window, rateLimits.getSecondBudget(window)));
+  }
+
+  private Future<CMAArray<T>> request(int skip) {
+    final Map<String, String> pageQuery = new HashMap<>(query);
+    pageQuery.put(PARAMETER_SKIP, Integer.toString(skip));
+
+    return fetcher.apply(pageQuery)
+        .subscribeOn(Schedulers.io())
+        .toFuture();
+  }
+
+  /**
+   * Emit all items of the collection, page by page, as requested downstream.
+   * <p>
+   * The first page reports the total, the following pages are requested one after the other,
+   * the next one while the items of the current one are consumed.
+   *
+   * @param fetcher the function requesting one page for the given query.
+   * @param query   the query to be used for every page. The skip will be amended.
+   * @param <T>     the type of the resources to be emitted.
+   * @return a flowable of all items, requesting the first page once subscribed.
+   */
+  static <T extends CMAResource> Flowable<T> flowable(
+      Function<Map<String, String>, Flowable<CMAArray<T>>> fetcher,
+      Map<String, String> query) {
+    final Map<String, String> pageQuery =
+        DefaultQueryParameter.putIfNotSet(query, DefaultQueryParameter.FETCH);
+    final int firstSkip = parseSkip(pageQuery);
+
+    final Function<Integer, Flowable<CMAArray<T>>> page = skip -> {
+      final Map<String, String> skipped = new HashMap<>(pageQuery);
+      skipped.put(PARAMETER_SKIP, Integer.toString(skip));
+      return Flowable.defer(() -> fetcher.apply(skipped));
+    };
+
+    return page.apply(firstSkip)
+        .concatMap(first -> {
+          final int size = first.getItems() == null ? 0 : first.getItems().size();
+          final int stride = first.getLimit() > 0 ? first.getLimit() : size;
+          final int remaining = first.getTotal() - firstSkip - stride;
+          if (stride <= 0 || remaining <= 0) {
+            return Flowable.just(first);
+          }
+
+          final int pages = (remaining + stride - 1) / stride;
+          return Flowable.just(first).concatWith(Flowable.range(1, pages)
+              .concatMap(index -> page.apply(firstSkip + index * stride), 1));
+        })
+        .concatMapIterable(array -> array.getItems() == null
+            ? Collections.<T>emptyList()
+            : array.getItems(), 1);
+  }
+
+  /**
+   * Block until the given page request finished, unwrapping its failure.
+   */
+  static <R> R await(Future<R> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the next page.", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new RuntimeException("Unexpected Exception", cause);
+    }
+  }
+
+  private static int parseSkip(Map<String, String> query) {
+    final String skip = query.get(PARAMETER_SKIP);
+    if (skip == null) {
+      return 0;
+    }
+
+    try {
+      return Integer.parseInt(skip);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(String.format("%s is not a valid skip.", skip), e);
+    }
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import com.contentful.java.cma.model.CMAHttpException;
+import com.contentful.java.cma.model.CMAUpload;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Uploads large files, surviving network failures and restarts of the uploading process.
+ * <p>
+ * Every file is streamed in one request, which is retried with an increasing delay if it fails
+ * transiently. Once a file is uploaded its upload id is stored in a local checkpoint file, so
+ * running the same uploads again, for example after the process got interrupted, reuses the
+ * uploads still present on Contentful instead of sending the files again. Files changed since
+ * their upload are sent again.
+ * <p>
+ * Several files are uploaded in parallel by a bounded number of workers.
+ */
+public class ResumableUploader {
+  /**
+   * How many files are uploaded at the same time by default.
+   */
+  public static final int DEFAULT_PARALLELISM = 4;
+
+  /**
+   * How often a file is tried to be uploaded by default.
+   */
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  /**
+   * How long to wait before the first retry by default, doubling for every further one.
+   */
+  public static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+
+  private static final int HTTP_NOT_FOUND = 404;
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final int HTTP_SERVER_ERROR = 500;
+  private static final String SEPARATOR = ":";
+
+  private final ModuleUploads uploads;
+  private final File checkpointFile;
+  private final Properties checkpoint = new Properties();
+
+  private volatile int parallelism = DEFAULT_PARALLELISM;
+  private volatile int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+  private volatile long retryDelayMillis = DEFAULT_RETRY_DELAY_MILLIS;
+
+  private final AtomicInteger uploadedCount = new AtomicInteger();
+  private final AtomicInteger resumedCount = new AtomicInteger();
+  private final AtomicInteger retryCount = new AtomicInteger();
+
+  /**
+   * Create an uploader, continuing the uploads recorded in the given checkpoint file.
+   *
+   * @param uploads        the module to upload with, see {@link CMAClient#uploads()}.
+   * @param checkpointFile the file to record finished uploads in, created if not existing.
+   * @throws IllegalArgumentException if uploads or checkpointFile is null.
+   * @throws IOException              if an existing checkpoint file could not be read.
+   */
+  public ResumableUploader(ModuleUploads uploads, File checkpointFile) throws IOException {
+    if (uploads == null) {
+      throw new IllegalArgumentException("uploads may not be null.");
+    }
+    if (checkpointFile == null) {
+      throw new IllegalArgumentException("checkpointFile may not be null.");
+    }
+
+    this.uploads = uploads;
+    this.checkpointFile = checkpointFile;
+
+    if (checkpointFile.exists()) {
+      try (InputStream stream = new FileInputStream(checkpointFile)) {
+        checkpoint.load(stream);
+      }
+    }
+  }
+
+  /**
+   * Set how many files are uploaded at the same time by {@link #uploadAll(String, Collection)}.
+   *
+   * @param parallelism the number of workers uploading.
+   * @return this uploader for chaining.
+   * @throws IllegalArgumentException if parallelism is less than one.
+   */
+  public ResumableUploader setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism may not be less than one.");
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Set how often a file is tried to be uploaded, before its failure is reported.
+   *
+   * @param maxAttempts      the number of attempts, including the first one.
+   * @param retryDelayMillis the delay before the first retry, doubled for every further one.
+   * @return this uploader for chaining.
+   * @throws IllegalArgumentException if maxAttempts is less than one or the delay is negative.
+   */
+  public ResumableUploader setRetries(int maxAttempts, long retryDelayMillis) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts may not be less than one.");
+    }
+    if (retryDelayMillis < 0) {
+      throw new IllegalArgumentException("retryDelayMillis may not be negative.");
+    }
+    this.maxAttempts = maxAttempts;
+    this.retryDelayMillis = retryDelayMillis;
+    return this;
+  }
+
+  /**
+   * Upload a file, or reuse its upload recorded in the checkpoint.
+   *
+   * @param spaceId the id of the space to upload to.
+   * @param file    the file to be uploaded.
+   * @return the upload of this file.
+   * @throws IllegalArgumentException if spaceId or file is null.
+   * @throws IOException              if the file could not be read or the checkpoint not be
+   *                                  written.
+   * @throws CMAHttpException         if the upload failed permanently, or on its last attempt.
+   */
+  public CMAUpload upload(String spaceId, File file) throws IOException {
+    if (spaceId == null) {
+      throw new IllegalArgumentException("spaceId may not be null.");
+    }
+    if (file == null) {
+      throw new IllegalArgumentException("file may not be null.");
+    }
+
+    for (int attempt = 1; ; ++attempt) {
+      try {
+        return resumeOrUpload(spaceId, file);
+      } catch (RuntimeException e) {
+        if (attempt >= maxAttempts || !isTransient(e)) {
+          throw e;
+        }
+      }
+
+      retryCount.incrementAndGet();
+      sleep(retryDelayMillis << (attempt - 1));
+    }
+  }
+
+  /**
+   * Upload all given files in parallel, reusing uploads recorded in the checkpoint.
+   * <p>
+   * A failing file does not stop the others. All files are tried, the successful ones recorded,
+   * and the first failure is thrown afterwards, so running the same files again only sends the
+   * failed ones.
+   *
+   * @param spaceId the id of the space to upload to.
+   * @param files   the files to be uploaded.
+   * @return the uploads of the files, in the order of the files given.
+   * @throws IllegalArgumentException if spaceId or files is null.
+   * @throws IOException              if a file could not be read or the checkpoint not be
+   *                                  written.
+   * @throws CMAHttpException         if an upload failed permanently.
+   */
+  public Map<File, CMAUpload> uploadAll(final String spaceId, Collection<File> files)
+      throws IOException {
+    if (spaceId == null) {
+      throw new IllegalArgumentException("spaceId may not be null.");
+    }
+    if (files == null) {
+      throw new IllegalArgumentException("files may not be null.");
+    }
+
+    final Map<File, CMAUpload> result = new LinkedHashMap<>();
+    if (files.isEmpty()) {
+      return result;
+    }
+
+    final ExecutorService workers =
+        Executors.newFixedThreadPool(Math.min(parallelism, files.size()));
+    try {
+      final List<Future<CMAUpload>> futures = new ArrayList<>(files.size());
+      for (final File file : files) {
+        futures.add(workers.submit(new Callable<CMAUpload>() {
+          @Override public CMAUpload call() throws IOException {
+            return upload(spaceId, file);
+          }
+        }));
+      }
+
+      Throwable failure = null;
+      int index = 0;
+      for (final File file : files) {
+        try {
+          result.put(file, futures.get(index++).get());
+        } catch (ExecutionException e) {
+          if (failure == null) {
+            failure = e.getCause();
+          }
+        }
+      }
+
+      if (failure instanceof IOException) {
+        throw (IOException) failure;
+      } else if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      } else if (failure != null) {
+        throw new IllegalStateException("Upload failed.", failure);
+      }
+      return result;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for uploads.");
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  /**
+   * @return how many files got sent.
+   */
+  public int getUploadedCount() {
+    return uploadedCount.get();
+  }
+
+  /**
+   * @return how many files were not sent, since their upload was found in the checkpoint.
+   */
+  public int getResumedCount() {
+    return resumedCount.get();
+  }
+
+  /**
+   * @return how many attempts got retried after a transient failure.
+   */
+  public int getRetryCount() {
+    return retryCount.get();
+  }
+
+  private CMAUpload resumeOrUpload(String spaceId, File file) throws IOException {
+    final String key = spaceId + SEPARATOR + file.getCanonicalPath();
+    final String fingerprint = file.length() + SEPARATOR + file.lastModified();
+
+    final String recorded;
+    synchronized (checkpoint) {
+      recorded = checkpoint.getProperty(key);
+    }
+
+    if (recorded != null && recorded.startsWith(fingerprint + SEPARATOR)) {
+      final String uploadId = recorded.substring(fingerprint.length() + SEPARATOR.length());
+      try {
+        final CMAUpload upload = uploads.fetchOne(spaceId, uploadId);
+        resumedCount.incrementAndGet();
+        return upload;
+      } catch (CMAHttpException e) {
+        // uploads expire after a while, so an unknown one is sent again.
+        if (e.responseCode() != HTTP_NOT_FOUND) {
+          throw e;
+        }
+      }
+    }
+
+    final CMAUpload upload = uploads.create(spaceId, file);
+    uploadedCount.incrementAndGet();
+    record(key, fingerprint + SEPARATOR + upload.getId());
+    return upload;
+  }
+
+  private void record(String key, String value) throws IOException {
+    synchronized (checkpoint) {
+      checkpoint.setProperty(key, value);
+
+      // write next to the checkpoint and replace it, so a crash never leaves a partial one.
+      final File parent = checkpointFile.getAbsoluteFile().getParentFile();
+      final File temporary = File.createTempFile(checkpointFile.getName(), ".tmp", parent);
+      try {
+        try (OutputStream stream = new FileOutputStream(temporary)) {
+          checkpoint.store(stream, "Contentful uploads");
+        }
+        Files.move(temporary.toPath(), checkpointFile.toPath(),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temporary.toPath());
+      }
+    }
+  }
+
+  private static boolean isTransient(RuntimeException e) {
+    if (e instanceof CMAHttpException) {
+      final int code = ((CMAHttpException) e).responseCode();
+      return code == HTTP_TOO_MANY_REQUESTS || code >= HTTP_SERVER_ERROR;
+    }
+    // failures of the connection are reported wrapped by rx.
+    return e.getCause() instanceof IOException;
+  }
+
+  private static void sleep(long millis) throws InterruptedIOException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to retry.");
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+/**
+ * Listener to be informed about the progress of an upload.
+ * <p>
+ * It gets called on the thread writing the request body, after every chunk of the upload handed
+ * to the connection. Keep its work short, since the upload waits for it to return.
+ *
+ * @see ModuleUploads#create(String, java.io.File, UploadProgressListener)
+ */
+public interface UploadProgressListener {
+  /**
+   * Called after a chunk of the upload was sent.
+   *
+   * @param bytesSent  how many bytes got sent so far.
+   * @param totalBytes the size of the upload, or -1 if not known upfront, like for streams.
+   */
+  void onProgress(long bytesSent, long totalBytes);
+}
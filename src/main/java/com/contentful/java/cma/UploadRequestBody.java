@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.internal.http.UnrepeatableRequestBody;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Source;
+
+import static com.contentful.java.cma.Constants.OCTET_STREAM_CONTENT_TYPE;
+
+/**
+ * Request body streaming an upload from its source into the connection.
+ * <p>
+ * Only one segment of the upload is held in memory at a time, independent of its size.
+ */
+abstract class UploadRequestBody extends RequestBody {
+  static final long CHUNK_SIZE = 8192;
+  private static final MediaType OCTET_STREAM = MediaType.parse(OCTET_STREAM_CONTENT_TYPE);
+
+  private final long contentLength;
+  private final UploadProgressListener listener;
+
+  UploadRequestBody(long contentLength, UploadProgressListener listener) {
+    this.contentLength = contentLength;
+    this.listener = listener;
+  }
+
+  /**
+   * Create a body sending the remaining content of the given source.
+   * <p>
+   * The source is read exactly once and not closed, so the body cannot be sent again. It is
+   * marked as unrepeatable, so OkHttp does not retry or follow redirects with it.
+   *
+   * @param source   the content to be uploaded.
+   * @param listener the listener to be informed about the progress, may be null.
+   * @return a body of unknown length.
+   */
+  static UploadRequestBody create(BufferedSource source, UploadProgressListener listener) {
+    return new StreamBody(source, listener);
+  }
+
+  /**
+   * Create a body sending the given file, opening it every time the body gets written.
+   *
+   * @param file     the file to be uploaded.
+   * @param listener the listener to be informed about the progress, may be null.
+   * @return a body of the length of the file.
+   */
+  static UploadRequestBody create(final File file, UploadProgressListener listener) {
+    return new UploadRequestBody(file.length(), listener) {
+      @Override Source open() throws IOException {
+        return Okio.source(file);
+      }
+    };
+  }
+
+  /**
+   * Create a body sending the given file, opening it every time the body gets written.
+   *
+   * @param path     the path of the file to be uploaded.
+   * @param listener the listener to be informed about the progress, may be null.
+   * @return a body of the length of the file.
+   * @throws IOException if the size of the file could not be read.
+   */
+  static UploadRequestBody create(final Path path, UploadProgressListener listener)
+      throws IOException {
+    return new UploadRequestBody(Files.size(path), listener) {
+      @Override Source open() throws IOException {
+        return Okio.source(path);
+      }
+    };
+  }
+
+  /**
+   * @return the source of the content, positioned at its start.
+   * @throws IOException if the source could not be opened.
+   */
+  abstract Source open() throws IOException;
+
+  /**
+   * @return whether the source opened should be closed once it is written.
+   */
+  boolean closeAfterWriting() {
+    return true;
+  }
+
+  @Override public MediaType contentType() {
+    return OCTET_STREAM;
+  }
+
+  @Override public long contentLength() {
+    return contentLength;
+  }
+
+  @Override public void writeTo(BufferedSink sink) throws IOException {
+    final Source source = open();
+    try {
+      long sent = 0;
+      long read;
+      while ((read = source.read(sink.buffer(), CHUNK_SIZE)) != -1) {
+        sink.emit();
+        sent += read;
+        if (listener != null) {
+          listener.onProgress(sent, contentLength);
+        }
+      }
+    } finally {
+      if (closeAfterWriting()) {
+        source.close();
+      }
+    }
+  }
+
+  private static class StreamBody extends UploadRequestBody implements UnrepeatableRequestBody {
+    private final BufferedSource source;
+    private boolean consumed;
+
+    StreamBody(BufferedSource source, UploadProgressListener listener) {
+      super(-1, listener);
+      this.source = source;
+    }
+
+    @Override Source open() throws IOException {
+      if (consumed) {
+        throw new IOException("Stream uploads can only be sent once.");
+      }
+      consumed = true;
+      return source;
+    }
+
+    @Override boolean closeAfterWriting() {
+      return false;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.contentful.java.cma.gson;
 
 import com.contentful.java.cma.model.patch.CMAEntryJsonPatchItem;
+import com.contentful.java.cma.model.patch.JsonPatchOperator;
 import com.google.gson.Gson;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
@@ -9,6 +10,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
 
 import java.lang.reflect.Type;
 
@@ -17,6 +19,9 @@ import java.lang.reflect.Type;
  */
 public class CMAEntryJsonPatchItemSerializer
         implements JsonSerializer<CMAEntryJsonPatchItem>, JsonDeserializer<CMAEntryJsonPatchItem> {
+    private static final TypeAdapter<CMAEntryJsonPatchItem> DEFAULT_ADAPTER =
+            new Gson().getAdapter(CMAEntryJsonPatchItem.class);
+
     private final EntrySerializer entrySerializer = new EntrySerializer();
 
     /**
@@ -34,13 +39,21 @@ public class CMAEntryJsonPatchItemSerializer
         result.add("op", context.serialize(src.getOp()));
         result.add("path", context.serialize(src.getPath()));
 
-        JsonElement value;
-        if (src.getValue() != null) {
-            value = entrySerializer.getSerializedFieldValue(context, src.getValue());
-        } else {
-            value = context.serialize(null);
+        final JsonPatchOperator op = src.getOp();
+        if (op != null && op.hasFrom()) {
+            result.add("from", context.serialize(src.getFrom()));
+        }
+
+        // remove, move and copy do not take a value.
+        if (op == null || op.hasValue()) {
+            JsonElement value;
+            if (src.getValue() != null) {
+                value = entrySerializer.getSerializedFieldValue(context, src.getValue());
+            } else {
+                value = context.serialize(null);
+            }
+            result.add("value", value);
         }
-        result.add("value", value);
 
         return result;
     }
@@ -49,7 +62,6 @@ public class CMAEntryJsonPatchItemSerializer
     public CMAEntryJsonPatchItem deserialize(JsonElement json, Type type,
                                              JsonDeserializationContext context)
             throws JsonParseException {
-        return new Gson()
-                .fromJson(json, CMAEntryJsonPatchItem.class); // default deserialization
+        return DEFAULT_ADAPTER.fromJsonTree(json); // default deserialization
     }
 }
@@ -18,6 +18,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
 
 import java.lang.reflect.Type;
 import java.util.LinkedHashMap;
@@ -28,10 +29,16 @@ import static com.contentful.java.cma.model.CMAType.Link;
 
 /**
  * Serialize an entry from Contentful
+ * <p>
+ * The client uses the streaming {@link EntryTypeAdapter} for entries, this serializer is kept for
+ * serializing field values through a {@link JsonSerializationContext}.
  */
 public class EntrySerializer implements JsonSerializer<CMAEntry>, JsonDeserializer<CMAEntry> {
 
-  private final Gson freshGson = new Gson();
+  // reflective adapters are expensive to create but thread safe, so they are shared by all calls.
+  private static final Gson DEFAULT_GSON = new Gson();
+  private static final TypeAdapter<CMAEntry> DEFAULT_ENTRY_ADAPTER =
+      DEFAULT_GSON.getAdapter(CMAEntry.class);
 
   /**
    * Make sure all fields are mapped in the locale - value way.
@@ -69,7 +76,7 @@ public class EntrySerializer implements JsonSerializer<CMAEntry>, JsonDeserializ
   @Override
   public CMAEntry deserialize(JsonElement json, Type type, JsonDeserializationContext context)
       throws JsonParseException {
-    final CMAEntry entry = new Gson().fromJson(json, CMAEntry.class); // default deserialization
+    final CMAEntry entry = DEFAULT_ENTRY_ADAPTER.fromJsonTree(json); // default deserialization
     RichTextFactory.resolveRichTextField(entry);
     return entry;
   }
@@ -125,7 +132,7 @@ public class EntrySerializer implements JsonSerializer<CMAEntry>, JsonDeserializ
   }
 
   private JsonElement serializeRichBlock(JsonSerializationContext context, CMARichBlock block) {
-    final JsonObject jsonBlock = freshGson.toJsonTree(block).getAsJsonObject();
+    final JsonObject jsonBlock = DEFAULT_GSON.toJsonTree(block).getAsJsonObject();
 
     final JsonArray jsonContent = new JsonArray(block.getContent().size());
     for (final CMARichNode contentNode : block.getContent()) {
@@ -139,7 +146,7 @@ public class EntrySerializer implements JsonSerializer<CMAEntry>, JsonDeserializ
 
   private JsonElement serializeRichHyperlink(JsonSerializationContext context,
                                              CMARichHyperLink link) {
-    final JsonObject jsonLink = freshGson.toJsonTree(link).getAsJsonObject();
+    final JsonObject jsonLink = DEFAULT_GSON.toJsonTree(link).getAsJsonObject();
 
     jsonLink.addProperty("nodeType", link.getNodeType());
 
@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma.gson;
+
+import com.contentful.java.cma.model.CMAAsset;
+import com.contentful.java.cma.model.CMAEntry;
+import com.contentful.java.cma.model.CMAResource;
+import com.contentful.java.cma.model.CMASystem;
+import com.contentful.java.cma.model.CMAType;
+import com.contentful.java.cma.model.rich.CMARichNode;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.contentful.java.cma.model.CMAType.Link;
+
+/**
+ * Streaming serialization of entries.
+ * <p>
+ * Entries are read from and written to the json stream directly, without creating an intermediate
+ * json tree. Links and rich text nodes are written as they are encountered, rich text documents
+ * are recognized by their {@code nodeType} while the fields are being read.
+ */
+public class EntryTypeAdapter extends TypeAdapter<CMAEntry> {
+  /**
+   * Factory to be registered on a {@link com.google.gson.GsonBuilder}, creating this adapter for
+   * {@link CMAEntry}.
+   */
+  public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+    @SuppressWarnings("unchecked")
+    @Override public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      if (type.getRawType() != CMAEntry.class) {
+        return null;
+      }
+      return (TypeAdapter<T>) new EntryTypeAdapter(gson);
+    }
+  };
+
+  private static final String NAME_SYS = "sys";
+  private static final String NAME_FIELDS = "fields";
+
+  private final Gson gson;
+  private final TypeAdapter<CMASystem> systemAdapter;
+  private final TypeAdapter<Object> valueAdapter;
+  private final RichTextTypeAdapter richTextAdapter;
+
+  /**
+   * Create an adapter using the given gson for the system properties and plain field values.
+   *
+   * @param gson the configured gson instance.
+   */
+  EntryTypeAdapter(Gson gson) {
+    this.gson = gson;
+    this.systemAdapter = gson.getAdapter(CMASystem.class);
+    this.valueAdapter = gson.getAdapter(Object.class);
+    this.richTextAdapter = new RichTextTypeAdapter(gson);
+  }
+
+  /**
+   * Write the given entry, mapping all fields in the field - locale - value way.
+   *
+   * @param out   the writer to be written to.
+   * @param entry the entry to be written.
+   * @throws IOException if writing failed.
+   */
+  @Override public void write(JsonWriter out, CMAEntry entry) throws IOException {
+    if (entry == null) {
+      out.nullValue();
+      return;
+    }
+
+    out.beginObject();
+    out.name(NAME_FIELDS);
+    out.beginObject();
+    if (entry.getFields() != null) {
+      for (final Map.Entry<String, LinkedHashMap<String, Object>> field
+          : entry.getFields().entrySet()) {
+        final LinkedHashMap<String, Object> values = field.getValue();
+        if (values == null || values.isEmpty()) {
+          continue;
+        }
+
+        out.name(field.getKey());
+        out.beginObject();
+        for (final Map.Entry<String, Object> localized : values.entrySet()) {
+          out.name(localized.getKey());
+          writeFieldValue(out, localized.getValue());
+        }
+        out.endObject();
+      }
+    }
+    out.endObject();
+
+    final CMASystem sys = entry.getSystem();
+    if (sys != null) {
+      out.name(NAME_SYS);
+      systemAdapter.write(out, sys);
+    }
+    out.endObject();
+  }
+
+  /**
+   * Read an entry, resolving rich text documents of its fields.
+   *
+   * @param in the reader to read from.
+   * @return the entry read, or null if the json contained null.
+   * @throws IOException if reading failed.
+   */
+  @Override public CMAEntry read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    final CMAEntry entry = new CMAEntry();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case NAME_SYS:
+          entry.setSystem(systemAdapter.read(in));
+          break;
+        case NAME_FIELDS:
+          entry.setFields(readFields(in));
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+
+    return entry;
+  }
+
+  /**
+   * Write one localized value of a field, replacing resources by links.
+   *
+   * @param out        the writer to be written to.
+   * @param fieldValue the value to be written.
+   * @throws IOException if writing failed.
+   */
+  @SuppressWarnings("unchecked")
+  void writeFieldValue(JsonWriter out, Object fieldValue) throws IOException {
+    if (fieldValue instanceof CMAResource) {
+      writeLink(out, (CMAResource) fieldValue);
+    } else if (fieldValue instanceof List) {
+      out.beginArray();
+      for (final Object item : (List<Object>) fieldValue) {
+        if (item instanceof CMAResource) {
+          writeLink(out, (CMAResource) item);
+        } else {
+          writeValue(out, item);
+        }
+      }
+      out.endArray();
+    } else if (fieldValue instanceof CMARichNode) {
+      richTextAdapter.write(out, (CMARichNode) fieldValue);
+    } else {
+      writeValue(out, fieldValue);
+    }
+  }
+
+  private LinkedHashMap<String, LinkedHashMap<String, Object>> readFields(JsonReader in)
+      throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    final LinkedHashMap<String, LinkedHashMap<String, Object>> fields = new LinkedHashMap<>();
+    in.beginObject();
+    while (in.hasNext()) {
+      final String fieldId = in.nextName();
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        fields.put(fieldId, null);
+        continue;
+      }
+
+      final LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+      in.beginObject();
+      while (in.hasNext()) {
+        final String locale = in.nextName();
+        values.put(locale, readFieldValue(in));
+      }
+      in.endObject();
+      fields.put(fieldId, values);
+    }
+    in.endObject();
+
+    return fields;
+  }
+
+  private Object readFieldValue(JsonReader in) throws IOException {
+    if (in.peek() != JsonToken.BEGIN_OBJECT) {
+      return valueAdapter.read(in);
+    }
+
+    return richTextAdapter.readDocumentOrRaw(in);
+  }
+
+  static void writeLink(JsonWriter out, CMAResource resource) throws IOException {
+    final String id = resource.getId();
+    if (id == null || id.isEmpty()) {
+      throw new IllegalArgumentException("Entry contains link to draft resource (has no ID).");
+    }
+
+    CMAType linkedType = resource.getSystem().getLinkType();
+    if (linkedType == null) {
+      if (resource instanceof CMAAsset) {
+        linkedType = CMAType.Asset;
+      } else if (resource instanceof CMAEntry) {
+        linkedType = CMAType.Entry;
+      } else {
+        throw new IllegalArgumentException(
+            String.format("Entry contains link to %s of unknown link type.", id));
+      }
+    }
+
+    out.beginObject();
+    out.name(NAME_SYS);
+    out.beginObject();
+    out.name("type").value(Link.toString());
+    out.name("linkType").value(linkedType.toString());
+    out.name("id").value(id);
+    out.endObject();
+    out.endObject();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void writeValue(JsonWriter out, Object value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+
+    ((TypeAdapter<Object>) gson.getAdapter(value.getClass())).write(out, value);
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma.gson;
+
+import com.contentful.java.cma.model.CMAResource;
+import com.contentful.java.cma.model.rich.CMARichBlock;
+import com.contentful.java.cma.model.rich.CMARichHyperLink;
+import com.contentful.java.cma.model.rich.CMARichNode;
+import com.contentful.java.cma.model.rich.RichTextFactory;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.LinkedTreeMap;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming serialization of rich text nodes.
+ * <p>
+ * Nodes are built while the json is read: every node is resolved as soon as its object is closed,
+ * so its raw representation is dropped right away instead of keeping a second, generic tree of the
+ * whole document. Resolving is delegated to {@link RichTextFactory}, which picks the node type by
+ * its {@code nodeType}.
+ */
+public class RichTextTypeAdapter extends TypeAdapter<CMARichNode> {
+  static final String NAME_NODE_TYPE = "nodeType";
+  private static final String NODE_TYPE_DOCUMENT = "document";
+  private static final String NAME_CONTENT = "content";
+  private static final String NAME_DATA = "data";
+
+  private final Gson gson;
+  private final TypeAdapter<Object> valueAdapter;
+
+  /**
+   * Create an adapter using the given gson for node data and leaf nodes.
+   *
+   * @param gson the configured gson instance.
+   */
+  public RichTextTypeAdapter(Gson gson) {
+    this.gson = gson;
+    this.valueAdapter = gson.getAdapter(Object.class);
+  }
+
+  /**
+   * Write the given node and all of its children, replacing hyperlink targets by links.
+   *
+   * @param out  the writer to be written to.
+   * @param node the node to be written.
+   * @throws IOException if writing failed.
+   */
+  @Override public void write(JsonWriter out, CMARichNode node) throws IOException {
+    if (!(node instanceof CMARichBlock)) {
+      writeValue(out, node);
+      return;
+    }
+
+    out.beginObject();
+    out.name(NAME_CONTENT);
+    out.beginArray();
+    for (final CMARichNode child : ((CMARichBlock) node).getContent()) {
+      write(out, child);
+    }
+    out.endArray();
+
+    out.name(NAME_NODE_TYPE).value(node.getNodeType());
+
+    out.name(NAME_DATA);
+    if (node instanceof CMARichHyperLink) {
+      out.beginObject();
+      if (node.getData() instanceof CMAResource) {
+        out.name("target");
+        EntryTypeAdapter.writeLink(out, (CMAResource) node.getData());
+      } else {
+        out.name("uri");
+        writeValue(out, node.getData());
+      }
+      out.endObject();
+    } else {
+      writeValue(out, node.getData());
+    }
+    out.endObject();
+  }
+
+  /**
+   * Read one node and all of its children.
+   *
+   * @param in the reader to read from.
+   * @return the node read, or null if the json contained null or a node of an unknown type.
+   * @throws IOException if reading failed.
+   */
+  @Override public CMARichNode read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    return RichTextFactory.resolveRichNode(readRaw(in));
+  }
+
+  /**
+   * Read an object, resolving all rich nodes found in its content while reading.
+   *
+   * @param in the reader positioned at the beginning of an object.
+   * @return the raw members of the object, its content containing resolved nodes if possible.
+   * @throws IOException if reading failed.
+   */
+  Map<String, Object> readRaw(JsonReader in) throws IOException {
+    final Map<String, Object> raw = new LinkedTreeMap<>();
+
+    in.beginObject();
+    while (in.hasNext()) {
+      final String name = in.nextName();
+      if (NAME_CONTENT.equals(name) && in.peek() == JsonToken.BEGIN_ARRAY) {
+        raw.put(name, readContent(in));
+      } else {
+        raw.put(name, valueAdapter.read(in));
+      }
+    }
+    in.endObject();
+
+    return raw;
+  }
+
+  /**
+   * Read a field value object, resolving it only if it is a rich text document.
+   * <p>
+   * Nodes are resolved while reading if the node type comes before the content, otherwise the
+   * document gets resolved from its raw members afterwards.
+   *
+   * @param in the reader positioned at the beginning of an object.
+   * @return the resolved document, or the raw members of any other object.
+   * @throws IOException if reading failed.
+   */
+  Object readDocumentOrRaw(JsonReader in) throws IOException {
+    final Map<String, Object> raw = new LinkedTreeMap<>();
+    boolean document = false;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      final String name = in.nextName();
+      if (document && NAME_CONTENT.equals(name) && in.peek() == JsonToken.BEGIN_ARRAY) {
+        raw.put(name, readContent(in));
+      } else {
+        final Object value = valueAdapter.read(in);
+        if (NAME_NODE_TYPE.equals(name)) {
+          document = NODE_TYPE_DOCUMENT.equals(value);
+        }
+        raw.put(name, value);
+      }
+    }
+    in.endObject();
+
+    return document ? RichTextFactory.resolveRichDocument(raw) : raw;
+  }
+
+  private List<Object> readContent(JsonReader in) throws IOException {
+    final List<Object> content = new ArrayList<>();
+
+    in.beginArray();
+    while (in.hasNext()) {
+      if (in.peek() != JsonToken.BEGIN_OBJECT) {
+        content.add(valueAdapter.read(in));
+        continue;
+      }
+
+      final Map<String, Object> raw = readRaw(in);
+      final CMARichNode node =
+          raw.containsKey(NAME_NODE_TYPE) ? RichTextFactory.resolveRichNode(raw) : null;
+
+      // unknown nodes stay raw, so they are dropped by the parent like before.
+      content.add(node != null ? node : raw);
+    }
+    in.endArray();
+
+    return content;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void writeValue(JsonWriter out, Object value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+
+    ((TypeAdapter<Object>) gson.getAdapter(value.getClass())).write(out, value);
+  }
+}
@@ -0,0 +1,51 @@
+package com.contentful.java.cma.interceptor;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * This interceptor wraps runtime exceptions of the interceptors following it.
+ * <p>
+ * Enqueued calls only report {@link IOException}s, others get lost on the thread of the
+ * dispatcher. Wrapping them, like the {@link com.contentful.java.cma.model.CMAHttpException}
+ * thrown by the {@link ErrorInterceptor}, lets them reach the caller.
+ */
+public class AsyncErrorInterceptor implements Interceptor {
+  /**
+   * Intercepts chain to wrap runtime exceptions.
+   *
+   * @param chain the chain of interceptors to be called.
+   * @return the response of the chain.
+   * @throws IOException if the chain failed, wrapping runtime exceptions in {@link Wrapped}.
+   */
+  @Override public Response intercept(Chain chain) throws IOException {
+    try {
+      return chain.proceed(chain.request());
+    } catch (RuntimeException e) {
+      throw new Wrapped(e);
+    }
+  }
+
+  /**
+   * Unwrap the exception wrapped by this interceptor.
+   *
+   * @param throwable the failure of a call.
+   * @return the runtime exception wrapped, or throwable if it was not wrapped.
+   */
+  public static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof Wrapped ? throwable.getCause() : throwable;
+  }
+
+  /**
+   * A runtime exception passed on as an {@link IOException}.
+   */
+  public static class Wrapped extends IOException {
+    private static final long serialVersionUID = 3127640658127409463L;
+
+    Wrapped(RuntimeException cause) {
+      super(cause.getMessage(), cause);
+    }
+  }
+}
@@ -5,7 +5,8 @@ import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
-import okio.Buffer;
+import okhttp3.internal.http.UnrepeatableRequestBody;
+import okio.BufferedSink;
 
 import java.io.IOException;
 import java.util.function.Predicate;
@@ -54,20 +55,50 @@ public class ContentTypeInterceptor implements Interceptor {
     return chain.proceed(contentTypeRequest);
   }
 
-  private void rewriteBodyWithCustomContentType(Request request, Request.Builder builder)
-      throws IOException {
-    final Buffer sink = new Buffer();
-    request.body().writeTo(sink);
+  private void rewriteBodyWithCustomContentType(Request request, Request.Builder builder) {
+    final RequestBody body = request.body();
+    if (mediaType.equals(body.contentType())) {
+      return;
+    }
+
+    // okhttp only refrains from sending a body again if it sees the marker.
+    builder.method(request.method(), body instanceof UnrepeatableRequestBody
+        ? new UnrepeatableContentTypeRequestBody(mediaType, body)
+        : new ContentTypeRequestBody(mediaType, body));
+  }
+
+  /**
+   * Forwards a request body without copying it, only replacing its content type.
+   */
+  static class ContentTypeRequestBody extends RequestBody {
+    private final MediaType mediaType;
+    private final RequestBody delegate;
+
+    ContentTypeRequestBody(MediaType mediaType, RequestBody delegate) {
+      this.mediaType = mediaType;
+      this.delegate = delegate;
+    }
 
-    final byte[] content = sink.readByteArray();
-    final RequestBody body = RequestBody.create(mediaType, content);
+    @Override public MediaType contentType() {
+      return mediaType;
+    }
+
+    @Override public long contentLength() throws IOException {
+      return delegate.contentLength();
+    }
+
+    @Override public void writeTo(BufferedSink sink) throws IOException {
+      delegate.writeTo(sink);
+    }
+  }
 
-    if ("POST".equals(request.method())) {
-      builder.post(body);
-    } else if ("PUT".equals(request.method())) {
-      builder.put(body);
-    } else if ("PATCH".equals(request.method())) {
-      builder.patch(body);
+  /**
+   * Forwards a request body which can only be sent once, keeping it marked as such.
+   */
+  static class UnrepeatableContentTypeRequestBody extends ContentTypeRequestBody
+      implements UnrepeatableRequestBody {
+    UnrepeatableContentTypeRequestBody(MediaType mediaType, RequestBody delegate) {
+      super(mediaType, delegate);
     }
   }
 }
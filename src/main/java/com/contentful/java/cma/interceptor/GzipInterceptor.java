@@ -0,0 +1,229 @@
+package com.contentful.java.cma.interceptor;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSource;
+import okio.GzipSink;
+import okio.GzipSource;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * Compresses large json request bodies with gzip, and decompresses gzip responses itself to
+ * report how much traffic compression saved.
+ * <p>
+ * Bodies are only compressed if their size is known, reaches the minimum size and compression
+ * actually shrinks them. If a host answers a compressed request with 400 or 415, the request is
+ * sent again uncompressed. Unless the uncompressed body gets rejected, too, no further requests
+ * to that host are compressed.
+ * <p>
+ * Add it after the {@link ErrorInterceptor}, so it sees rejections before they become exceptions.
+ */
+public class GzipInterceptor implements Interceptor {
+  /**
+   * Default size from which on request bodies get compressed, in bytes.
+   */
+  public static final long DEFAULT_MINIMUM_SIZE = 1024L;
+
+  static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+  static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+  static final String GZIP = "gzip";
+
+  private static final int HTTP_BAD_REQUEST = 400;
+  private static final int HTTP_UNSUPPORTED_MEDIA_TYPE = 415;
+
+  private final Set<String> rejectingHosts =
+      Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+  private final AtomicLong compressedRequests = new AtomicLong();
+  private final AtomicLong requestBytes = new AtomicLong();
+  private final AtomicLong compressedRequestBytes = new AtomicLong();
+  private final AtomicLong rejections = new AtomicLong();
+  private final AtomicLong compressedResponses = new AtomicLong();
+  private final AtomicLong responseBytes = new AtomicLong();
+  private final AtomicLong decompressedResponseBytes = new AtomicLong();
+
+  private volatile long minimumSize = DEFAULT_MINIMUM_SIZE;
+
+  /**
+   * Set from which size on request bodies get compressed.
+   *
+   * @param minimumSize the size in bytes, 0 to compress all json bodies.
+   * @return this interceptor for chaining.
+   * @throws IllegalArgumentException if minimumSize is negative.
+   */
+  public GzipInterceptor setMinimumSize(long minimumSize) {
+    if (minimumSize < 0) {
+      throw new IllegalArgumentException("minimumSize may not be negative.");
+    }
+    this.minimumSize = minimumSize;
+    return this;
+  }
+
+  /**
+   * Send the request, compressed if worthwhile, and decompress its response.
+   *
+   * @param chain the current chain of calls.
+   * @return the decompressed response.
+   * @throws IOException if the request fails or its body cannot be compressed.
+   */
+  @Override public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+
+    // asking for gzip ourselves turns off the transparent decompression of okhttp.
+    final boolean decompressResponse = request.header(HEADER_ACCEPT_ENCODING) == null;
+    if (decompressResponse) {
+      request = request.newBuilder().header(HEADER_ACCEPT_ENCODING, GZIP).build();
+    }
+
+    final Request compressed = compress(request);
+    if (compressed == null) {
+      return decompress(chain.proceed(request), decompressResponse);
+    }
+
+    final Response response = chain.proceed(compressed);
+    if (!isRejection(response.code())) {
+      compressedRequests.incrementAndGet();
+      requestBytes.addAndGet(request.body().contentLength());
+      compressedRequestBytes.addAndGet(compressed.body().contentLength());
+      return decompress(response, decompressResponse);
+    }
+
+    response.close();
+    final Response uncompressed = chain.proceed(request);
+
+    // a body rejected either way is invalid, not a sign of a server unable to decompress.
+    if (response.code() == HTTP_UNSUPPORTED_MEDIA_TYPE || !isRejection(uncompressed.code())) {
+      if (rejectingHosts.add(request.url().host())) {
+        rejections.incrementAndGet();
+      }
+    }
+    return decompress(uncompressed, decompressResponse);
+  }
+
+  /**
+   * @return the number of requests sent compressed and accepted.
+   */
+  public long getCompressedRequestCount() {
+    return compressedRequests.get();
+  }
+
+  /**
+   * @return the size of all accepted compressed request bodies before compression, in bytes.
+   */
+  public long getRequestBytes() {
+    return requestBytes.get();
+  }
+
+  /**
+   * @return the size of all accepted compressed request bodies after compression, in bytes.
+   */
+  public long getCompressedRequestBytes() {
+    return compressedRequestBytes.get();
+  }
+
+  /**
+   * @return the number of hosts found rejecting compressed requests.
+   */
+  public long getRejectedHostCount() {
+    return rejections.get();
+  }
+
+  /**
+   * @return the number of responses received compressed.
+   */
+  public long getCompressedResponseCount() {
+    return compressedResponses.get();
+  }
+
+  /**
+   * @return the bytes of compressed response bodies read so far, as received.
+   */
+  public long getResponseBytes() {
+    return responseBytes.get();
+  }
+
+  /**
+   * @return the bytes of compressed response bodies read so far, after decompression.
+   */
+  public long getDecompressedResponseBytes() {
+    return decompressedResponseBytes.get();
+  }
+
+  private Request compress(Request request) throws IOException {
+    final RequestBody body = request.body();
+    if (body == null
+        || request.header(HEADER_CONTENT_ENCODING) != null
+        || !isJson(body.contentType())
+        || rejectingHosts.contains(request.url().host())) {
+      return null;
+    }
+
+    final long length = body.contentLength();
+    if (length < 0 || length < minimumSize) {
+      return null;
+    }
+
+    final Buffer buffer = new Buffer();
+    try (BufferedSink sink = Okio.buffer(new GzipSink(buffer))) {
+      body.writeTo(sink);
+    }
+    if (buffer.size() >= length) {
+      return null;
+    }
+
+    return request.newBuilder()
+        .header(HEADER_CONTENT_ENCODING, GZIP)
+        .method(request.method(), RequestBody.create(body.contentType(), buffer.readByteString()))
+        .build();
+  }
+
+  private Response decompress(Response response, boolean decompressResponse) {
+    final ResponseBody body = response.body();
+    if (!decompressResponse || body == null || !GZIP.equalsIgnoreCase(
+        response.header(HEADER_CONTENT_ENCODING))) {
+      return response;
+    }
+
+    compressedResponses.incrementAndGet();
+    final Source received = counting(body.source(), responseBytes);
+    final Source decompressed = counting(new GzipSource(received), decompressedResponseBytes);
+
+    return response.newBuilder()
+        .removeHeader(HEADER_CONTENT_ENCODING)
+        .removeHeader("Content-Length")
+        .body(ResponseBody.create(body.contentType(), -1L, Okio.buffer(decompressed)))
+        .build();
+  }
+
+  private static Source counting(Source source, final AtomicLong counter) {
+    return new ForwardingSource(source) {
+      @Override public long read(Buffer sink, long byteCount) throws IOException {
+        final long read = super.read(sink, byteCount);
+        if (read > 0) {
+          counter.addAndGet(read);
+        }
+        return read;
+      }
+    };
+  }
+
+  private static boolean isJson(MediaType contentType) {
+    return contentType != null && contentType.subtype().contains("json");
+  }
+
+  private static boolean isRejection(int code) {
+    return code == HTTP_BAD_REQUEST || code == HTTP_UNSUPPORTED_MEDIA_TYPE;
+  }
+}
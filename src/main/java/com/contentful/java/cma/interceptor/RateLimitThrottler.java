@@ -0,0 +1,184 @@
+package com.contentful.java.cma.interceptor;
+
+import com.contentful.java.cma.model.RateLimits;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Paces requests of all threads sharing a client, so the Contentful rate limits are not exceeded.
+ * <p>
+ * This is a token bucket refilling with the per second limit of Contentful: every request takes
+ * one token and waits if none is available. Once responses carry rate limit headers, the bucket
+ * follows the reported per second limit and never assumes more tokens than the server reports
+ * as remaining. If no requests are remaining, or the server answered with 429, all requests
+ * are held back until the reported reset.
+ */
+public class RateLimitThrottler implements Interceptor {
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final Object lock = new Object();
+
+  private double requestsPerSecond;
+  private double tokens;
+  private long lastRefill;
+  private long pausedUntil;
+
+  private int queueDepth;
+  private long requests;
+  private long throttledRequests;
+  private long totalWaitNanos;
+  private long maxWaitNanos;
+
+  /**
+   * Create a throttler.
+   *
+   * @param requestsPerSecond the number of requests per second to be used until Contentful
+   *                          reported its own limit.
+   * @throws IllegalArgumentException if requestsPerSecond is less than 1.
+   */
+  public RateLimitThrottler(int requestsPerSecond) {
+    if (requestsPerSecond < 1) {
+      throw new IllegalArgumentException("requestsPerSecond may not be less than 1.");
+    }
+
+    this.requestsPerSecond = requestsPerSecond;
+    this.tokens = requestsPerSecond;
+    this.lastRefill = System.nanoTime();
+  }
+
+  /**
+   * Wait for a token, execute the request and update the bucket from its rate limit headers.
+   *
+   * @param chain the current chain of calls.
+   * @return a response from this call.
+   * @throws IOException if something goes wrong, or the thread got interrupted while waiting.
+   */
+  @Override public Response intercept(Chain chain) throws IOException {
+    acquire();
+
+    final Response response = chain.proceed(chain.request());
+    final RateLimits limits =
+        new RateLimits.DefaultParser().parse(response.headers().toMultimap());
+    update(limits, response.code());
+
+    return response;
+  }
+
+  /**
+   * @return the number of requests currently waiting for a token.
+   */
+  public int getQueueDepth() {
+    synchronized (lock) {
+      return queueDepth;
+    }
+  }
+
+  /**
+   * @return the number of requests which passed this throttler.
+   */
+  public long getRequestCount() {
+    synchronized (lock) {
+      return requests;
+    }
+  }
+
+  /**
+   * @return the number of requests which had to wait before being sent.
+   */
+  public long getThrottledRequestCount() {
+    synchronized (lock) {
+      return throttledRequests;
+    }
+  }
+
+  /**
+   * @return the time all requests spent waiting, in milliseconds.
+   */
+  public long getTotalWaitMillis() {
+    synchronized (lock) {
+      return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos);
+    }
+  }
+
+  /**
+   * @return the longest time a single request spent waiting, in milliseconds.
+   */
+  public long getMaxWaitMillis() {
+    synchronized (lock) {
+      return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos);
+    }
+  }
+
+  private void acquire() throws InterruptedIOException {
+    final long start = System.nanoTime();
+
+    synchronized (lock) {
+      queueDepth++;
+      try {
+        while (true) {
+          final long now = System.nanoTime();
+          refill(now);
+
+          final long pause = pausedUntil - now;
+          if (pause <= 0 && tokens >= 1) {
+            tokens -= 1;
+            break;
+          }
+
+          final long wait = pause > 0
+              ? pause
+              : (long) Math.ceil((1 - tokens) * NANOS_PER_SECOND / requestsPerSecond);
+          TimeUnit.NANOSECONDS.timedWait(lock, Math.max(1, wait));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for rate limit.");
+      } finally {
+        queueDepth--;
+      }
+
+      final long waited = System.nanoTime() - start;
+      requests++;
+      if (waited >= TimeUnit.MILLISECONDS.toNanos(1)) {
+        throttledRequests++;
+        totalWaitNanos += waited;
+        maxWaitNanos = Math.max(maxWaitNanos, waited);
+      }
+    }
+  }
+
+  private void refill(long now) {
+    final long elapsed = now - lastRefill;
+    if (elapsed > 0) {
+      final double refilled = elapsed * requestsPerSecond / NANOS_PER_SECOND;
+      tokens = Math.min(requestsPerSecond, tokens + refilled);
+      lastRefill = now;
+    }
+  }
+
+  private void update(RateLimits limits, int code) {
+    synchronized (lock) {
+      final long now = System.nanoTime();
+      refill(now);
+
+      // headers are only trusted if a limit was reported, a missing header parses to 0.
+      if (limits.getSecondLimit() > 0) {
+        requestsPerSecond = limits.getSecondLimit();
+        tokens = Math.min(tokens, Math.max(0, limits.getSecondRemaining()));
+      }
+
+      final boolean exhausted = limits.getSecondLimit() > 0 && limits.getSecondRemaining() <= 0;
+      if ((exhausted || code == HTTP_TOO_MANY_REQUESTS) && limits.getReset() > 0) {
+        pausedUntil = Math.max(pausedUntil, now + TimeUnit.SECONDS.toNanos(limits.getReset()));
+      }
+
+      lock.notifyAll();
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.contentful.java.cma.interceptor;
+
+import com.contentful.java.cma.model.RateLimits;
+
+/**
+ * Remembers the most recent rate limits seen by a client and optionally forwards them.
+ * <p>
+ * This is used by the sdk to size its own request concurrency after the live budget reported by
+ * Contentful.
+ */
+public class RateLimitsTracker implements RateLimitsListener {
+  private static final long BUDGET_WINDOW_MILLIS = 1000L;
+
+  private volatile RateLimits latest;
+  private volatile long receivedAt;
+  private volatile RateLimitsListener listener;
+
+  /**
+   * Update the listener to be informed about every new rate limit.
+   *
+   * @param listener the listener to be called, or null if nobody should be informed.
+   * @return this tracker for chaining.
+   */
+  public RateLimitsTracker setListener(RateLimitsListener listener) {
+    this.listener = listener;
+    return this;
+  }
+
+  /**
+   * Store the given limits and forward them to the listener, if one is set.
+   *
+   * @param rateLimits the limits parsed from the last response.
+   */
+  @Override public void onRateLimitHeaderReceived(RateLimits rateLimits) {
+    this.receivedAt = System.currentTimeMillis();
+    this.latest = rateLimits;
+
+    final RateLimitsListener current = listener;
+    if (current != null) {
+      current.onRateLimitHeaderReceived(rateLimits);
+    }
+  }
+
+  /**
+   * @return the last limits received, or null if no response was seen yet.
+   */
+  public RateLimits getLatest() {
+    return latest;
+  }
+
+  /**
+   * Calculate how many requests may still be sent in the current second.
+   * <p>
+   * If no rate limit headers were received yet, or the last ones are older than a second, the
+   * full per second limit is assumed to be available again.
+   *
+   * @param fallback the budget to be returned if no per second limit is known.
+   * @return the number of requests which can be sent right now.
+   */
+  public int getSecondBudget(int fallback) {
+    final RateLimits limits = latest;
+    if (limits == null || limits.getSecondLimit() <= 0) {
+      return fallback;
+    }
+
+    if (System.currentTimeMillis() - receivedAt >= BUDGET_WINDOW_MILLIS) {
+      return limits.getSecondLimit();
+    }
+
+    return Math.max(0, limits.getSecondRemaining());
+  }
+}
@@ -0,0 +1,234 @@
+package com.contentful.java.cma.interceptor;
+
+import com.contentful.java.cma.model.RateLimits;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Retries requests failing with a transient error, before the {@link ErrorInterceptor} turns
+ * them into an exception.
+ * <p>
+ * Only requests which can safely be sent again are retried: idempotent methods and writes guarded
+ * by a {@code X-Contentful-Version} header, since the latter are rejected by Contentful if the
+ * first attempt already went through. Responses with 429 wait exactly until the reset reported by
+ * Contentful, server errors back off exponentially with jitter.
+ * <p>
+ * Besides the retries per request, a budget shared by all requests limits the retries in total,
+ * so an unavailable backend does not multiply the load.
+ */
+public class RetryInterceptor implements Interceptor {
+  /**
+   * Default number of retries for a single request.
+   */
+  public static final int DEFAULT_MAX_RETRIES = 3;
+
+  /**
+   * Default delay before the first retry of a server error, in milliseconds.
+   */
+  public static final long DEFAULT_BASE_DELAY_MILLIS = 500L;
+
+  /**
+   * Default upper bound for the delay of a server error retry, in milliseconds.
+   */
+  public static final long DEFAULT_MAX_DELAY_MILLIS = 30_000L;
+
+  static final String HEADER_VERSION = "X-Contentful-Version";
+
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final int HTTP_INTERNAL_ERROR = 500;
+  private static final int HTTP_BAD_GATEWAY = 502;
+  private static final int HTTP_UNAVAILABLE = 503;
+  private static final int HTTP_GATEWAY_TIMEOUT = 504;
+
+  private final Random random = new Random();
+  private final AtomicInteger remainingBudget = new AtomicInteger(Integer.MAX_VALUE);
+  private final AtomicLong retries = new AtomicLong();
+  private final AtomicLong exhausted = new AtomicLong();
+  private final AtomicLong totalDelayMillis = new AtomicLong();
+
+  private volatile int maxRetries = DEFAULT_MAX_RETRIES;
+  private volatile long baseDelayMillis = DEFAULT_BASE_DELAY_MILLIS;
+  private volatile long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+
+  /**
+   * Set how often a single request is retried.
+   *
+   * @param maxRetries the number of retries after the first attempt, 0 disables retrying.
+   * @return this interceptor for chaining.
+   * @throws IllegalArgumentException if maxRetries is negative.
+   */
+  public RetryInterceptor setMaxRetries(int maxRetries) {
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("maxRetries may not be negative.");
+    }
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  /**
+   * Set the delays of retries after server errors. The n-th retry waits between half and all of
+   * {@code baseDelayMillis * 2^n}, but never longer than maxDelayMillis.
+   *
+   * @param baseDelayMillis the delay of the first retry.
+   * @param maxDelayMillis  the upper bound of any retry delay.
+   * @return this interceptor for chaining.
+   * @throws IllegalArgumentException if a delay is negative or the base exceeds the maximum.
+   */
+  public RetryInterceptor setBackoff(long baseDelayMillis, long maxDelayMillis) {
+    if (baseDelayMillis < 0 || maxDelayMillis < baseDelayMillis) {
+      throw new IllegalArgumentException(
+          "Delays may not be negative and baseDelayMillis may not exceed maxDelayMillis.");
+    }
+    this.baseDelayMillis = baseDelayMillis;
+    this.maxDelayMillis = maxDelayMillis;
+    return this;
+  }
+
+  /**
+   * Limit the retries of all requests passing this interceptor together.
+   *
+   * @param budget the number of retries left, before failures are reported immediately.
+   * @return this interceptor for chaining.
+   * @throws IllegalArgumentException if budget is negative.
+   */
+  public RetryInterceptor setRetryBudget(int budget) {
+    if (budget < 0) {
+      throw new IllegalArgumentException("budget may not be negative.");
+    }
+    remainingBudget.set(budget);
+    return this;
+  }
+
+  /**
+   * Retry the given request as long as it fails transiently and retries are left.
+   *
+   * @param chain the current chain of calls.
+   * @return the first response not worth retrying, or the last one if no retries are left.
+   * @throws IOException if the request fails, or the thread got interrupted while waiting.
+   */
+  @Override public Response intercept(Chain chain) throws IOException {
+    final Request request = chain.request();
+    Response response = chain.proceed(request);
+
+    if (!isRetryable(request)) {
+      return response;
+    }
+
+    for (int attempt = 0; isTransient(response.code()); ++attempt) {
+      if (attempt >= maxRetries || !takeFromBudget()) {
+        exhausted.incrementAndGet();
+        return response;
+      }
+
+      final long delay = delayMillis(response, attempt);
+      response.close();
+
+      sleep(delay);
+      retries.incrementAndGet();
+      totalDelayMillis.addAndGet(delay);
+
+      response = chain.proceed(request);
+    }
+
+    return response;
+  }
+
+  /**
+   * @return the number of retries performed.
+   */
+  public long getRetryCount() {
+    return retries.get();
+  }
+
+  /**
+   * @return the number of requests which still failed when running out of retries.
+   */
+  public long getExhaustedCount() {
+    return exhausted.get();
+  }
+
+  /**
+   * @return the time waited before retrying, in milliseconds.
+   */
+  public long getTotalDelayMillis() {
+    return totalDelayMillis.get();
+  }
+
+  /**
+   * @return the number of retries all requests together may still perform.
+   */
+  public int getRemainingBudget() {
+    return remainingBudget.get();
+  }
+
+  long delayMillis(Response response, int attempt) {
+    if (response.code() == HTTP_TOO_MANY_REQUESTS) {
+      final int reset =
+          new RateLimits.DefaultParser().parse(response.headers().toMultimap()).getReset();
+      if (reset > 0) {
+        return TimeUnit.SECONDS.toMillis(reset);
+      }
+    }
+
+    final long exponential = baseDelayMillis << Math.min(attempt, Long.SIZE - 2);
+    final long capped = exponential < 0 ? maxDelayMillis : Math.min(maxDelayMillis, exponential);
+    final long half = capped / 2;
+    return half + (long) (random.nextDouble() * (capped - half));
+  }
+
+  private boolean takeFromBudget() {
+    while (true) {
+      final int current = remainingBudget.get();
+      if (current <= 0) {
+        return false;
+      }
+      if (remainingBudget.compareAndSet(current, current - 1)) {
+        return true;
+      }
+    }
+  }
+
+  private static boolean isRetryable(Request request) {
+    switch (request.method()) {
+      case "GET":
+      case "HEAD":
+      case "OPTIONS":
+      case "PUT":
+      case "DELETE":
+        return true;
+      default:
+        return request.header(HEADER_VERSION) != null;
+    }
+  }
+
+  private static boolean isTransient(int code) {
+    switch (code) {
+      case HTTP_TOO_MANY_REQUESTS:
+      case HTTP_INTERNAL_ERROR:
+      case HTTP_BAD_GATEWAY:
+      case HTTP_UNAVAILABLE:
+      case HTTP_GATEWAY_TIMEOUT:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static void sleep(long millis) throws InterruptedIOException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to retry.");
+    }
+  }
+}
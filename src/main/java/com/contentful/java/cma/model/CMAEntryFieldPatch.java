@@ -1,12 +1,29 @@
 package com.contentful.java.cma.model;
 
+import com.contentful.java.cma.model.patch.JsonPatchOperator;
+
 public class CMAEntryFieldPatch {
     private final String fieldPath;
     private final Object value;
+    private final JsonPatchOperator op;
+    private final String from;
 
     CMAEntryFieldPatch(String fieldPath, Object value) {
+        this(null, fieldPath, value, null);
+    }
+
+    CMAEntryFieldPatch(JsonPatchOperator op, String fieldPath, Object value, String from) {
+        this.op = op;
         this.fieldPath = fieldPath;
         this.value = value;
+        this.from = from;
+    }
+
+    /**
+     * @return the operation, or null if it depends on the value being set.
+     */
+    public JsonPatchOperator getOp() {
+        return op;
     }
 
     public String getFieldPath() {
@@ -16,4 +33,8 @@ public class CMAEntryFieldPatch {
     public Object getValue() {
         return value;
     }
+
+    public String getFrom() {
+        return from;
+    }
 }
@@ -1,16 +1,84 @@
 package com.contentful.java.cma.model;
 
+import com.contentful.java.cma.model.patch.JsonPatchOperator;
+
 import java.util.ArrayList;
 import java.util.List;
 
 public class CMAEntryPatch {
     private final List<CMAEntryFieldPatch> fieldUpdates = new ArrayList<>();
 
+    /**
+     * Set a value, or remove it if value is null.
+     *
+     * @param fieldPath json pointer to the value, like {@code /fields/title/en-US}.
+     * @param value     the new value, or null to remove it.
+     */
     public void add(String fieldPath, Object value) {
         fieldUpdates.add(new CMAEntryFieldPatch(fieldPath, value));
     }
 
+    /**
+     * Replace an existing value.
+     *
+     * @param fieldPath json pointer to the value.
+     * @param value     the new value.
+     * @return this patch for chaining.
+     */
+    public CMAEntryPatch replace(String fieldPath, Object value) {
+        return append(JsonPatchOperator.REPLACE, fieldPath, value, null);
+    }
+
+    /**
+     * Remove an existing value.
+     *
+     * @param fieldPath json pointer to the value.
+     * @return this patch for chaining.
+     */
+    public CMAEntryPatch remove(String fieldPath) {
+        return append(JsonPatchOperator.REMOVE, fieldPath, null, null);
+    }
+
+    /**
+     * Move a value to another location.
+     *
+     * @param fromPath  json pointer to the value to be moved.
+     * @param fieldPath json pointer to its new location.
+     * @return this patch for chaining.
+     */
+    public CMAEntryPatch move(String fromPath, String fieldPath) {
+        return append(JsonPatchOperator.MOVE, fieldPath, null, fromPath);
+    }
+
+    /**
+     * Copy a value to another location.
+     *
+     * @param fromPath  json pointer to the value to be copied.
+     * @param fieldPath json pointer to the location of the copy.
+     * @return this patch for chaining.
+     */
+    public CMAEntryPatch copy(String fromPath, String fieldPath) {
+        return append(JsonPatchOperator.COPY, fieldPath, null, fromPath);
+    }
+
+    /**
+     * Guard the patch: it only gets applied if the value still equals the expected one.
+     *
+     * @param fieldPath json pointer to the value.
+     * @param expected  the value it is expected to have.
+     * @return this patch for chaining.
+     */
+    public CMAEntryPatch test(String fieldPath, Object expected) {
+        return append(JsonPatchOperator.TEST, fieldPath, expected, null);
+    }
+
     public List<CMAEntryFieldPatch> getFieldUpdates() {
         return fieldUpdates;
     }
+
+    private CMAEntryPatch append(JsonPatchOperator op, String fieldPath, Object value,
+                                 String from) {
+        fieldUpdates.add(new CMAEntryFieldPatch(op, fieldPath, value, from));
+        return this;
+    }
 }
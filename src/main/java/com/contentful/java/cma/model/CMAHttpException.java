@@ -1,6 +1,7 @@
 package com.contentful.java.cma.model;
 
 import com.contentful.java.cma.model.RateLimits.DefaultParser;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
 import java.io.IOException;
@@ -22,6 +23,7 @@ import static java.lang.String.format;
  */
 public class CMAHttpException extends RuntimeException {
   private static final long serialVersionUID = 6844124565767723268L;
+  private static final Gson ERROR_GSON = new GsonBuilder().create();
 
   /**
    * Error body potentially delivered with an error request.
@@ -255,7 +257,7 @@ public class CMAHttpException extends RuntimeException {
 
     try {
       final String body = response.body() != null ? response.body().string() : null;
-      this.errorBody = new GsonBuilder().create().fromJson(body, ErrorBody.class);
+      this.errorBody = ERROR_GSON.fromJson(body, ErrorBody.class);
     } catch (IOException e) {
       this.errorBody = null;
     }
@@ -7,6 +7,7 @@ public class CMAEntryJsonPatchItem {
     private JsonPatchOperator op;
     private String path;
     private Object value;
+    private String from;
 
     public CMAEntryJsonPatchItem() {
     }
@@ -17,6 +18,11 @@ public class CMAEntryJsonPatchItem {
         this.value = value;
     }
 
+    public CMAEntryJsonPatchItem(JsonPatchOperator op, String path, Object value, String from) {
+        this(op, path, value);
+        this.from = from;
+    }
+
     public JsonPatchOperator getOp() {
         return op;
     }
@@ -40,4 +46,12 @@ public class CMAEntryJsonPatchItem {
     public void setValue(Object value) {
         this.value = value;
     }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
 }
@@ -2,9 +2,36 @@ package com.contentful.java.cma.model.patch;
 
 import com.google.gson.annotations.SerializedName;
 
+/**
+ * Operations of a json patch.
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc6902">RFC 6902</a>
+ */
 public enum JsonPatchOperator {
     @SerializedName("add")
     ADD,
     @SerializedName("remove")
-    REMOVE
+    REMOVE,
+    @SerializedName("replace")
+    REPLACE,
+    @SerializedName("move")
+    MOVE,
+    @SerializedName("copy")
+    COPY,
+    @SerializedName("test")
+    TEST;
+
+    /**
+     * @return whether operations of this kind carry a value.
+     */
+    public boolean hasValue() {
+        return this == ADD || this == REPLACE || this == TEST;
+    }
+
+    /**
+     * @return whether operations of this kind read from a second path.
+     */
+    public boolean hasFrom() {
+        return this == MOVE || this == COPY;
+    }
 }
@@ -60,9 +60,12 @@ public class RichTextFactory {
     @Override public CMARichNode resolve(Map<String, Object> raw) {
       final T resolved = getType(raw);
 
-      final List<Map<String, Object>> contents = (List<Map<String, Object>>) raw.get("content");
-      for (final Map<String, Object> rawNode : contents) {
-        final CMARichNode resolvedNode = resolveRichNode(rawNode);
+      // content may already have been resolved while streaming the json.
+      final List<Object> contents = (List<Object>) raw.get("content");
+      for (final Object rawNode : contents) {
+        final CMARichNode resolvedNode = rawNode instanceof CMARichNode
+            ? (CMARichNode) rawNode
+            : resolveRichNode((Map<String, Object>) rawNode);
         if (resolvedNode != null) {
           resolved.content.add(resolvedNode);
         }
@@ -229,21 +232,23 @@ public class RichTextFactory {
         for (final String locale : field.getValue().keySet()) {
           final Object value = field.getValue().get(locale);
           if (value instanceof Map && ((Map) value).containsKey("nodeType")) {
-            entry.setField(
-                fieldId,
-                locale,
-                RESOLVER_MAP
-                    .get("document")
-                    .resolve(
-                        (Map<String, Object>) value
-                    )
-            );
+            entry.setField(fieldId, locale, resolveRichDocument((Map<String, Object>) value));
           }
         }
       }
     }
   }
 
+  /**
+   * Resolve a complete rich text document.
+   *
+   * @param rawDocument the map response from Contentful, containing the document node.
+   * @return the resolved document.
+   */
+  public static CMARichNode resolveRichDocument(Map<String, Object> rawDocument) {
+    return RESOLVER_MAP.get("document").resolve(rawDocument);
+  }
+
   /**
    * Specific method for resolving rich text marks.
    *
@@ -273,9 +278,9 @@ public class RichTextFactory {
    * Resolve one node.
    *
    * @param rawNode the map response from Contentful
-   * @return a CMARichNode from this SDK.
+   * @return a CMARichNode from this SDK, or null if the node type is unknown.
    */
-  static CMARichNode resolveRichNode(Map<String, Object> rawNode) {
+  public static CMARichNode resolveRichNode(Map<String, Object> rawNode) {
     final String type = (String) rawNode.get("nodeType");
     if (RESOLVER_MAP.containsKey(type)) {
       return RESOLVER_MAP.get(type).resolve(rawNode);
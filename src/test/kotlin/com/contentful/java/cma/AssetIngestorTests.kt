@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma
+
+import com.contentful.java.cma.AssetIngestor.Stage
+import com.contentful.java.cma.lib.TestUtils
+import com.contentful.java.cma.model.CMAUpload
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.junit.After
+import org.junit.Before
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.logging.LogManager
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+import org.junit.Test as test
+
+class AssetIngestorTests {
+    var server: MockWebServer? = null
+    var client: CMAClient? = null
+    var directory: File? = null
+
+    val created = AtomicInteger()
+    val requests = AtomicInteger()
+    val polls = ConcurrentHashMap<String, AtomicInteger>()
+    var pollsUntilProcessed = 1
+
+    @Before
+    fun setUp() {
+        LogManager.getLogManager().reset()
+        server = MockWebServer()
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest) = respond(request)
+        })
+        server!!.start()
+
+        client = CMAClient.Builder()
+                .setAccessToken("token")
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setUploadEndpoint(server!!.url("/").toString())
+                .setSpaceId("space_id")
+                .setEnvironmentId("env")
+                .build()
+
+        directory = createTempDir()
+    }
+
+    @After
+    fun tearDown() {
+        server!!.shutdown()
+        directory!!.deleteRecursively()
+    }
+
+    private fun respond(request: RecordedRequest): MockResponse {
+        val path = request.path
+        val assetId = path.substringAfter("/assets/", "").substringBefore("/")
+        return when {
+            path.endsWith("/uploads") -> MockResponse()
+                    .setBody(TestUtils.fileToString("upload_post_response.json"))
+            request.method == "POST" && path.endsWith("/assets") ->
+                if (request.body.readUtf8().contains("broken.jpg")) {
+                    MockResponse().setResponseCode(422).setBody("{}")
+                } else {
+                    MockResponse().setBody(asset("asset${created.incrementAndGet()}", null))
+                }
+            path.endsWith("/process") -> MockResponse().setResponseCode(204)
+            request.method == "GET" -> {
+                requests.incrementAndGet()
+                val ids = request.requestUrl.queryParameter("sys.id[in]")!!.split(",")
+                MockResponse().setBody(ids.joinToString(",", """{"items": [""", "]}") {
+                    val count = polls.getOrPut(it) { AtomicInteger() }.incrementAndGet()
+                    asset(it, if (count > pollsUntilProcessed) "//images.example.com/$it" else null)
+                })
+            }
+            path.endsWith("/published") ->
+                MockResponse().setBody(asset(assetId, "//images.example.com/$assetId"))
+            else -> MockResponse().setResponseCode(404).setBody("{}")
+        }
+    }
+
+    private fun asset(id: String, url: String?) = ("""{"sys": {"id": "$id", "type": "Asset",
+        "version": 2, "space": {"sys": {"type": "Link", "linkType": "Space", "id": "space_id"}},
+        "environment": {"sys": {"type": "Link", "linkType": "Environment", "id": "env"}}},
+        "fields": {"file": {"en-US": {"fileName": "image.jpg", "contentType": "image/jpeg" """
+            + (if (url == null) "" else """, "url": "$url" """)
+            + "}}}}")
+
+    private fun items(vararg names: String) = names.map {
+        val file = File(directory, it)
+        file.writeBytes(byteArrayOf(1, 2, 3))
+        AssetIngestor.Item(file, "image/jpeg").setTitle(it)
+    }
+
+    @test
+    fun testIngestsFilesThroughAllStages() {
+        val report = AssetIngestor(client)
+                .setPolling(10, 40, 10000)
+                .setConcurrency(2, 2)
+                .ingest(items("a.jpg", "b.jpg", "c.jpg", "d.jpg", "e.jpg"))
+
+        assertEquals(emptyList(), report.failures)
+        assertEquals(5, report.published.size)
+        Stage.values().forEach { assertEquals(5, report.getCompletedCount(it)) }
+        assertEquals(10, polls.values.sumBy { it.get() })
+        assertEquals(requests.get(), report.pollCount)
+        assertTrue(report.published.all { it.fields.getFile("en-US").url != null })
+    }
+
+    @test
+    fun testFailingFileDoesNotStopOthers() {
+        val report = AssetIngestor(client)
+                .setPolling(10, 40, 10000)
+                .ingest(items("a.jpg", "broken.jpg", "c.jpg"))
+
+        assertEquals(2, report.published.size)
+        assertEquals(1, report.failures.size)
+        assertEquals(Stage.CREATE, report.failures[0].stage)
+        assertEquals("broken.jpg", report.failures[0].item.file.name)
+        assertEquals(3, report.getCompletedCount(Stage.UPLOAD))
+        assertEquals(2, report.getCompletedCount(Stage.CREATE))
+    }
+
+    @test(timeout = 10000)
+    fun testErrorInStageFailsFileWithoutHanging() {
+        val uploader = object : ResumableUploader(client!!.uploads(), File(directory, "uploads")) {
+            override fun upload(spaceId: String, file: File): CMAUpload =
+                    if (file.name == "broken.jpg") throw NoClassDefFoundError("broken")
+                    else client!!.uploads().create(spaceId, file)
+        }
+
+        val report = AssetIngestor(client)
+                .setPolling(10, 40, 10000)
+                .setUploader(uploader)
+                .ingest(items("a.jpg", "broken.jpg"))
+
+        assertEquals(1, report.published.size)
+        assertEquals(Stage.UPLOAD, report.failures[0].stage)
+        assertTrue(report.failures[0].cause.cause is NoClassDefFoundError)
+    }
+
+    @test
+    fun testReportsAssetsNotProcessedInTime() {
+        pollsUntilProcessed = Int.MAX_VALUE
+
+        val report = AssetIngestor(client)
+                .setPolling(10, 20, 100)
+                .ingest(items("a.jpg"))
+
+        assertEquals(0, report.published.size)
+        assertEquals(Stage.POLL, report.failures[0].stage)
+        assertTrue(report.failures[0].cause is TimeoutException)
+        assertTrue(report.pollCount > 1)
+    }
+
+    @test
+    fun testLimitsFilesInFlight() {
+        val report = AssetIngestor(client)
+                .setPolling(10, 10, 10000)
+                .setMaxInFlight(1)
+                .ingest(items("a.jpg", "b.jpg", "c.jpg"))
+
+        assertEquals(3, report.published.size)
+        assertEquals(listOf("asset1", "asset2", "asset3"), report.published.map { it.id })
+    }
+}
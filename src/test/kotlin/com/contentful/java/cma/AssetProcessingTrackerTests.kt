@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma
+
+import com.contentful.java.cma.model.CMAAsset
+import com.contentful.java.cma.model.CMAHttpException
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.junit.After
+import org.junit.Before
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.logging.LogManager
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+import kotlin.test.fail
+import org.junit.Test as test
+
+class AssetProcessingTrackerTests {
+    var server: MockWebServer? = null
+    var client: CMAClient? = null
+
+    val polls = ConcurrentHashMap<String, AtomicInteger>()
+    val batchSizes = mutableListOf<Int>()
+    var pollsUntilProcessed = 1
+    var hidden = emptySet<String>()
+    var failure: MockResponse? = null
+    var locales = listOf("en-US")
+    var body: String? = null
+    val idLists = mutableListOf<List<String>>()
+
+    @Before
+    fun setUp() {
+        LogManager.getLogManager().reset()
+        server = MockWebServer()
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest) = respond(request)
+        })
+        server!!.start()
+
+        client = CMAClient.Builder()
+                .setAccessToken("token")
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setSpaceId("space_id")
+                .setEnvironmentId("env")
+                .build()
+    }
+
+    @After
+    fun tearDown() {
+        server!!.shutdown()
+    }
+
+    private fun respond(request: RecordedRequest): MockResponse {
+        if (request.method == "PUT") {
+            return MockResponse().setResponseCode(204)
+        }
+        if (failure != null) {
+            return failure!!
+        }
+
+        val ids = request.requestUrl.queryParameter("sys.id[in]")!!.split(",")
+        synchronized(batchSizes) {
+            batchSizes.add(ids.size)
+            idLists.add(ids)
+        }
+        if (body != null) {
+            return MockResponse().setBody(body!!)
+        }
+        return MockResponse().setBody(ids.filter { it !in hidden }
+                .joinToString(",", """{"items": [""", "]}") {
+                    val count = polls.getOrPut(it) { AtomicInteger() }.incrementAndGet()
+                    val url = if (count > pollsUntilProcessed) ""","url": "//img/$it"""" else ""
+                    val files = locales.joinToString(",") { locale ->
+                        """"$locale": {"fileName": "a.jpg"$url}"""
+                    }
+                    """{"sys": {"id": "$it", "type": "Asset"},
+                    "fields": {"file": {$files}}}"""
+                })
+    }
+
+    private fun asset(id: String) = CMAAsset().setId(id).setSpaceId("space_id")
+            .setEnvironmentId("env")
+
+    @test
+    fun testPollsManyAssetsInBatches() {
+        val tracker = AssetProcessingTracker(client!!.assets())
+                .setPolling(50, 50, 10000)
+                .setBatchSize(100)
+
+        val futures = (1..150).map { tracker.track(asset("asset$it"), "en-US") }
+        val processed = futures.map { it.get(10, TimeUnit.SECONDS) }
+
+        assertEquals((1..150).map { "asset$it" }, processed.map { it.id })
+        assertTrue(processed.all { it.fields.getFile("en-US").url != null })
+        assertEquals(0, tracker.outstandingCount)
+        assertTrue(batchSizes.all { it <= 100 })
+        assertEquals(300, batchSizes.sum())
+        assertTrue(tracker.requestCount < 10, "sent ${tracker.requestCount} requests")
+        tracker.shutdown()
+    }
+
+    @test
+    fun testProcessesAndTracks() {
+        val tracker = AssetProcessingTracker(client!!.assets()).setPolling(10, 10, 10000)
+
+        val processed = tracker.process(asset("asset"), "en-US").get(10, TimeUnit.SECONDS)
+
+        assertEquals("asset", processed.id)
+        val recorded = server!!.takeRequest()
+        assertEquals("PUT", recorded.method)
+        assertEquals("/spaces/space_id/environments/env/assets/asset/files/en-US/process",
+                recorded.path)
+        tracker.shutdown()
+    }
+
+    @test
+    fun testTracksAssetsNotVisibleYetAndTimesOut() {
+        pollsUntilProcessed = Int.MAX_VALUE
+        hidden = setOf("hidden")
+        val tracker = AssetProcessingTracker(client!!.assets()).setPolling(10, 20, 200)
+
+        val futures = listOf(tracker.track(asset("hidden"), "en-US"),
+                tracker.track(asset("slow"), "en-US"))
+
+        futures.forEach {
+            try {
+                it.get(10, TimeUnit.SECONDS)
+                fail("expected a timeout")
+            } catch (e: ExecutionException) {
+                assertTrue(e.cause is TimeoutException)
+            }
+        }
+        assertTrue(polls["slow"]!!.get() > 1)
+        tracker.shutdown()
+    }
+
+    @test
+    fun testFailsAssetsOnPermanentErrors() {
+        failure = MockResponse().setResponseCode(403).setBody("{}")
+        val tracker = AssetProcessingTracker(client!!.assets()).setPolling(10, 10, 10000)
+
+        try {
+            tracker.track(asset("asset"), "en-US").get(10, TimeUnit.SECONDS)
+            fail("expected the error of fetching")
+        } catch (e: ExecutionException) {
+            assertEquals(403, (e.cause as CMAHttpException).responseCode())
+        }
+        tracker.shutdown()
+    }
+
+    @test
+    fun testTrackingTwiceSharesTheFuture() {
+        val tracker = AssetProcessingTracker(client!!.assets()).setPolling(1000, 1000, 10000)
+
+        val first = tracker.track(asset("asset"), "en-US")
+        val second = tracker.track(asset("asset"), "en-US")
+
+        assertTrue(first === second)
+        assertEquals(1, tracker.outstandingCount)
+        tracker.shutdown()
+        assertTrue(first.isCompletedExceptionally)
+    }
+
+    @test
+    fun testTracksSeveralLocalesOfOneAsset() {
+        locales = listOf("en-US", "de-DE")
+        val tracker = AssetProcessingTracker(client!!.assets()).setPolling(10, 10, 10000)
+
+        val english = tracker.track(asset("asset"), "en-US")
+        val german = tracker.track(asset("asset"), "de-DE")
+
+        assertEquals("asset", english.get(10, TimeUnit.SECONDS).id)
+        assertEquals("asset", german.get(10, TimeUnit.SECONDS).id)
+        assertEquals(0, tracker.outstandingCount)
+        assertTrue(idLists.all { it == listOf("asset") }, "polled $idLists")
+        tracker.shutdown()
+    }
+
+    @test
+    fun testUnexpectedPagesDoNotStopTheLoop() {
+        body = """{"items": null}"""
+        val tracker = AssetProcessingTracker(client!!.assets()).setPolling(10, 10, 100)
+
+        try {
+            tracker.track(asset("asset"), "en-US").get(10, TimeUnit.SECONDS)
+            fail("expected a timeout")
+        } catch (e: ExecutionException) {
+            assertTrue(e.cause is TimeoutException)
+        }
+        tracker.shutdown()
+    }
+}
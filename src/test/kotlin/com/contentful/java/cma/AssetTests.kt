@@ -208,6 +208,24 @@ class AssetTests {
         assertEquals("/spaces/spaceid/environments/master/assets?limit=100", request.path)
     }
 
+    @test
+    fun testStreamStopsAtTotal() {
+        val responseBody = TestUtils.fileToString("asset_fetch_all_response.json")
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+
+        val assets = client!!.assets().stream("spaceid", "master", hashMapOf())
+                .asSequence()
+                .toList()
+
+        assertEquals(1, assets.size)
+        assertEquals("Bonanza Coffee Heroes", assets[0].fields.localize("en-US").title)
+
+        // Request
+        assertEquals(1, server!!.requestCount)
+        val request = server!!.takeRequest()
+        assertEquals("/spaces/spaceid/environments/master/assets?limit=100&skip=0", request.path)
+    }
+
     @test
     fun testFetchAllWithConfiguredSpaceAndEnvironment() {
         val responseBody = TestUtils.fileToString("asset_fetch_all_response.json")
@@ -662,4 +680,26 @@ class AssetTests {
             throw e
         }
     }
-}
\ No newline at end of file
+
+    @test
+    fun testBulkUnPublish() {
+        val responseBody = TestUtils.fileToString("asset_publish_response.json")
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+
+        val result = client!!.assets().bulk().setConcurrency(1).unPublish(listOf(
+                CMAAsset().setId("asset1").setSpaceId("spaceid").setEnvironmentId("env"),
+                CMAAsset().setId("asset2").setSpaceId("spaceid").setEnvironmentId("env")))
+
+        assertEquals(2, result.successCount)
+        assertEquals(0, result.failures.size)
+
+        // Request
+        val paths = (1..2).map { server!!.takeRequest() }.onEach {
+            assertEquals("DELETE", it.method)
+        }.map { it.path }
+        assertEquals(listOf(
+                "/spaces/spaceid/environments/env/assets/asset1/published",
+                "/spaces/spaceid/environments/env/assets/asset2/published"), paths)
+    }
+}
@@ -18,20 +18,28 @@ package com.contentful.java.cma
 
 import com.contentful.java.cma.build.GeneratedBuildParameters
 import com.contentful.java.cma.interceptor.AuthorizationHeaderInterceptor
+import com.contentful.java.cma.interceptor.GzipInterceptor
+import com.contentful.java.cma.interceptor.RetryInterceptor
 import com.contentful.java.cma.lib.TestCallback
 import com.contentful.java.cma.lib.TestUtils
 import com.contentful.java.cma.model.CMAArray
+import com.contentful.java.cma.model.CMAEntry
+import com.contentful.java.cma.model.CMAHttpException
 import com.contentful.java.cma.model.CMASpace
 import com.contentful.java.cma.model.CMAUpload
 import com.google.gson.Gson
 import io.reactivex.Observable
+import okhttp3.Protocol
+import okhttp3.mockwebserver.Dispatcher
 import okhttp3.mockwebserver.MockResponse
 import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
 import org.junit.After
 import org.junit.Before
 import java.io.IOException
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 import java.util.logging.LogManager
 import kotlin.test.*
 import org.junit.Test as test
@@ -408,4 +416,241 @@ class ClientTests{
 
         assertNull(cb.error)
     }
-}
\ No newline at end of file
+
+    @test
+    fun testRetryInterceptorRetriesServerErrors() {
+        val responseBody = TestUtils.fileToString("space_fetch_one_response.json")
+        server!!.enqueue(MockResponse().setResponseCode(503))
+        server!!.enqueue(MockResponse().setResponseCode(502))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+
+        val retry = RetryInterceptor().setBackoff(1, 10)
+        val client = CMAClient.Builder()
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setAccessToken("token")
+                .setRetryInterceptor(retry)
+                .build()
+
+        val space = client.spaces().fetchOne("spaceid")
+
+        assertNotNull(space)
+        assertEquals(3, server!!.requestCount)
+        assertEquals(2, retry.retryCount)
+        assertEquals(0, retry.exhaustedCount)
+    }
+
+    @test
+    fun testRetryInterceptorWaitsForRateLimitReset() {
+        val responseBody = TestUtils.fileToString("space_fetch_one_response.json")
+        server!!.enqueue(MockResponse()
+                .setResponseCode(429)
+                .setHeader("X-Contentful-RateLimit-Reset", "1"))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+
+        val retry = RetryInterceptor()
+        val client = CMAClient.Builder()
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setAccessToken("token")
+                .setRetryInterceptor(retry)
+                .build()
+
+        client.spaces().fetchOne("spaceid")
+
+        assertEquals(1, retry.retryCount)
+        assertEquals(1000, retry.totalDelayMillis)
+    }
+
+    @test
+    fun testRetryInterceptorDoesNotRetryUnguardedWrites() {
+        server!!.enqueue(MockResponse().setResponseCode(503))
+
+        val retry = RetryInterceptor().setBackoff(1, 10)
+        val client = CMAClient.Builder()
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setAccessToken("token")
+                .setRetryInterceptor(retry)
+                .build()
+
+        assertFailsWith(CMAHttpException::class) {
+            client.spaces().create(CMASpace().setName("name"))
+        }
+        assertEquals(1, server!!.requestCount)
+        assertEquals(0, retry.retryCount)
+    }
+
+    @test
+    fun testRetryInterceptorStopsWhenBudgetIsUsedUp() {
+        repeat(3) { server!!.enqueue(MockResponse().setResponseCode(500)) }
+
+        val retry = RetryInterceptor().setBackoff(1, 10).setRetryBudget(1)
+        val client = CMAClient.Builder()
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setAccessToken("token")
+                .setRetryInterceptor(retry)
+                .build()
+
+        assertFailsWith(CMAHttpException::class) {
+            client.spaces().fetchOne("spaceid")
+        }
+        assertEquals(2, server!!.requestCount)
+        assertEquals(1, retry.retryCount)
+        assertEquals(1, retry.exhaustedCount)
+        assertEquals(0, retry.remainingBudget)
+    }
+
+    @test
+    fun testPlatformExecutionModeRunsCallbacksOnIoPool() {
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("space_fetch_one_response.json")))
+
+        val cb = ThreadRecordingCallback()
+        client!!.spaces().async().fetchOne("spaceid", cb)
+
+        assertTrue(cb.latch.await(10, TimeUnit.SECONDS))
+        assertTrue(cb.thread!!.name.startsWith("RxCachedThreadScheduler"))
+    }
+
+    @test
+    fun testVirtualThreadExecutionMode() {
+        if (!ExecutionMode.VIRTUAL_THREADS.isSupported) {
+            assertFailsWith(IllegalArgumentException::class) {
+                CMAClient.Builder().setExecutionMode(ExecutionMode.VIRTUAL_THREADS)
+            }
+            return
+        }
+
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("space_fetch_one_response.json")))
+        val client = CMAClient.Builder()
+                .setAccessToken("token")
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setExecutionMode(ExecutionMode.VIRTUAL_THREADS)
+                .build()
+
+        val cb = ThreadRecordingCallback()
+        client.spaces().async().fetchOne("spaceid", cb)
+
+        assertTrue(cb.latch.await(10, TimeUnit.SECONDS))
+        assertTrue(Thread::class.java.getMethod("isVirtual").invoke(cb.thread) as Boolean)
+    }
+
+    @test
+    fun testDefaultConnectionSettings() {
+        val builder = CMAClient.Builder().setAccessToken("token")
+        val core = builder.defaultCoreCallFactoryBuilder().build()
+        val upload = builder.defaultUploadCallFactoryBuilder().build()
+
+        assertEquals(CMAClient.Builder.DEFAULT_MAX_REQUESTS, core.dispatcher().maxRequests)
+        assertEquals(CMAClient.Builder.DEFAULT_MAX_REQUESTS_PER_HOST,
+                core.dispatcher().maxRequestsPerHost)
+        assertEquals(listOf(Protocol.HTTP_2, Protocol.HTTP_1_1), core.protocols())
+        assertNotSame(core.dispatcher(), upload.dispatcher())
+        assertNotSame(core.connectionPool(), upload.connectionPool())
+
+        // all call factories for the same purpose share their connections.
+        val secondCore = builder.defaultCoreCallFactoryBuilder().build()
+        assertSame(core.dispatcher(), secondCore.dispatcher())
+        assertSame(core.connectionPool(), secondCore.connectionPool())
+    }
+
+    @test
+    fun testConfiguredConnectionSettings() {
+        val builder = CMAClient.Builder()
+                .setAccessToken("token")
+                .setMaxRequests(128)
+                .setMaxRequestsPerHost(64)
+                .setConnectionPool(64, 30, TimeUnit.SECONDS)
+                .setHttp2Preferred(false)
+                .setConnectionsShared(true)
+        val core = builder.defaultCoreCallFactoryBuilder().build()
+        val upload = builder.defaultUploadCallFactoryBuilder().build()
+
+        assertEquals(128, core.dispatcher().maxRequests)
+        assertEquals(64, core.dispatcher().maxRequestsPerHost)
+        assertEquals(listOf(Protocol.HTTP_1_1), core.protocols())
+        assertEquals(listOf(Protocol.HTTP_1_1), upload.protocols())
+        assertSame(core.dispatcher(), upload.dispatcher())
+        assertSame(core.connectionPool(), upload.connectionPool())
+    }
+
+    @test
+    fun testInvalidConnectionSettingsThrow() {
+        val builder = CMAClient.Builder()
+
+        assertFailsWith(IllegalArgumentException::class) { builder.setMaxRequests(0) }
+        assertFailsWith(IllegalArgumentException::class) { builder.setMaxRequestsPerHost(0) }
+        assertFailsWith(IllegalArgumentException::class) {
+            builder.setConnectionPool(-1, 1, TimeUnit.SECONDS)
+        }
+        assertFailsWith(IllegalArgumentException::class) {
+            builder.setConnectionPool(1, 0, TimeUnit.SECONDS)
+        }
+    }
+
+    @test
+    fun testMaxRequestsPerHostLimitsConcurrentCalls() {
+        val responseBody = TestUtils.fileToString("entry_fetch_one_response.json")
+        val inFlight = AtomicInteger()
+        val peak = AtomicInteger()
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max)
+                Thread.sleep(100)
+                inFlight.decrementAndGet()
+                return MockResponse().setResponseCode(200).setBody(responseBody)
+            }
+        })
+
+        val client = CMAClient.Builder()
+                .setAccessToken("token")
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setSpaceId("spaceid")
+                .setEnvironmentId("master")
+                .setMaxRequestsPerHost(8)
+                .setConnectionPool(8, 1, TimeUnit.MINUTES)
+                .build()
+
+        val futures = (1..16).map { client.entries().futures().fetchOne("entryid") }
+        futures.forEach { it.get(10, TimeUnit.SECONDS) }
+
+        assertTrue(peak.get() > CMAClient.Builder.DEFAULT_MAX_REQUESTS_PER_HOST)
+        assertTrue(peak.get() <= 8)
+    }
+
+    @test
+    fun testGzipInterceptorFallsBackBeforeErrorsAreThrown() {
+        server!!.enqueue(MockResponse().setResponseCode(415))
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("entry_create_response.json")))
+
+        val gzip = GzipInterceptor().setMinimumSize(0)
+        val client = CMAClient.Builder()
+                .setAccessToken("token")
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setSpaceId("spaceid")
+                .setEnvironmentId("master")
+                .setGzipInterceptor(gzip)
+                .build()
+
+        val entry = CMAEntry()
+        (1..20).forEach { entry.setField("field$it", "en-US", "value $it") }
+        assertNotNull(client.entries().create("ctid", entry))
+
+        val compressed = server!!.takeRequest()
+        assertEquals("gzip", compressed.getHeader("Content-Encoding"))
+        assertEquals("application/vnd.contentful.management.v1+json",
+                compressed.getHeader("Content-Type"))
+        assertNull(server!!.takeRequest().getHeader("Content-Encoding"))
+        assertEquals(1, gzip.rejectedHostCount)
+    }
+
+    class ThreadRecordingCallback : CMACallback<CMASpace>() {
+        val latch = CountDownLatch(1)
+        var thread: Thread? = null
+
+        override fun onSuccess(result: CMASpace?) {
+            thread = Thread.currentThread()
+            latch.countDown()
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma
+
+import com.contentful.java.cma.model.CMAEntry
+import com.contentful.java.cma.model.CMAEntryPatch
+import com.contentful.java.cma.model.CMAHttpException
+import com.google.gson.JsonParser
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.junit.After
+import org.junit.Before
+import java.util.Collections
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.logging.LogManager
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+import kotlin.test.fail
+import org.junit.Test as test
+
+class EntryPatchBufferTests {
+    var server: MockWebServer? = null
+    var client: CMAClient? = null
+
+    val requests: MutableList<RecordedRequest> = Collections.synchronizedList(mutableListOf())
+    var failure: MockResponse? = null
+
+    @Before
+    fun setUp() {
+        LogManager.getLogManager().reset()
+        server = MockWebServer()
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest) = respond(request)
+        })
+        server!!.start()
+
+        client = CMAClient.Builder()
+                .setAccessToken("token")
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setSpaceId("space_id")
+                .setEnvironmentId("env")
+                .build()
+    }
+
+    @After
+    fun tearDown() {
+        server!!.shutdown()
+    }
+
+    private fun respond(request: RecordedRequest): MockResponse {
+        requests.add(request)
+        if (failure != null) {
+            return failure!!
+        }
+
+        val id = request.path.substringAfterLast("/")
+        val version = request.getHeader("X-Contentful-Version")!!.toInt() + 1
+        return MockResponse().setBody("""{"sys": {"id": "$id", "type": "Entry",
+            |"version": $version, "space": {"sys": {"id": "space_id"}}}}""".trimMargin())
+    }
+
+    private fun entry(id: String, version: Int) =
+            CMAEntry().setId(id).setSpaceId("space_id").setVersion(version)
+
+    private fun operations(request: RecordedRequest) =
+            JsonParser().parse(request.body.readUtf8()).asJsonArray.map {
+                val item = it.asJsonObject
+                item["op"].asString + " " + item["path"].asString +
+                        (if (item.has("value")) " " + item["value"] else "")
+            }
+
+    @test
+    fun testCoalescesPatchesOfOneEntry() {
+        val buffer = EntryPatchBuffer(client!!.entries()).setWindow(100)
+
+        val first = buffer.patch(entry("a", 3),
+                CMAEntryPatch().replace("/fields/title/en-US", "first"))
+        val second = buffer.patch(entry("a", 5), CMAEntryPatch()
+                .replace("/fields/title/en-US", "second")
+                .replace("/fields/body/en-US", "body"))
+        val other = buffer.patch(entry("b", 1),
+                CMAEntryPatch().replace("/fields/title/en-US", "other"))
+
+        assertEquals(6, first.get(5, TimeUnit.SECONDS).version)
+        assertTrue(first.get() === second.get())
+        assertEquals(2, other.get(5, TimeUnit.SECONDS).version)
+
+        assertEquals(2, requests.size)
+        assertEquals(2, buffer.requestCount)
+        assertEquals(3, buffer.patchCount)
+        assertEquals(4, buffer.operationCount)
+        assertEquals(0, buffer.pendingCount)
+
+        val request = requests.first { it.path.endsWith("/entries/a") }
+        assertEquals("PATCH", request.method)
+        assertEquals("5", request.getHeader("X-Contentful-Version"))
+        assertEquals(listOf(
+                "replace /fields/title/en-US \"second\"",
+                "replace /fields/body/en-US \"body\""),
+                operations(request))
+        buffer.close()
+    }
+
+    @test
+    fun testDropsOverwrittenValues() {
+        val buffer = EntryPatchBuffer(client!!.entries()).setWindow(TimeUnit.MINUTES.toMillis(1))
+
+        buffer.patch(entry("a", 1), CMAEntryPatch()
+                .replace("/fields/title/en-US", "old")
+                .replace("/fields/title/de-DE", "alt")
+                .replace("/fields/rich/en-US/content/0/value", "text"))
+        buffer.patch(entry("a", 1), CMAEntryPatch()
+                .replace("/fields/title", mapOf("en-US" to "new"))
+                .remove("/fields/rich/en-US")
+                .apply { add("/fields/fresh/en-US", "added") })
+        buffer.patch(entry("a", 1), CMAEntryPatch()
+                .replace("/fields/fresh/en-US", "changed"))
+        buffer.flush()
+
+        assertEquals(listOf(
+                "replace /fields/title {\"en-US\":\"new\"}",
+                "remove /fields/rich/en-US",
+                "add /fields/fresh/en-US \"changed\""),
+                operations(requests.single()))
+    }
+
+    @test
+    fun testKeepsOrderDependentOperations() {
+        val buffer = EntryPatchBuffer(client!!.entries()).setWindow(TimeUnit.MINUTES.toMillis(1))
+
+        buffer.patch(entry("a", 1), CMAEntryPatch()
+                .replace("/fields/title/en-US", "first")
+                .test("/fields/body/en-US", "expected")
+                .replace("/fields/tags/en-US/1", "x")
+                .remove("/fields/tags/en-US/0")
+                .apply { add("/fields/new/en-US", "new") })
+        buffer.patch(entry("a", 1), CMAEntryPatch()
+                .replace("/fields/tags/en-US/1", "y")
+                .replace("/fields/title/en-US", "second")
+                .remove("/fields/new/en-US"))
+        buffer.flush()
+
+        assertEquals(listOf(
+                "replace /fields/title/en-US \"first\"",
+                "test /fields/body/en-US \"expected\"",
+                "replace /fields/tags/en-US/1 \"x\"",
+                "remove /fields/tags/en-US/0",
+                "add /fields/new/en-US \"new\"",
+                "replace /fields/tags/en-US/1 \"y\"",
+                "replace /fields/title/en-US \"second\"",
+                "remove /fields/new/en-US"),
+                operations(requests.single()))
+    }
+
+    @test
+    fun testNextWindowUsesResultingVersion() {
+        val buffer = EntryPatchBuffer(client!!.entries()).setWindow(TimeUnit.MINUTES.toMillis(1))
+
+        val first = buffer.patch(entry("a", 1), CMAEntryPatch().replace("/fields/a/en-US", 1))
+        buffer.flush()
+        val second = buffer.patch(entry("a", 1), CMAEntryPatch().replace("/fields/b/en-US", 2))
+        buffer.close()
+
+        assertEquals(2, first.get().version)
+        assertEquals(3, second.get().version)
+        assertEquals(listOf("1", "2"), requests.map { it.getHeader("X-Contentful-Version") })
+
+        try {
+            buffer.patch(entry("a", 3), CMAEntryPatch())
+            fail("Closed buffer accepted a patch.")
+        } catch (e: IllegalStateException) {
+            // expected
+        }
+    }
+
+    @test
+    fun testForgetsVersionsOfLeastRecentlyPatchedEntries() {
+        val buffer = EntryPatchBuffer(client!!.entries()).setWindow(TimeUnit.MINUTES.toMillis(1))
+        buffer.maxVersions = 2
+
+        for (id in listOf("a", "b", "c")) {
+            buffer.patch(entry(id, 1), CMAEntryPatch().replace("/fields/a/en-US", id))
+        }
+        buffer.flush()
+        assertEquals(2, buffer.versionCount)
+
+        requests.clear()
+        buffer.patch(entry("c", 1), CMAEntryPatch().replace("/fields/a/en-US", "c"))
+        buffer.patch(entry("a", 1), CMAEntryPatch().replace("/fields/a/en-US", "a"))
+        buffer.close()
+
+        assertEquals(listOf("/c 2", "/a 1"), requests.map {
+            it.path.substring(it.path.lastIndexOf("/")) + " " + it.getHeader("X-Contentful-Version")
+        })
+    }
+
+    @test
+    fun testFailsAllPatchesOfWindow() {
+        failure = MockResponse().setResponseCode(422).setBody("{}")
+        val buffer = EntryPatchBuffer(client!!.entries()).setWindow(TimeUnit.MINUTES.toMillis(1))
+
+        val futures = listOf(
+                buffer.patch(entry("a", 1), CMAEntryPatch().test("/fields/a/en-US", 1)),
+                buffer.patch(entry("a", 1), CMAEntryPatch().replace("/fields/a/en-US", 2)))
+        buffer.flush()
+
+        futures.forEach {
+            try {
+                it.get()
+                fail("Patch did not fail.")
+            } catch (e: ExecutionException) {
+                assertEquals(422, (e.cause as CMAHttpException).responseCode())
+            }
+        }
+        assertEquals(1, requests.size)
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma
+
+import com.contentful.java.cma.lib.TestUtils
+import com.contentful.java.cma.model.CMAEntry
+import com.contentful.java.cma.model.CMALink
+import com.contentful.java.cma.model.CMAType
+import com.contentful.java.cma.model.patch.CMAEntryJsonPatchItem
+import com.contentful.java.cma.model.patch.JsonPatchOperator
+import com.contentful.java.cma.model.rich.CMARichDocument
+import com.contentful.java.cma.model.rich.CMARichParagraph
+import com.contentful.java.cma.model.rich.CMARichText
+import com.google.gson.JsonArray
+import com.google.gson.JsonElement
+import com.google.gson.JsonObject
+import com.google.gson.JsonParser
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+import org.junit.Test as test
+
+class EntryPatchDiffTests {
+    private val gson = CMAClient.createGson()
+
+    private fun entry() = CMAEntry().setId("entryid").setSpaceId("spaceid").setVersion(3)
+
+    private fun richEntry() = gson.fromJson(JsonParser()
+            .parse(TestUtils.fileToString("rich_text_get_one.json"))
+            .asJsonObject.getAsJsonArray("items")[0], CMAEntry::class.java)
+
+    private fun ops(items: List<CMAEntryJsonPatchItem>) = items.map {
+        Triple(it.op, it.path, it.value?.toString())
+    }
+
+    /**
+     * Applies add, remove and replace operations to the json of an entry's fields.
+     */
+    private fun applied(original: CMAEntry, items: List<CMAEntryJsonPatchItem>): JsonElement {
+        val document = JsonObject()
+        document.add("fields", gson.toJsonTree(original).asJsonObject.get("fields")
+                ?: JsonObject())
+
+        for (item in items) {
+            val tokens = item.path.split("/").drop(1)
+                    .map { it.replace("~1", "/").replace("~0", "~") }
+            var parent: JsonElement = document
+            tokens.dropLast(1).forEach {
+                parent = if (parent.isJsonArray) parent.asJsonArray[it.toInt()]
+                else parent.asJsonObject[it]
+            }
+
+            val last = tokens.last()
+            val value = item.value as JsonElement?
+            val target = parent
+            when {
+                target is JsonObject && item.op == JsonPatchOperator.REMOVE -> target.remove(last)
+                target is JsonObject -> target.add(last, value)
+                target is JsonArray && item.op == JsonPatchOperator.REPLACE ->
+                    target.set(last.toInt(), value)
+                target is JsonArray && item.op == JsonPatchOperator.ADD -> {
+                    val elements = target.toMutableList()
+                    elements.add(last.toInt(), value)
+                    while (target.size() > 0) target.remove(0)
+                    elements.forEach { target.add(it) }
+                }
+                target is JsonArray -> target.remove(last.toInt())
+            }
+        }
+        return document.get("fields")
+    }
+
+    private fun assertDiffApplies(original: CMAEntry, modified: CMAEntry) {
+        val items = EntryPatchDiff.diff(original, modified)
+        assertEquals(gson.toJsonTree(modified).asJsonObject.get("fields") ?: JsonObject(),
+                applied(original, items))
+    }
+
+    @test
+    fun testEqualEntriesHaveNoOperations() {
+        assertEquals(emptyList(), EntryPatchDiff.diff(richEntry(), richEntry()))
+        assertEquals(emptyList(), EntryPatchDiff.diff(entry(), entry()))
+    }
+
+    @test
+    fun testChangedAddedAndRemovedLocales() {
+        val original = entry()
+                .setField("title", "en-US", "old")
+                .setField("title", "de-DE", "alt")
+                .setField("title", "fr-FR", "a title long enough to be kept as it is")
+                .setField("gone", "en-US", "value")
+        val modified = entry()
+                .setField("title", "en-US", "new")
+                .setField("title", "fr-FR", "a title long enough to be kept as it is")
+                .setField("body", "en-US", "text")
+
+        assertEquals(listOf(
+                Triple(JsonPatchOperator.REMOVE, "/fields/gone", null),
+                Triple(JsonPatchOperator.REMOVE, "/fields/title/de-DE", null),
+                Triple(JsonPatchOperator.REPLACE, "/fields/title/en-US", "\"new\""),
+                Triple(JsonPatchOperator.ADD, "/fields/body", "{\"en-US\":\"text\"}")),
+                ops(EntryPatchDiff.diff(original, modified)))
+        assertDiffApplies(original, modified)
+    }
+
+    @test
+    fun testListsChangeOnlyAffectedElements() {
+        val long = "a tag long enough to rather patch the elements than the list"
+        val original = entry().setField("tags", "en-US", listOf("a", "b", "c", "d", long))
+
+        val appended = entry().setField("tags", "en-US", listOf("a", "b", "c", "d", long, "e"))
+        assertEquals(listOf(Triple(JsonPatchOperator.ADD, "/fields/tags/en-US/5", "\"e\"")),
+                ops(EntryPatchDiff.diff(original, appended)))
+
+        val removed = entry().setField("tags", "en-US", listOf("a", "c", "d", long))
+        assertEquals(listOf(Triple(JsonPatchOperator.REMOVE, "/fields/tags/en-US/1", null)),
+                ops(EntryPatchDiff.diff(original, removed)))
+
+        val replaced = entry().setField("tags", "en-US", listOf("a", "x", "c", "d", long))
+        assertEquals(listOf(Triple(JsonPatchOperator.REPLACE, "/fields/tags/en-US/1", "\"x\"")),
+                ops(EntryPatchDiff.diff(original, replaced)))
+
+        listOf(appended, removed, replaced,
+                entry().setField("tags", "en-US", listOf("z")),
+                entry().setField("tags", "en-US", listOf("d", "c", "b", "a", "a")),
+                entry().setField("tags", "en-US", emptyList<String>())
+        ).forEach { assertDiffApplies(original, it) }
+    }
+
+    @test
+    fun testReplacesWholeListIfSmaller() {
+        val original = entry().setField("tags", "en-US", listOf("a", "b", "c"))
+        val modified = entry().setField("tags", "en-US", listOf("x", "y", "z"))
+
+        assertEquals(listOf(
+                Triple(JsonPatchOperator.REPLACE, "/fields/tags/en-US", "[\"x\",\"y\",\"z\"]")),
+                ops(EntryPatchDiff.diff(original, modified)))
+    }
+
+    @test
+    fun testLinksDiffIntoTheirIds() {
+        val original = entry().setField("link", "en-US", CMALink(CMAType.Entry).setId("first"))
+        val modified = entry().setField("link", "en-US", CMALink(CMAType.Entry).setId("second"))
+
+        assertEquals(listOf(
+                Triple(JsonPatchOperator.REPLACE, "/fields/link/en-US/sys/id", "\"second\"")),
+                ops(EntryPatchDiff.diff(original, modified)))
+        assertDiffApplies(original, modified)
+    }
+
+    @test
+    fun testRichTextDiffsIntoChangedNodes() {
+        val original = richEntry()
+        val modified = richEntry()
+        val document = modified.getField<CMARichDocument>("rich", "en-US")
+        val paragraph = document.content[0] as CMARichParagraph
+        (paragraph.content[0] as CMARichText).value = "changed"
+
+        assertEquals(listOf(Triple(JsonPatchOperator.REPLACE,
+                "/fields/rich/en-US/content/0/content/0/value", "\"changed\"")),
+                ops(EntryPatchDiff.diff(original, modified)))
+        assertDiffApplies(original, modified)
+
+        document.addContent(CMARichParagraph().addContent(CMARichText("appended")))
+        val items = EntryPatchDiff.diff(original, modified)
+        assertTrue(items.any { it.path == "/fields/rich/en-US/content/1" })
+        assertDiffApplies(original, modified)
+    }
+
+    @test
+    fun testEscapesFieldNames() {
+        val original = entry().setField("a/b~c", "en-US", "old")
+        val modified = entry().setField("a/b~c", "en-US", "new")
+
+        assertEquals("/fields/a~1b~0c/en-US", EntryPatchDiff.diff(original, modified)[0].path)
+        assertDiffApplies(original, modified)
+    }
+
+    @test
+    fun testPatchChangesSendsOnlyTheDiff() {
+        val server = MockWebServer()
+        server.start()
+        try {
+            val client = CMAClient.Builder()
+                    .setAccessToken("token")
+                    .setCoreEndpoint(server.url("/").toString())
+                    .build()
+            server.enqueue(MockResponse().setResponseCode(200)
+                    .setBody(TestUtils.fileToString("entry_update_response.json")))
+
+            val original = entry().setField("title", "en-US", "old")
+                    .setField("body", "en-US", "unchanged")
+            val modified = entry().setField("title", "en-US", "new")
+                    .setField("body", "en-US", "unchanged")
+
+            assertTrue(client.entries().patchChanges(original, original) === original)
+            client.entries().patchChanges(original, modified)
+
+            val request = server.takeRequest()
+            assertEquals("PATCH", request.method)
+            assertEquals("3", request.getHeader("X-Contentful-Version"))
+            assertJsonEquals(
+                    """[{"op": "replace", "path": "/fields/title/en-US", "value": "new"}]""",
+                    request.body.readUtf8())
+            assertEquals(1, server.requestCount)
+        } finally {
+            server.shutdown()
+        }
+    }
+}
@@ -30,8 +30,10 @@ import com.contentful.java.cma.model.rich.CMARichHyperLink
 import com.contentful.java.cma.model.rich.CMARichParagraph
 import com.google.gson.Gson
 import okhttp3.HttpUrl
+import okhttp3.mockwebserver.Dispatcher
 import okhttp3.mockwebserver.MockResponse
 import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
 import org.junit.After
 import org.junit.Before
 import java.io.IOException
@@ -286,6 +288,204 @@ class EntryTests {
                 request.path)
     }
 
+    @test
+    fun testStreamPagesThroughAllEntries() {
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(
+                TestUtils.fileToString("entry_stream_page_1.json")))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(
+                TestUtils.fileToString("entry_stream_page_2.json")))
+
+        val iterator = client!!.entries().stream(
+                "spaceid", "environmentId", hashMapOf(Pair("limit", "2")))
+        val ids = iterator.asSequence().map { it.id }.toList()
+
+        assertEquals(listOf("entry1", "entry2", "entry3"), ids)
+        assertEquals(3, iterator.total)
+        assertFalse(iterator.hasNext())
+
+        // Requests
+        val first = server!!.takeRequest()
+        assertEquals("/spaces/spaceid/environments/environmentId/entries?limit=2&skip=0",
+                first.path)
+        val second = server!!.takeRequest()
+        assertEquals("/spaces/spaceid/environments/environmentId/entries?limit=2&skip=2",
+                second.path)
+        assertEquals(2, server!!.requestCount)
+    }
+
+    @test
+    fun testStreamIsLazy() {
+        client!!.entries().stream()
+
+        assertEquals(0, server!!.requestCount)
+    }
+
+    @test
+    fun testStreamWithWindowFetchesPagesConcurrentlyInOrder() {
+        val total = 7
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                val url = HttpUrl.parse(server!!.url(request.path).toString())!!
+                val skip = url.queryParameter("skip")!!.toInt()
+                val limit = url.queryParameter("limit")!!.toInt()
+                val items = (skip until minOf(skip + limit, total)).joinToString(",") {
+                    """{"sys": {"id": "entry$it", "type": "Entry"}, "fields": {}}"""
+                }
+                return MockResponse().setResponseCode(200).setBody(
+                        """{"sys": {"type": "Array"}, "total": $total, "skip": $skip, """ +
+                                """"limit": $limit, "items": [$items]}""")
+            }
+        })
+
+        val ids = client!!.entries()
+                .stream("spaceid", "environmentId", hashMapOf(Pair("limit", "2")), 3)
+                .asSequence()
+                .map { it.id }
+                .toList()
+
+        assertEquals((0 until total).map { "entry$it" }, ids)
+        assertEquals(4, server!!.requestCount)
+    }
+
+    @test(expected = IllegalArgumentException::class)
+    fun testStreamWithInvalidWindowThrows() {
+        client!!.entries().stream("spaceid", "environmentId", hashMapOf(), 0)
+    }
+
+    @test
+    fun testStreamByIdContinuesAfterLastId() {
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(
+                TestUtils.fileToString("entry_stream_page_1.json")))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(
+                TestUtils.fileToString("entry_stream_page_2.json")))
+
+        val ids = client!!.entries()
+                .streamByKey("spaceid", "environmentId", hashMapOf(Pair("limit", "2")),
+                        KeysetIterator.Key.ID)
+                .asSequence()
+                .map { it.id }
+                .toList()
+
+        assertEquals(listOf("entry1", "entry2", "entry3"), ids)
+
+        // Requests
+        val first = HttpUrl.parse(server!!.url(server!!.takeRequest().path).toString())!!
+        assertEquals("sys.id", first.queryParameter("order"))
+        assertNull(first.queryParameter("sys.id[gt]"))
+        assertNull(first.queryParameter("skip"))
+
+        val second = HttpUrl.parse(server!!.url(server!!.takeRequest().path).toString())!!
+        assertEquals("sys.id", second.queryParameter("order"))
+        assertEquals("entry2", second.queryParameter("sys.id[gt]"))
+        assertNull(second.queryParameter("skip"))
+        assertEquals(2, server!!.requestCount)
+    }
+
+    @test
+    fun testStreamByUpdatedAtDropsOnlySeenEntriesOfSameTimestamp() {
+        fun page(vararg items: Pair<String, String>) =
+                """{"sys": {"type": "Array"}, "total": 0, "skip": 0, "limit": 2, "items": [""" +
+                        items.joinToString(",") {
+                            """{"sys": {"id": "${it.first}", "updatedAt": "${it.second}"}}"""
+                        } + "]}"
+
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(
+                page(Pair("a", "2020-01-01"), Pair("b", "2020-01-02"))))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(
+                page(Pair("b", "2020-01-02"), Pair("c", "2020-01-02"))))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(
+                page(Pair("c", "2020-01-02"), Pair("d", "2020-01-03"))))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(
+                page(Pair("d", "2020-01-03"))))
+
+        val ids = client!!.entries()
+                .streamByKey(hashMapOf(Pair("limit", "2")), KeysetIterator.Key.UPDATED_AT)
+                .asSequence()
+                .map { it.id }
+                .toList()
+
+        assertEquals(listOf("a", "b", "c", "d"), ids)
+
+        server!!.takeRequest()
+        val second = HttpUrl.parse(server!!.url(server!!.takeRequest().path).toString())!!
+        assertEquals("sys.updatedAt,sys.id", second.queryParameter("order"))
+        assertEquals("2020-01-02", second.queryParameter("sys.updatedAt[gte]"))
+        assertNull(second.queryParameter("skip"))
+
+        val third = HttpUrl.parse(server!!.url(server!!.takeRequest().path).toString())!!
+        assertEquals("2020-01-02", third.queryParameter("sys.updatedAt[gte]"))
+        assertNull(third.queryParameter("skip"))
+    }
+
+    @test
+    fun testStreamByUpdatedAtDoesNotMissEntriesUpdatedWhileIterating() {
+        // id to updatedAt, served like Contentful would for the given query.
+        val entries = linkedMapOf("a" to "01", "b" to "02", "c" to "02", "d" to "02",
+                "e" to "02", "f" to "03")
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                val url = request.requestUrl
+                val items = synchronized(entries) {
+                    entries.entries
+                            .filter { e ->
+                                url.queryParameter("sys.updatedAt[gte]")
+                                        ?.let { e.value >= it } ?: true
+                            }
+                            .filter { e ->
+                                url.queryParameter("sys.updatedAt[gt]")
+                                        ?.let { e.value > it } ?: true
+                            }
+                            .filter { e ->
+                                url.queryParameter("sys.updatedAt")?.let { e.value == it } ?: true
+                            }
+                            .filter { e ->
+                                url.queryParameter("sys.id[gt]")?.let { e.key > it } ?: true
+                            }
+                            .sortedWith(compareBy({ it.value }, { it.key }))
+                            .take(url.queryParameter("limit")!!.toInt())
+                            .map { Pair(it.key, it.value) }
+                }
+
+                // another client updates an entry already returned, on the boundary timestamp.
+                synchronized(entries) { entries["b"] = "09" }
+
+                return MockResponse().setResponseCode(200).setBody(
+                        """{"sys": {"type": "Array"}, "items": [""" +
+                                items.joinToString(",") {
+                                    """{"sys": {"id": "${it.first}",
+                                    "updatedAt": "${it.second}"}}"""
+                                } + "]}")
+            }
+        })
+
+        val ids = client!!.entries()
+                .streamByKey(hashMapOf(Pair("limit", "2")), KeysetIterator.Key.UPDATED_AT)
+                .asSequence()
+                .map { it.id }
+                .toList()
+
+        // b got updated, so it is returned again with its new timestamp.
+        assertEquals(listOf("a", "b", "c", "d", "e", "f", "b"), ids)
+    }
+
+    @test(expected = IllegalArgumentException::class)
+    fun testStreamByKeyRejectsOrder() {
+        client!!.entries().streamByKey(hashMapOf(Pair("order", "fields.name")),
+                KeysetIterator.Key.ID)
+    }
+
+    @test(expected = CMAHttpException::class)
+    fun testStreamPropagatesErrors() {
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(
+                TestUtils.fileToString("entry_stream_page_1.json")))
+        server!!.enqueue(MockResponse().setResponseCode(500))
+
+        val iterator = client!!.entries().stream(hashMapOf(Pair("limit", "2")))
+        iterator.next()
+        iterator.next()
+        iterator.next()
+    }
+
     @test
     fun testFetchWithId() {
         val responseBody = TestUtils.fileToString("entry_fetch_one_response.json")
@@ -490,6 +690,33 @@ class EntryTests {
         assertEqualJsons(requestBody, recordedRequest.body.readUtf8(), false)
     }
 
+    @test
+    fun testPatchWithAllOperators() {
+        val requestBody = TestUtils.fileToString("entry_patch_request_with_all_operators.json")
+        val responseBody = TestUtils.fileToString("entry_update_response.json")
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+
+        val entry = CMAEntry()
+            .setId("entryid")
+            .setSpaceId("spaceid")
+            .setVersion(1)
+
+        val patch = CMAEntryPatch()
+            .test("/fields/fid1/en-US", "oldvalue1")
+            .replace("/fields/fid1/en-US", "newvalue1")
+            .move("/fields/fid3/en-US", "/fields/fid2/en-US")
+            .copy("/fields/fid1/en-US", "/fields/fid1/de-DE")
+            .remove("/fields/fid4/en-US")
+
+        client!!.entries().patch(entry, patch)
+
+        // Request
+        val recordedRequest = server!!.takeRequest()
+        assertEquals("PATCH", recordedRequest.method)
+        assertEquals("application/json-patch+json", recordedRequest.getHeader("Content-Type"))
+        assertEqualJsons(requestBody, recordedRequest.body.readUtf8(), true)
+    }
+
     @test
     fun testPublish() {
         val requestBody = TestUtils.fileToString("entry_create_links_request.json")
@@ -833,4 +1060,207 @@ class EntryTests {
         assertEquals("DELETE", request.method)
         assertEquals("/spaces/spaceid/environments/environmentId/entries/entryId", request.path)
     }
+
+    @test
+    fun testBulkPublishCollectsResultsPerEntry() {
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                val id = request.path.split("/")[6]
+                return if (id == "entry3") {
+                    MockResponse().setResponseCode(409).setBody("{}")
+                } else {
+                    MockResponse().setResponseCode(200)
+                            .setBody("""{"sys": {"id": "$id", "type": "Entry", "version": 2}}""")
+                }
+            }
+        })
+
+        val entries = (1..5).map {
+            CMAEntry().setId("entry$it").setSpaceId("spaceid").setVersion(1)
+        }
+        val result = client!!.entries().bulk().setConcurrency(3).publish(entries)
+
+        assertEquals(4, result.successCount)
+        assertEquals(1, result.failureCount)
+        assertEquals(entries, result.items.map { it.resource })
+        assertEquals(listOf("entry1", "entry2", null, "entry4", "entry5"),
+                result.items.map { it.result?.id })
+        assertEquals(409, (result.failures[0].error as CMAHttpException).responseCode())
+        assertTrue(result.throughput > 0)
+        assertEquals(5, server!!.requestCount)
+
+        val request = server!!.takeRequest()
+        assertEquals("PUT", request.method)
+        assertTrue(request.path.endsWith("/published"))
+    }
+
+    @test
+    fun testBulkArchiveKeepsGoingOnInvalidEntries() {
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody("""{"sys": {"id": "entryid", "type": "Entry"}}"""))
+
+        val result = client!!.entries().bulk().archive(listOf(
+                CMAEntry().setId("entryid").setSpaceId("spaceid"),
+                CMAEntry().setSpaceId("spaceid")))
+
+        assertTrue(result.items[0].isSuccessful)
+        assertTrue(result.items[1].error is IllegalArgumentException)
+
+        val request = server!!.takeRequest()
+        assertEquals("/spaces/spaceid/environments/master/entries/entryid/archived", request.path)
+    }
+
+    @test(expected = IllegalArgumentException::class)
+    fun testBulkWithInvalidConcurrencyThrows() {
+        client!!.entries().bulk().setConcurrency(0)
+    }
+
+    private fun conflictClient(resolver: EntryConflictResolver) = CMAClient.Builder()
+            .setAccessToken("token")
+            .setCoreEndpoint(server!!.url("/").toString())
+            .setEntryConflictResolver(resolver)
+            .build()
+
+    private fun entryJson(version: Int, fields: String) = ("""{"sys": {"id": "entryid",
+        "type": "Entry", "version": $version, "space": {"sys": {"type": "Link",
+        "linkType": "Space", "id": "spaceid"}}, "environment": {"sys": {"type": "Link",
+        "linkType": "Environment", "id": "master"}}}, "fields": {$fields}}""")
+
+    @test
+    fun testUpdateRebasesOnConflict() {
+        val resolver = EntryConflictResolver().setMerge(EntryConflictResolver.OVERWRITE_FIELDS)
+        server!!.enqueue(MockResponse().setResponseCode(409).setBody("{}"))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(entryJson(5,
+                """"title": {"en-US": "theirs"}, "other": {"en-US": "theirs"}""")))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(entryJson(6, "")))
+
+        val entry = CMAEntry().setId("entryid").setSpaceId("spaceid").setEnvironmentId("master")
+                .setVersion(4)
+                .setField("title", "en-US", "mine")
+        val result = conflictClient(resolver).entries().update(entry)
+
+        assertEquals(6, result.version)
+        assertEquals("PUT", server!!.takeRequest().method)
+        assertEquals("/spaces/spaceid/environments/master/entries/entryid",
+                server!!.takeRequest().path)
+
+        val rebased = server!!.takeRequest()
+        assertEquals("PUT", rebased.method)
+        assertEquals("5", rebased.getHeader("X-Contentful-Version"))
+        val fields = gson!!.fromJson(rebased.body.readUtf8(), CMAEntry::class.java)
+        assertEquals("mine", fields.getField("title", "en-US"))
+        assertEquals("theirs", fields.getField("other", "en-US"))
+
+        assertEquals(4, entry.version)
+        assertEquals(1, resolver.conflictCount)
+        assertEquals(1, resolver.resolvedCount)
+    }
+
+    @test
+    fun testUpdateConflictThrowsWithoutMerge() {
+        val resolver = EntryConflictResolver()
+        server!!.enqueue(MockResponse().setResponseCode(409).setBody("{}"))
+
+        try {
+            conflictClient(resolver).entries().update(CMAEntry().setId("entryid")
+                    .setSpaceId("spaceid").setEnvironmentId("master").setVersion(4)
+                    .setField("title", "en-US", "mine"))
+            fail("expected the conflict to be thrown")
+        } catch (e: CMAHttpException) {
+            assertEquals(409, e.responseCode())
+        }
+        assertEquals(1, server!!.requestCount)
+    }
+
+    @test
+    fun testPatchChangesKeepsConcurrentEditsOfUnchangedFields() {
+        val resolver = EntryConflictResolver()
+        server!!.enqueue(MockResponse().setResponseCode(409).setBody("{}"))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(entryJson(5,
+                """"title": {"en-US": "base"}, "other": {"en-US": "theirs"}""")))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(entryJson(6,
+                """"title": {"en-US": "mine"}, "other": {"en-US": "theirs"}""")))
+
+        val base = gson!!.fromJson(entryJson(4,
+                """"title": {"en-US": "base"}, "other": {"en-US": "base"}"""),
+                CMAEntry::class.java)
+        val local = gson!!.fromJson(entryJson(4,
+                """"title": {"en-US": "base"}, "other": {"en-US": "base"}"""),
+                CMAEntry::class.java)
+                .setField("title", "en-US", "mine")
+        val result = conflictClient(resolver).entries().patchChanges(base, local)
+
+        assertEquals("theirs", result.getField("other", "en-US"))
+        server!!.takeRequest()
+        assertEquals("GET", server!!.takeRequest().method)
+        val rebased = server!!.takeRequest()
+        assertEquals("PATCH", rebased.method)
+        assertEquals("5", rebased.getHeader("X-Contentful-Version"))
+
+        // only the changed field is sent, so the concurrent edit of the other one survives.
+        val body = rebased.body.readUtf8()
+        assertTrue(body.contains("/fields/title/en-US"))
+        assertFalse(body.contains("/fields/other"))
+        assertEquals(1, resolver.resolvedCount)
+    }
+
+    @test
+    fun testPatchIsSentAgainOnLatestVersion() {
+        val resolver = EntryConflictResolver()
+        server!!.enqueue(MockResponse().setResponseCode(409).setBody("{}"))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(entryJson(7, "")))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(entryJson(8, "")))
+
+        val patch = CMAEntryPatch()
+        patch.add("/fields/title/en-US", "mine")
+        val entry = CMAEntry().setId("entryid").setSpaceId("spaceid").setEnvironmentId("master")
+                .setVersion(4)
+        conflictClient(resolver).entries().patch(entry, patch)
+
+        val first = server!!.takeRequest()
+        server!!.takeRequest()
+        val second = server!!.takeRequest()
+        assertEquals("PATCH", second.method)
+        assertEquals("7", second.getHeader("X-Contentful-Version"))
+        assertEquals(first.body.readUtf8(), second.body.readUtf8())
+    }
+
+    @test
+    fun testConflictsThrowOnceAttemptsAreExhausted() {
+        val merges = mutableListOf<Int>()
+        val resolver = EntryConflictResolver()
+                .setMaxAttempts(2)
+                .setMerge { latest, _ -> merges.add(latest.version); latest }
+        server!!.enqueue(MockResponse().setResponseCode(409).setBody("{}"))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(entryJson(5, "")))
+        server!!.enqueue(MockResponse().setResponseCode(409).setBody("{}"))
+
+        try {
+            conflictClient(resolver).entries().update(CMAEntry().setId("entryid")
+                    .setSpaceId("spaceid").setEnvironmentId("master").setVersion(4))
+            fail("expected the conflict to be thrown")
+        } catch (e: CMAHttpException) {
+            assertEquals(409, e.responseCode())
+        }
+
+        assertEquals(listOf(5), merges)
+        assertEquals(2, resolver.conflictCount)
+        assertEquals(1, resolver.exhaustedCount)
+        assertEquals(0, resolver.resolvedCount)
+        assertEquals(3, server!!.requestCount)
+    }
+
+    @test
+    fun testConflictsThrowWithoutResolver() {
+        server!!.enqueue(MockResponse().setResponseCode(409).setBody("{}"))
+
+        try {
+            client!!.entries().update(CMAEntry().setId("entryid").setSpaceId("spaceid")
+                    .setVersion(4))
+            fail("expected the conflict to be thrown")
+        } catch (e: CMAHttpException) {
+            assertEquals(409, e.responseCode())
+        }
+        assertEquals(1, server!!.requestCount)
+    }
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma
+
+import com.contentful.java.cma.lib.TestUtils
+import com.contentful.java.cma.model.CMAAsset
+import com.contentful.java.cma.model.CMAContentType
+import com.contentful.java.cma.model.CMAEntry
+import com.contentful.java.cma.model.CMAHttpException
+import com.contentful.java.cma.model.CMANotWithEnvironmentsException
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.junit.After
+import org.junit.Before
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.logging.LogManager
+import kotlin.test.assertEquals
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+import kotlin.test.fail
+import org.junit.Test as test
+
+class FuturesTests {
+    var server: MockWebServer? = null
+    var client: CMAClient? = null
+
+    @Before
+    fun setUp() {
+        LogManager.getLogManager().reset()
+        server = MockWebServer()
+        server!!.start()
+
+        client = CMAClient.Builder()
+                .setAccessToken("token")
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setUploadEndpoint(server!!.url("/").toString())
+                .setSpaceId("spaceid")
+                .setEnvironmentId("master")
+                .setEntryConflictResolver(EntryConflictResolver()
+                        .setMerge(EntryConflictResolver.OVERWRITE_FIELDS))
+                .build()
+    }
+
+    @After
+    fun tearDown() {
+        server!!.shutdown()
+    }
+
+    private fun entryJson(version: Int) = ("""{"sys": {"id": "entryid", "type": "Entry",
+        "version": $version, "space": {"sys": {"type": "Link", "linkType": "Space",
+        "id": "spaceid"}}, "environment": {"sys": {"type": "Link",
+        "linkType": "Environment", "id": "master"}}}, "fields": {}}""")
+
+    @test
+    fun testFetchCompletesWithoutBlockingTheCaller() {
+        val release = CountDownLatch(1)
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                release.await(5, TimeUnit.SECONDS)
+                return MockResponse().setBody(entryJson(1))
+            }
+        })
+
+        val futures = (1..10).map { client!!.entries().futures().fetchOne("entryid") }
+        assertTrue(futures.none { it.isDone })
+
+        release.countDown()
+        futures.forEach {
+            assertEquals("entryid", it.get(5, TimeUnit.SECONDS).id)
+        }
+        assertEquals(10, server!!.requestCount)
+    }
+
+    @test
+    fun testFailuresCompleteExceptionally() {
+        server!!.enqueue(MockResponse().setResponseCode(404).setBody("{}"))
+
+        try {
+            client!!.entries().futures().fetchOne("unknown").get(5, TimeUnit.SECONDS)
+            fail("Fetching an unknown entry did not fail.")
+        } catch (e: ExecutionException) {
+            assertEquals(404, (e.cause as CMAHttpException).responseCode())
+        }
+    }
+
+    @test(expected = IllegalArgumentException::class)
+    fun testArgumentsAreValidatedRightAway() {
+        client!!.entries().futures().publish(CMAEntry())
+    }
+
+    @test
+    fun testCreateDetachesSystemWhileSending() {
+        server!!.enqueue(MockResponse().setResponseCode(201).setBody(entryJson(1)))
+
+        val entry = CMAEntry().setId("entryid").setField("title", "en-US", "value")
+        val created = client!!.entries().futures().create("ct", entry).get(5, TimeUnit.SECONDS)
+
+        assertEquals(1, created.version)
+        assertEquals("entryid", entry.id)
+
+        val request = server!!.takeRequest()
+        assertEquals("PUT", request.method)
+        assertEquals("/spaces/spaceid/environments/master/entries/entryid", request.path)
+        assertNull(CMAClient.createGson().fromJson(request.body.readUtf8(), CMAEntry::class.java)
+                .system.id)
+    }
+
+    @test
+    fun testConcurrentFuturesOnOneEntry() {
+        val release = CountDownLatch(1)
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                release.await(5, TimeUnit.SECONDS)
+                return MockResponse().setBody(entryJson(4))
+            }
+        })
+
+        val entry = CMAEntry().setId("entryid").setSpaceId("spaceid")
+                .setEnvironmentId("master").setVersion(3)
+                .setField("title", "en-US", "value")
+        val futures = client!!.entries().futures()
+
+        // the entry stays untouched while its update is in flight.
+        val updated = futures.update(entry)
+        assertEquals("entryid", entry.id)
+        val published = futures.publish(entry)
+        assertEquals(3, entry.version)
+
+        release.countDown()
+        assertEquals(4, updated.get(5, TimeUnit.SECONDS).version)
+        assertEquals(4, published.get(5, TimeUnit.SECONDS).version)
+        assertEquals("entryid", entry.id)
+
+        val requests = (1..2).map { server!!.takeRequest() }
+        assertEquals(setOf("PUT"), requests.map { it.method }.toSet())
+        assertEquals(setOf("/spaces/spaceid/environments/master/entries/entryid",
+                "/spaces/spaceid/environments/master/entries/entryid/published"),
+                requests.map { it.path }.toSet())
+    }
+
+    @test
+    fun testUpdateResolvesConflicts() {
+        server!!.enqueue(MockResponse().setResponseCode(409).setBody("{}"))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(entryJson(5)))
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(entryJson(6)))
+
+        val entry = CMAEntry().setId("entryid").setSpaceId("spaceid")
+                .setEnvironmentId("master").setVersion(3)
+        val updated = client!!.entries().futures().update(entry).get(5, TimeUnit.SECONDS)
+
+        assertEquals(6, updated.version)
+        assertEquals("3", server!!.takeRequest().getHeader("X-Contentful-Version"))
+        assertEquals("GET", server!!.takeRequest().method)
+        assertEquals("5", server!!.takeRequest().getHeader("X-Contentful-Version"))
+    }
+
+    @test
+    fun testAssetFutures() {
+        val responseBody = TestUtils.fileToString("asset_publish_response.json")
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+        server!!.enqueue(MockResponse().setResponseCode(204))
+
+        val asset = CMAAsset().setId("assetid").setSpaceId("spaceid").setEnvironmentId("master")
+                .setVersion(1)
+        val futures = client!!.assets().futures()
+
+        assertNotNull(futures.publish(asset).get(5, TimeUnit.SECONDS))
+        assertEquals(204, futures.process(asset, "en-US").get(5, TimeUnit.SECONDS))
+
+        assertEquals("PUT", server!!.takeRequest().method)
+        assertEquals("/spaces/spaceid/environments/master/assets/assetid/files/en-US/process",
+                server!!.takeRequest().path)
+    }
+
+    @test
+    fun testEnvironmentModuleFutures() {
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("locales_get_all.json")))
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("content_type_fetch_one_response.json")))
+        server!!.enqueue(MockResponse().setResponseCode(204))
+
+        val locales = client!!.locales().futures().fetchAll()
+        assertTrue(locales.get(5, TimeUnit.SECONDS).items.isNotEmpty())
+        val contentType = client!!.contentTypes().futures().fetchOne("ctid")
+        assertNotNull(contentType.get(5, TimeUnit.SECONDS))
+
+        val deleted = client!!.contentTypes().futures()
+                .delete(CMAContentType().setId("ctid").setSpaceId("spaceid")
+                        .setEnvironmentId("master"))
+        assertEquals(204, deleted.get(5, TimeUnit.SECONDS))
+
+        assertEquals("/spaces/spaceid/environments/master/locales",
+                server!!.takeRequest().path)
+        assertEquals("/spaces/spaceid/environments/master/content_types/ctid",
+                server!!.takeRequest().path)
+        assertEquals("DELETE", server!!.takeRequest().method)
+    }
+
+    @test
+    fun testSpaceModuleFutures() {
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("webhook_get_one.json")))
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("users_get_me.json")))
+
+        val webhook = client!!.webhooks().futures().fetchOne("spaceid", "webhookid")
+        assertNotNull(webhook.get(5, TimeUnit.SECONDS).id)
+        val user = client!!.users().futures().fetchMe()
+        assertNotNull(user.get(5, TimeUnit.SECONDS).id)
+
+        assertEquals("/spaces/spaceid/webhook_definitions/webhookid", server!!.takeRequest().path)
+        assertEquals("/users/me", server!!.takeRequest().path)
+    }
+
+    @test(expected = CMANotWithEnvironmentsException::class)
+    fun testSpaceModuleFuturesRejectConfiguredEnvironment() {
+        client!!.roles().futures().fetchAll()
+    }
+}
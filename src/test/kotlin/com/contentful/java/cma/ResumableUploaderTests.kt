@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma
+
+import com.contentful.java.cma.lib.TestUtils
+import com.contentful.java.cma.model.CMAHttpException
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import okhttp3.mockwebserver.SocketPolicy
+import org.junit.After
+import org.junit.Before
+import java.io.File
+import java.util.logging.LogManager
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+import org.junit.Test as test
+
+class ResumableUploaderTests {
+    var server: MockWebServer? = null
+    var client: CMAClient? = null
+    var directory: File? = null
+    var checkpoint: File? = null
+
+    @Before
+    fun setUp() {
+        LogManager.getLogManager().reset()
+        server = MockWebServer()
+        server!!.start()
+
+        client = CMAClient.Builder()
+                .setAccessToken("token")
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setUploadEndpoint(server!!.url("/").toString())
+                .build()
+
+        directory = createTempDir()
+        checkpoint = File(directory, "uploads.checkpoint")
+    }
+
+    @After
+    fun tearDown() {
+        server!!.shutdown()
+        directory!!.deleteRecursively()
+    }
+
+    private fun createFile(name: String): File {
+        val file = File(directory, name)
+        file.writeBytes(TestUtils.fileToBytes("upload_post_payload.jpg"))
+        return file
+    }
+
+    private fun uploaded() = MockResponse().setResponseCode(200)
+            .setBody(TestUtils.fileToString("upload_post_response.json"))
+
+    @test
+    fun testRetriesAfterConnectionFailure() {
+        server!!.enqueue(MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST))
+        server!!.enqueue(uploaded())
+
+        val uploader = ResumableUploader(client!!.uploads(), checkpoint).setRetries(3, 0)
+        val upload = uploader.upload("space_id", createFile("image.jpg"))
+
+        assertEquals("upload_id", upload.id)
+        assertEquals(2, server!!.requestCount)
+        assertEquals(1, uploader.retryCount)
+        assertEquals(1, uploader.uploadedCount)
+    }
+
+    @test(expected = CMAHttpException::class)
+    fun testDoesNotRetryPermanentFailures() {
+        server!!.enqueue(MockResponse().setResponseCode(422).setBody("{}"))
+
+        val uploader = ResumableUploader(client!!.uploads(), checkpoint).setRetries(3, 0)
+        try {
+            uploader.upload("space_id", createFile("image.jpg"))
+        } finally {
+            assertEquals(1, server!!.requestCount)
+            assertEquals(0, uploader.retryCount)
+        }
+    }
+
+    @test
+    fun testResumesUploadsFromCheckpoint() {
+        val file = createFile("image.jpg")
+        server!!.enqueue(uploaded())
+        ResumableUploader(client!!.uploads(), checkpoint).upload("space_id", file)
+        server!!.takeRequest()
+
+        // a new uploader, as after a restart, finds the upload in the checkpoint.
+        server!!.enqueue(uploaded())
+        val resumed = ResumableUploader(client!!.uploads(), checkpoint)
+        val upload = resumed.upload("space_id", file)
+
+        val recordedRequest = server!!.takeRequest()
+        assertEquals("GET", recordedRequest.method)
+        assertEquals("/spaces/space_id/uploads/upload_id", recordedRequest.path)
+        assertEquals("upload_id", upload.id)
+        assertEquals(1, resumed.resumedCount)
+        assertEquals(0, resumed.uploadedCount)
+    }
+
+    @test
+    fun testUploadsAgainIfCheckpointedUploadExpired() {
+        val file = createFile("image.jpg")
+        server!!.enqueue(uploaded())
+        ResumableUploader(client!!.uploads(), checkpoint).upload("space_id", file)
+        server!!.takeRequest()
+
+        server!!.enqueue(MockResponse().setResponseCode(404).setBody("{}"))
+        server!!.enqueue(uploaded())
+        val resumed = ResumableUploader(client!!.uploads(), checkpoint)
+        resumed.upload("space_id", file)
+
+        assertEquals("GET", server!!.takeRequest().method)
+        assertEquals("POST", server!!.takeRequest().method)
+        assertEquals(0, resumed.resumedCount)
+        assertEquals(1, resumed.uploadedCount)
+    }
+
+    @test
+    fun testUploadsAllFilesInParallel() {
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest) = uploaded()
+        })
+
+        val files = (1..5).map { createFile("image$it.jpg") }
+        val uploader = ResumableUploader(client!!.uploads(), checkpoint).setParallelism(2)
+        val uploads = uploader.uploadAll("space_id", files)
+
+        assertEquals(files, uploads.keys.toList())
+        assertTrue(uploads.values.all { it.id == "upload_id" })
+        assertEquals(5, uploader.uploadedCount)
+        assertEquals(5, checkpoint!!.readLines().count { it.startsWith("space_id") })
+    }
+}
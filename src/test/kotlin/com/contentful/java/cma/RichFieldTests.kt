@@ -16,8 +16,10 @@
 
 package com.contentful.java.cma
 
+import com.contentful.java.cma.gson.RichTextTypeAdapter
 import com.contentful.java.cma.lib.TestCallback
 import com.contentful.java.cma.lib.TestUtils
+import com.contentful.java.cma.model.CMAArray
 import com.contentful.java.cma.model.CMAEntry
 import com.contentful.java.cma.model.CMALink
 import com.contentful.java.cma.model.CMAType
@@ -900,4 +902,79 @@ class RichFieldTests {
         assertTrue(inlineEmbeddedEntryLink is CMARichEmbeddedLink)
         assertEquals("embedded-entry-inline", inlineEmbeddedEntryLink.nodeType)
     }
-}
\ No newline at end of file
+
+    @test
+    fun testRichTextSurvivesStreamingRoundTrip() {
+        val responseBody = TestUtils.fileToString("rich_text_get_all.json")
+        val type = object : com.google.gson.reflect.TypeToken<CMAArray<CMAEntry>>() {}.type
+        val array = gson!!.fromJson<CMAArray<CMAEntry>>(responseBody, type)
+
+        for (entry in array.items) {
+            val json = gson!!.toJson(entry)
+            val reparsed = gson!!.fromJson(json, CMAEntry::class.java)
+
+            assertEquals(json, gson!!.toJson(reparsed))
+            assertEquals(entry.id, reparsed.id)
+            assertEquals(entry.fields.keys, reparsed.fields.keys)
+        }
+    }
+
+    @test
+    fun testEntryAdapterSkipsUnknownMembersAndKeepsNullLocales() {
+        val entry = gson!!.fromJson(
+                "{\"metadata\": {\"tags\": []}, \"sys\": {\"id\": \"id\"}, "
+                        + "\"fields\": {\"title\": {\"en-US\": null, \"de-DE\": \"Titel\"}}}",
+                CMAEntry::class.java)
+
+        assertEquals("id", entry.id)
+        assertTrue(entry.fields["title"]!!.containsKey("en-US"))
+        assertEquals("Titel", entry.getField<String>("title", "de-DE"))
+        assertEquals("{\"fields\":{\"title\":{\"de-DE\":\"Titel\"}},\"sys\":{\"id\":\"id\"}}",
+                gson!!.toJson(entry))
+    }
+
+    @test
+    fun testRichTextAdapterResolvesNodesWhileStreaming() {
+        val adapter = RichTextTypeAdapter(gson!!)
+        val json = ("{\"nodeType\": \"paragraph\", \"data\": {}, \"content\": ["
+                + "{\"nodeType\": \"text\", \"value\": \"Hello\", \"data\": {}, "
+                + "\"marks\": [{\"type\": \"bold\"}]},"
+                + "{\"nodeType\": \"unknown-node\", \"data\": {}, \"content\": []},"
+                + "{\"content\": [], \"data\": {\"uri\": \"https://contentful.com\"}, "
+                + "\"nodeType\": \"hyperlink\"}"
+                + "]}")
+
+        val paragraph = adapter.fromJson(json) as CMARichParagraph
+
+        assertEquals(2, paragraph.content.size)
+        val text = paragraph.content[0] as CMARichText
+        assertEquals("Hello", text.value)
+        assertTrue(text.marks.first() is CMARichMark.CMARichMarkBold)
+        val link = paragraph.content[1] as CMARichHyperLink
+        assertEquals("https://contentful.com", link.data)
+
+        assertEquals(paragraph.content.size,
+                (adapter.fromJson(adapter.toJson(paragraph)) as CMARichParagraph).content.size)
+    }
+
+    @test
+    fun testEntryAdapterResolvesOnlyDocumentsAsRichText() {
+        val entry = gson!!.fromJson(
+                "{\"sys\": {\"id\": \"id\"}, \"fields\": {"
+                        + "\"json\": {\"en-US\": {\"content\": ["
+                        + "{\"nodeType\": \"paragraph\", \"data\": {}, \"content\": []}], "
+                        + "\"nodeType\": \"custom\"}}, "
+                        + "\"body\": {\"en-US\": {\"nodeType\": \"document\", \"data\": {}, "
+                        + "\"content\": [{\"nodeType\": \"paragraph\", \"data\": {}, "
+                        + "\"content\": []}]}}}}",
+                CMAEntry::class.java)
+
+        val json = entry.getField<Map<String, Any>>("json", "en-US")
+        assertEquals("custom", json["nodeType"])
+        val content = json["content"] as List<*>
+        assertEquals("paragraph", (content[0] as Map<*, *>)["nodeType"])
+
+        val body = entry.getField<CMARichDocument>("body", "en-US")
+        assertTrue(body.content.first() is CMARichParagraph)
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2019 Contentful GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.contentful.java.cma
+
+import com.contentful.java.cma.lib.TestUtils
+import com.contentful.java.cma.model.CMAAsset
+import com.contentful.java.cma.model.CMAContentType
+import com.contentful.java.cma.model.CMAEntry
+import com.contentful.java.cma.model.CMAHttpException
+import io.reactivex.schedulers.Schedulers
+import io.reactivex.subscribers.TestSubscriber
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.junit.After
+import org.junit.Before
+import java.util.concurrent.TimeUnit
+import java.util.logging.LogManager
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+import org.junit.Test as test
+
+class RxTests {
+    var server: MockWebServer? = null
+    var client: CMAClient? = null
+
+    @Before
+    fun setUp() {
+        LogManager.getLogManager().reset()
+        server = MockWebServer()
+        server!!.start()
+
+        client = CMAClient.Builder()
+                .setAccessToken("token")
+                .setCoreEndpoint(server!!.url("/").toString())
+                .setSpaceId("spaceid")
+                .setEnvironmentId("master")
+                .build()
+    }
+
+    @After
+    fun tearDown() {
+        server!!.shutdown()
+    }
+
+    private fun entryJson(id: String, version: Int) = ("""{"sys": {"id": "$id",
+        "type": "Entry", "version": $version, "space": {"sys": {"type": "Link",
+        "linkType": "Space", "id": "spaceid"}}, "environment": {"sys": {"type": "Link",
+        "linkType": "Environment", "id": "master"}}}, "fields": {}}""")
+
+    private fun page(skip: Int, limit: Int, total: Int) = ("""{"sys": {"type": "Array"},
+        "skip": $skip, "limit": $limit, "total": $total, "items": [""" +
+            (skip until minOf(skip + limit, total)).joinToString(",") { entryJson("e$it", 1) } +
+            "]}")
+
+    @test
+    fun testRequestsAreSentOnSubscription() {
+        server!!.enqueue(MockResponse().setBody(entryJson("entryid", 1)))
+
+        val single = client!!.entries().rx().fetchOne("entryid")
+        assertEquals(0, server!!.requestCount)
+
+        val entry = single.blockingGet()
+        assertEquals("entryid", entry.id)
+        assertEquals(1, server!!.requestCount)
+    }
+
+    @test
+    fun testComposesFetchAndUpdate() {
+        server!!.enqueue(MockResponse().setBody(entryJson("entryid", 1)))
+        server!!.enqueue(MockResponse().setBody(entryJson("entryid", 2)))
+
+        val rx = client!!.entries().rx()
+        val updated = rx.fetchOne("entryid")
+                .map { it.setField("title", "en-US", "changed") }
+                .flatMap { rx.update(it) }
+                .blockingGet()
+
+        assertEquals(2, updated.version)
+        assertEquals("GET", server!!.takeRequest().method)
+        val update = server!!.takeRequest()
+        assertEquals("PUT", update.method)
+        assertEquals("1", update.getHeader("X-Contentful-Version"))
+        assertTrue(update.body.readUtf8().contains("changed"))
+    }
+
+    @test
+    fun testEmitsOnGivenScheduler() {
+        server!!.enqueue(MockResponse().setBody(entryJson("entryid", 1)))
+
+        val thread = client!!.entries().rx()
+                .setObserveOn(Schedulers.single())
+                .fetchOne("entryid")
+                .map { Thread.currentThread().name }
+                .blockingGet()
+
+        assertTrue(thread.startsWith("RxSingleScheduler"), thread)
+    }
+
+    @test
+    fun testFailuresAreUnwrapped() {
+        server!!.enqueue(MockResponse().setResponseCode(404).setBody("{}"))
+
+        val error = client!!.assets().rx().fetchOne("unknown")
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .errors()
+                .single()
+
+        assertEquals(404, (error as CMAHttpException).responseCode())
+    }
+
+    @test
+    fun testStreamRequestsPagesOnDemand() {
+        server!!.setDispatcher(object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                val skip = request.requestUrl.queryParameter("skip")!!.toInt()
+                return MockResponse().setBody(page(skip, 2, 7))
+            }
+        })
+
+        val subscriber = TestSubscriber<CMAEntry>(1)
+        client!!.entries().rx().stream(mapOf("limit" to "2")).subscribe(subscriber)
+        subscriber.awaitCount(1)
+        Thread.sleep(100)
+
+        // the first page and at most the one after it got requested.
+        assertTrue(server!!.requestCount <= 2, "${server!!.requestCount} requests")
+
+        subscriber.requestMore(Long.MAX_VALUE)
+        subscriber.awaitDone(5, TimeUnit.SECONDS)
+                .assertNoErrors()
+                .assertComplete()
+        assertEquals((0 until 7).map { "e$it" }, subscriber.values().map { it.id })
+        assertEquals(4, server!!.requestCount)
+    }
+
+    @test
+    fun testAssetsRx() {
+        server!!.enqueue(MockResponse().setResponseCode(204))
+
+        val code = client!!.assets().rx()
+                .setSubscribeOn(Schedulers.io())
+                .process(CMAAsset().setId("assetid").setSpaceId("spaceid")
+                        .setEnvironmentId("master"), "en-US")
+                .blockingGet()
+
+        assertEquals(204, code)
+        assertEquals("/spaces/spaceid/environments/master/assets/assetid/files/en-US/process",
+                server!!.takeRequest().path)
+    }
+
+    @test
+    fun testOtherModulesRx() {
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("environments_get_one.json")))
+        server!!.enqueue(MockResponse().setResponseCode(204))
+
+        val environment = client!!.environments().rx().fetchOne("staging")
+        val deleted = client!!.contentTypes().rx().delete(CMAContentType().setId("ctid")
+                .setSpaceId("spaceid").setEnvironmentId("master"))
+        assertEquals(0, server!!.requestCount)
+
+        environment.blockingGet()
+        assertEquals(204, deleted.blockingGet())
+
+        assertEquals("/spaces/spaceid/environments/staging", server!!.takeRequest().path)
+        val request = server!!.takeRequest()
+        assertEquals("DELETE", request.method)
+        assertEquals("/spaces/spaceid/environments/master/content_types/ctid", request.path)
+    }
+
+    @test
+    fun testTagsStream() {
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("tag_fetch_all_response.json")))
+
+        val tags = client!!.tags().rx().stream(mapOf("limit" to "100")).toList().blockingGet()
+
+        assertEquals(listOf("<tag1_id>", "<tag2_id>"), tags.map { it.id })
+        assertEquals(1, server!!.requestCount)
+        assertTrue(server!!.takeRequest().path
+                .startsWith("/spaces/spaceid/environments/master/tags"))
+    }
+}
@@ -24,9 +24,17 @@ import com.google.gson.Gson
 import junit.framework.TestCase.assertEquals
 import okhttp3.mockwebserver.MockResponse
 import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.SocketPolicy
 import org.junit.After
 import org.junit.Before
+import java.io.ByteArrayInputStream
+import java.io.File
+import java.io.IOException
+import java.net.InetAddress
+import java.net.SocketException
 import java.util.logging.LogManager
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
 import org.junit.Test as test
 
 class UploadTests {
@@ -154,4 +162,106 @@ class UploadTests {
         assertEquals("/spaces/space_id/uploads/upload_id", recordedRequest.path)
         assertEquals(204, result)
     }
+
+    @test
+    fun testPostFileStreamsContentAndReportsProgress() {
+        val responseBody = TestUtils.fileToString("upload_post_response.json")
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+
+        val file = File("src/test/resources/upload_post_payload.jpg")
+        val progress = mutableListOf<Long>()
+
+        val result = assertTestCallback(client!!.uploads().async()
+                .create("space_id", file, UploadProgressListener { sent, total ->
+                    assertEquals(file.length(), total)
+                    progress.add(sent)
+                }, TestCallback()) as TestCallback)!!
+
+        // Request
+        val recordedRequest = server!!.takeRequest()
+        assertEquals("POST", recordedRequest.method)
+        assertEquals("/spaces/space_id/uploads", recordedRequest.path)
+        assertEquals(file.length().toString(), recordedRequest.getHeader("Content-Length"))
+        assertEquals("application/octet-stream", recordedRequest.getHeader("Content-Type"))
+        assertTrue(TestUtils.fileToBytes("upload_post_payload.jpg")
+                .contentEquals(recordedRequest.body.readByteArray()))
+        assertEquals("upload_id", result.id)
+
+        assertTrue(progress.size > 1)
+        assertEquals(progress.sorted(), progress)
+        assertEquals(file.length(), progress.last())
+    }
+
+    @test
+    fun testPostPathWithConfiguredSpace() {
+        val responseBody = TestUtils.fileToString("upload_post_response.json")
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+
+        val path = File("src/test/resources/upload_post_payload.jpg").toPath()
+
+        val result = client!!.uploads().create(path)
+
+        // Request
+        val recordedRequest = server!!.takeRequest()
+        assertEquals("/spaces/configuredSpaceId/uploads", recordedRequest.path)
+        assertTrue(TestUtils.fileToBytes("upload_post_payload.jpg")
+                .contentEquals(recordedRequest.body.readByteArray()))
+        assertEquals("upload_id", result.id)
+    }
+
+    @test
+    fun testPostStreamReportsProgressWithoutTotal() {
+        val responseBody = TestUtils.fileToString("upload_post_response.json")
+        server!!.enqueue(MockResponse().setResponseCode(200).setBody(responseBody))
+
+        val payload = TestUtils.fileToBytes("upload_post_payload.jpg")
+        var lastSent = 0L
+
+        client!!.uploads().create("space_id", ByteArrayInputStream(payload),
+                UploadProgressListener { sent, total ->
+                    assertEquals(-1L, total)
+                    lastSent = sent
+                })
+
+        // Request
+        val recordedRequest = server!!.takeRequest()
+        assertTrue(payload.contentEquals(recordedRequest.body.readByteArray()))
+        assertEquals(payload.size.toLong(), lastSent)
+    }
+
+    @test
+    fun testPostStreamIsNotSentAgainAfterConnectionFailure() {
+        server!!.enqueue(MockResponse()
+                .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_REQUEST_BODY))
+        server!!.enqueue(MockResponse().setResponseCode(200)
+                .setBody(TestUtils.fileToString("upload_post_response.json")))
+
+        // two routes to the server, so okhttp retries a failed connection on the other one.
+        val builder = CMAClient.Builder()
+                .setAccessToken("token")
+                .setUploadEndpoint(server!!.url("/").toString())
+        val address = InetAddress.getByName(server!!.hostName)
+        client = builder
+                .setUploadCallFactory(builder.defaultUploadCallFactoryBuilder()
+                        .dns { listOf(address, address) }
+                        .build())
+                .build()
+
+        val failure = assertFailsWith(RuntimeException::class) {
+            client!!.uploads().create("space_id", ByteArrayInputStream(ByteArray(4 * 1024 * 1024)))
+        }
+
+        // a retry would have failed on the consumed stream instead.
+        assertTrue(failure.cause is SocketException, failure.toString())
+    }
+
+    @test(expected = IOException::class)
+    fun testPostEmptyStreamThrows() {
+        client!!.uploads().create("space_id", ByteArrayInputStream(ByteArray(0)))
+    }
+
+    @test(expected = IOException::class)
+    fun testPostMissingFileThrows() {
+        client!!.uploads().create("space_id", File("src/test/resources/does_not_exist.jpg"))
+    }
 }
@@ -0,0 +1,47 @@
+package com.contentful.java.cma.interceptor
+
+import okhttp3.MediaType
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.RequestBody
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okio.BufferedSink
+import org.junit.Test
+import kotlin.test.assertEquals
+
+class ContentTypeInterceptorTests {
+    @Test fun testBodyIsForwardedWithNewContentType() {
+        val server = MockWebServer()
+        server.enqueue(MockResponse().setBody("{}"))
+        server.start()
+
+        try {
+            var writes = 0
+            val body = object : RequestBody() {
+                override fun contentType() = MediaType.parse("text/plain")
+                override fun contentLength() = 5L
+                override fun writeTo(sink: BufferedSink) {
+                    writes++
+                    sink.writeUtf8("hello")
+                }
+            }
+
+            val client = OkHttpClient.Builder()
+                    .addInterceptor(ContentTypeInterceptor("application/custom") { true })
+                    .build()
+            client.newCall(Request.Builder().url(server.url("/")).put(body).build())
+                    .execute()
+                    .close()
+
+            val recorded = server.takeRequest()
+            assertEquals("PUT", recorded.method)
+            assertEquals("application/custom", recorded.getHeader("Content-Type"))
+            assertEquals("5", recorded.getHeader("Content-Length"))
+            assertEquals("hello", recorded.body.readUtf8())
+            assertEquals(1, writes)
+        } finally {
+            server.shutdown()
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.contentful.java.cma.interceptor
+
+import okhttp3.MediaType
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.RequestBody
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okio.Buffer
+import okio.GzipSink
+import okio.GzipSource
+import okio.Okio
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+class GzipInterceptorTests {
+    private val json = MediaType.parse("application/vnd.contentful.management.v1+json")
+    private val largeBody = "{\"fields\":{" +
+            (1..100).joinToString(",") { "\"field$it\":{\"en-US\":\"value $it\"}" } + "}}"
+
+    private lateinit var server: MockWebServer
+    private lateinit var interceptor: GzipInterceptor
+    private lateinit var client: OkHttpClient
+
+    @Before fun setUp() {
+        server = MockWebServer()
+        server.start()
+
+        interceptor = GzipInterceptor()
+        client = OkHttpClient.Builder().addInterceptor(interceptor).build()
+    }
+
+    @After fun tearDown() {
+        server.shutdown()
+    }
+
+    @Test fun testLargeJsonBodyIsCompressed() {
+        server.enqueue(MockResponse().setBody("{}"))
+
+        put(largeBody)
+
+        val recorded = server.takeRequest()
+        assertEquals("gzip", recorded.getHeader("Content-Encoding"))
+        assertEquals(largeBody, gunzip(recorded.body))
+        assertEquals(1, interceptor.compressedRequestCount)
+        assertEquals(largeBody.length.toLong(), interceptor.requestBytes)
+        assertEquals(recorded.bodySize, interceptor.compressedRequestBytes)
+        assertTrue(interceptor.compressedRequestBytes < interceptor.requestBytes)
+    }
+
+    @Test fun testSmallAndBinaryBodiesAreNotCompressed() {
+        server.enqueue(MockResponse().setBody("{}"))
+        server.enqueue(MockResponse().setBody("{}"))
+
+        put("{\"fields\":{}}")
+        put(largeBody, MediaType.parse("application/octet-stream"))
+
+        assertNull(server.takeRequest().getHeader("Content-Encoding"))
+        assertNull(server.takeRequest().getHeader("Content-Encoding"))
+        assertEquals(0, interceptor.compressedRequestCount)
+    }
+
+    @Test fun testRejectedCompressionFallsBackToUncompressedBodies() {
+        server.enqueue(MockResponse().setResponseCode(415))
+        server.enqueue(MockResponse().setBody("{}"))
+        server.enqueue(MockResponse().setBody("{}"))
+
+        assertEquals(200, put(largeBody))
+        assertEquals(200, put(largeBody))
+
+        assertEquals("gzip", server.takeRequest().getHeader("Content-Encoding"))
+        val fallback = server.takeRequest()
+        assertNull(fallback.getHeader("Content-Encoding"))
+        assertEquals(largeBody, fallback.body.readUtf8())
+        // the host is known to reject compression now.
+        assertNull(server.takeRequest().getHeader("Content-Encoding"))
+        assertEquals(1, interceptor.rejectedHostCount)
+        assertEquals(0, interceptor.compressedRequestCount)
+    }
+
+    @Test fun testInvalidBodyDoesNotDisableCompression() {
+        server.enqueue(MockResponse().setResponseCode(400))
+        server.enqueue(MockResponse().setResponseCode(400))
+        server.enqueue(MockResponse().setBody("{}"))
+
+        assertEquals(400, put(largeBody))
+        assertEquals(200, put(largeBody))
+
+        assertEquals("gzip", server.takeRequest().getHeader("Content-Encoding"))
+        assertNull(server.takeRequest().getHeader("Content-Encoding"))
+        assertEquals("gzip", server.takeRequest().getHeader("Content-Encoding"))
+        assertEquals(0, interceptor.rejectedHostCount)
+        assertEquals(1, interceptor.compressedRequestCount)
+    }
+
+    @Test fun testCompressedResponseIsDecompressedAndCounted() {
+        val compressed = Buffer()
+        Okio.buffer(GzipSink(compressed)).use { it.writeUtf8(largeBody) }
+        val size = compressed.size()
+        server.enqueue(MockResponse().setHeader("Content-Encoding", "gzip").setBody(compressed))
+
+        val response = client.newCall(Request.Builder().url(server.url("/")).build()).execute()
+        val body = response.body()!!.string()
+
+        assertEquals(largeBody, body)
+        assertNull(response.header("Content-Encoding"))
+        assertEquals("gzip", server.takeRequest().getHeader("Accept-Encoding"))
+        assertEquals(1, interceptor.compressedResponseCount)
+        assertEquals(size, interceptor.responseBytes)
+        assertEquals(largeBody.length.toLong(), interceptor.decompressedResponseBytes)
+    }
+
+    private fun put(body: String, contentType: MediaType? = json): Int =
+            client.newCall(Request.Builder()
+                    .url(server.url("/"))
+                    .put(RequestBody.create(contentType, body))
+                    .build())
+                    .execute()
+                    .use { it.code() }
+
+    private fun gunzip(body: Buffer): String =
+            Okio.buffer(GzipSource(body)).use { it.readUtf8() }
+}
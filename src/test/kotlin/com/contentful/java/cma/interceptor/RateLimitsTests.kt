@@ -1,8 +1,15 @@
 package com.contentful.java.cma.interceptor
 
 import com.contentful.java.cma.model.RateLimits
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
 import org.junit.Test
 import kotlin.test.assertEquals
+import kotlin.test.assertNull
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
 
 class RateLimitsTests {
     @Test fun testNoMatchWillResultInZerosEverywhere() {
@@ -44,4 +51,81 @@ class RateLimitsTests {
         assertEquals(-1, limits.hourLimit)
     }
 
-}
\ No newline at end of file
+    @Test fun testTrackerFallsBackWithoutHeaders() {
+        val tracker = RateLimitsTracker()
+
+        assertNull(tracker.latest)
+        assertEquals(5, tracker.getSecondBudget(5))
+
+        tracker.onRateLimitHeaderReceived(RateLimits.DefaultParser().parse(hashMapOf()))
+        assertEquals(5, tracker.getSecondBudget(5))
+    }
+
+    @Test fun testTrackerReportsRemainingSecondBudgetAndForwards() {
+        var forwarded: RateLimits? = null
+        val tracker = RateLimitsTracker().setListener { forwarded = it }
+        val limits = RateLimits.DefaultParser().parse(hashMapOf(
+                "X-Contentful-RateLimit-Second-Limit" to listOf("10"),
+                "X-Contentful-RateLimit-Second-Remaining" to listOf("3")
+        ))
+
+        tracker.onRateLimitHeaderReceived(limits)
+
+        assertEquals(3, tracker.getSecondBudget(5))
+        assertSame(limits, forwarded)
+        assertSame(limits, tracker.latest)
+    }
+
+    @Test fun testThrottlerWaitsForResetOnceSecondBudgetIsUsedUp() {
+        val server = MockWebServer()
+        server.enqueue(MockResponse()
+                .setBody("{}")
+                .addHeader("X-Contentful-RateLimit-Second-Limit", "10")
+                .addHeader("X-Contentful-RateLimit-Second-Remaining", "0")
+                .addHeader("X-Contentful-RateLimit-Reset", "1"))
+        server.enqueue(MockResponse().setBody("{}"))
+        server.start()
+
+        try {
+            val throttler = RateLimitThrottler(10)
+            val client = OkHttpClient.Builder().addInterceptor(throttler).build()
+            val request = Request.Builder().url(server.url("/")).build()
+
+            client.newCall(request).execute().close()
+            assertEquals(0, throttler.throttledRequestCount)
+
+            client.newCall(request).execute().close()
+            assertEquals(2, throttler.requestCount)
+            assertEquals(1, throttler.throttledRequestCount)
+            assertTrue(throttler.maxWaitMillis >= 900, "waited ${throttler.maxWaitMillis}ms")
+            assertEquals(0, throttler.queueDepth)
+        } finally {
+            server.shutdown()
+        }
+    }
+
+    @Test fun testThrottlerPacesToRequestsPerSecond() {
+        val server = MockWebServer()
+        repeat(4) { server.enqueue(MockResponse().setBody("{}")) }
+        server.start()
+
+        try {
+            val throttler = RateLimitThrottler(2)
+            val client = OkHttpClient.Builder().addInterceptor(throttler).build()
+            val request = Request.Builder().url(server.url("/")).build()
+
+            repeat(4) { client.newCall(request).execute().close() }
+
+            // two tokens upfront, every further one takes half a second.
+            assertEquals(2, throttler.throttledRequestCount)
+            assertTrue(throttler.totalWaitMillis >= 900, "waited ${throttler.totalWaitMillis}ms")
+        } finally {
+            server.shutdown()
+        }
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun testThrottlerNeedsPositiveRate() {
+        RateLimitThrottler(0)
+    }
+}